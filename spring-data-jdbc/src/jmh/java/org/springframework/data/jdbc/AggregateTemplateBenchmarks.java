@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration.Level0;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration.PurchaseOrder;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration.WideEntity;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+
+/**
+ * Benchmarks for reading and writing aggregates through {@link JdbcAggregateTemplate}. Save benchmarks insert new
+ * aggregates while update benchmarks save aggregates inserted during setup. Tables are reset before each iteration so
+ * that rows inserted by previous iterations do not accumulate. Run with {@code -prof gc} to report allocation rates
+ * alongside throughput.
+ *
+ * @since 4.2
+ */
+@Testable
+public class AggregateTemplateBenchmarks extends BenchmarkSettings {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		AnnotationConfigApplicationContext context;
+		JdbcAggregateTemplate template;
+
+		List<WideEntity> newWideEntities = new ArrayList<>();
+		PurchaseOrder newOrder = PurchaseOrder.create("new", 100);
+		Level0 newLevel0 = Level0.create("new");
+
+		List<WideEntity> wideEntities;
+		PurchaseOrder order;
+		Level0 level0;
+
+		@Setup
+		public void setup() {
+
+			context = new AnnotationConfigApplicationContext();
+			context.register(BenchmarkDatabaseConfiguration.class);
+			context.refresh();
+			context.start();
+
+			template = context.getBean(JdbcAggregateTemplate.class);
+
+			for (int i = 0; i < 100; i++) {
+				newWideEntities.add(WideEntity.create(i));
+			}
+		}
+
+		@Setup(Level.Iteration)
+		public void resetTables() {
+
+			template.deleteAll(WideEntity.class);
+			template.deleteAll(PurchaseOrder.class);
+			template.deleteAll(Level0.class);
+
+			wideEntities = template.insertAll(newWideEntities);
+			for (int i = 0; i < 10; i++) {
+				order = template.insert(PurchaseOrder.create("customer-" + i, 100));
+			}
+			level0 = template.insert(Level0.create("existing"));
+		}
+
+		@TearDown
+		public void cleanup() {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public Object saveAllWideEntities(BenchmarkState state) {
+		return state.template.saveAll(state.newWideEntities);
+	}
+
+	@Benchmark
+	public Object updateAllWideEntities(BenchmarkState state) {
+		return state.template.saveAll(state.wideEntities);
+	}
+
+	@Benchmark
+	public Object findAllWideEntities(BenchmarkState state) {
+		return state.template.findAll(WideEntity.class);
+	}
+
+	@Benchmark
+	public Object saveOrderWithLargeCollection(BenchmarkState state) {
+		return state.template.save(state.newOrder);
+	}
+
+	@Benchmark
+	public Object updateOrderWithLargeCollection(BenchmarkState state) {
+		return state.template.save(state.order);
+	}
+
+	@Benchmark
+	public Object findOrderWithLargeCollection(BenchmarkState state) {
+		return state.template.findById(state.order.id(), PurchaseOrder.class);
+	}
+
+	@Benchmark
+	public Object findAllOrdersWithLargeCollection(BenchmarkState state) {
+		return state.template.findAll(PurchaseOrder.class);
+	}
+
+	@Benchmark
+	public Object saveDeeplyNestedAggregate(BenchmarkState state) {
+		return state.template.save(state.newLevel0);
+	}
+
+	@Benchmark
+	public Object updateDeeplyNestedAggregate(BenchmarkState state) {
+		return state.template.save(state.level0);
+	}
+
+	@Benchmark
+	public Object findDeeplyNestedAggregate(BenchmarkState state) {
+		return state.template.findById(state.level0.id(), Level0.class);
+	}
+}
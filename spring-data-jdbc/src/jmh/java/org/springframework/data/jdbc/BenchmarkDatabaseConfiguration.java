@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.repository.config.AbstractJdbcConfiguration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration for benchmarks running against an in-memory HSQLDB database. All statements use a single connection
+ * so that benchmarks measure Spring Data JDBC rather than connection acquisition. Provides aggregates of typical
+ * shapes: a wide row, an aggregate with a large collection and a deeply nested aggregate.
+ *
+ * @since 4.2
+ */
+@Configuration
+public class BenchmarkDatabaseConfiguration extends AbstractJdbcConfiguration {
+
+	private static final String SCHEMA = """
+			CREATE TABLE WIDE_ENTITY (
+			    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+			    NAME        VARCHAR(100),
+			    DESCRIPTION VARCHAR(500),
+			    STREET      VARCHAR(100),
+			    CITY        VARCHAR(100),
+			    ZIP         VARCHAR(10),
+			    COUNTRY     VARCHAR(100),
+			    QUANTITY    INTEGER,
+			    SCORE       INTEGER,
+			    VIEWS       BIGINT,
+			    LIKES       BIGINT,
+			    PRICE       DECIMAL(10, 2),
+			    DISCOUNT    DECIMAL(10, 2),
+			    ACTIVE      BOOLEAN,
+			    BIRTHDAY    DATE,
+			    CREATED     TIMESTAMP,
+			    MODIFIED    TIMESTAMP
+			);
+
+			CREATE TABLE PURCHASE_ORDER (
+			    ID       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+			    CUSTOMER VARCHAR(100)
+			);
+
+			CREATE TABLE ORDER_LINE (
+			    PRODUCT        VARCHAR(100),
+			    QUANTITY       INTEGER,
+			    PRICE          DECIMAL(10, 2),
+			    PURCHASE_ORDER BIGINT,
+			    FOREIGN KEY (PURCHASE_ORDER) REFERENCES PURCHASE_ORDER (ID)
+			);
+
+			CREATE TABLE LEVEL0 (
+			    ID   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+			    NAME VARCHAR(100)
+			);
+
+			CREATE TABLE LEVEL1 (
+			    NAME   VARCHAR(100),
+			    LEVEL0 BIGINT,
+			    FOREIGN KEY (LEVEL0) REFERENCES LEVEL0 (ID)
+			);
+
+			CREATE TABLE LEVEL2 (
+			    NAME   VARCHAR(100),
+			    LEVEL0 BIGINT,
+			    FOREIGN KEY (LEVEL0) REFERENCES LEVEL0 (ID)
+			);
+
+			CREATE TABLE LEVEL3 (
+			    NAME   VARCHAR(100),
+			    LEVEL0 BIGINT,
+			    FOREIGN KEY (LEVEL0) REFERENCES LEVEL0 (ID)
+			);
+			""";
+
+	@Bean(destroyMethod = "shutdown")
+	EmbeddedDatabase embeddedDatabase() {
+
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder() //
+				.generateUniqueName(true) //
+				.setType(EmbeddedDatabaseType.HSQL) //
+				.build();
+
+		DatabasePopulatorUtils.execute(
+				new ResourceDatabasePopulator(new ByteArrayResource(SCHEMA.getBytes(StandardCharsets.UTF_8))), database);
+
+		return database;
+	}
+
+	@Bean(destroyMethod = "destroy")
+	@Primary
+	SingleConnectionDataSource dataSource(EmbeddedDatabase embeddedDatabase) throws SQLException {
+		return new SingleConnectionDataSource(embeddedDatabase.getConnection(), true);
+	}
+
+	@Bean
+	NamedParameterJdbcTemplate namedParameterJdbcTemplate(SingleConnectionDataSource dataSource) {
+		return new NamedParameterJdbcTemplate(dataSource);
+	}
+
+	@Bean
+	PlatformTransactionManager transactionManager(SingleConnectionDataSource dataSource) {
+		return new DataSourceTransactionManager(dataSource);
+	}
+
+	/**
+	 * Aggregate consisting of a single row with many columns of different types.
+	 */
+	public record WideEntity(@Id Long id, String name, String description, String street, String city, String zip,
+			String country, Integer quantity, Integer score, Long views, Long likes, BigDecimal price, BigDecimal discount,
+			Boolean active, LocalDate birthday, LocalDateTime created, LocalDateTime modified) {
+
+		public static WideEntity create(int i) {
+
+			LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0).plusMinutes(i);
+
+			return new WideEntity(null, "name-" + i, "A description of entity " + i, "Street " + i, "city-" + (i % 10),
+					"%05d".formatted(i), "Country", i, i % 100, (long) i * 1000, (long) i * 10, BigDecimal.valueOf(i, 2),
+					BigDecimal.ONE, i % 2 == 0, LocalDate.of(1990, 1, 1).plusDays(i), now, now);
+		}
+	}
+
+	/**
+	 * Aggregate with a large collection of referenced entities.
+	 */
+	public record PurchaseOrder(@Id Long id, String customer, Set<OrderLine> lines) {
+
+		public static PurchaseOrder create(String customer, int lines) {
+
+			Set<OrderLine> orderLines = new LinkedHashSet<>(lines);
+			for (int i = 0; i < lines; i++) {
+				orderLines.add(new OrderLine("product-" + i, i + 1, BigDecimal.valueOf(i * 100L + 99, 2)));
+			}
+
+			return new PurchaseOrder(null, customer, orderLines);
+		}
+	}
+
+	public record OrderLine(String product, Integer quantity, BigDecimal price) {
+	}
+
+	/**
+	 * Aggregate with entities nested three levels deep.
+	 */
+	public record Level0(@Id Long id, String name, Level1 level1) {
+
+		public static Level0 create(String name) {
+			return new Level0(null, name, new Level1(name + "-1", new Level2(name + "-2", new Level3(name + "-3"))));
+		}
+	}
+
+	public record Level1(String name, Level2 level2) {
+	}
+
+	public record Level2(String name, Level3 level3) {
+	}
+
+	public record Level3(String name) {
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration.WideEntity;
+import org.springframework.data.jdbc.BenchmarkSettings;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * Benchmarks for converting between aggregates and JDBC through {@link SqlParametersFactory} and
+ * {@link EntityRowMapper}. Run with {@code -prof gc} to report allocation rates alongside throughput.
+ *
+ * @since 4.2
+ */
+@Testable
+public class ConversionBenchmarks extends BenchmarkSettings {
+
+	private static final String SELECT_WIDE_ENTITIES = "SELECT * FROM WIDE_ENTITY";
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		AnnotationConfigApplicationContext context;
+		JdbcOperations jdbcOperations;
+		SqlParametersFactory parametersFactory;
+		EntityRowMapper<WideEntity> rowMapper;
+		ColumnMapRowMapper columnMapRowMapper = new ColumnMapRowMapper();
+		WideEntity entity;
+
+		@Setup
+		@SuppressWarnings("unchecked")
+		public void setup() {
+
+			context = new AnnotationConfigApplicationContext();
+			context.register(BenchmarkDatabaseConfiguration.class);
+			context.refresh();
+			context.start();
+
+			JdbcConverter converter = context.getBean(JdbcConverter.class);
+			jdbcOperations = context.getBean(NamedParameterJdbcOperations.class).getJdbcOperations();
+			parametersFactory = new SqlParametersFactory(converter);
+			rowMapper = new EntityRowMapper<>(
+					(RelationalPersistentEntity<WideEntity>) converter.getMappingContext()
+							.getRequiredPersistentEntity(WideEntity.class),
+					converter);
+
+			JdbcAggregateTemplate template = context.getBean(JdbcAggregateTemplate.class);
+			for (int i = 0; i < 100; i++) {
+				entity = template.insert(WideEntity.create(i));
+			}
+		}
+
+		@TearDown
+		public void cleanup() {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public Object parametersForInsert(BenchmarkState state) {
+		return state.parametersFactory.forInsert(state.entity, WideEntity.class, Identifier.empty(),
+				IdValueSource.GENERATED);
+	}
+
+	@Benchmark
+	public Object parametersForUpdate(BenchmarkState state) {
+		return state.parametersFactory.forUpdate(state.entity, WideEntity.class);
+	}
+
+	@Benchmark
+	public Object parametersForQueryById(BenchmarkState state) {
+		return state.parametersFactory.forQueryById(state.entity.id(), WideEntity.class);
+	}
+
+	@Benchmark
+	public Object baselineColumnMapRowMapper(BenchmarkState state) {
+		return state.jdbcOperations.query(SELECT_WIDE_ENTITIES, state.columnMapRowMapper);
+	}
+
+	@Benchmark
+	public Object entityRowMapper(BenchmarkState state) {
+		return state.jdbcOperations.query(SELECT_WIDE_ENTITIES, state.rowMapper);
+	}
+}
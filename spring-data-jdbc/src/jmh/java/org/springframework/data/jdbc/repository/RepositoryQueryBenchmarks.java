@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration;
+import org.springframework.data.jdbc.BenchmarkDatabaseConfiguration.WideEntity;
+import org.springframework.data.jdbc.BenchmarkSettings;
+import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
+import org.springframework.data.repository.ListCrudRepository;
+
+/**
+ * Benchmarks for derived query methods executed through
+ * {@link org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery}. Run with {@code -prof gc} to report
+ * allocation rates alongside throughput.
+ *
+ * @since 4.2
+ */
+@Testable
+public class RepositoryQueryBenchmarks extends BenchmarkSettings {
+
+	@Configuration
+	@Import(BenchmarkDatabaseConfiguration.class)
+	@EnableJdbcRepositories(considerNestedRepositories = true,
+			includeFilters = @ComponentScan.Filter(value = WideEntityRepository.class, type = FilterType.ASSIGNABLE_TYPE))
+	static class BenchmarkConfiguration {
+
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		AnnotationConfigApplicationContext context;
+		WideEntityRepository repository;
+
+		@Setup
+		public void setup() {
+
+			context = new AnnotationConfigApplicationContext();
+			context.register(BenchmarkConfiguration.class);
+			context.refresh();
+			context.start();
+
+			repository = context.getBean(WideEntityRepository.class);
+
+			for (int i = 0; i < 1000; i++) {
+				repository.save(WideEntity.create(i));
+			}
+		}
+
+		@TearDown
+		public void cleanup() {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public Object findByName(BenchmarkState state) {
+		return state.repository.findByName("name-42");
+	}
+
+	@Benchmark
+	public Object findByCityAndScoreGreaterThan(BenchmarkState state) {
+		return state.repository.findByCityAndScoreGreaterThan("city-4", 50);
+	}
+
+	@Benchmark
+	public Object findFirstByCityOrderByCreatedDesc(BenchmarkState state) {
+		return state.repository.findFirstByCityOrderByCreatedDesc("city-4");
+	}
+
+	@Benchmark
+	public Object findProjectionByCity(BenchmarkState state) {
+		return state.repository.findProjectionByCity("city-4");
+	}
+
+	@Benchmark
+	public Object countByActiveTrue(BenchmarkState state) {
+		return state.repository.countByActiveTrue();
+	}
+
+	interface WideEntityRepository extends ListCrudRepository<WideEntity, Long> {
+
+		List<WideEntity> findByName(String name);
+
+		List<WideEntity> findByCityAndScoreGreaterThan(String city, int score);
+
+		Optional<WideEntity> findFirstByCityOrderByCreatedDesc(String city);
+
+		List<NameAndCity> findProjectionByCity(String city);
+
+		long countByActiveTrue();
+	}
+
+	record NameAndCity(String name, String city) {
+	}
+}
@@ -15,10 +15,19 @@
  */
 package org.springframework.data.jdbc.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.Collections;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.IdentifierGenerator;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.observability.DbActionObservation;
+import org.springframework.data.jdbc.core.observability.DbActionObservationContext;
+import org.springframework.data.jdbc.core.observability.DbActionObservationConvention;
+import org.springframework.data.jdbc.core.observability.DefaultDbActionObservationConvention;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
@@ -38,12 +47,49 @@ class AggregateChangeExecutor {
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
 
+	private List<IdentifierGenerator> identifierGenerators = Collections.emptyList();
+	private @Nullable ObservationRegistry observationRegistry;
+	private @Nullable DbActionObservationConvention observationConvention;
+
 	AggregateChangeExecutor(JdbcConverter converter, DataAccessStrategy accessStrategy) {
 
 		this.converter = converter;
 		this.accessStrategy = accessStrategy;
 	}
 
+	/**
+	 * Configure the {@link ObservationRegistry} to observe the execution of each {@link DbAction}. Observation is
+	 * disabled if no registry is configured.
+	 *
+	 * @param observationRegistry may be {@literal null}.
+	 * @since 4.2
+	 */
+	void setObservationRegistry(@Nullable ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure a custom {@link DbActionObservationConvention} to be used instead of the
+	 * {@link DefaultDbActionObservationConvention}.
+	 *
+	 * @param observationConvention may be {@literal null}.
+	 * @since 4.2
+	 */
+	void setObservationConvention(@Nullable DbActionObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Configure {@link IdentifierGenerator}s to assign identifiers before entities get inserted. The first generator
+	 * supporting an entity's identifier property is used.
+	 *
+	 * @param identifierGenerators must not be {@literal null}.
+	 * @since 4.2
+	 */
+	void setIdentifierGenerators(List<IdentifierGenerator> identifierGenerators) {
+		this.identifierGenerators = List.copyOf(identifierGenerators);
+	}
+
 	/**
 	 * Execute a save aggregate change. It returns the resulting root entities, with all changes that might apply. This
 	 * might be the original instances or new instances, depending on their mutability.
@@ -56,7 +102,7 @@ class AggregateChangeExecutor {
 	<T> List<T> executeSave(AggregateChange<T> aggregateChange) {
 
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
-				accessStrategy);
+				accessStrategy, identifierGenerators);
 
 		aggregateChange.forEachAction(action -> execute(action, executionContext));
 
@@ -80,6 +126,21 @@ class AggregateChangeExecutor {
 
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
 
+		ObservationRegistry registry = this.observationRegistry;
+
+		if (registry == null || registry.isNoop()) {
+			doExecute(action, executionContext);
+			return;
+		}
+
+		DbActionObservation.DB_ACTION
+				.observation(observationConvention, DefaultDbActionObservationConvention.INSTANCE,
+						() -> new DbActionObservationContext(action), registry) //
+				.observe(() -> doExecute(action, executionContext));
+	}
+
+	private void doExecute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
+
 		if (action instanceof DbAction.InsertRoot<?> insertRoot) {
 			executionContext.executeInsertRoot(insertRoot);
 		} else if (action instanceof DbAction.BatchInsertRoot<?> batchInsertRoot) {
@@ -90,6 +151,8 @@ class AggregateChangeExecutor {
 			executionContext.executeBatchInsert(batchInsert);
 		} else if (action instanceof DbAction.UpsertRoot<?> upsertRoot) {
 			executionContext.executeUpsertRoot(upsertRoot);
+		} else if (action instanceof DbAction.BatchUpsertRoot<?> batchUpsertRoot) {
+			executionContext.executeBatchUpsertRoot(batchUpsertRoot);
 		} else if (action instanceof DbAction.UpdateRoot<?> updateRoot) {
 			executionContext.executeUpdateRoot(updateRoot);
 		} else if (action instanceof DbAction.Delete<?> delete) {
@@ -102,10 +165,14 @@ class AggregateChangeExecutor {
 			executionContext.executeDeleteRoot(deleteRoot);
 		} else if (action instanceof DbAction.BatchDeleteRoot<?> batchDeleteRoot) {
 			executionContext.executeBatchDeleteRoot(batchDeleteRoot);
+		} else if (action instanceof DbAction.BatchDeleteRootWithVersion<?> batchDeleteRootWithVersion) {
+			executionContext.executeBatchDeleteRootWithVersion(batchDeleteRootWithVersion);
 		} else if (action instanceof DbAction.DeleteAllRoot<?> deleteAllRoot) {
 			executionContext.executeDeleteAllRoot(deleteAllRoot);
 		} else if (action instanceof DbAction.AcquireLockRoot<?> acquireLockRoot) {
 			executionContext.executeAcquireLock(acquireLockRoot);
+		} else if (action instanceof DbAction.BatchAcquireLockRoot<?> batchAcquireLockRoot) {
+			executionContext.executeBatchAcquireLockRoot(batchAcquireLockRoot);
 		} else if (action instanceof DbAction.AcquireLockAllRoot<?> acquireLockAllRoot) {
 			executionContext.executeAcquireLockAllRoot(acquireLockAllRoot);
 		} else {
@@ -33,6 +33,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.IdentifierGenerator;
 import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
@@ -68,56 +69,69 @@ class JdbcAggregateChangeExecutionContext {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
+	private final List<IdentifierGenerator> identifierGenerators;
 
 	private final Map<DbAction<?>, DbActionExecutionResult> results = new LinkedHashMap<>();
+	private final Map<DbAction<?>, Object> preAssignedIds = new HashMap<>();
 
 	JdbcAggregateChangeExecutionContext(JdbcConverter converter, DataAccessStrategy accessStrategy) {
+		this(converter, accessStrategy, Collections.emptyList());
+	}
+
+	JdbcAggregateChangeExecutionContext(JdbcConverter converter, DataAccessStrategy accessStrategy,
+			List<IdentifierGenerator> identifierGenerators) {
 
 		this.converter = converter;
 		this.context = converter.getMappingContext();
 		this.accessStrategy = accessStrategy;
+		this.identifierGenerators = identifierGenerators;
 	}
 
 	<T> void executeInsertRoot(DbAction.InsertRoot<T> insert) {
 
-		Object id = accessStrategy.insert(insert.entity(), insert.getEntityType(), Identifier.empty(),
-				insert.idValueSource());
-		add(new DbActionExecutionResult(insert, id));
+		List<T> entities = preAssignIds(List.of(insert), insert.getEntityType());
+		Object id = accessStrategy.insert(entities.get(0), insert.getEntityType(), Identifier.empty(),
+				getIdValueSource(insert));
+		add(new DbActionExecutionResult(insert, getResultId(insert, id)));
 	}
 
 	<T> void executeBatchInsertRoot(DbAction.BatchInsertRoot<T> batchInsertRoot) {
 
 		List<DbAction.InsertRoot<T>> inserts = batchInsertRoot.getActions();
-		List<InsertSubject<T>> insertSubjects = inserts.stream()
-				.map(insert -> InsertSubject.describedBy(insert.entity(), Identifier.empty())).collect(Collectors.toList());
+		List<T> entities = preAssignIds(inserts, batchInsertRoot.getEntityType());
+		List<InsertSubject<T>> insertSubjects = entities.stream()
+				.map(entity -> InsertSubject.describedBy(entity, Identifier.empty())).collect(Collectors.toList());
 
 		Object[] ids = accessStrategy.insert(insertSubjects, batchInsertRoot.getEntityType(),
-				batchInsertRoot.getBatchValue());
+				getIdValueSource(inserts, batchInsertRoot.getBatchValue()));
 
 		for (int i = 0; i < inserts.size(); i++) {
-			add(new DbActionExecutionResult(inserts.get(i), ids.length > 0 ? ids[i] : null));
+			add(new DbActionExecutionResult(inserts.get(i), getResultId(inserts.get(i), ids.length > 0 ? ids[i] : null)));
 		}
 	}
 
 	<T> void executeInsert(DbAction.Insert<T> insert) {
 
 		Identifier parentKeys = getParentKeys(insert, converter);
-		Object id = accessStrategy.insert(insert.entity(), insert.getEntityType(), parentKeys,
-				insert.idValueSource());
-		add(new DbActionExecutionResult(insert, id));
+		List<T> entities = preAssignIds(List.of(insert), insert.getEntityType());
+		Object id = accessStrategy.insert(entities.get(0), insert.getEntityType(), parentKeys, getIdValueSource(insert));
+		add(new DbActionExecutionResult(insert, getResultId(insert, id)));
 	}
 
 	<T> void executeBatchInsert(DbAction.BatchInsert<T> batchInsert) {
 
 		List<DbAction.Insert<T>> inserts = batchInsert.getActions();
-		List<InsertSubject<T>> insertSubjects = inserts.stream()
-				.map(insert -> InsertSubject.describedBy(insert.entity(), getParentKeys(insert, converter)))
-				.collect(Collectors.toList());
+		List<T> entities = preAssignIds(inserts, batchInsert.getEntityType());
+		List<InsertSubject<T>> insertSubjects = new ArrayList<>(inserts.size());
+		for (int i = 0; i < inserts.size(); i++) {
+			insertSubjects.add(InsertSubject.describedBy(entities.get(i), getParentKeys(inserts.get(i), converter)));
+		}
 
-		Object[] ids = accessStrategy.insert(insertSubjects, batchInsert.getEntityType(), batchInsert.getBatchValue());
+		Object[] ids = accessStrategy.insert(insertSubjects, batchInsert.getEntityType(),
+				getIdValueSource(inserts, batchInsert.getBatchValue()));
 
 		for (int i = 0; i < inserts.size(); i++) {
-			add(new DbActionExecutionResult(inserts.get(i), ids.length > 0 ? ids[i] : null));
+			add(new DbActionExecutionResult(inserts.get(i), getResultId(inserts.get(i), ids.length > 0 ? ids[i] : null)));
 		}
 	}
 
@@ -132,6 +146,18 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(upsert));
 	}
 
+	<T> void executeBatchUpsertRoot(DbAction.BatchUpsertRoot<T> batchUpsertRoot) {
+
+		List<DbAction.UpsertRoot<T>> upserts = batchUpsertRoot.getActions();
+		List<T> entities = upserts.stream().map(DbAction.UpsertRoot::entity).toList();
+
+		accessStrategy.upsertAll(entities, batchUpsertRoot.getBatchValue());
+
+		for (DbAction.UpsertRoot<T> upsert : upserts) {
+			add(new DbActionExecutionResult(upsert));
+		}
+	}
+
 	<T> void executeUpdateRoot(DbAction.UpdateRoot<T> update) {
 
 		if (update.getPreviousVersion() != null) {
@@ -157,6 +183,16 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(rootIds, batchDelete.getEntityType());
 	}
 
+	<T> void executeBatchDeleteRootWithVersion(DbAction.BatchDeleteRootWithVersion<T> batchDelete) {
+
+		List<Pair<Object, Number>> idsAndPreviousVersions = new ArrayList<>(batchDelete.getActions().size());
+		for (DbAction.DeleteRoot<T> delete : batchDelete.getActions()) {
+			idsAndPreviousVersions.add(Pair.of(delete.id(), delete.previousVersion()));
+		}
+
+		accessStrategy.deleteWithVersion(idsAndPreviousVersions, batchDelete.getEntityType());
+	}
+
 	<T> void executeDelete(DbAction.Delete<T> delete) {
 
 		accessStrategy.delete(delete.rootId(), delete.propertyPath());
@@ -182,6 +218,12 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.acquireLockById(acquireLock.getId(), LockMode.PESSIMISTIC_WRITE, acquireLock.getEntityType());
 	}
 
+	<T> void executeBatchAcquireLockRoot(DbAction.BatchAcquireLockRoot<T> batchAcquireLock) {
+
+		List<Object> rootIds = batchAcquireLock.getActions().stream().map(DbAction.AcquireLockRoot::getId).toList();
+		accessStrategy.acquireLockById(rootIds, LockMode.PESSIMISTIC_WRITE, batchAcquireLock.getEntityType());
+	}
+
 	<T> void executeAcquireLockAllRoot(DbAction.AcquireLockAllRoot<T> acquireLock) {
 		accessStrategy.acquireLockAll(LockMode.PESSIMISTIC_WRITE, acquireLock.getEntityType());
 	}
@@ -190,6 +232,86 @@ class JdbcAggregateChangeExecutionContext {
 		results.put(result.getAction(), result);
 	}
 
+	/**
+	 * Assign identifiers obtained from a matching {@link IdentifierGenerator} to all entities of {@code inserts} that do
+	 * not have an identifier yet. Identifiers for all entities are reserved with a single
+	 * {@link IdentifierGenerator#generate} call.
+	 *
+	 * @return the entities to insert, in the order of {@code inserts}.
+	 */
+	private <T> List<T> preAssignIds(List<? extends DbAction.WithEntity<T>> inserts, Class<T> entityType) {
+
+		List<T> entities = new ArrayList<>(inserts.size());
+		inserts.forEach(insert -> entities.add(insert.entity()));
+
+		if (identifierGenerators.isEmpty()) {
+			return entities;
+		}
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(entityType);
+		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
+		if (idProperty == null) {
+			return entities;
+		}
+
+		IdentifierGenerator generator = identifierGenerators.stream().filter(it -> it.supports(idProperty)).findFirst()
+				.orElse(null);
+		if (generator == null) {
+			return entities;
+		}
+
+		List<Integer> missing = new ArrayList<>();
+		for (int i = 0; i < inserts.size(); i++) {
+			if (IdValueSource.GENERATED.equals(inserts.get(i).idValueSource())
+					|| persistentEntity.getIdentifierAccessor(entities.get(i)).getIdentifier() == null) {
+				missing.add(i);
+			}
+		}
+
+		if (missing.isEmpty()) {
+			return entities;
+		}
+
+		List<?> ids = generator.generate(idProperty, missing.size());
+
+		Assert.state(ids.size() == missing.size(), () -> "%s returned %d instead of %d identifiers"
+				.formatted(generator.getClass().getName(), ids.size(), missing.size()));
+
+		for (int i = 0; i < missing.size(); i++) {
+
+			int index = missing.get(i);
+			Object id = ids.get(i);
+
+			PersistentPropertyPathAccessor<T> accessor = converter.getPropertyAccessor(persistentEntity,
+					entities.get(index));
+			accessor.setProperty(idProperty, id);
+
+			entities.set(index, accessor.getBean());
+			preAssignedIds.put(inserts.get(index), id);
+		}
+
+		return entities;
+	}
+
+	private IdValueSource getIdValueSource(DbAction.WithEntity<?> insert) {
+		return preAssignedIds.containsKey(insert) ? IdValueSource.PROVIDED : insert.idValueSource();
+	}
+
+	private IdValueSource getIdValueSource(List<? extends DbAction.WithEntity<?>> inserts, IdValueSource batchValue) {
+		return inserts.stream().anyMatch(preAssignedIds::containsKey) ? IdValueSource.PROVIDED : batchValue;
+	}
+
+	private @Nullable Object getResultId(DbAction.WithEntity<?> insert, @Nullable Object id) {
+		return preAssignedIds.containsKey(insert) ? preAssignedIds.get(insert) : id;
+	}
+
+	/**
+	 * @return whether the id of the action's entity is only known from its {@link DbActionExecutionResult}.
+	 */
+	private boolean hasResultId(DbAction.WithEntity<?> action) {
+		return IdValueSource.GENERATED.equals(action.idValueSource()) || preAssignedIds.containsKey(action);
+	}
+
 	private Identifier getParentKeys(DbAction.WithDependingOn<?> action, JdbcConverter converter) {
 
 		Object id = getParentId(action);
@@ -247,7 +369,7 @@ class JdbcAggregateChangeExecutionContext {
 
 	private Object getPotentialGeneratedIdFrom(DbAction.WithEntity<?> idOwningAction) {
 
-		if (IdValueSource.GENERATED.equals(idOwningAction.idValueSource())) {
+		if (hasResultId(idOwningAction)) {
 
 			DbActionExecutionResult dbActionExecutionResult = results.get(idOwningAction);
 			Object generatedId = Optional.ofNullable(dbActionExecutionResult) //
@@ -333,7 +455,7 @@ class JdbcAggregateChangeExecutionContext {
 		PersistentPropertyPathAccessor<S> propertyAccessor = converter.getPropertyAccessor(persistentEntity,
 				originalEntity);
 
-		if (IdValueSource.GENERATED.equals(action.idValueSource())) {
+		if (hasResultId(action)) {
 			propertyAccessor.setProperty(persistentEntity.getRequiredIdProperty(), generatedId);
 		}
 
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -26,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -132,6 +134,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T upsert(T instance);
 
+	/**
+	 * Upserts all aggregate roots, specifically insert if the row with the given identifier does not exist or update
+	 * otherwise. The identifiers must be already assigned. Aggregate roots of the same type are upserted using a single
+	 * batched statement. Only supported when the dialect supports single-statement upsert.
+	 * <p>
+	 * <strong>Note:</strong> Upserts currently do not support optimistic locking.
+	 *
+	 * @param instances the aggregate roots to upsert. Must not be {@code null} and each must have an id set.
+	 * @param <T> the type of the aggregate root.
+	 * @return the upserted instances.
+	 * @throws UnsupportedOperationException if the dialect or {@link DataAccessStrategy} does not support upsert.
+	 * @since 4.2
+	 */
+	<T> List<T> upsertAll(Iterable<T> instances);
+
 	/**
 	 * Counts the number of aggregates of a given type.
 	 *
@@ -290,6 +307,18 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Stream<T> streamAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream} applying the given
+	 * {@link StreamingHints}. Use hints with a fetch size to consume large results through a server-side cursor.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @param hints streaming hints such as the fetch size. Must not be {@code null}.
+	 * @return a non-null stream with all the matching results.
+	 * @since 4.2
+	 */
+	<T> Stream<T> streamAll(Query query, Class<T> domainType, StreamingHints hints);
+
 	/**
 	 * Returns a {@link Page} of entities matching the given {@link Query}. In case no match could be found, an empty
 	 * {@link Page} is returned.
@@ -387,4 +416,29 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> RowMapper<? extends T> getRowMapper(Class<T> type);
 
+	/**
+	 * Return a {@link RowMapper} that can map rows of a {@link java.sql.ResultSet} to instances of the specified
+	 * {@link Class type} where only {@code projectedProperties} are accessed by the caller. Relations outside the
+	 * projected properties are not loaded and remain empty, so mapped instances are partial aggregates that must not be
+	 * saved as saving them deletes the entities of these relations. The default implementation delegates to
+	 * {@link #getRowMapper(Class)}.
+	 *
+	 * @param type type of the entity to map.
+	 * @param projectedProperties names of the top-level properties that are accessed.
+	 * @return a row mapper for the given type.
+	 * @param <T>
+	 * @since 4.2
+	 */
+	default <T> RowMapper<? extends T> getRowMapper(Class<T> type, Collection<String> projectedProperties) {
+		return getRowMapper(type);
+	}
+
+	/**
+	 * Execute saves that were buffered for write-behind within the current transaction, so that subsequent queries
+	 * observe them. The default implementation does nothing as saves are executed immediately.
+	 *
+	 * @since 4.2
+	 */
+	default void flush() {}
+
 }
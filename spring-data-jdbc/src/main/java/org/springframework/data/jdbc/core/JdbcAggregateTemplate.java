@@ -15,17 +15,25 @@
  */
 package org.springframework.data.jdbc.core;
 
+import io.micrometer.observation.ObservationRegistry;
+
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -41,13 +49,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
+import org.springframework.data.jdbc.core.convert.IdentifierGenerator;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.ProjectedPaths;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
+import org.springframework.data.jdbc.core.observability.DbActionObservation;
+import org.springframework.data.jdbc.core.observability.DbActionObservationConvention;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.EntityLifecycleEventDelegate;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.BatchingAggregateChange;
+import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DeleteAggregateChange;
+import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
@@ -55,6 +70,7 @@ import org.springframework.data.relational.core.conversion.RelationalEntityUpdat
 import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityVersionUtils;
 import org.springframework.data.relational.core.conversion.RootAggregateChange;
+import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -62,6 +78,8 @@ import org.springframework.data.relational.core.mapping.event.*;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -90,6 +108,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 	private final JdbcConverter converter;
 
 	private @Nullable EntityCallbacks entityCallbacks;
+	private boolean writeBehind;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link RelationalMappingContext} and {@link DataAccessStrategy}.
@@ -193,6 +212,78 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure the {@link ObservationRegistry} used to observe the execution of the individual database actions that
+	 * make up saving and deleting aggregates. Each observation carries the affected entity type, the kind of action and
+	 * the batch size. Without a registry, actions are executed without any instrumentation.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @since 4.2
+	 * @see DbActionObservation
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.executor.setObservationRegistry(observationRegistry);
+	}
+
+	/**
+	 * Configure a custom {@link DbActionObservationConvention} to customize the observations created when a
+	 * {@link #setObservationRegistry(ObservationRegistry) registry} is configured.
+	 *
+	 * @param observationConvention must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setObservationConvention(DbActionObservationConvention observationConvention) {
+
+		Assert.notNull(observationConvention, "DbActionObservationConvention must not be null");
+
+		this.executor.setObservationConvention(observationConvention);
+	}
+
+	/**
+	 * Configure {@link IdentifierGenerator}s assigning identifiers on the client side before entities get inserted. The
+	 * first generator supporting the identifier property of an entity is used. Entities with pre-assigned identifiers
+	 * do not need to retrieve generated keys, so inserts of all aggregates passed to {@link #saveAll(Iterable)} or
+	 * {@link #insertAll(Iterable)} are written with a single batch statement per table.
+	 *
+	 * @param identifierGenerators must not be {@literal null}.
+	 * @since 4.2
+	 * @see IdentifierGenerator#uuidV7()
+	 * @see org.springframework.data.jdbc.core.convert.SequenceIdentifierGenerator
+	 */
+	public void setIdentifierGenerators(List<? extends IdentifierGenerator> identifierGenerators) {
+
+		Assert.notNull(identifierGenerators, "IdentifierGenerators must not be null");
+
+		this.executor.setIdentifierGenerators(List.copyOf(identifierGenerators));
+	}
+
+	/**
+	 * Enable write-behind of saves within transactions. Saves of aggregates whose identifiers, including those of all
+	 * contained entities, are known before execution are buffered and executed before the transaction commits, before any
+	 * other operation of this template and before repository query methods run. Buffered saves are executed in the order
+	 * they were issued; consecutive saves of the same aggregate type are executed as one batch. Saves that require a
+	 * generated identifier are executed immediately after flushing the buffer. Disabled by default.
+	 * <p>
+	 * A buffered save returns the aggregate as prepared for execution. Buffered saves publish {@code AfterSave} events
+	 * and invoke {@code AfterSaveCallback}s once they are executed, but instances returned by callbacks are not visible
+	 * to the caller of {@code save}. Failures, such as optimistic locking failures, surface when the buffer is flushed.
+	 * <p>
+	 * Rolling back to a savepoint, for example at the end of a {@code PROPAGATION_NESTED} scope, discards saves buffered
+	 * within that scope. Saves buffered before the savepoint that were flushed within the scope are executed again
+	 * without triggering their callbacks a second time. Savepoints managed outside of Spring's transaction
+	 * infrastructure are not tracked; call {@link #flush()} before creating them.
+	 *
+	 * @param writeBehind {@literal true} to buffer saves within transactions.
+	 * @since 4.2
+	 * @see #flush()
+	 */
+	public void setWriteBehindEnabled(boolean writeBehind) {
+		this.writeBehind = writeBehind;
+	}
+
 	/**
 	 * Return a {@link RowMapper} to map results for {@link Class type}.
 	 *
@@ -210,6 +301,18 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return new LifecycleEntityRowMapper<T>((RelationalPersistentEntity<T>) entity);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> RowMapper<? extends T> getRowMapper(Class<T> type, Collection<String> projectedProperties) {
+
+		Assert.notNull(projectedProperties, "Projected properties must not be null");
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+
+		return new LifecycleEntityRowMapper<T>((RelationalPersistentEntity<T>) entity,
+				ProjectedPaths.excludedBy(projectedProperties));
+	}
+
 	@Override
 	public <T> T save(T instance) {
 
@@ -275,6 +378,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return performSave(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
 	}
 
+	@Override
+	public <T> List<T> upsertAll(Iterable<T> instances) {
+		return doInBatch(instances, this::createUpsertChange);
+	}
+
 	private <T> List<T> saveInBatch(Iterable<T> instances, Function<T, AggregateChangeCreator<T>> changes) {
 
 		Assert.notNull(instances, "Aggregate instances must not be null");
@@ -314,16 +422,22 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		return accessStrategy.count(domainType);
 	}
 
 	@Override
 	public <T> long count(Query query, Class<T> domainType) {
+
+		flush();
 		return accessStrategy.count(query, domainType);
 	}
 
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
+
+		flush();
 		return accessStrategy.exists(query, domainType);
 	}
 
@@ -333,6 +447,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		return accessStrategy.existsById(id, domainType);
 	}
 
@@ -342,6 +458,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		T entity = accessStrategy.findById(id, domainType);
 		if (entity == null) {
 			return null;
@@ -354,6 +472,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		Iterable<T> all = accessStrategy.findAll(domainType, sort);
 		return triggerAfterConvert(all);
 	}
@@ -363,6 +483,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		Stream<T> allStreamable = accessStrategy.streamAll(domainType, sort);
 
 		return allStreamable.map(this::triggerAfterConvert);
@@ -374,6 +496,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(domainType, pageable));
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
@@ -382,12 +506,16 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
+
+		flush();
 		return accessStrategy.findOne(query, domainType).map(this::triggerAfterConvert);
 	}
 
 	@Override
 	public <T> List<T> findAll(Query query, Class<T> domainType) {
 
+		flush();
+
 		Iterable<T> all = accessStrategy.findAll(query, domainType);
 
 		return triggerAfterConvert(all);
@@ -395,13 +523,24 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 	@Override
 	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		flush();
 		return accessStrategy.streamAll(query, domainType).map(this::triggerAfterConvert);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType, StreamingHints hints) {
+
+		flush();
+		return accessStrategy.streamAll(query, domainType, hints).map(this::triggerAfterConvert);
+	}
+
 	@Override
 	@Deprecated(since = "4.0", forRemoval = true)
 	public <T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 
+		flush();
+
 		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(query, domainType, pageable));
 		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
@@ -413,6 +552,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		Iterable<T> all = accessStrategy.findAll(domainType);
 		return triggerAfterConvert(all);
 	}
@@ -420,6 +561,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType) {
 
+		flush();
+
 		Stream<T> items = accessStrategy.streamAll(domainType);
 		return items.map(this::triggerAfterConvert);
 	}
@@ -430,6 +573,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		Assert.notNull(ids, "Ids must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
 		return triggerAfterConvert(allById);
 	}
@@ -440,6 +585,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		Assert.notNull(ids, "Ids must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		Stream<T> allByIdStreamable = accessStrategy.streamAllByIds(ids, domainType);
 
 		return allByIdStreamable.map(this::triggerAfterConvert);
@@ -450,6 +597,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(aggregateRoot, "Aggregate root must not be null");
 
+		flush();
+
 		Class<S> domainType = (Class<S>) aggregateRoot.getClass();
 		IdentifierAccessor identifierAccessor = context.getRequiredPersistentEntity(domainType)
 				.getIdentifierAccessor(aggregateRoot);
@@ -463,6 +612,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		deleteTree(id, null, domainType);
 	}
 
@@ -473,6 +624,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 			return;
 		}
 
+		flush();
+
 		BatchingAggregateChange<T, DeleteAggregateChange<T>> batchingAggregateChange = BatchingAggregateChange
 				.forDelete(domainType);
 
@@ -493,6 +646,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
+		flush();
+
 		MutableAggregateChange<?> change = createDeletingChange(domainType);
 		executor.executeDelete(change);
 	}
@@ -505,6 +660,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 			return;
 		}
 
+		flush();
+
 		Map<Class<Object>, List<Object>> groupedByType = new HashMap<>();
 		for (T instance : instances) {
 			groupedByType.computeIfAbsent((Class) instance.getClass(), __ -> new ArrayList<>()).add(instance);
@@ -589,9 +746,23 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 	private <T> T performSave(EntityAndChangeCreator<T> instance) {
 
 		// noinspection unchecked
+		Class<T> entityType = (Class<T>) ClassUtils.getUserClass(instance.entity);
+
+		if (writeBehind) {
+			flushIfBuffered(entityType, instance.entity);
+		}
+
+		RootAggregateChange<T> change = beforeExecute(instance);
+
+		if (writeBehind && deferSave(entityType, change)) {
+			return change.getRoot();
+		}
+
+		flush();
+
 		BatchingAggregateChange<T, RootAggregateChange<T>> batchingAggregateChange = //
-				BatchingAggregateChange.forSave((Class<T>) ClassUtils.getUserClass(instance.entity));
-		batchingAggregateChange.add(beforeExecute(instance));
+				BatchingAggregateChange.forSave(entityType);
+		batchingAggregateChange.add(change);
 
 		Iterator<T> afterExecutionIterator = executor.executeSave(batchingAggregateChange).iterator();
 
@@ -602,6 +773,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 	private <T> List<T> performSaveAll(Iterable<EntityAndChangeCreator<T>> instances) {
 
+		flush();
+
 		BatchingAggregateChange<T, RootAggregateChange<T>> batchingAggregateChange = null;
 
 		for (EntityAndChangeCreator<T> instance : instances) {
@@ -624,6 +797,131 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return results;
 	}
 
+	/**
+	 * Buffer {@code change} for write-behind if a transaction is active and the identifier of the aggregate root is known
+	 * before execution.
+	 *
+	 * @return {@literal true} if the change was buffered.
+	 */
+	private <T> boolean deferSave(Class<T> entityType, RootAggregateChange<T> change) {
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()
+				|| !TransactionSynchronizationManager.isSynchronizationActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return false;
+		}
+
+		Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(change.getRoot())
+				.getIdentifier();
+		if (id == null || requiresGeneratedIds(change)) {
+			return false;
+		}
+
+		PendingSaves pending = getPendingSaves();
+		if (pending.contains(entityType, id)) {
+			// saving the same aggregate twice within one batch would apply child deletes and inserts out of order
+			flush(pending);
+		}
+
+		pending.add(entityType, id, change);
+		return true;
+	}
+
+	/**
+	 * Flush buffered saves if {@code instance} is among them. A buffered save of the same aggregate must be executed
+	 * before the version of the aggregate is incremented again.
+	 */
+	private <T> void flushIfBuffered(Class<T> entityType, T instance) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		PendingSaves pending = (PendingSaves) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			return;
+		}
+
+		Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(instance).getIdentifier();
+		if (id != null && pending.contains(entityType, id)) {
+			flush(pending);
+		}
+	}
+
+	/**
+	 * Check whether executing {@code change} generates identifiers of entities within the aggregate. The instance
+	 * returned for a buffered save is the one passed in, so identifiers generated on execution could not be propagated.
+	 */
+	private static boolean requiresGeneratedIds(AggregateChange<?> change) {
+
+		AtomicBoolean generated = new AtomicBoolean();
+		change.forEachAction(action -> {
+			if (action instanceof DbAction.WithEntity<?> withEntity && withEntity.idValueSource() == IdValueSource.GENERATED) {
+				generated.set(true);
+			}
+		});
+
+		return generated.get();
+	}
+
+	/**
+	 * Execute all saves buffered for write-behind in the current transaction. No-op if write-behind is disabled or no
+	 * saves are buffered.
+	 *
+	 * @since 4.2
+	 * @see #setWriteBehindEnabled(boolean)
+	 */
+	@Override
+	public void flush() {
+
+		if (!writeBehind || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		PendingSaves pending = (PendingSaves) TransactionSynchronizationManager.getResource(this);
+		if (pending != null) {
+			flush(pending);
+		}
+	}
+
+	private void flush(PendingSaves pending) {
+
+		// after-save callbacks may buffer further saves
+		for (List<BufferedSaves<?>> drained = pending.drain(); !drained.isEmpty(); drained = pending.drain()) {
+			for (BufferedSaves<?> saves : drained) {
+				executeBufferedSaves(saves, pending.isReplay(saves));
+			}
+		}
+	}
+
+	private <T> void executeBufferedSaves(BufferedSaves<T> saves, boolean replay) {
+
+		List<T> instances = executor.executeSave(saves.change());
+
+		// callbacks of replayed saves already ran before the savepoint rollback undid their execution
+		if (!replay) {
+			for (T instance : instances) {
+				afterExecute(saves.change(), instance);
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link PendingSaves} bound to the current transaction, registering them on first access.
+	 */
+	private PendingSaves getPendingSaves() {
+
+		PendingSaves pending = (PendingSaves) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+
+			pending = new PendingSaves();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+
+		return pending;
+	}
+
 	private <T> AggregateChangeCreator<T> changeCreatorSelectorForSave(T instance) {
 
 		return context.getRequiredPersistentEntity(instance.getClass()).isNew(instance)
@@ -771,6 +1069,137 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return aggregateRoot;
 	}
 
+	private record AggregateKey(Class<?> type, Object id) {
+	}
+
+	private record BufferedSaves<T>(Class<T> type, BatchingAggregateChange<T, RootAggregateChange<T>> change,
+			List<Object> ids) {
+	}
+
+	/**
+	 * Saves buffered for write-behind in the order they were issued. Consecutive saves of the same aggregate type are
+	 * merged into one batch; a save of a different type starts a new batch so that saves referencing each other are not
+	 * reordered. Executed before the transaction commits and discarded on rollback.
+	 * <p>
+	 * Savepoints, such as those of {@code PROPAGATION_NESTED} scopes, are tracked as well: rolling back to a savepoint
+	 * discards saves buffered after it was created and re-executes saves that were buffered before it but executed
+	 * within its scope.
+	 */
+	private class PendingSaves implements TransactionSynchronization {
+
+		private final List<BufferedSaves<?>> saves = new ArrayList<>();
+		private final Set<AggregateKey> aggregates = new HashSet<>();
+		private final Map<Object, List<BufferedSaves<?>>> savepoints = new LinkedHashMap<>();
+		private final Set<BufferedSaves<?>> replays = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		/**
+		 * Number of leading batches that must not receive further saves because a savepoint was created after them.
+		 */
+		private int sealed;
+
+		boolean contains(Class<?> type, Object id) {
+			return aggregates.contains(new AggregateKey(type, id));
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> void add(Class<T> type, Object id, RootAggregateChange<T> change) {
+
+			BufferedSaves<?> last = saves.size() > sealed ? saves.get(saves.size() - 1) : null;
+			BufferedSaves<T> buffered;
+
+			if (last != null && last.type() == type) {
+				buffered = (BufferedSaves<T>) last;
+			} else {
+				buffered = new BufferedSaves<>(type, BatchingAggregateChange.forSave(type), new ArrayList<>());
+				saves.add(buffered);
+			}
+
+			buffered.change().add(change);
+			buffered.ids().add(id);
+			aggregates.add(new AggregateKey(type, id));
+		}
+
+		List<BufferedSaves<?>> drain() {
+
+			List<BufferedSaves<?>> drained = List.copyOf(saves);
+			saves.clear();
+			aggregates.clear();
+			sealed = 0;
+			return drained;
+		}
+
+		boolean isReplay(BufferedSaves<?> buffered) {
+			return replays.remove(buffered);
+		}
+
+		@Override
+		public void savepoint(Object savepoint) {
+
+			savepoints.put(savepoint, List.copyOf(saves));
+			sealed = saves.size();
+		}
+
+		@Override
+		public void savepointRollbackTo(Object savepoint) {
+
+			List<BufferedSaves<?>> beforeSavepoint = savepoints.getOrDefault(savepoint, List.of());
+
+			// forget the savepoint and all savepoints nested within it
+			boolean nested = false;
+			for (Iterator<Object> iterator = savepoints.keySet().iterator(); iterator.hasNext();) {
+
+				Object candidate = iterator.next();
+				nested |= candidate == savepoint;
+				if (nested) {
+					iterator.remove();
+				}
+			}
+
+			Set<BufferedSaves<?>> stillBuffered = Collections.newSetFromMap(new IdentityHashMap<>());
+			stillBuffered.addAll(saves);
+
+			saves.clear();
+			aggregates.clear();
+
+			for (BufferedSaves<?> buffered : beforeSavepoint) {
+
+				if (!stillBuffered.contains(buffered)) {
+					replays.add(buffered);
+				}
+
+				saves.add(buffered);
+				buffered.ids().forEach(id -> aggregates.add(new AggregateKey(buffered.type(), id)));
+			}
+
+			sealed = saves.size();
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(JdbcAggregateTemplate.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(JdbcAggregateTemplate.this, this);
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			flush(this);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(JdbcAggregateTemplate.this);
+			saves.clear();
+			aggregates.clear();
+			savepoints.clear();
+			replays.clear();
+		}
+	}
+
 	private record EntityAndPreviousVersion<T>(T entity, @Nullable Number version) {
 	}
 
@@ -787,6 +1216,10 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 			super(entity, converter);
 		}
 
+		public LifecycleEntityRowMapper(RelationalPersistentEntity<T> entity, Predicate<AggregatePath> pathFilter) {
+			super(entity, converter, pathFilter);
+		}
+
 		@Override
 		public T mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
 
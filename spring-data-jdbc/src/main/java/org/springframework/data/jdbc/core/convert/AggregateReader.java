@@ -34,6 +34,7 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sqlgeneration.AliasFactory;
+import org.springframework.data.relational.core.sqlgeneration.PathToColumnMapping;
 import org.springframework.data.relational.core.sqlgeneration.SingleQuerySqlGenerator;
 import org.springframework.data.relational.core.sqlgeneration.SqlGenerator;
 import org.springframework.data.relational.domain.RowDocument;
@@ -140,8 +141,14 @@ class AggregateReader implements PathToColumnMapping {
 	 */
 	@SuppressWarnings("ConstantConditions")
 	public <T> List<T> findAll(RelationalPersistentEntity<T> entity) {
-		return jdbcTemplate.query(sqlGenerator.findAll(entity),
-				(ResultSetExtractor<? extends List<T>>) rs -> extractAll(rs, entity));
+
+		String sql = sqlGenerator.findAll(entity);
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		List<T> result = jdbcTemplate.query(sql, (ResultSetExtractor<? extends List<T>>) rs -> extractAll(rs, entity));
+		event.finish(entity.getType(), sql, result.size());
+
+		return result;
 	}
 
 	/**
@@ -164,7 +171,11 @@ class AggregateReader implements PathToColumnMapping {
 		Condition condition = createCondition(query, parameterSource, entity);
 		String sql = sqlGenerator.findAll(entity, condition);
 
-		return jdbcTemplate.query(sql, parameterSource, extractor);
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		R result = jdbcTemplate.query(sql, parameterSource, extractor);
+		event.finish(entity.getType(), sql, result instanceof List<?> list ? list.size() : result == null ? 0 : 1);
+
+		return result;
 	}
 
 	@Nullable
@@ -193,7 +204,7 @@ class AggregateReader implements PathToColumnMapping {
 		List<T> resultList = new ArrayList<>();
 
 		while (iterate.hasNext()) {
-			resultList.add(converter.read(entity.getType(), iterate.next()));
+			resultList.add(read(entity, iterate.next()));
 		}
 
 		return resultList;
@@ -221,10 +232,24 @@ class AggregateReader implements PathToColumnMapping {
 			if (iterate.hasNext()) {
 				throw new IncorrectResultSizeDataAccessException(1);
 			}
-			return converter.read(entity.getType(), object);
+
+			return read(entity, object);
 		}
 
 		return null;
 	}
 
+	private <T> T read(RelationalPersistentEntity<T> entity, RowDocument document) {
+
+		if (!RowMappingEvent.isRecording()) {
+			return converter.read(entity.getType(), document);
+		}
+
+		RowMappingEvent event = RowMappingEvent.start();
+		T result = converter.read(entity.getType(), document);
+		event.finish(entity.getType(), "", 1);
+
+		return result;
+	}
+
 }
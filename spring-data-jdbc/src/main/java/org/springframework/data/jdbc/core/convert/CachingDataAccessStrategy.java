@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.Pair;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DelegatingDataAccessStrategy} providing a read-through second-level cache for aggregates loaded by id.
+ * <p>
+ * Only aggregate roots of the configured types are cached. {@link #findById(Object, Class)} and
+ * {@link #findAllById(Iterable, Class)} consult the {@link Cache} first and query the delegate for misses only. Every
+ * write operation affecting a cached aggregate (update, upsert, delete, delete of a nested path) evicts the aggregate
+ * immediately and again once the surrounding transaction completes, so that concurrent readers cannot re-populate the
+ * cache with state that was about to change. Reads that started before an eviction do not put the state they loaded
+ * into the cache. Aggregates are only put into the cache outside of read-write transactions.
+ * <p>
+ * Deleting all aggregates of a type invalidates the cache entries of that type only, by advancing a generation that is
+ * part of each cache key. Entries of previous generations are no longer returned and remain in the cache until the
+ * {@link Cache} implementation evicts or expires them.
+ * <p>
+ * Storage, eviction and expiration are controlled by the {@link Cache} implementation, e.g. a {@code CaffeineCache}
+ * configured with a maximum size and an expire-after-write duration. Cached aggregates are shared between callers and
+ * should therefore be immutable.
+ *
+ * @since 4.2
+ */
+public class CachingDataAccessStrategy extends DelegatingDataAccessStrategy {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final Cache cache;
+	private final Map<Class<?>, Invalidations> cachedTypes;
+
+	/**
+	 * Creates a new {@link CachingDataAccessStrategy}.
+	 *
+	 * @param delegate the {@link DataAccessStrategy} to load aggregates and to apply changes, must not be {@literal null}.
+	 * @param converter the {@link JdbcConverter} to introspect aggregates, must not be {@literal null}.
+	 * @param cache the {@link Cache} holding aggregates, must not be {@literal null}.
+	 * @param cachedTypes aggregate root types to cache, must not be {@literal null}.
+	 */
+	public CachingDataAccessStrategy(DataAccessStrategy delegate, JdbcConverter converter, Cache cache,
+			Collection<Class<?>> cachedTypes) {
+
+		super(delegate);
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.notNull(cachedTypes, "Cached types must not be null");
+
+		this.context = converter.getMappingContext();
+		this.converter = converter;
+		this.cache = cache;
+		this.cachedTypes = cachedTypes.stream().distinct()
+				.collect(Collectors.toUnmodifiableMap(Function.identity(), it -> new Invalidations()));
+	}
+
+	@Override
+	public <T extends @Nullable Object> T findById(Object id, Class<T> domainType) {
+
+		if (!isCached(domainType)) {
+			return super.findById(id, domainType);
+		}
+
+		long invalidationCount = cachedTypes.get(domainType).count.get();
+		CacheKey key = key(domainType, id);
+		Cache.ValueWrapper cached = cache.get(key);
+		if (cached != null && domainType.isInstance(cached.get())) {
+			return domainType.cast(cached.get());
+		}
+
+		T loaded = super.findById(id, domainType);
+		if (loaded != null && isPopulationAllowed()) {
+			put(key, loaded, invalidationCount);
+		}
+
+		return loaded;
+	}
+
+	@Override
+	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+
+		if (!isCached(domainType)) {
+			return super.findAllById(ids, domainType);
+		}
+
+		long invalidationCount = cachedTypes.get(domainType).count.get();
+		List<T> result = new ArrayList<>();
+		List<Object> misses = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Cache.ValueWrapper cached = cache.get(key(domainType, id));
+			if (cached != null && domainType.isInstance(cached.get())) {
+				result.add(domainType.cast(cached.get()));
+			} else {
+				misses.add(id);
+			}
+		}
+
+		if (misses.isEmpty()) {
+			return result;
+		}
+
+		boolean populate = isPopulationAllowed();
+		for (T loaded : super.findAllById(misses, domainType)) {
+
+			if (populate) {
+				put(key(domainType, getId(loaded, domainType)), loaded, invalidationCount);
+			}
+			result.add(loaded);
+		}
+
+		return result;
+	}
+
+	@Override
+	public <T> int upsert(T objectToSave, Class<? super T> domainType) {
+
+		evictEntity(objectToSave, domainType);
+		return super.upsert(objectToSave, domainType);
+	}
+
+	@Override
+	public <T> int[] upsertAll(List<T> objectsToSave, Class<? super T> domainType) {
+
+		objectsToSave.forEach(it -> evictEntity(it, domainType));
+		return super.upsertAll(objectsToSave, domainType);
+	}
+
+	@Override
+	public <S> boolean update(S objectToSave, Class<S> domainType) {
+
+		evictEntity(objectToSave, domainType);
+		return super.update(objectToSave, domainType);
+	}
+
+	@Override
+	public <S> boolean updateWithVersion(S objectToSave, Class<S> domainType, Number nextVersion) {
+
+		evictEntity(objectToSave, domainType);
+		return super.updateWithVersion(objectToSave, domainType, nextVersion);
+	}
+
+	@Override
+	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		evict(getRootType(propertyPath), List.of(rootId));
+		super.delete(rootId, propertyPath);
+	}
+
+	@Override
+	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		evict(getRootType(propertyPath), rootIds);
+		super.delete(rootIds, propertyPath);
+	}
+
+	@Override
+	public void delete(Object id, Class<?> domainType) {
+
+		evict(domainType, List.of(id));
+		super.delete(id, domainType);
+	}
+
+	@Override
+	public void delete(Iterable<Object> ids, Class<?> domainType) {
+
+		evict(domainType, ids);
+		super.delete(ids, domainType);
+	}
+
+	@Override
+	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
+
+		evict(domainType, List.of(id));
+		super.deleteWithVersion(id, domainType, previousVersion);
+	}
+
+	@Override
+	public <T> void deleteWithVersion(List<Pair<Object, Number>> idsAndPreviousVersions, Class<T> domainType) {
+
+		evict(domainType, idsAndPreviousVersions.stream().map(Pair::getFirst).toList());
+		super.deleteWithVersion(idsAndPreviousVersions, domainType);
+	}
+
+	@Override
+	public <T> void deleteAll(Class<T> domainType) {
+
+		clear(domainType);
+		super.deleteAll(domainType);
+	}
+
+	@Override
+	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		clear(getRootType(propertyPath));
+		super.deleteAll(propertyPath);
+	}
+
+	private boolean isCached(Class<?> domainType) {
+		return cachedTypes.containsKey(domainType);
+	}
+
+	/**
+	 * Put {@code aggregate} into the cache unless an aggregate of its type was evicted since the read started, as the
+	 * aggregate might reflect state from before the eviction.
+	 */
+	private void put(CacheKey key, Object aggregate, long invalidationCount) {
+
+		AtomicLong count = cachedTypes.get(key.type()).count;
+		if (count.get() != invalidationCount) {
+			return;
+		}
+
+		cache.put(key, aggregate);
+
+		// an eviction might have happened concurrently with the put
+		if (count.get() != invalidationCount) {
+			cache.evict(key);
+		}
+	}
+
+	/**
+	 * Aggregates read within a read-write transaction may reflect uncommitted changes and must not become visible to
+	 * other callers.
+	 */
+	private static boolean isPopulationAllowed() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private void evictEntity(Object entity, Class<?> domainType) {
+
+		if (isCached(domainType)) {
+			evict(domainType, List.of(getId(entity, domainType)));
+		}
+	}
+
+	private void evict(Class<?> domainType, Iterable<?> ids) {
+
+		if (!isCached(domainType)) {
+			return;
+		}
+
+		Set<CacheKey> keys = new LinkedHashSet<>();
+		for (Object id : ids) {
+			keys.add(key(domainType, id));
+		}
+
+		evict(keys);
+
+		PendingEvictions pending = getPendingEvictions();
+		if (pending != null) {
+			pending.keys.addAll(keys);
+		}
+	}
+
+	private void clear(Class<?> domainType) {
+
+		if (!isCached(domainType)) {
+			return;
+		}
+
+		clearType(domainType);
+
+		PendingEvictions pending = getPendingEvictions();
+		if (pending != null) {
+			pending.types.add(domainType);
+		}
+	}
+
+	private void evict(Collection<CacheKey> keys) {
+
+		keys.forEach(key -> cachedTypes.get(key.type()).count.incrementAndGet());
+		keys.forEach(cache::evict);
+	}
+
+	private void clearType(Class<?> domainType) {
+
+		Invalidations invalidations = cachedTypes.get(domainType);
+		invalidations.count.incrementAndGet();
+		invalidations.generation.incrementAndGet();
+	}
+
+	/**
+	 * Returns the {@link PendingEvictions} bound to the current transaction, registering them on first access.
+	 *
+	 * @return the pending evictions or {@literal null} if transaction synchronization is not active.
+	 */
+	private @Nullable PendingEvictions getPendingEvictions() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+
+			pending = new PendingEvictions();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+
+		return pending;
+	}
+
+	private Object getId(Object entity, Class<?> domainType) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+		return persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+	}
+
+	private static Class<?> getRootType(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		RelationalPersistentProperty baseProperty = propertyPath.getBaseProperty();
+
+		Assert.state(baseProperty != null, "Property path must not be empty");
+
+		return baseProperty.getOwner().getType();
+	}
+
+	/**
+	 * Creates the cache key for the given id, converting the id to the identifier type so that e.g. {@code 1} and
+	 * {@code 1L} address the same aggregate.
+	 */
+	private CacheKey key(Class<?> domainType, Object id) {
+
+		RelationalPersistentProperty idProperty = context.getRequiredPersistentEntity(domainType).getIdProperty();
+		Object normalizedId = id;
+
+		if (idProperty != null && !idProperty.getType().isInstance(id)
+				&& converter.getConversionService().canConvert(id.getClass(), idProperty.getType())) {
+			normalizedId = converter.getConversionService().convert(id, idProperty.getType());
+		}
+
+		return new CacheKey(domainType, cachedTypes.get(domainType).generation.get(),
+				normalizedId != null ? normalizedId : id);
+	}
+
+	record CacheKey(Class<?> type, long generation, Object id) {
+	}
+
+	/**
+	 * Invalidation state of a cached type. The generation is part of each {@link CacheKey} so that deleting all
+	 * aggregates of a type invalidates only entries of that type. The count is incremented on every eviction so that
+	 * reads started before an eviction do not re-populate the cache.
+	 */
+	private static class Invalidations {
+
+		private final AtomicLong generation = new AtomicLong();
+		private final AtomicLong count = new AtomicLong();
+	}
+
+	/**
+	 * Evictions to repeat once the transaction has completed, regardless of its outcome.
+	 */
+	private class PendingEvictions implements TransactionSynchronization {
+
+		private final Set<CacheKey> keys = new HashSet<>();
+		private final Set<Class<?>> types = new HashSet<>();
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(CachingDataAccessStrategy.this);
+
+			types.forEach(CachingDataAccessStrategy.this::clearType);
+			evict(keys);
+		}
+	}
+}
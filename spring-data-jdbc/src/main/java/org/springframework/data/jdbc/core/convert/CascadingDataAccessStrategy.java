@@ -30,12 +30,14 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.FunctionCollector.CombinedDataAccessException;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.util.Pair;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
@@ -93,6 +95,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.upsert(objectToSave, domainType));
 	}
 
+	@Override
+	public <T> int[] upsertAll(List<T> objectsToSave, Class<? super T> domainType) {
+		return collect(das -> das.upsertAll(objectsToSave, domainType));
+	}
+
 	@Override
 	public <S> boolean update(S objectToSave, Class<S> domainType) {
 		return collect(das -> das.update(objectToSave, domainType));
@@ -122,6 +129,14 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		});
 	}
 
+	@Override
+	public <T> void deleteWithVersion(List<Pair<Object, Number>> idsAndPreviousVersions, Class<T> domainType) {
+		cascadePropagatingOptimisticLocking(das -> {
+			das.deleteWithVersion(idsAndPreviousVersions, domainType);
+			return TRUE;
+		});
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		collectVoid(das -> das.delete(rootId, propertyPath));
@@ -147,6 +162,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.acquireLockById(id, lockMode, domainType));
 	}
 
+	@Override
+	public <T> void acquireLockById(Iterable<Object> ids, LockMode lockMode, Class<T> domainType) {
+		collectVoid(das -> das.acquireLockById(ids, lockMode, domainType));
+	}
+
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 		collectVoid(das -> das.acquireLockAll(lockMode, domainType));
@@ -223,6 +243,11 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.streamAll(query, domainType));
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType, StreamingHints hints) {
+		return collect(das -> das.streamAll(query, domainType, hints));
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 		return collect(das -> das.findAll(query, domainType, pageable));
@@ -25,12 +25,14 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.util.Pair;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
 /**
@@ -134,6 +136,21 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	 */
 	<T> int upsert(T objectToSave, Class<? super T> domainType);
 
+	/**
+	 * Upserts the data of multiple entities of the same type using a single batched statement. The objects must have an
+	 * assigned identifier.
+	 * <p>
+	 * The used dialect is required to support single-statement upsert.
+	 *
+	 * @param objectsToSave the objects to upsert. Must not be {@code null}. Each object must have an id set.
+	 * @param domainType the type of the objects. Must not be {@code null}.
+	 * @param <T> the type of the objects.
+	 * @return the number of rows affected by the upsert of each object, as reported by the driver.
+	 * @throws UnsupportedOperationException if the dialect does not support upsert.
+	 * @since 4.2
+	 */
+	<T> int[] upsertAll(List<T> objectsToSave, Class<? super T> domainType);
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -175,6 +192,20 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	 */
 	<T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Deletes multiple entities from the database and enforce optimistic record locking using the version property. Does
+	 * not handle cascading deletes.
+	 *
+	 * @param idsAndPreviousVersions the ids of the rows to be deleted paired with their previous versions, in execution
+	 *          order. Must not be {@code null}.
+	 * @param domainType the type of entity to be deleted. Implicitly determines the table to operate on. Must not be
+	 *          {@code null}.
+	 * @throws OptimisticLockingFailureException if the delete fails to delete a row for any of the ids assuming the
+	 *           optimistic locking version check failed.
+	 * @since 4.2
+	 */
+	<T> void deleteWithVersion(List<Pair<Object, Number>> idsAndPreviousVersions, Class<T> domainType);
+
 	/**
 	 * Deletes all entities reachable via {@literal propertyPath} from the object identified by {@literal rootId}.
 	 *
@@ -216,6 +247,16 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	 */
 	<T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType);
 
+	/**
+	 * Acquire a lock on the aggregates specified by ids.
+	 *
+	 * @param ids the ids of the entities to lock. Must not be {@code null} or empty.
+	 * @param lockMode the lock mode for select. Must not be {@code null}.
+	 * @param domainType the domain type of the entity. Must not be {@code null}.
+	 * @since 4.2
+	 */
+	<T> void acquireLockById(Iterable<Object> ids, LockMode lockMode, Class<T> domainType);
+
 	/**
 	 * Acquire a lock on all aggregates of the given domain type.
 	 *
@@ -393,6 +434,18 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	@Override
 	<T> Stream<T> streamAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Stream} applying the given
+	 * {@link StreamingHints}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @param hints streaming hints such as the fetch size. Must not be {@code null}.
+	 * @return a non-null stream with all the matching results.
+	 * @since 4.2
+	 */
+	<T> Stream<T> streamAll(Query query, Class<T> domainType, StreamingHints hints);
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Iterable}. Applies the {@link Pageable}
 	 * to the result.
@@ -19,9 +19,12 @@ import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
@@ -31,6 +34,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -43,6 +47,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.Pair;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -71,6 +76,14 @@ import org.springframework.util.Assert;
  */
 public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
+	/**
+	 * Default maximum number of ids bound to a single {@code IN} list. Stays below common database limits such as the
+	 * 1000 expressions allowed by Oracle.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_IN_LIST_CHUNK_SIZE = 1000;
+
 	private final Log logger = LogFactory.getLog(getClass());
 
 	private final SqlGeneratorSource sqlGeneratorSource;
@@ -81,6 +94,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final InsertStrategyFactory insertStrategyFactory;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 
+	private int inListChunkSize = DEFAULT_IN_LIST_CHUNK_SIZE;
+	private StreamingHints streamingHints = StreamingHints.DEFAULT;
+	private @Nullable ParallelChunkExecution parallelFindAllById;
+	private @Nullable TransactionalStatementReuse statementReuse;
+
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
 	 *
@@ -111,6 +129,65 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * Configure the maximum number of ids bound to a single {@code IN} list when deleting or locking multiple rows by
+	 * id. Larger id sets are split into multiple statements. Defaults to {@link #DEFAULT_IN_LIST_CHUNK_SIZE}.
+	 *
+	 * @param inListChunkSize must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setInListChunkSize(int inListChunkSize) {
+
+		Assert.isTrue(inListChunkSize > 0, "In list chunk size must be greater than zero");
+
+		this.inListChunkSize = inListChunkSize;
+	}
+
+	/**
+	 * Configure the default {@link StreamingHints} applied to all {@code stream…} methods. Defaults to
+	 * {@link StreamingHints#DEFAULT}.
+	 *
+	 * @param streamingHints must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setStreamingHints(StreamingHints streamingHints) {
+
+		Assert.notNull(streamingHints, "StreamingHints must not be null");
+
+		this.streamingHints = streamingHints;
+	}
+
+	/**
+	 * Enable parallel execution of {@link #findAllById(Iterable, Class)} for id sets exceeding the
+	 * {@link #setInListChunkSize(int) in-list chunk size}. Ids are split into chunks and up to {@code parallelism} chunks
+	 * are queried concurrently using the given {@link Executor}, each on its own connection. Results are merged in chunk
+	 * order.
+	 * <p>
+	 * Parallel execution only applies outside of transactions and transaction synchronization. Within a transaction,
+	 * all ids are queried with a single query on the transactional connection, the same as without parallel execution.
+	 * {@code parallelism} should not exceed the size of the connection pool. Disabled by default.
+	 *
+	 * @param executor the executor to run chunk queries, for example a virtual thread executor. {@literal null} to
+	 *          disable parallel execution.
+	 * @param parallelism the maximum number of concurrently executed chunk queries, must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setParallelFindAllById(@Nullable Executor executor, int parallelism) {
+		this.parallelFindAllById = executor != null ? new ParallelChunkExecution(executor, parallelism) : null;
+	}
+
+	/**
+	 * Enable reuse of prepared statements for single-row inserts, updates and deletes within a transaction. Statements
+	 * are prepared once per SQL text on the transactional connection, rebound for subsequent executions and closed when
+	 * the transaction completes. Inserts using database-generated identifiers are not affected. Disabled by default.
+	 *
+	 * @param statementReuse {@literal true} to reuse prepared statements within a transaction.
+	 * @since 4.2
+	 */
+	public void setStatementReuse(boolean statementReuse) {
+		this.statementReuse = statementReuse ? new TransactionalStatementReuse(operations) : null;
+	}
+
 	@Override
 	public Dialect getDialect() {
 		return sqlGeneratorSource.getDialect();
@@ -129,6 +206,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				idValueSource);
 		String insertSql = sql(domainType).getInsert(parameterSource.getIdentifiers());
 
+		if (statementReuse != null && idValueSource != IdValueSource.GENERATED) {
+
+			statementReuse.update(insertSql, parameterSource);
+			return null;
+		}
+
 		return insertStrategyFactory.insertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
 				parameterSource);
 	}
@@ -160,7 +243,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 			return true; // returning true, because conceptually the one row was correctly updated
 		}
 
-		return operations.update(sql(domainType).getUpdate(), parameterSource) != 0;
+		String updateSql = sql(domainType).getUpdate();
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int affectedRows = executeUpdate(updateSql, parameterSource);
+		event.finish(domainType, updateSql, affectedRows);
+
+		return affectedRows != 0;
 	}
 
 	@Override
@@ -170,7 +259,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifierParameterSource parameterSource = parametersFactory.forUpdate(objectToSave, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		String updateSql = sql(domainType).getUpdateWithVersion();
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int affectedRows = executeUpdate(updateSql, parameterSource);
+		event.finish(domainType, updateSql, affectedRows);
 
 		if (affectedRows == 0) {
 			RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
@@ -188,7 +281,35 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				IdValueSource.PROVIDED);
 		String statement = sql(domainType).getUpsert(parameterSource.getIdentifiers());
 
-		return operations.update(statement, parameterSource);
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int affectedRows = executeUpdate(statement, parameterSource);
+		event.finish(domainType, statement, affectedRows);
+
+		return affectedRows;
+	}
+
+	@Override
+	public <T> int[] upsertAll(List<T> objectsToSave, Class<? super T> domainType) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null");
+
+		if (objectsToSave.isEmpty()) {
+			return new int[0];
+		}
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[objectsToSave.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+			parameterSources[i] = parametersFactory.forInsert(objectsToSave.get(i), domainType, Identifier.empty(),
+					IdValueSource.PROVIDED);
+		}
+
+		String statement = sql(domainType).getUpsert(parameterSources[0].getIdentifiers());
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int[] affectedRows = operations.batchUpdate(statement, parameterSources);
+		event.finish(domainType, statement, affectedRows.length);
+
+		return affectedRows;
 	}
 
 	@Override
@@ -197,16 +318,24 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String deleteByIdSql = sql(domainType).getDeleteById();
 		SqlParameterSource parameter = parametersFactory.forQueryById(id, domainType);
 
-		operations.update(deleteByIdSql, parameter);
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int affectedRows = executeUpdate(deleteByIdSql, parameter);
+		event.finish(domainType, deleteByIdSql, affectedRows);
 	}
 
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
 
 		String deleteByIdInSql = sql(domainType).getDeleteByIdIn();
-		SqlParameterSource parameter = parametersFactory.forQueryByIds(ids, domainType);
 
-		operations.update(deleteByIdInSql, parameter);
+		doInChunks(ids, chunk -> {
+
+			SqlParameterSource parameter = parametersFactory.forQueryByIds(chunk, domainType);
+
+			StatementExecutionEvent event = StatementExecutionEvent.start();
+			int affectedRows = operations.update(deleteByIdInSql, parameter);
+			event.finish(domainType, deleteByIdInSql, affectedRows);
+		});
 	}
 
 	@Override
@@ -218,13 +347,56 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifierParameterSource parameterSource = parametersFactory.forQueryById(id, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
+		String deleteSql = sql(domainType).getDeleteByIdAndVersion();
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int affectedRows = operations.update(deleteSql, parameterSource);
+		event.finish(domainType, deleteSql, affectedRows);
 
 		if (affectedRows == 0) {
 			throw OptimisticLockingUtils.deleteFailed(id, previousVersion, persistentEntity);
 		}
 	}
 
+	@Override
+	public <T> void deleteWithVersion(List<Pair<Object, Number>> idsAndPreviousVersions, Class<T> domainType) {
+
+		Assert.notNull(idsAndPreviousVersions, "Ids and previous versions must not be null");
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		String deleteSql = sql(domainType).getDeleteByIdAndVersion();
+
+		SqlParameterSource[] parameterSources = new SqlParameterSource[idsAndPreviousVersions.size()];
+
+		for (int i = 0; i < parameterSources.length; i++) {
+
+			Pair<Object, Number> idAndPreviousVersion = idsAndPreviousVersions.get(i);
+
+			SqlIdentifierParameterSource parameterSource = parametersFactory.forQueryById(idAndPreviousVersion.getFirst(),
+					domainType);
+			parameterSource.addValue(VERSION_SQL_PARAMETER, idAndPreviousVersion.getSecond());
+			parameterSources[i] = parameterSource;
+		}
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int[] affectedRows = operations.batchUpdate(deleteSql, parameterSources);
+		event.finish(domainType, deleteSql, affectedRows.length);
+
+		for (int i = 0; i < affectedRows.length; i++) {
+
+			Pair<Object, Number> idAndPreviousVersion = idsAndPreviousVersions.get(i);
+
+			// drivers might report Statement.SUCCESS_NO_INFO, a row still present after the delete failed the version check
+			boolean deleted = affectedRows[i] > 0
+					|| (affectedRows[i] < 0 && !existsById(idAndPreviousVersion.getFirst(), domainType));
+
+			if (!deleted) {
+				throw OptimisticLockingUtils.deleteFailed(idAndPreviousVersion.getFirst(), idAndPreviousVersion.getSecond(),
+						persistentEntity);
+			}
+		}
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
@@ -235,7 +407,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String delete = sql(rootEntity.getType()).createDeleteByPath(propertyPath);
 
 		SqlIdentifierParameterSource parameters = parametersFactory.forQueryById(rootId, rootEntity.getType());
-		operations.update(delete, parameters);
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		int affectedRows = operations.update(delete, parameters);
+		event.finish(referencingProperty.getActualType(), propertyPath.toDotPath(), delete, affectedRows);
 	}
 
 	@Override
@@ -247,8 +422,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		String delete = sql(rootEntity.getType()).createDeleteInByPath(propertyPath);
 
-		SqlIdentifierParameterSource parameters = parametersFactory.forQueryByIds(rootIds, rootEntity.getType());
-		operations.update(delete, parameters);
+		doInChunks(rootIds, chunk -> {
+
+			SqlIdentifierParameterSource parameters = parametersFactory.forQueryByIds(chunk, rootEntity.getType());
+
+			StatementExecutionEvent event = StatementExecutionEvent.start();
+			int affectedRows = operations.update(delete, parameters);
+			event.finish(referencingProperty.getActualType(), propertyPath.toDotPath(), delete, affectedRows);
+		});
 	}
 
 	@Override
@@ -270,6 +451,18 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		operations.query(acquireLockByIdSql, parameter, ResultSet::next);
 	}
 
+	@Override
+	public <T> void acquireLockById(Iterable<Object> ids, LockMode lockMode, Class<T> domainType) {
+
+		String acquireLockByIdInSql = sql(domainType).getAcquireLockByIdIn(lockMode);
+
+		doInChunks(ids, chunk -> {
+
+			SqlIdentifierParameterSource parameter = parametersFactory.forQueryByIds(chunk, domainType);
+			operations.query(acquireLockByIdInSql, parameter, ResultSet::next);
+		});
+	}
+
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
@@ -294,34 +487,53 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String findOneSql = sql(domainType).getFindOne();
 		SqlIdentifierParameterSource parameter = parametersFactory.forQueryById(id, domainType);
 
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+
 		try {
-			return operations.queryForObject(findOneSql, parameter, getRowMapper(domainType));
+
+			T result = operations.queryForObject(findOneSql, parameter, getRowMapper(domainType));
+			event.finish(domainType, findOneSql, 1);
+			return result;
 		} catch (EmptyResultDataAccessException e) {
+
+			event.finish(domainType, findOneSql, 0);
 			return null;
 		}
 	}
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), getRowMapper(domainType));
+		return query(domainType, sql(domainType).getFindAll(), new MapSqlParameterSource());
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType) {
-		return operations.queryForStream(sql(domainType).getFindAll(), new MapSqlParameterSource(),
-				getRowMapper(domainType));
+		return stream(domainType, sql(domainType).getFindAll(), new MapSqlParameterSource(), streamingHints);
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
 		if (!ids.iterator().hasNext()) {
 			return Collections.emptyList();
 		}
 
-		SqlParameterSource parameterSource = parametersFactory.forQueryByIds(ids, domainType);
 		String findAllInListSql = sql(domainType).getFindAllInList();
-		return operations.query(findAllInListSql, parameterSource, getRowMapper(domainType));
+
+		if (parallelFindAllById != null) {
+
+			List<List<Object>> chunks = new ArrayList<>();
+			doInChunks((Iterable<Object>) ids, chunks::add);
+
+			if (parallelFindAllById.isApplicable(chunks.size())) {
+				return parallelFindAllById.execute(chunks,
+						chunk -> query(domainType, findAllInListSql, parametersFactory.forQueryByIds(chunk, domainType)));
+			}
+		}
+
+		SqlParameterSource parameterSource = parametersFactory.forQueryByIds(ids, domainType);
+		return query(domainType, findAllInListSql, parameterSource);
 	}
 
 	@Override
@@ -334,7 +546,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlParameterSource parameterSource = parametersFactory.forQueryByIds(ids, domainType);
 		String findAllInListSql = sql(domainType).getFindAllInList();
 
-		return operations.queryForStream(findAllInListSql, parameterSource, getRowMapper(domainType));
+		return stream(domainType, findAllInListSql, parameterSource, streamingHints);
 	}
 
 	@Override
@@ -355,7 +567,9 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				.getFindAllByProperty(identifier, propertyPath);
 
 		SqlParameterSource parameterSource = parametersFactory.forQueryByIdentifier(identifier);
-		return operations.query(findAllByProperty, parameterSource, new RowMapper<>() {
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		List<Object> result = operations.query(findAllByProperty, parameterSource, new RowMapper<>() {
 
 			@Override
 			public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -376,6 +590,9 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				return getEntityRowMapper(path, identifierToUse).mapRow(rs, rowNum);
 			}
 		});
+		event.finish(actualType, path.toDotPath(), findAllByProperty, result.size());
+
+		return result;
 	}
 
 	@Override
@@ -392,18 +609,17 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), getRowMapper(domainType));
+		return query(domainType, sql(domainType).getFindAll(sort), new MapSqlParameterSource());
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
-		return operations.queryForStream(sql(domainType).getFindAll(sort), new MapSqlParameterSource(),
-				getRowMapper(domainType));
+		return stream(domainType, sql(domainType).getFindAll(sort), new MapSqlParameterSource(), streamingHints);
 	}
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getRowMapper(domainType));
+		return query(domainType, sql(domainType).getFindAll(pageable), new MapSqlParameterSource());
 	}
 
 	@Override
@@ -425,16 +641,23 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
-		return operations.query(sqlQuery, parameterSource, getRowMapper(domainType));
+		return query(domainType, sqlQuery, parameterSource);
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+		return streamAll(query, domainType, streamingHints);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType, StreamingHints hints) {
+
+		Assert.notNull(hints, "StreamingHints must not be null");
 
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
-		return operations.queryForStream(sqlQuery, parameterSource, getRowMapper(domainType));
+		return stream(domainType, sqlQuery, parameterSource, hints);
 	}
 
 	@Override
@@ -443,7 +666,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource, pageable);
 
-		return operations.query(sqlQuery, parameterSource, getRowMapper(domainType));
+		return query(domainType, sqlQuery, parameterSource);
 	}
 
 	@Override
@@ -471,6 +694,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	private <T> List<T> query(Class<T> domainType, String sql, SqlParameterSource parameterSource) {
+
+		StatementExecutionEvent event = StatementExecutionEvent.start();
+		List<T> result = operations.query(sql, parameterSource, getRowMapper(domainType));
+		event.finish(domainType, sql, result.size());
+
+		return result;
+	}
+
 	private <T> RowMapper<? extends T> getRowMapper(Class<T> domainType) {
 
 		RowMapper<? extends T> targetRowMapper;
@@ -500,10 +732,46 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
 	}
 
+	private <T> Stream<T> stream(Class<T> domainType, String sql, SqlParameterSource parameterSource,
+			StreamingHints hints) {
+		return StreamingQueryUtils.queryForStream(operations, getDialect(), sql, parameterSource,
+				getRowMapper(domainType), hints);
+	}
+
+	private int executeUpdate(String sql, SqlParameterSource parameterSource) {
+		return statementReuse != null ? statementReuse.update(sql, parameterSource)
+				: operations.update(sql, parameterSource);
+	}
+
 	private SqlGenerator sql(Class<?> domainType) {
 		return sqlGeneratorSource.getSqlGenerator(domainType);
 	}
 
+	/**
+	 * Split {@code ids} into chunks of at most {@link #inListChunkSize} elements and pass each chunk to {@code action}.
+	 */
+	private void doInChunks(Iterable<Object> ids, Consumer<List<Object>> action) {
+
+		if (ids instanceof List<Object> list && list.size() <= inListChunkSize) {
+			action.accept(list);
+			return;
+		}
+
+		List<Object> chunk = new ArrayList<>(inListChunkSize);
+		for (Object id : ids) {
+
+			chunk.add(id);
+			if (chunk.size() == inListChunkSize) {
+				action.accept(chunk);
+				chunk = new ArrayList<>(inListChunkSize);
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			action.accept(chunk);
+		}
+	}
+
 	@Nullable
 	private <T> SqlIdentifier getIdColumn(Class<T> domainType) {
 
@@ -22,12 +22,14 @@ import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.util.Pair;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
@@ -85,6 +87,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.upsert(objectToSave, domainType);
 	}
 
+	@Override
+	public <T> int[] upsertAll(List<T> objectsToSave, Class<? super T> domainType) {
+		return delegate.upsertAll(objectsToSave, domainType);
+	}
+
 	@Override
 	public <S> boolean update(S objectToSave, Class<S> domainType) {
 		return delegate.update(objectToSave, domainType);
@@ -121,6 +128,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.deleteWithVersion(id, domainType, previousVersion);
 	}
 
+	@Override
+	public <T> void deleteWithVersion(List<Pair<Object, Number>> idsAndPreviousVersions, Class<T> domainType) {
+		delegate.deleteWithVersion(idsAndPreviousVersions, domainType);
+	}
+
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
 		delegate.deleteAll(domainType);
@@ -136,6 +148,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.acquireLockById(id, lockMode, domainType);
 	}
 
+	@Override
+	public <T> void acquireLockById(Iterable<Object> ids, LockMode lockMode, Class<T> domainType) {
+		delegate.acquireLockById(ids, lockMode, domainType);
+	}
+
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 		delegate.acquireLockAll(lockMode, domainType);
@@ -215,6 +232,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.streamAll(query, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType, StreamingHints hints) {
+		return delegate.streamAll(query, domainType, hints);
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 		return delegate.findAll(query, domainType, pageable);
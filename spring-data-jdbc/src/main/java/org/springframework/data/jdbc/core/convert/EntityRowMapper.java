@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.function.Predicate;
 
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.relational.core.mapping.AggregatePath;
@@ -40,6 +41,9 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final TypeInformation<T> typeInformation;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final Predicate<AggregatePath> pathFilter;
+	private final RowDocumentResultSetExtractor.ColumnLayoutCache columnLayouts =
+			new RowDocumentResultSetExtractor.ColumnLayoutCache();
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(AggregatePath path, JdbcConverter converter, Identifier identifier) {
@@ -47,22 +51,42 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
-		this(entity.getTypeInformation(), converter, Identifier.empty());
+		this(entity.getTypeInformation(), converter, Identifier.empty(), path -> false);
+	}
+
+	/**
+	 * Create a new {@link EntityRowMapper} that does not load relations excluded by {@code pathFilter}.
+	 *
+	 * @param entity the entity to map rows to.
+	 * @param converter the converter to use.
+	 * @param pathFilter predicate returning {@literal true} for paths whose relations should not be loaded.
+	 * @since 4.2
+	 */
+	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			Predicate<AggregatePath> pathFilter) {
+		this(entity.getTypeInformation(), converter, Identifier.empty(), pathFilter);
 	}
 
 	private EntityRowMapper(TypeInformation<T> typeInformation, JdbcConverter converter, Identifier identifier) {
+		this(typeInformation, converter, identifier, path -> false);
+	}
+
+	private EntityRowMapper(TypeInformation<T> typeInformation, JdbcConverter converter, Identifier identifier,
+			Predicate<AggregatePath> pathFilter) {
 
 		this.typeInformation = typeInformation;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.pathFilter = pathFilter;
 	}
 
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
 
-		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(resultSet);
+		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(resultSet,
+				columnLayouts.getLayout(resultSet));
 
-		return converter.readAndResolve(typeInformation, document, identifier);
+		return converter.readAndResolve(typeInformation, document, identifier, pathFilter);
 	}
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Strategy to assign identifier values on the client side before entities get inserted.
+ * <p>
+ * Identifiers are reserved for all entities of a batch at once, right before the batch gets executed. Entities with
+ * pre-assigned identifiers are inserted with {@link org.springframework.data.relational.core.conversion.IdValueSource#PROVIDED
+ * provided} ids, so they do not depend on retrieving generated keys and can always be written using a single batch
+ * statement per table.
+ *
+ * @since 4.2
+ * @see SequenceIdentifierGenerator
+ * @see #uuidV7()
+ */
+public interface IdentifierGenerator {
+
+	/**
+	 * Return whether this generator can provide values for the given identifier property.
+	 *
+	 * @param idProperty the identifier property of the entity about to be inserted.
+	 * @return {@literal true} if this generator can provide values for {@code idProperty}.
+	 */
+	boolean supports(RelationalPersistentProperty idProperty);
+
+	/**
+	 * Reserve {@code count} identifier values for the given identifier property. Values must be assignable to the
+	 * property type.
+	 *
+	 * @param idProperty the identifier property of the entities about to be inserted.
+	 * @param count the number of values to reserve, greater than zero.
+	 * @return exactly {@code count} distinct identifier values.
+	 */
+	List<?> generate(RelationalPersistentProperty idProperty, int count);
+
+	/**
+	 * Return an {@link IdentifierGenerator} for {@link java.util.UUID} identifiers creating time-ordered
+	 * <a href="https://www.rfc-editor.org/rfc/rfc9562#name-uuid-version-7">version 7 UUIDs</a>.
+	 *
+	 * @return the UUIDv7 {@link IdentifierGenerator}.
+	 */
+	static IdentifierGenerator uuidV7() {
+		return UuidV7IdentifierGenerator.INSTANCE;
+	}
+}
@@ -16,12 +16,14 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.SQLType;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.domain.RowDocument;
@@ -107,6 +109,25 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier);
 
+	/**
+	 * Read a {@link RowDocument} into the requested {@link TypeInformation aggregate type} and resolve references by
+	 * looking these up from {@link RelationResolver} unless their path is excluded by {@code pathFilter}. Excluded
+	 * collections and maps are read as empty containers, excluded single references as {@literal null}. Typically used
+	 * to avoid loading relations a projection does not access.
+	 *
+	 * @param type target aggregate type.
+	 * @param source source {@link RowDocument}.
+	 * @param identifier identifier chain.
+	 * @param pathFilter predicate returning {@literal true} for paths whose relations should not be resolved.
+	 * @return the converted object.
+	 * @param <R> aggregate type.
+	 * @since 4.2
+	 */
+	default <R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier,
+			Predicate<AggregatePath> pathFilter) {
+		return readAndResolve(type, source, identifier);
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
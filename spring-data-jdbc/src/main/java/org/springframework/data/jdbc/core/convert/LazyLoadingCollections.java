@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.util.Lazy;
+
+/**
+ * Factory for collection proxies that resolve their content on first access. Used for
+ * {@link org.springframework.data.relational.core.mapping.MappedCollection.Fetch#LAZY lazily fetched} properties.
+ *
+ * @since 4.2
+ */
+final class LazyLoadingCollections {
+
+	private LazyLoadingCollections() {}
+
+	/**
+	 * Returns whether a lazy-loading proxy can be created for the given property type.
+	 *
+	 * @param type the declared property type.
+	 * @return {@literal true} if {@code type} is {@link Collection}, {@link List}, {@link Set} or {@link Map}.
+	 */
+	static boolean supports(Class<?> type) {
+		return type == Collection.class || type == List.class || type == Set.class || type == Map.class;
+	}
+
+	/**
+	 * Create a proxy implementing {@code type} that obtains the actual collection from {@code resolver} on first access.
+	 *
+	 * @param type the collection type to implement, must be {@link #supports(Class) supported}.
+	 * @param resolver supplier of the actual collection, invoked at most once.
+	 * @return the proxy.
+	 */
+	static Object createProxy(Class<?> type, Supplier<?> resolver) {
+		return Proxy.newProxyInstance(LazyLoadingCollections.class.getClassLoader(), new Class<?>[] { type },
+				new ResolvingInvocationHandler(Lazy.of(resolver)));
+	}
+
+	private record ResolvingInvocationHandler(Lazy<?> target) implements InvocationHandler {
+
+		@Override
+		public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			try {
+				return method.invoke(target.get(), args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getTargetException();
+			}
+		}
+	}
+}
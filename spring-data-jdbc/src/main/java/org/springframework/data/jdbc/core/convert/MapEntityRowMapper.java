@@ -41,6 +41,8 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	private final JdbcConverter converter;
 	private final Identifier identifier;
 	private final SqlIdentifier keyColumn;
+	private final RowDocumentResultSetExtractor.ColumnLayoutCache columnLayouts =
+			new RowDocumentResultSetExtractor.ColumnLayoutCache();
 
 	MapEntityRowMapper(AggregatePath path, JdbcConverter converter, Identifier identifier, SqlIdentifier keyColumn) {
 
@@ -53,7 +55,7 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	@Override
 	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
 
-		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(rs);
+		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(rs, columnLayouts.getLayout(rs));
 
 		Object key = document.get(keyColumn.getReference());
 
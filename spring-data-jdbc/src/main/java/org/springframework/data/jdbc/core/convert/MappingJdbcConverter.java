@@ -19,11 +19,13 @@ import java.sql.Array;
 import java.sql.JDBCType;
 import java.sql.SQLException;
 import java.sql.SQLType;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
@@ -341,9 +343,17 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		return convertedValue;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public <R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier) {
+		return readAndResolve(type, source, identifier, path -> false);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <R> R readAndResolve(TypeInformation<R> type, RowDocument source, Identifier identifier,
+			Predicate<AggregatePath> pathFilter) {
+
+		Assert.notNull(pathFilter, "Path filter must not be null");
 
 		RelationalPersistentEntity<R> entity = (RelationalPersistentEntity<R>) getMappingContext()
 				.getRequiredPersistentEntity(type);
@@ -351,9 +361,17 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		Identifier identifierToUse = ResolvingRelationalPropertyValueProvider.potentiallyAppendIdentifier(identifier,
 				entity, it -> source.get(it.getColumnName().getReference()));
 		ResolvingConversionContext context = new ResolvingConversionContext(getConversionContext(ObjectPath.ROOT), path,
-				identifierToUse);
+				identifierToUse, pathFilter);
 
-		return readAggregate(context, source, entity.getTypeInformation());
+		if (!RowMappingEvent.isRecording()) {
+			return readAggregate(context, source, entity.getTypeInformation());
+		}
+
+		RowMappingEvent event = RowMappingEvent.start();
+		R result = readAggregate(context, source, entity.getTypeInformation());
+		event.finish(entity.getType(), path.toDotPath(), 1);
+
+		return result;
 	}
 
 	@Override
@@ -472,26 +490,18 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 
 				if (property.isCollectionLike() || property.isMap()) {
 
-					Identifier identifier = JdbcIdentifierBuilder.forBackReference(MappingJdbcConverter.this, aggregatePath,
-							this.identifier, getWrappedValueProvider(delegate::getValue, aggregatePath));
-
-					Iterable<Object> allByPath = relationResolver.findAllByPath(identifier,
-							aggregatePath.getRequiredPersistentPropertyPath());
+					if (property.isLazy() && LazyLoadingCollections.supports(property.getType())
+							&& !context.pathFilter().test(aggregatePath)) {
 
-					if (property.isCollectionLike()) {
-						return (T) allByPath;
+						Identifier backReference = getBackReference(aggregatePath);
+						return (T) LazyLoadingCollections.createProxy(property.getType(), () -> readValue(
+								toPropertyValue(property, findAllByPath(backReference, aggregatePath)), property.getTypeInformation()));
 					}
 
-					if (property.isMap()) {
-						return (T) ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath);
-					}
-
-					Iterator<Object> iterator = allByPath.iterator();
-					if (iterator.hasNext()) {
-						return (T) iterator.next();
-					}
+					Iterable<Object> allByPath = context.pathFilter().test(aggregatePath) ? Collections.emptyList()
+							: resolveRelation(aggregatePath);
 
-					return null;
+					return (T) toPropertyValue(property, allByPath);
 				}
 
 				return hasValue(property) ? (T) readAggregate(this.context, accessor, property.getTypeInformation()) : null;
@@ -500,6 +510,33 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 			return (T) delegate.getValue(aggregatePath);
 		}
 
+		private @Nullable Object toPropertyValue(RelationalPersistentProperty property, Iterable<Object> allByPath) {
+
+			if (property.isCollectionLike()) {
+				return allByPath;
+			}
+
+			if (property.isMap()) {
+				return ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath);
+			}
+
+			Iterator<Object> iterator = allByPath.iterator();
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+
+		private Iterable<Object> resolveRelation(AggregatePath aggregatePath) {
+			return findAllByPath(getBackReference(aggregatePath), aggregatePath);
+		}
+
+		private Identifier getBackReference(AggregatePath aggregatePath) {
+			return JdbcIdentifierBuilder.forBackReference(MappingJdbcConverter.this, aggregatePath, this.identifier,
+					getWrappedValueProvider(delegate::getValue, aggregatePath));
+		}
+
+		private Iterable<Object> findAllByPath(Identifier identifier, AggregatePath aggregatePath) {
+			return relationResolver.findAllByPath(identifier, aggregatePath.getRequiredPersistentPropertyPath());
+		}
+
 		@Override
 		public boolean hasValue(RelationalPersistentProperty property) {
 
@@ -596,9 +633,10 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 	 * @param delegate
 	 * @param aggregatePath
 	 * @param identifier
+	 * @param pathFilter
 	 */
 	private record ResolvingConversionContext(ConversionContext delegate, AggregatePath aggregatePath,
-			Identifier identifier) implements ConversionContext {
+			Identifier identifier, Predicate<AggregatePath> pathFilter) implements ConversionContext {
 
 		@Override
 		public <S> @Nullable S convert(Object source, TypeInformation<? extends S> typeHint) {
@@ -619,12 +657,12 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		@Override
 		public ResolvingConversionContext forProperty(RelationalPersistentProperty property) {
 			ConversionContext nested = delegate.forProperty(property);
-			return new ResolvingConversionContext(nested, aggregatePath.append(property), identifier);
+			return new ResolvingConversionContext(nested, aggregatePath.append(property), identifier, pathFilter);
 		}
 
 		@Override
 		public ResolvingConversionContext withPath(ObjectPath currentPath) {
-			return new ResolvingConversionContext(delegate.withPath(currentPath), aggregatePath, identifier);
+			return new ResolvingConversionContext(delegate.withPath(currentPath), aggregatePath, identifier, pathFilter);
 		}
 
 		@Override
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Executes a query for multiple chunks of ids concurrently using an {@link Executor}. At most {@code parallelism}
+ * chunks are queried at the same time, regardless of the capacity of the executor, so that unbounded executors such as
+ * virtual thread executors do not exhaust the connection pool. Results are merged in chunk order.
+ * <p>
+ * Each chunk obtains its own connection. Parallel execution is therefore only applied outside of transactions and
+ * transaction synchronization as concurrent queries could not participate in the current transaction.
+ *
+ * @since 4.2
+ */
+class ParallelChunkExecution {
+
+	private final Executor executor;
+	private final int parallelism;
+
+	ParallelChunkExecution(Executor executor, int parallelism) {
+
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * @param chunks the number of chunks to query.
+	 * @return {@code true} if the given number of chunks should be queried concurrently.
+	 */
+	boolean isApplicable(int chunks) {
+
+		return chunks > 1 && parallelism > 1 && !TransactionSynchronizationManager.isActualTransactionActive()
+				&& !TransactionSynchronizationManager.isSynchronizationActive();
+	}
+
+	/**
+	 * Run {@code query} for each chunk and merge the results in chunk order.
+	 *
+	 * @param chunks the chunks to query.
+	 * @param query the query function, invoked concurrently.
+	 * @return the merged results.
+	 */
+	<C, T> List<T> execute(List<C> chunks, Function<C, List<T>> query) {
+
+		@SuppressWarnings("unchecked")
+		List<T>[] results = new List[chunks.size()];
+		AtomicInteger next = new AtomicInteger();
+		AtomicBoolean failed = new AtomicBoolean();
+
+		Runnable worker = () -> {
+
+			int index;
+			while (!failed.get() && (index = next.getAndIncrement()) < chunks.size()) {
+				try {
+					results[index] = query.apply(chunks.get(index));
+				} catch (RuntimeException | Error ex) {
+					failed.set(true);
+					throw ex;
+				}
+			}
+		};
+
+		int workers = Math.min(parallelism, chunks.size());
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+		for (int i = 0; i < workers; i++) {
+			futures[i] = CompletableFuture.runAsync(worker, executor);
+		}
+
+		try {
+			CompletableFuture.allOf(futures).join();
+		} catch (CompletionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw ex;
+		}
+
+		int size = Arrays.stream(results).mapToInt(List::size).sum();
+		List<T> merged = new ArrayList<>(size);
+		for (List<T> result : results) {
+			merged.addAll(result);
+		}
+
+		return merged;
+	}
+}
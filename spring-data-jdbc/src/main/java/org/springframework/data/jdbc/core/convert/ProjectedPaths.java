@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.util.Assert;
+
+/**
+ * Utility to derive {@link AggregatePath} filters from the top-level properties accessed by a projection. Paths are
+ * excluded if their top-level property is not projected. The root path is never excluded.
+ *
+ * @since 4.2
+ */
+public final class ProjectedPaths {
+
+	private ProjectedPaths() {}
+
+	/**
+	 * Create a filter returning {@literal true} for paths whose top-level property is not contained in
+	 * {@code projectedProperties}.
+	 *
+	 * @param projectedProperties names of the projected top-level properties, must not be {@literal null}.
+	 * @return the path filter.
+	 */
+	public static Predicate<AggregatePath> excludedBy(Collection<String> projectedProperties) {
+
+		Assert.notNull(projectedProperties, "Projected properties must not be null");
+
+		Set<String> properties = Set.copyOf(projectedProperties);
+
+		return path -> !path.isRoot() && !properties.contains(path.getRequiredBaseProperty().getName());
+	}
+
+}
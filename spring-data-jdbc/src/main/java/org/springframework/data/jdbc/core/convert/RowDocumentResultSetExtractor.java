@@ -15,24 +15,29 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.lang.ref.WeakReference;
 import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.DataRetrievalFailureException;
-import org.springframework.data.jdbc.core.convert.RowDocumentExtractorSupport.AggregateContext;
-import org.springframework.data.jdbc.core.convert.RowDocumentExtractorSupport.RowDocumentSink;
-import org.springframework.data.jdbc.core.convert.RowDocumentExtractorSupport.TabularResultAdapter;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sqlgeneration.PathToColumnMapping;
+import org.springframework.data.relational.core.sqlgeneration.RowDocumentExtractorSupport.AggregateContext;
+import org.springframework.data.relational.core.sqlgeneration.RowDocumentExtractorSupport.RowDocumentSink;
+import org.springframework.data.relational.core.sqlgeneration.RowDocumentExtractorSupport.TabularResultAdapter;
 import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.relational.domain.RowDocumentSchema;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
@@ -66,22 +71,100 @@ class RowDocumentResultSetExtractor {
 	 * @throws SQLException
 	 */
 	static RowDocument toRowDocument(ResultSet resultSet) throws SQLException {
+		return toRowDocument(resultSet, ColumnLayout.of(resultSet.getMetaData()));
+	}
+
+	/**
+	 * Create a {@link RowDocument} from the current {@link ResultSet} row using a previously resolved
+	 * {@link ColumnLayout}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param layout the column layout of {@code resultSet}.
+	 * @return
+	 * @throws SQLException
+	 * @since 4.2
+	 */
+	static RowDocument toRowDocument(ResultSet resultSet, ColumnLayout layout) throws SQLException {
 
-		ResultSetMetaData md = resultSet.getMetaData();
-		int columnCount = md.getColumnCount();
-		RowDocument document = new RowDocument(columnCount);
+		int[] slots = layout.slots();
+		@Nullable
+		Object[] values = new Object[layout.schema().size()];
 
-		for (int i = 0; i < columnCount; i++) {
+		for (int i = 0; i < slots.length; i++) {
 
 			Object rsv = JdbcUtils.getResultSetValue(resultSet, i + 1);
-			String columnName = JdbcUtils.lookupColumnName(md, i + 1);
-			Object old = document.putIfAbsent(columnName, rsv instanceof Array a ? a.getArray() : rsv);
-			if (old != null) {
-				log.warn(DUPLICATE_COLUMN_WARNING.formatted(columnName, i));
+			int slot = slots[i];
+
+			// duplicate columns: the first non-null value wins
+			if (values[slot] == null) {
+				values[slot] = rsv instanceof Array a ? a.getArray() : rsv;
 			}
 		}
 
-		return document;
+		return new RowDocument(layout.schema(), values);
+	}
+
+	/**
+	 * Column layout of a {@link ResultSet} mapping each result set column to its value index in a
+	 * {@link RowDocumentSchema}. Duplicate columns share the index of their first occurrence.
+	 *
+	 * @param schema the row document schema.
+	 * @param slots value index for each result set column.
+	 * @since 4.2
+	 */
+	record ColumnLayout(RowDocumentSchema schema, int[] slots) {
+
+		static ColumnLayout of(ResultSetMetaData md) throws SQLException {
+
+			int columnCount = md.getColumnCount();
+			Map<String, Integer> indexes = new LinkedCaseInsensitiveMap<>(columnCount);
+			List<String> columnNames = new ArrayList<>(columnCount);
+			int[] slots = new int[columnCount];
+
+			for (int i = 0; i < columnCount; i++) {
+
+				String columnName = JdbcUtils.lookupColumnName(md, i + 1);
+				Integer existing = indexes.putIfAbsent(columnName, columnNames.size());
+
+				if (existing != null) {
+					log.warn(DUPLICATE_COLUMN_WARNING.formatted(columnName, i));
+					slots[i] = existing;
+				} else {
+					slots[i] = columnNames.size();
+					columnNames.add(columnName);
+				}
+			}
+
+			return new ColumnLayout(RowDocumentSchema.of(columnNames), slots);
+		}
+	}
+
+	/**
+	 * Caches the {@link ColumnLayout} of the most recently mapped {@link ResultSet} so that row mappers resolve result
+	 * set metadata once per result instead of once per row.
+	 *
+	 * @since 4.2
+	 */
+	static class ColumnLayoutCache {
+
+		private volatile @Nullable CachedLayout cached;
+
+		ColumnLayout getLayout(ResultSet resultSet) throws SQLException {
+
+			CachedLayout cached = this.cached;
+
+			if (cached != null && cached.resultSet().get() == resultSet) {
+				return cached.layout();
+			}
+
+			ColumnLayout layout = ColumnLayout.of(resultSet.getMetaData());
+			this.cached = new CachedLayout(new WeakReference<>(resultSet), layout);
+
+			return layout;
+		}
+
+		private record CachedLayout(WeakReference<ResultSet> resultSet, ColumnLayout layout) {
+		}
 	}
 
 	/**
@@ -181,7 +264,7 @@ class RowDocumentResultSetExtractor {
 
 	/**
 	 * Iterator implementation that advances through the {@link ResultSet} and feeds its input into a
-	 * {@link org.springframework.data.jdbc.core.convert.RowDocumentExtractorSupport.RowDocumentSink}.
+	 * {@link RowDocumentSink}.
 	 */
 	private class RowDocumentIterator implements Iterator<RowDocument> {
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Java Flight Recorder event for mapping a row or {@link org.springframework.data.relational.domain.RowDocument} to an
+ * entity. The recorded duration includes resolving relations, which might issue further statements recorded as nested
+ * {@link StatementExecutionEvent}s. As events are recorded per row, callers check {@link #isRecording()} before
+ * creating an event.
+ *
+ * @since 4.2
+ */
+@Name("org.springframework.data.jdbc.RowMapping")
+@Label("Row Mapping")
+@Description("Mapping of database rows to entities")
+@Category({ "Spring Data", "JDBC" })
+@StackTrace(false)
+class RowMappingEvent extends Event {
+
+	private static final EventType EVENT_TYPE = EventType.getEventType(RowMappingEvent.class);
+
+	@Label("Entity Type") @Nullable Class<?> entityType;
+
+	@Label("Aggregate Path") @Nullable String aggregatePath;
+
+	@Label("Row Count") int rowCount;
+
+	/**
+	 * Check whether this event is enabled in a running recording.
+	 *
+	 * @return {@literal true} if events should be created.
+	 */
+	static boolean isRecording() {
+		return EVENT_TYPE.isEnabled();
+	}
+
+	/**
+	 * Create and begin a new {@link RowMappingEvent}.
+	 *
+	 * @return the started event.
+	 */
+	static RowMappingEvent start() {
+
+		RowMappingEvent event = new RowMappingEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End and commit this event if it is enabled and exceeds the configured threshold.
+	 *
+	 * @param entityType the type of the mapped entities.
+	 * @param aggregatePath dot path from the aggregate root to the mapped entities.
+	 * @param rowCount number of rows or documents mapped.
+	 */
+	void finish(Class<?> entityType, String aggregatePath, int rowCount) {
+
+		end();
+
+		if (shouldCommit()) {
+
+			this.entityType = entityType;
+			this.aggregatePath = aggregatePath;
+			this.rowCount = rowCount;
+			commit();
+		}
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -50,23 +53,78 @@ class SequenceEntityCallbackDelegate {
 		this.operations = operations;
 	}
 
-	@SuppressWarnings("unchecked")
 	protected void generateSequenceValue(RelationalPersistentProperty property,
 			PersistentPropertyAccessor<Object> accessor) {
 
-		Object sequenceValue = getSequenceValue(property);
+		Object sequenceValue = nextValue(property);
 
 		if (sequenceValue == null) {
 			return;
 		}
 
-		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
-		if (sequenceValue instanceof Number && Number.class.isAssignableFrom(targetType)) {
-			sequenceValue = NumberUtils.convertNumberToTargetClass((Number) sequenceValue,
-					(Class<? extends Number>) targetType);
+		accessor.setProperty(property, sequenceValue);
+	}
+
+	/**
+	 * Obtain the next value of the sequence backing {@code property}, converted to the property type.
+	 *
+	 * @param property the property annotated with {@link org.springframework.data.relational.core.mapping.Sequence}.
+	 * @return the next sequence value or {@literal null} if the property has no sequence or the dialect does not support
+	 *         sequences.
+	 * @since 4.2
+	 */
+	@Nullable
+	Object nextValue(RelationalPersistentProperty property) {
+
+		Object sequenceValue = getSequenceValue(property);
+
+		if (sequenceValue == null) {
+			return null;
 		}
 
-		accessor.setProperty(property, sequenceValue);
+		return convertSequenceValue(property, sequenceValue);
+	}
+
+	/**
+	 * Obtain the next {@code count} values of the sequence backing {@code property}, converted to the property type.
+	 * Uses a single query if the dialect is able to fetch multiple sequence values at once and falls back to querying the
+	 * sequence once per value otherwise.
+	 *
+	 * @param property the property annotated with {@link org.springframework.data.relational.core.mapping.Sequence}.
+	 * @param count number of values to obtain.
+	 * @return the next sequence values. Empty if the property has no sequence or the dialect does not support sequences.
+	 * @since 4.2
+	 */
+	List<Object> nextValues(RelationalPersistentProperty property, int count) {
+
+		SqlIdentifier sequence = property.getSequence();
+		String sql = sequence != null && count > 1 && sequencesSupported()
+				? dialect.getIdGeneration().createSequenceQuery(sequence, count)
+				: null;
+
+		if (sql != null) {
+
+			List<Object> values = operations.query(sql, EMPTY_PARAMETERS, (rs, rowNum) -> rs.getObject(1));
+			return values.stream().map(value -> convertSequenceValue(property, value)).toList();
+		}
+
+		List<Object> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+
+			Object value = nextValue(property);
+
+			if (value == null) {
+				return List.of();
+			}
+
+			values.add(value);
+		}
+
+		return values;
+	}
+
+	boolean sequencesSupported() {
+		return dialect.getIdGeneration().sequencesSupported();
 	}
 
 	protected boolean hasValue(PersistentProperty<?> property, PersistentPropertyAccessor<Object> propertyAccessor) {
@@ -102,4 +160,15 @@ class SequenceEntityCallbackDelegate {
 		return operations.queryForObject(sql, EMPTY_PARAMETERS, (rs, rowNum) -> rs.getObject(1));
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Object convertSequenceValue(RelationalPersistentProperty property, Object sequenceValue) {
+
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+		if (sequenceValue instanceof Number && Number.class.isAssignableFrom(targetType)) {
+			return NumberUtils.convertNumberToTargetClass((Number) sequenceValue, (Class<? extends Number>) targetType);
+		}
+
+		return sequenceValue;
+	}
+
 }
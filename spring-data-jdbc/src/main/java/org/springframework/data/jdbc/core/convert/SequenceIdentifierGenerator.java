@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IdentifierGenerator} obtaining identifier values from the database sequence declared through
+ * {@link org.springframework.data.relational.core.mapping.Sequence @Sequence}. In contrast to
+ * {@link IdGeneratingEntityCallback}, which only considers aggregate roots, this generator also assigns identifiers to
+ * entities nested within an aggregate.
+ * <p>
+ * Identifiers for a batch of {@code n} entities are reserved with a single query if the
+ * {@link org.springframework.data.relational.core.dialect.IdGeneration} of the dialect is able to fetch multiple
+ * sequence values at once, for example on PostgreSQL, Oracle, H2, and HSQLDB. Otherwise, the sequence is queried once
+ * per identifier.
+ *
+ * @since 4.2
+ */
+public class SequenceIdentifierGenerator implements IdentifierGenerator {
+
+	private final SequenceEntityCallbackDelegate delegate;
+
+	/**
+	 * Creates a new {@link SequenceIdentifierGenerator}.
+	 *
+	 * @param dialect the {@link Dialect} to render sequence queries, must not be {@literal null}.
+	 * @param operations the {@link NamedParameterJdbcOperations} to run sequence queries, must not be {@literal null}.
+	 */
+	public SequenceIdentifierGenerator(Dialect dialect, NamedParameterJdbcOperations operations) {
+
+		Assert.notNull(dialect, "Dialect must not be null");
+		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+
+		this.delegate = new SequenceEntityCallbackDelegate(dialect, operations);
+	}
+
+	@Override
+	public boolean supports(RelationalPersistentProperty idProperty) {
+		return idProperty.hasSequence() && delegate.sequencesSupported();
+	}
+
+	@Override
+	public List<?> generate(RelationalPersistentProperty idProperty, int count) {
+
+		List<Object> ids = delegate.nextValues(idProperty, count);
+
+		Assert.state(ids.size() == count,
+				() -> "Sequence of %s returned %d instead of %d values".formatted(idProperty, ids.size(), count));
+
+		return ids;
+	}
+}
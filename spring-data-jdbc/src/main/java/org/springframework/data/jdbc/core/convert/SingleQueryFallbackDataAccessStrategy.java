@@ -110,7 +110,7 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 	}
 
 	private static boolean isSingleSelectQuerySupported(Query query) {
-		return !query.isSorted() && !query.isLimited();
+		return !query.isSorted() && !query.isLimited() && !query.isLocked();
 	}
 
 	private boolean isSingleSelectQuerySupported(Class<?> entityType) {
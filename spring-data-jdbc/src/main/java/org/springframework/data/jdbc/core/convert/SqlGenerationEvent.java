@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Java Flight Recorder event for rendering a SQL statement in {@link SqlGenerator}. Statements that are cached by the
+ * {@link SqlGenerator} are only rendered, and therefore recorded, once.
+ *
+ * @since 4.2
+ */
+@Name("org.springframework.data.jdbc.SqlGeneration")
+@Label("SQL Generation")
+@Description("Rendering of a SQL statement for an entity")
+@Category({ "Spring Data", "JDBC" })
+@StackTrace(false)
+class SqlGenerationEvent extends Event {
+
+	@Label("Entity Type") @Nullable Class<?> entityType;
+
+	@Label("Statement Kind") @Nullable String statementKind;
+
+	/**
+	 * Create and begin a new {@link SqlGenerationEvent}.
+	 *
+	 * @return the started event.
+	 */
+	static SqlGenerationEvent start() {
+
+		SqlGenerationEvent event = new SqlGenerationEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End and commit this event if it is enabled and exceeds the configured threshold.
+	 *
+	 * @param entityType the entity type for which the statement was rendered.
+	 * @param statementKind the kind of statement, e.g. {@literal SELECT}.
+	 */
+	void finish(Class<?> entityType, String statementKind) {
+
+		end();
+
+		if (shouldCommit()) {
+
+			this.entityType = entityType;
+			this.statementKind = statementKind;
+			commit();
+		}
+	}
+}
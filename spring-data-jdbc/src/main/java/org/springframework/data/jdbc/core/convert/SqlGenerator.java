@@ -347,7 +347,7 @@ public class SqlGenerator {
 
 		SelectBuilder.SelectWhere selectBuilder = selectBuilder(query);
 
-		Select select = applyQueryOnSelect(query, parameterSource, selectBuilder) //
+		Select select = applyLock(query, applyQueryOnSelect(query, parameterSource, selectBuilder)) //
 				.build();
 
 		return render(select);
@@ -374,7 +374,7 @@ public class SqlGenerator {
 		selectOrdered = applyPagination(pageable, selectOrdered);
 		selectOrdered = selectOrdered.orderBy(extractOrderByFields(pageable.getSort()));
 
-		Select select = selectOrdered.build();
+		Select select = applyLock(query, selectOrdered).build();
 		return render(select);
 	}
 
@@ -406,6 +406,17 @@ public class SqlGenerator {
 		return this.createAcquireLockById(lockMode);
 	}
 
+	/**
+	 * Create a {@code SELECT id FROM … WHERE id IN (:ids) (LOCK CLAUSE)} statement.
+	 *
+	 * @param lockMode Lock clause mode.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 4.2
+	 */
+	String getAcquireLockByIdIn(LockMode lockMode) {
+		return this.createAcquireLockByIdIn(lockMode);
+	}
+
 	/**
 	 * Create a {@code SELECT count(id) FROM … (LOCK CLAUSE)} statement.
 	 *
@@ -666,6 +677,20 @@ public class SqlGenerator {
 		return render(select);
 	}
 
+	private String createAcquireLockByIdIn(LockMode lockMode) {
+
+		Table table = this.getTable();
+
+		Select select = StatementBuilder //
+				.select(getSingleNonNullColumn()) //
+				.from(table) //
+				.where(idInWhereClause()) //
+				.lock(lockMode) //
+				.build();
+
+		return render(select);
+	}
+
 	private String createAcquireLockAll(LockMode lockMode) {
 
 		Table table = this.getTable();
@@ -1180,23 +1205,48 @@ public class SqlGenerator {
 	}
 
 	private String render(Select select) {
-		return this.sqlRenderer.render(select);
+
+		SqlGenerationEvent event = SqlGenerationEvent.start();
+		String sql = this.sqlRenderer.render(select);
+		event.finish(entity.getType(), "SELECT");
+
+		return sql;
 	}
 
 	private String render(Insert insert) {
-		return this.sqlRenderer.render(insert);
+
+		SqlGenerationEvent event = SqlGenerationEvent.start();
+		String sql = this.sqlRenderer.render(insert);
+		event.finish(entity.getType(), "INSERT");
+
+		return sql;
 	}
 
 	private String render(Update update) {
-		return this.sqlRenderer.render(update);
+
+		SqlGenerationEvent event = SqlGenerationEvent.start();
+		String sql = this.sqlRenderer.render(update);
+		event.finish(entity.getType(), "UPDATE");
+
+		return sql;
 	}
 
 	private String render(Delete delete) {
-		return this.sqlRenderer.render(delete);
+
+		SqlGenerationEvent event = SqlGenerationEvent.start();
+		String sql = this.sqlRenderer.render(delete);
+		event.finish(entity.getType(), "DELETE");
+
+		return sql;
 	}
 
 	private String render(Upsert upsert) {
-		return this.sqlRenderer.render(upsert);
+
+		SqlGenerationEvent event = SqlGenerationEvent.start();
+		String sql = this.sqlRenderer.render(upsert);
+		event.finish(entity.getType(), "UPSERT");
+
+		return sql;
 	}
 
 	private Table getTable() {
@@ -1341,6 +1391,12 @@ public class SqlGenerator {
 		return (SelectBuilder.SelectOrdered) limitable;
 	}
 
+	private static SelectBuilder.BuildSelect applyLock(Query query, SelectBuilder.SelectOrdered selectOrdered) {
+
+		LockMode lockMode = query.getLockMode();
+		return lockMode != null ? selectOrdered.lock(lockMode, query.getLockWait()) : selectOrdered;
+	}
+
 	SelectBuilder.SelectOrdered applyCriteria(@Nullable CriteriaDefinition criteria,
 			SelectBuilder.SelectWhere whereBuilder, MapSqlParameterSource parameterSource, Table table) {
 
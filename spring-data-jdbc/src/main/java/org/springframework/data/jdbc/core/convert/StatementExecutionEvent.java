@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Java Flight Recorder event for the execution of a SQL statement by {@link DefaultDataAccessStrategy} or
+ * {@link AggregateReader}. For queries, the recorded duration includes mapping the {@link java.sql.ResultSet}, which
+ * is recorded separately as nested {@link RowMappingEvent}s.
+ *
+ * @since 4.2
+ */
+@Name("org.springframework.data.jdbc.StatementExecution")
+@Label("Statement Execution")
+@Description("Execution of a SQL statement including consumption of its results")
+@Category({ "Spring Data", "JDBC" })
+@StackTrace(false)
+class StatementExecutionEvent extends Event {
+
+	@Label("Entity Type") @Nullable Class<?> entityType;
+
+	@Label("Statement Kind") @Nullable String statementKind;
+
+	@Label("Aggregate Path") @Nullable String aggregatePath;
+
+	@Label("SQL") @Nullable String sql;
+
+	@Label("Row Count") int rowCount;
+
+	/**
+	 * Create and begin a new {@link StatementExecutionEvent}.
+	 *
+	 * @return the started event.
+	 */
+	static StatementExecutionEvent start() {
+
+		StatementExecutionEvent event = new StatementExecutionEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End and commit this event if it is enabled and exceeds the configured threshold.
+	 *
+	 * @param entityType the entity type the statement operated on.
+	 * @param sql the executed statement.
+	 * @param rowCount number of rows returned or affected by the statement.
+	 */
+	void finish(Class<?> entityType, String sql, int rowCount) {
+		finish(entityType, "", sql, rowCount);
+	}
+
+	/**
+	 * End and commit this event if it is enabled and exceeds the configured threshold.
+	 *
+	 * @param entityType the entity type the statement operated on.
+	 * @param aggregatePath dot path from the aggregate root to the entities the statement operated on.
+	 * @param sql the executed statement.
+	 * @param rowCount number of rows returned or affected by the statement.
+	 */
+	void finish(Class<?> entityType, String aggregatePath, String sql, int rowCount) {
+
+		end();
+
+		if (shouldCommit()) {
+
+			this.entityType = entityType;
+			this.statementKind = getStatementKind(sql);
+			this.aggregatePath = aggregatePath;
+			this.sql = sql;
+			this.rowCount = rowCount;
+			commit();
+		}
+	}
+
+	private static String getStatementKind(String sql) {
+
+		String trimmed = sql.stripLeading();
+		int space = trimmed.indexOf(' ');
+
+		return space == -1 ? trimmed : trimmed.substring(0, space);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jdbc.core.dialect.JdbcDialect;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Utility to run queries returning a {@link Stream} applying {@link StreamingHints}.
+ *
+ * @since 4.2
+ */
+public final class StreamingQueryUtils {
+
+	private StreamingQueryUtils() {}
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list of arguments to bind to the query, mapping each
+	 * row to a result object via a {@link RowMapper}, and turning it into an iterable and closeable {@link Stream}.
+	 * {@link StreamingHints} are applied to the statement using {@link JdbcDialect#prepareForStreaming}.
+	 * {@link StreamingHints#DEFAULT Default hints} run the query through
+	 * {@link NamedParameterJdbcOperations#queryForStream(String, SqlParameterSource, RowMapper)} as is.
+	 *
+	 * @param operations the operations to run the query with.
+	 * @param dialect the dialect, may be {@literal null} to apply only the fetch size.
+	 * @param sql the SQL query to execute.
+	 * @param parameterSource container of arguments to bind to the query.
+	 * @param rowMapper object that will map one object per row.
+	 * @param hints streaming hints to apply.
+	 * @return the result {@link Stream}, containing mapped objects, needing to be closed once fully processed.
+	 */
+	public static <T> Stream<T> queryForStream(NamedParameterJdbcOperations operations, @Nullable Dialect dialect,
+			String sql, SqlParameterSource parameterSource, RowMapper<T> rowMapper, StreamingHints hints) {
+
+		if (StreamingHints.DEFAULT.equals(hints)) {
+			return operations.queryForStream(sql, parameterSource, rowMapper);
+		}
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+		Object[] parameters = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+
+		PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters);
+		factory.setResultSetType(hints.forwardOnly() ? ResultSet.TYPE_FORWARD_ONLY : ResultSet.TYPE_SCROLL_INSENSITIVE);
+		factory.setUpdatableResults(!hints.readOnly());
+
+		PreparedStatementCreator creator = factory.newPreparedStatementCreator(parameters);
+		JdbcDialect jdbcDialect = dialect instanceof JdbcDialect jd ? jd : null;
+
+		return operations.getJdbcOperations().queryForStream(connection -> {
+
+			PreparedStatement statement = creator.createPreparedStatement(connection);
+
+			if (jdbcDialect != null) {
+				jdbcDialect.prepareForStreaming(connection, statement, hints);
+			} else if (hints.hasFetchSize()) {
+				statement.setFetchSize(hints.fetchSize());
+			}
+
+			return statement;
+		}, rowMapper);
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Executes single-row modifying statements reusing {@link PreparedStatement}s within a transaction. Statements are
+ * prepared once per SQL text on the transactional {@link Connection}, rebound for subsequent executions and closed when
+ * the transaction completes. Parsed named-parameter SQL is cached across transactions. Fetch size, maximum rows and
+ * query timeout of a {@link JdbcTemplate} are applied before each execution, considering the remaining transaction
+ * timeout as {@link JdbcTemplate} does.
+ * <p>
+ * Outside of transactions, statements are executed through {@link NamedParameterJdbcOperations#update(String,
+ * SqlParameterSource)}.
+ *
+ * @since 4.2
+ */
+class TransactionalStatementReuse {
+
+	static final int MAX_STATEMENTS_PER_TRANSACTION = 64;
+
+	private final NamedParameterJdbcOperations operations;
+	private final Map<String, ParsedSql> parsedSqlCache = new ConcurrentReferenceHashMap<>();
+
+	TransactionalStatementReuse(NamedParameterJdbcOperations operations) {
+
+		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+
+		this.operations = operations;
+	}
+
+	/**
+	 * Execute a modifying statement, reusing a previously prepared statement for the same SQL if a transaction is active.
+	 *
+	 * @param sql the SQL with named parameters.
+	 * @param parameterSource the parameters to bind.
+	 * @return the number of affected rows.
+	 */
+	int update(String sql, SqlParameterSource parameterSource) {
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()
+				|| !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return operations.update(sql, parameterSource);
+		}
+
+		Integer affectedRows = operations.getJdbcOperations()
+				.execute((ConnectionCallback<Integer>) connection -> update(getTargetConnection(connection), sql,
+						parameterSource));
+
+		return affectedRows != null ? affectedRows : 0;
+	}
+
+	private int update(Connection connection, String sql, SqlParameterSource parameterSource) throws SQLException {
+
+		ParsedSql parsedSql = parsedSqlCache.computeIfAbsent(sql, NamedParameterUtils::parseSqlStatement);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+
+		PreparedStatementSetter setter = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters)
+				.newPreparedStatementSetter(values);
+
+		StatementHolder holder = getStatementHolder(connection);
+		PreparedStatement statement = holder != null ? holder.getStatement(sqlToUse) : null;
+		boolean cached = statement != null;
+
+		if (statement == null) {
+
+			statement = connection.prepareStatement(sqlToUse);
+			cached = holder != null && holder.register(sqlToUse, statement);
+		} else {
+			statement.clearParameters();
+		}
+
+		try {
+			applyStatementSettings(statement);
+			setter.setValues(statement);
+			return statement.executeUpdate();
+		} finally {
+
+			if (setter instanceof ParameterDisposer disposer) {
+				disposer.cleanupParameters();
+			}
+
+			if (!cached) {
+				JdbcUtils.closeStatement(statement);
+			}
+		}
+	}
+
+	/**
+	 * Apply the statement settings of the underlying {@link JdbcTemplate}, if any, to {@code statement}.
+	 */
+	private void applyStatementSettings(PreparedStatement statement) throws SQLException {
+
+		if (!(operations.getJdbcOperations() instanceof JdbcTemplate template)) {
+			return;
+		}
+
+		if (template.getFetchSize() != -1) {
+			statement.setFetchSize(template.getFetchSize());
+		}
+
+		if (template.getMaxRows() != -1) {
+			statement.setMaxRows(template.getMaxRows());
+		}
+
+		DataSourceUtils.applyTimeout(statement, template.getDataSource(), template.getQueryTimeout());
+	}
+
+	/**
+	 * Obtain the {@link StatementHolder} bound to the current transaction or bind a new one. Returns {@literal null} if
+	 * the bound holder belongs to a different connection.
+	 */
+	private @Nullable StatementHolder getStatementHolder(Connection connection) {
+
+		StatementHolder holder = (StatementHolder) TransactionSynchronizationManager.getResource(this);
+
+		if (holder == null) {
+
+			holder = new StatementHolder(connection);
+			TransactionSynchronizationManager.bindResource(this, holder);
+			TransactionSynchronizationManager.registerSynchronization(new StatementSynchronization(this, holder));
+		}
+
+		return holder.connection == connection ? holder : null;
+	}
+
+	private static Connection getTargetConnection(Connection connection) {
+		return connection instanceof ConnectionProxy proxy ? proxy.getTargetConnection() : connection;
+	}
+
+	/**
+	 * Prepared statements of a single transaction, keyed by SQL text.
+	 */
+	private static class StatementHolder {
+
+		private final Connection connection;
+		private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+		StatementHolder(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Nullable
+		PreparedStatement getStatement(String sql) {
+			return statements.get(sql);
+		}
+
+		boolean register(String sql, PreparedStatement statement) {
+
+			if (statements.size() >= MAX_STATEMENTS_PER_TRANSACTION) {
+				return false;
+			}
+
+			statements.put(sql, statement);
+			return true;
+		}
+
+		void close() {
+
+			for (PreparedStatement statement : statements.values()) {
+				JdbcUtils.closeStatement(statement);
+			}
+
+			statements.clear();
+		}
+	}
+
+	/**
+	 * Closes reused statements once the transaction completes and unbinds them while the transaction is suspended.
+	 */
+	private record StatementSynchronization(Object key, StatementHolder holder) implements TransactionSynchronization {
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(key);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(key, holder);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(key);
+			holder.close();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * {@link IdentifierGenerator} creating version 7 UUIDs: a 48 bit Unix timestamp in milliseconds followed by random
+ * bits. Values created within the same millisecond are not guaranteed to be monotonic.
+ *
+ * @since 4.2
+ */
+enum UuidV7IdentifierGenerator implements IdentifierGenerator {
+
+	INSTANCE;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	@Override
+	public boolean supports(RelationalPersistentProperty idProperty) {
+		return UUID.class.equals(idProperty.getType());
+	}
+
+	@Override
+	public List<UUID> generate(RelationalPersistentProperty idProperty, int count) {
+
+		List<UUID> ids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ids.add(next(System.currentTimeMillis()));
+		}
+
+		return ids;
+	}
+
+	static UUID next(long timestamp) {
+
+		long randA = RANDOM.nextInt(1 << 12);
+		long randB = RANDOM.nextLong();
+
+		long mostSignificantBits = (timestamp & 0xFFFF_FFFF_FFFFL) << 16 | 0x7000L | randA;
+		long leastSignificantBits = randB & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+}
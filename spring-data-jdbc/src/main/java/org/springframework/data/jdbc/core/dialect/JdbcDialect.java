@@ -15,6 +15,9 @@
  */
 package org.springframework.data.jdbc.core.dialect;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.SQLType;
 
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -66,4 +69,24 @@ public interface JdbcDialect extends Dialect {
 		return new CustomSQLType(name, "Spring", vendorTypeNumber);
 	}
 
+	/**
+	 * Prepare a {@link PreparedStatement} whose results are consumed as a {@link java.util.stream.Stream}. The statement
+	 * has been created with the result set type and concurrency derived from {@link StreamingHints}. Dialects override
+	 * this method to apply driver-specific requirements for server-side cursors. The default implementation applies the
+	 * {@link StreamingHints#fetchSize() fetch size}.
+	 *
+	 * @param connection the connection the statement was created for.
+	 * @param statement the statement to prepare.
+	 * @param hints the streaming hints to apply.
+	 * @throws SQLException if the statement cannot be configured.
+	 * @since 4.2
+	 */
+	default void prepareForStreaming(Connection connection, PreparedStatement statement, StreamingHints hints)
+			throws SQLException {
+
+		if (hints.hasFetchSize()) {
+			statement.setFetchSize(hints.fetchSize());
+		}
+	}
+
 }
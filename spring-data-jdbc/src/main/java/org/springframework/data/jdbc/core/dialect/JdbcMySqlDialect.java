@@ -17,7 +17,10 @@ package org.springframework.data.jdbc.core.dialect;
 
 import static java.time.ZoneId.*;
 
+import java.sql.Connection;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -25,6 +28,8 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
@@ -54,6 +59,8 @@ public class JdbcMySqlDialect extends MySqlDialect implements JdbcDialect {
 	 */
 	@Deprecated(forRemoval = true, since = "4.0") public static final JdbcMySqlDialect INSTANCE = new JdbcMySqlDialect();
 
+	private static final Log LOG = LogFactory.getLog(JdbcMySqlDialect.class);
+
 	private final List<Object> converters;
 
 	public JdbcMySqlDialect(IdentifierProcessing identifierProcessing) {
@@ -78,6 +85,28 @@ public class JdbcMySqlDialect extends MySqlDialect implements JdbcDialect {
 		return converters;
 	}
 
+	/**
+	 * MySQL Connector/J fetches rows in chunks of the configured fetch size only if {@code useCursorFetch=true} is
+	 * configured for the connection. Otherwise, the driver reads the entire result into memory and ignores the fetch
+	 * size.
+	 */
+	@Override
+	public void prepareForStreaming(Connection connection, PreparedStatement statement, StreamingHints hints)
+			throws SQLException {
+
+		JdbcDialect.super.prepareForStreaming(connection, statement, hints);
+
+		if (hints.hasFetchSize() && LOG.isDebugEnabled()) {
+
+			String url = connection.getMetaData().getURL();
+			if (url == null || !url.contains("useCursorFetch=true")) {
+				LOG.debug(String.format(
+						"Fetch size %d requires 'useCursorFetch=true' to stream results using a server-side cursor on MySQL",
+						hints.fetchSize()));
+			}
+		}
+	}
+
 	@WritingConverter
 	enum OffsetDateTimeToTimestampJdbcValueConverter implements Converter<OffsetDateTime, JdbcValue> {
 
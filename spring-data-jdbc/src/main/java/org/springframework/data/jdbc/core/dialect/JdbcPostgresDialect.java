@@ -16,7 +16,9 @@
 package org.springframework.data.jdbc.core.dialect;
 
 import java.sql.Array;
+import java.sql.Connection;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLType;
 import java.sql.Types;
@@ -31,6 +33,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.postgresql.core.Oid;
 import org.postgresql.jdbc.TypeInfoCache;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
@@ -47,6 +51,8 @@ public class JdbcPostgresDialect extends PostgresDialect implements JdbcDialect
 
 	public static final JdbcPostgresDialect INSTANCE = new JdbcPostgresDialect();
 
+	private static final Log LOG = LogFactory.getLog(JdbcPostgresDialect.class);
+
 	private static final JdbcPostgresArrayColumns ARRAY_COLUMNS = new JdbcPostgresArrayColumns();
 
 	private static final Set<Class<?>> SIMPLE_TYPES;
@@ -90,6 +96,24 @@ public class JdbcPostgresDialect extends PostgresDialect implements JdbcDialect
 		return new CustomSQLType(name, "Postgres", vendorTypeNumber);
 	}
 
+	/**
+	 * The Postgres JDBC driver uses a server-side cursor only for forward-only result sets with a fetch size on a
+	 * connection that is not in auto-commit mode. Streaming queries should therefore run within a transaction, otherwise
+	 * the driver reads the entire result into memory.
+	 */
+	@Override
+	public void prepareForStreaming(Connection connection, PreparedStatement statement, StreamingHints hints)
+			throws SQLException {
+
+		JdbcDialect.super.prepareForStreaming(connection, statement, hints);
+
+		if (LOG.isDebugEnabled() && hints.hasFetchSize() && connection.getAutoCommit()) {
+			LOG.debug(String.format(
+					"Fetch size %d is ignored on Postgres for connections in auto-commit mode; Run streaming queries within a transaction to use a server-side cursor",
+					hints.fetchSize()));
+		}
+	}
+
 	/**
 	 * If the class is present on the class path, invoke the specified consumer {@code action} with the class object,
 	 * otherwise do nothing.
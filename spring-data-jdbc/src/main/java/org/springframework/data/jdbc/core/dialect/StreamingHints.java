@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.dialect;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hints for queries returning a {@link java.util.stream.Stream}. Streaming hints control the fetch size and the cursor
+ * type of the underlying {@link java.sql.ResultSet} so that drivers can use server-side cursors instead of buffering the
+ * entire result in memory. {@link JdbcDialect#prepareForStreaming dialects} apply driver-specific requirements.
+ *
+ * @param fetchSize number of rows to fetch per round trip. {@code 0} uses the driver default.
+ * @param readOnly whether the result set is read-only ({@link java.sql.ResultSet#CONCUR_READ_ONLY}).
+ * @param forwardOnly whether the result set can be traversed only forward
+ *          ({@link java.sql.ResultSet#TYPE_FORWARD_ONLY}).
+ * @since 4.2
+ */
+public record StreamingHints(int fetchSize, boolean readOnly, boolean forwardOnly) {
+
+	/**
+	 * Hints that leave the fetch size to the driver using a read-only, forward-only cursor.
+	 */
+	public static final StreamingHints DEFAULT = new StreamingHints(0, true, true);
+
+	public StreamingHints {
+		Assert.isTrue(fetchSize >= 0, "Fetch size must not be negative");
+	}
+
+	/**
+	 * Create {@link StreamingHints} for a read-only, forward-only cursor using the given {@code fetchSize}.
+	 *
+	 * @param fetchSize number of rows to fetch per round trip. {@code 0} uses the driver default.
+	 * @return new {@link StreamingHints}.
+	 */
+	public static StreamingHints of(int fetchSize) {
+		return new StreamingHints(fetchSize, true, true);
+	}
+
+	/**
+	 * Create new {@link StreamingHints} using the given {@code fetchSize}.
+	 *
+	 * @param fetchSize number of rows to fetch per round trip. {@code 0} uses the driver default.
+	 * @return new {@link StreamingHints}.
+	 */
+	public StreamingHints withFetchSize(int fetchSize) {
+		return new StreamingHints(fetchSize, readOnly, forwardOnly);
+	}
+
+	/**
+	 * Create new {@link StreamingHints} using the given {@code readOnly} flag.
+	 *
+	 * @param readOnly whether the result set is read-only.
+	 * @return new {@link StreamingHints}.
+	 */
+	public StreamingHints withReadOnly(boolean readOnly) {
+		return new StreamingHints(fetchSize, readOnly, forwardOnly);
+	}
+
+	/**
+	 * Create new {@link StreamingHints} using the given {@code forwardOnly} flag.
+	 *
+	 * @param forwardOnly whether the result set can be traversed only forward.
+	 * @return new {@link StreamingHints}.
+	 */
+	public StreamingHints withForwardOnly(boolean forwardOnly) {
+		return new StreamingHints(fetchSize, readOnly, forwardOnly);
+	}
+
+	/**
+	 * @return {@literal true} if a fetch size is configured.
+	 */
+	public boolean hasFetchSize() {
+		return fetchSize > 0;
+	}
+}
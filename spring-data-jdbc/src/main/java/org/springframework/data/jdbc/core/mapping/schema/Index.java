@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.mapping.schema;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Models an index for generating SQL for Schema generation.
+ *
+ * @since 4.2
+ */
+record Index(String name, String tableName, List<String> columnNames) {
+
+	/**
+	 * Create an {@link Index} for {@code columnNames} using a name derived from the table and column names.
+	 *
+	 * @param tableName name of the indexed table.
+	 * @param columnNames names of the indexed columns.
+	 * @return the {@link Index}.
+	 */
+	static Index of(String tableName, List<String> columnNames) {
+		return new Index(String.format("%s_%s_idx", tableName, String.join("_", columnNames)), tableName,
+				List.copyOf(columnNames));
+	}
+
+	/**
+	 * Check whether this index can serve lookups on {@code columns}, that is {@code columns} are a prefix of the indexed
+	 * columns.
+	 *
+	 * @param columns the columns to look up.
+	 * @param nameComparator comparator to compare column names.
+	 * @return {@code true} if this index covers {@code columns}.
+	 */
+	boolean covers(List<String> columns, Comparator<String> nameComparator) {
+
+		if (columns.isEmpty() || columns.size() > columnNames.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < columns.size(); i++) {
+			if (nameComparator.compare(columns.get(i), columnNames.get(i)) != 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
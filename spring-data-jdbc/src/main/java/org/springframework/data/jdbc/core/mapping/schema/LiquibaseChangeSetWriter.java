@@ -22,6 +22,7 @@ import liquibase.change.ColumnConfig;
 import liquibase.change.ConstraintsConfig;
 import liquibase.change.core.AddColumnChange;
 import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.CreateIndexChange;
 import liquibase.change.core.CreateTableChange;
 import liquibase.change.core.DropColumnChange;
 import liquibase.change.core.DropForeignKeyConstraintChange;
@@ -45,10 +46,13 @@ import liquibase.snapshot.SnapshotGeneratorFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -58,10 +62,19 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.util.Predicates;
 import org.springframework.util.Assert;
 
@@ -87,6 +100,12 @@ import org.springframework.util.Assert;
  * In differential schema mode, table and column names are compared using a case-insensitive comparator, see
  * {@link Collator#PRIMARY}.
  * <p>
+ * The writer can recommend indexes. {@link #setForeignKeyIndexes(boolean) Foreign key indexes} cover back-reference
+ * and key columns of mapped relations so that loading a collection does not scan the referencing table.
+ * {@link #setIndexedRepositories(Collection) Repository indexes} cover the columns that derived query methods filter
+ * and sort on. Indexes are only created if the primary key or an existing index does not already start with the same
+ * columns.
+ * <p>
  * The writer can be configured to use specific ChangeLogSerializers and ChangeLogParsers defaulting to YAML.
  *
  * @author Kurt Niemi
@@ -98,6 +117,9 @@ import org.springframework.util.Assert;
 public class LiquibaseChangeSetWriter {
 
 	public static final String DEFAULT_AUTHOR = "Spring Data Relational";
+
+	private static final String QUERY_ANNOTATION = "org.springframework.data.jdbc.repository.query.Query";
+
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
 
 	private SqlTypeMapping sqlTypeMapping = new DefaultSqlTypeMapping();
@@ -142,6 +164,16 @@ public class LiquibaseChangeSetWriter {
 	 */
 	private BiPredicate<String, String> dropColumnFilter = (table, column) -> false;
 
+	/**
+	 * Whether to create indexes on back-reference and key columns. Defaults to {@code false}.
+	 */
+	private boolean foreignKeyIndexes = false;
+
+	/**
+	 * Repository interfaces whose derived query methods are used to recommend indexes.
+	 */
+	private List<Class<?>> indexedRepositories = List.of();
+
 	/**
 	 * Use this to generate a ChangeSet that can be used on an empty database.
 	 *
@@ -231,6 +263,32 @@ public class LiquibaseChangeSetWriter {
 		this.dropColumnFilter = dropColumnFilter;
 	}
 
+	/**
+	 * Configure whether to create indexes on back-reference columns (including the key column of {@link List} and
+	 * {@link java.util.Map} relations) unless these columns lead the primary key of the referencing table.
+	 *
+	 * @param foreignKeyIndexes {@code true} to create foreign key indexes.
+	 * @since 4.2
+	 */
+	public void setForeignKeyIndexes(boolean foreignKeyIndexes) {
+		this.foreignKeyIndexes = foreignKeyIndexes;
+	}
+
+	/**
+	 * Set repository interfaces whose derived query methods should be considered to recommend indexes. Each derived
+	 * query method results in an index per {@code Or} branch covering the filtered properties followed by the sort
+	 * properties. Methods using {@code @Query} and properties that traverse relations are not considered.
+	 *
+	 * @param repositoryInterfaces must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setIndexedRepositories(Collection<Class<?>> repositoryInterfaces) {
+
+		Assert.notNull(repositoryInterfaces, "Repository interfaces must not be null");
+
+		this.indexedRepositories = List.copyOf(repositoryInterfaces);
+	}
+
 	/**
 	 * Write a Liquibase ChangeSet containing all tables as initial ChangeSet.
 	 *
@@ -321,25 +379,101 @@ public class LiquibaseChangeSetWriter {
 
 		generateTableAdditionsDeletions(changeSet, difference);
 		generateTableModifications(changeSet, difference);
+		generateIndexes(changeSet, difference);
 		return changeSet;
 	}
 
 	private SchemaDiff initial() {
 
-		Stream<? extends RelationalPersistentEntity<?>> entities = mappingContext.getPersistentEntities().stream()
-				.filter(schemaFilter);
-		Tables mappedEntities = Tables.from(entities, sqlTypeMapping, null, mappingContext);
+		Tables mappedEntities = getMappedTables(null);
 		return SchemaDiff.diff(mappedEntities, Tables.empty(), nameComparator);
 	}
 
 	private SchemaDiff differenceOf(Database database) throws LiquibaseException {
 
 		Tables existingTables = getLiquibaseModel(database);
+		Tables mappedEntities = getMappedTables(database.getDefaultSchemaName());
+
+		return SchemaDiff.diff(mappedEntities, existingTables, nameComparator);
+	}
+
+	private Tables getMappedTables(@Nullable String defaultSchema) {
+
 		Stream<? extends RelationalPersistentEntity<?>> entities = mappingContext.getPersistentEntities().stream()
 				.filter(schemaFilter);
-		Tables mappedEntities = Tables.from(entities, sqlTypeMapping, database.getDefaultSchemaName(), mappingContext);
+		Tables tables = Tables.from(entities, sqlTypeMapping, defaultSchema, mappingContext, foreignKeyIndexes);
 
-		return SchemaDiff.diff(mappedEntities, existingTables, nameComparator);
+		for (Class<?> repositoryInterface : indexedRepositories) {
+			applyRepositoryIndexes(tables, repositoryInterface);
+		}
+
+		return tables;
+	}
+
+	private void applyRepositoryIndexes(Tables tables, Class<?> repositoryInterface) {
+
+		RepositoryMetadata metadata = AbstractRepositoryMetadata.getMetadata(repositoryInterface);
+		Class<?> domainType = metadata.getDomainType();
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+
+		if (entity == null || !schemaFilter.test(entity)) {
+			return;
+		}
+
+		Table table = tables.findTable(entity.getTableName().getReference());
+
+		if (table == null) {
+			return;
+		}
+
+		for (Method method : repositoryInterface.getMethods()) {
+
+			if (!isDerivedQueryCandidate(method)) {
+				continue;
+			}
+
+			PartTree tree;
+			try {
+				tree = new PartTree(method.getName(), domainType);
+			} catch (RuntimeException ex) {
+				// not a derived query method
+				continue;
+			}
+
+			List<String> sortColumns = new ArrayList<>();
+			for (Sort.Order order : tree.getSort()) {
+				addColumn(sortColumns, PropertyPath.from(order.getProperty(), domainType));
+			}
+
+			for (PartTree.OrPart orPart : tree) {
+
+				Set<String> columns = new LinkedHashSet<>();
+				for (Part part : orPart) {
+					addColumn(columns, part.getProperty());
+				}
+				columns.addAll(sortColumns);
+
+				table.addIndexIfAbsent(List.copyOf(columns), nameComparator);
+			}
+		}
+	}
+
+	private static boolean isDerivedQueryCandidate(Method method) {
+
+		return !method.isDefault() && !method.isBridge() && !Modifier.isStatic(method.getModifiers())
+				&& !Repository.class.getPackageName().equals(method.getDeclaringClass().getPackageName())
+				&& !MergedAnnotations.from(method).isPresent(QUERY_ANNOTATION);
+	}
+
+	private void addColumn(Collection<String> columns, PropertyPath path) {
+
+		PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = mappingContext
+				.getPersistentPropertyPath(path);
+		RelationalPersistentProperty property = propertyPath.getLeafProperty();
+
+		if (propertyPath.getLength() == 1 && !property.isEntity()) {
+			columns.add(property.getColumnName().getReference());
+		}
 	}
 
 	private DatabaseChangeLog getDatabaseChangeLog(File changeLogFile, @Nullable Database database) throws IOException {
@@ -423,6 +557,21 @@ public class LiquibaseChangeSetWriter {
 		}
 	}
 
+	private void generateIndexes(ChangeSet changeSet, SchemaDiff difference) {
+
+		for (Table table : difference.tableAdditions()) {
+			for (Index index : table.indexes()) {
+				changeSet.addChange(createIndex(table, index));
+			}
+		}
+
+		for (TableDiff table : difference.tableDiffs()) {
+			for (Index index : table.indexesToAdd()) {
+				changeSet.addChange(createIndex(table.table(), index));
+			}
+		}
+	}
+
 	private List<Column> getColumnsToDrop(TableDiff table) {
 
 		List<Column> deletedColumns = new ArrayList<>();
@@ -477,6 +626,7 @@ public class LiquibaseChangeSetWriter {
 			}
 
 			tableModel.foreignKeys().addAll(extractForeignKeys(table));
+			tableModel.indexes().addAll(extractIndexes(table));
 
 			existingTables.add(tableModel);
 		}
@@ -500,6 +650,23 @@ public class LiquibaseChangeSetWriter {
 		}).collect(Collectors.toList());
 	}
 
+	private static List<Index> extractIndexes(liquibase.structure.core.Table table) {
+
+		List<Index> indexes = new ArrayList<>();
+
+		if (table.getPrimaryKey() != null) {
+			indexes.add(new Index(table.getPrimaryKey().getName(), table.getName(),
+					table.getPrimaryKey().getColumnNamesAsList()));
+		}
+
+		for (liquibase.structure.core.Index index : table.getIndexes()) {
+			indexes.add(new Index(index.getName(), table.getName(),
+					index.getColumns().stream().map(liquibase.structure.core.Column::getName).toList()));
+		}
+
+		return indexes;
+	}
+
 	private static AddColumnChange addColumns(TableDiff table) {
 
 		AddColumnChange addColumnChange = new AddColumnChange();
@@ -594,6 +761,23 @@ public class LiquibaseChangeSetWriter {
 		return change;
 	}
 
+	private static CreateIndexChange createIndex(Table table, Index index) {
+
+		CreateIndexChange change = new CreateIndexChange();
+		change.setIndexName(index.name());
+		change.setSchemaName(table.schema());
+		change.setTableName(index.tableName());
+
+		for (String columnName : index.columnNames()) {
+
+			AddColumnConfig column = new AddColumnConfig();
+			column.setName(columnName);
+			change.addColumn(column);
+		}
+
+		return change;
+	}
+
 	private static DropForeignKeyConstraintChange dropForeignKey(ForeignKey foreignKey) {
 
 		DropForeignKeyConstraintChange change = new DropForeignKeyConstraintChange();
@@ -117,6 +117,13 @@ record SchemaDiff(List<Table> tableAdditions, List<Table> tableDeletions, List<T
 			// Identify added foreign keys
 			tableDiff.fkToAdd().addAll(findDiffs(existingForeignKeys, mappedForeignKeys, nameComparator));
 
+			// Identify indexes that are not served by the primary key or an existing index
+			for (Index index : mappedEntity.indexes()) {
+				if (!existingTable.isIndexed(index.columnNames(), nameComparator)) {
+					tableDiff.indexesToAdd().add(index);
+				}
+			}
+
 			tableDiffs.add(tableDiff);
 		}
 
@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.core.mapping.schema;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,10 +30,11 @@ import org.springframework.util.ObjectUtils;
  * @author Evgenii Koba
  * @since 3.2
  */
-record Table(@Nullable String schema, String name, List<Column> columns, List<ForeignKey> foreignKeys) {
+record Table(@Nullable String schema, String name, List<Column> columns, List<ForeignKey> foreignKeys,
+		List<Index> indexes) {
 
 	public Table(@Nullable String schema, String name) {
-		this(schema, name, new ArrayList<>(), new ArrayList<>());
+		this(schema, name, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
 	}
 
 	public Table(String name) {
@@ -43,6 +45,42 @@ record Table(@Nullable String schema, String name, List<Column> columns, List<Fo
 		return columns().stream().filter(Column::identity).collect(Collectors.toList());
 	}
 
+	/**
+	 * Check whether lookups on {@code columnNames} are served by the primary key or an existing index.
+	 *
+	 * @param columnNames the columns to look up.
+	 * @param nameComparator comparator to compare column names.
+	 * @return {@code true} if a lookup on {@code columnNames} can use the primary key or an existing index.
+	 */
+	public boolean isIndexed(List<String> columnNames, Comparator<String> nameComparator) {
+
+		Index primaryKey = new Index("", name, getIdColumns().stream().map(Column::name).toList());
+
+		if (primaryKey.covers(columnNames, nameComparator)) {
+			return true;
+		}
+
+		return indexes.stream().anyMatch(it -> it.covers(columnNames, nameComparator));
+	}
+
+	/**
+	 * Add an {@link Index} on {@code columnNames} unless lookups on these columns are already
+	 * {@link #isIndexed(List, Comparator) indexed}. Indexes that are covered by the new index are removed.
+	 *
+	 * @param columnNames the columns to index.
+	 * @param nameComparator comparator to compare column names.
+	 */
+	public void addIndexIfAbsent(List<String> columnNames, Comparator<String> nameComparator) {
+
+		if (columnNames.isEmpty() || isIndexed(columnNames, nameComparator)) {
+			return;
+		}
+
+		Index index = Index.of(name, columnNames);
+		indexes.removeIf(it -> index.covers(it.columnNames(), nameComparator));
+		indexes.add(index);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 
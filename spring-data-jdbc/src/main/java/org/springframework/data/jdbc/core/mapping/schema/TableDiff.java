@@ -27,10 +27,10 @@ import java.util.List;
  * @since 3.2
  */
 record TableDiff(Table table, List<Column> columnsToAdd, List<Column> columnsToDrop, List<ForeignKey> fkToAdd,
-								 List<ForeignKey> fkToDrop) {
+								 List<ForeignKey> fkToDrop, List<Index> indexesToAdd) {
 
 	public TableDiff(Table table) {
-		this(table, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+		this(table, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
 	}
 
 }
@@ -17,6 +17,7 @@ package org.springframework.data.jdbc.core.mapping.schema;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -56,6 +57,20 @@ record Tables(List<Table> tables) {
 	public static Tables from(Stream<? extends RelationalPersistentEntity<?>> persistentEntities,
 			SqlTypeMapping sqlTypeMapping, @Nullable String defaultSchema,
 			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context) {
+		return from(persistentEntities, sqlTypeMapping, defaultSchema, context, false);
+	}
+
+	/**
+	 * Create {@link Tables} from {@code persistentEntities}.
+	 *
+	 * @param foreignKeyIndexes whether to add {@link Index indexes} on back-reference and key columns that are not
+	 *          covered by the primary key of the referencing table.
+	 * @since 4.2
+	 */
+	public static Tables from(Stream<? extends RelationalPersistentEntity<?>> persistentEntities,
+			SqlTypeMapping sqlTypeMapping, @Nullable String defaultSchema,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			boolean foreignKeyIndexes) {
 
 		List<ForeignKeyMetadata> foreignKeyMetadataList = new ArrayList<>();
 		List<Table> tables = persistentEntities
@@ -87,6 +102,10 @@ record Tables(List<Table> tables) {
 
 		applyForeignKeyMetadata(tables, foreignKeyMetadataList);
 
+		if (foreignKeyIndexes) {
+			applyForeignKeyIndexes(tables, foreignKeyMetadataList);
+		}
+
 		return new Tables(tables);
 	}
 
@@ -94,6 +113,45 @@ record Tables(List<Table> tables) {
 		return new Tables(Collections.emptyList());
 	}
 
+	/**
+	 * Find a table by its name.
+	 *
+	 * @param tableName the table name.
+	 * @return the table or {@literal null} if not found.
+	 * @since 4.2
+	 */
+	@Nullable
+	public Table findTable(String tableName) {
+		return findTableByName(tables, tableName);
+	}
+
+	/**
+	 * Index back-reference columns along with the key column of qualified collections so that loading a collection does
+	 * not require scanning the referencing table. Columns that lead the primary key are already indexed.
+	 */
+	private static void applyForeignKeyIndexes(List<Table> tables, List<ForeignKeyMetadata> foreignKeyMetadataList) {
+
+		for (ForeignKeyMetadata foreignKeyMetadata : foreignKeyMetadataList) {
+
+			Table table = findTableByName(tables, foreignKeyMetadata.tableName());
+
+			if (table == null) {
+				continue;
+			}
+
+			List<String> columnNames = new ArrayList<>(2);
+			columnNames.add(foreignKeyMetadata.referencingColumnName());
+
+			if (foreignKeyMetadata.keyColumnName() != null) {
+				columnNames.add(foreignKeyMetadata.keyColumnName());
+			}
+
+			if (columnNames.stream().allMatch(it -> table.columns().contains(new Column(it, "")))) {
+				table.addIndexIfAbsent(columnNames, Comparator.naturalOrder());
+			}
+		}
+	}
+
 	/**
 	 * Apply all information we know about foreign keys to correctly create foreign and primary keys
 	 */
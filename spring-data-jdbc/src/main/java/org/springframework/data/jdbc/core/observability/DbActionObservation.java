@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * {@link ObservationDocumentation} for the execution of {@link org.springframework.data.relational.core.conversion.DbAction}s
+ * when persisting or deleting aggregates.
+ *
+ * @since 4.2
+ */
+public enum DbActionObservation implements ObservationDocumentation {
+
+	/**
+	 * Timer created around the execution of a single, possibly batched,
+	 * {@link org.springframework.data.relational.core.conversion.DbAction}.
+	 */
+	DB_ACTION {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultDbActionObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+
+		@Override
+		public String getPrefix() {
+			return "spring.data.jdbc";
+		}
+	};
+
+	/**
+	 * Enums related to low cardinality key names for {@link DbActionObservation}s.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The type of the entity affected by the action.
+		 */
+		ENTITY_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.entity";
+			}
+		},
+
+		/**
+		 * The kind of action, e.g. {@literal InsertRoot} or {@literal BatchDelete}.
+		 */
+		ACTION {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.action";
+			}
+		}
+	}
+
+	/**
+	 * Enums related to high cardinality key names for {@link DbActionObservation}s.
+	 */
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The number of entities affected by the action. {@literal 1} for non-batched actions.
+		 */
+		BATCH_SIZE {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.batch.size";
+			}
+		},
+
+		/**
+		 * The path from the aggregate root to the affected entity. Empty for actions on the aggregate root.
+		 */
+		PROPERTY_PATH {
+			@Override
+			public String asString() {
+				return "spring.data.jdbc.path";
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.observability;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Observation.Context} for the execution of a {@link DbAction}.
+ *
+ * @since 4.2
+ */
+public class DbActionObservationContext extends Observation.Context {
+
+	private final DbAction<?> action;
+
+	public DbActionObservationContext(DbAction<?> action) {
+
+		Assert.notNull(action, "DbAction must not be null");
+
+		this.action = action;
+	}
+
+	/**
+	 * @return the action being executed. Guaranteed to be not {@literal null}.
+	 */
+	public DbAction<?> getAction() {
+		return action;
+	}
+
+	/**
+	 * @return the type of the entity affected by the action. Guaranteed to be not {@literal null}.
+	 */
+	public Class<?> getEntityType() {
+		return action.getEntityType();
+	}
+
+	/**
+	 * @return the kind of the action as the simple name of its type, e.g. {@literal InsertRoot}.
+	 */
+	public String getActionKind() {
+		return action.getClass().getSimpleName();
+	}
+
+	/**
+	 * @return the number of entities affected by a batched action or {@literal 1} for non-batched actions.
+	 */
+	public int getBatchSize() {
+		return action instanceof DbAction.BatchWithValue<?, ?, ?> batch ? batch.getActions().size() : 1;
+	}
+
+	/**
+	 * @return the dot path from the aggregate root to the affected entity, or an empty {@link String} for actions
+	 *         operating on the aggregate root.
+	 */
+	public String getPropertyPath() {
+		return action instanceof DbAction.WithPropertyPath<?> withPath ? withPath.propertyPath().toDotPath() : "";
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.observability;
+
+import io.micrometer.common.KeyValues;
+
+import org.springframework.data.jdbc.core.observability.DbActionObservation.HighCardinalityKeyNames;
+import org.springframework.data.jdbc.core.observability.DbActionObservation.LowCardinalityKeyNames;
+
+/**
+ * Default {@link DbActionObservationConvention} implementation.
+ *
+ * @since 4.2
+ */
+public class DefaultDbActionObservationConvention implements DbActionObservationConvention {
+
+	/**
+	 * Shared instance of {@link DefaultDbActionObservationConvention}.
+	 */
+	public static final DefaultDbActionObservationConvention INSTANCE = new DefaultDbActionObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.jdbc.action";
+	}
+
+	@Override
+	public String getContextualName(DbActionObservationContext context) {
+		return context.getActionKind() + " " + context.getEntityType().getSimpleName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(DbActionObservationContext context) {
+
+		return KeyValues.of(LowCardinalityKeyNames.ENTITY_TYPE.withValue(context.getEntityType().getName()),
+				LowCardinalityKeyNames.ACTION.withValue(context.getActionKind()));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(DbActionObservationContext context) {
+
+		return KeyValues.of(HighCardinalityKeyNames.BATCH_SIZE.withValue(Integer.toString(context.getBatchSize())),
+				HighCardinalityKeyNames.PROPERTY_PATH.withValue(context.getPropertyPath()));
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Micrometer Observation support for the execution of aggregate changes.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.jdbc.core.observability;
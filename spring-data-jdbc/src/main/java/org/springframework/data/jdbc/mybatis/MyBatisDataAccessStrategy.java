@@ -44,6 +44,7 @@ import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMappingConfiguration;
 import org.springframework.data.jdbc.core.dialect.DialectResolver;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -52,6 +53,7 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.util.Pair;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.util.Assert;
@@ -190,6 +192,11 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Upsert is not supported by MyBatisDataAccessStrategy");
 	}
 
+	@Override
+	public <T> int[] upsertAll(List<T> objectsToSave, Class<? super T> domainType) {
+		throw new UnsupportedOperationException("Upsert is not supported by MyBatisDataAccessStrategy");
+	}
+
 	@Override
 	public <S> boolean update(S objectToSave, Class<S> domainType) {
 
@@ -231,6 +238,11 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	@Override
+	public <T> void deleteWithVersion(List<Pair<Object, Number>> idsAndPreviousVersions, Class<T> domainType) {
+		idsAndPreviousVersions.forEach(it -> deleteWithVersion(it.getFirst(), domainType, it.getSecond()));
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 
@@ -279,6 +291,11 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	@Override
+	public <T> void acquireLockById(Iterable<Object> ids, LockMode lockMode, Class<T> domainType) {
+		ids.forEach(id -> acquireLockById(id, lockMode, domainType));
+	}
+
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
@@ -393,6 +410,11 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		throw new UnsupportedOperationException("Not implemented");
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> probeType, StreamingHints hints) {
+		throw new UnsupportedOperationException("Not implemented");
+	}
+
 	@Override
 	public <T> List<T> findAll(Query query, Class<T> probeType, Pageable pageable) {
 		throw new UnsupportedOperationException("Not implemented");
@@ -131,7 +131,15 @@ public class AotRepositoryFragmentSupport {
 		return operations;
 	}
 
+	/**
+	 * Return the {@link NamedParameterJdbcOperations} to run queries and modifying statements. Saves buffered for
+	 * write-behind are {@link JdbcAggregateOperations#flush() flushed} first so that the statement observes them.
+	 *
+	 * @return the {@link NamedParameterJdbcOperations} to use.
+	 */
 	protected NamedParameterJdbcOperations getJdbcOperations() {
+
+		this.operations.flush();
 		return this.operations.getDataAccessStrategy().getJdbcOperations();
 	}
 
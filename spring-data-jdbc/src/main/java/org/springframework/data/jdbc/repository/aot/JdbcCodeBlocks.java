@@ -45,6 +45,7 @@ import org.springframework.data.jdbc.repository.query.StatementFactory;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.aot.generate.AotQueryMethodGenerationContext;
 import org.springframework.data.repository.aot.generate.MethodReturn;
@@ -244,7 +245,17 @@ class JdbcCodeBlocks {
 			}
 
 			if (lock.isPresent()) {
-				builder.add(".lock($T.$L)", LockMode.class, lock.getEnum("value", LockMode.class).name());
+
+				LockMode lockMode = lock.getEnum("value", LockMode.class);
+				LockWait.Policy waitPolicy = lock.getEnum("waitPolicy", LockWait.Policy.class);
+				long timeout = lock.getLong("timeout");
+
+				if (LockWait.of(waitPolicy, timeout).isDefault()) {
+					builder.add(".lock($T.$L)", LockMode.class, lockMode.name());
+				} else {
+					builder.add(".lock($T.$L, $T.of($T.$L, $L))", LockMode.class, lockMode.name(), LockWait.class,
+							LockWait.Policy.class, waitPolicy.name(), timeout);
+				}
 			}
 
 			if (!criteria.isEmpty()) {
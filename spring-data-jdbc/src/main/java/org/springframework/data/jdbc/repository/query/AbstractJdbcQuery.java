@@ -21,6 +21,9 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.core.convert.StreamingQueryUtils;
+import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -47,6 +50,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
+	private @Nullable JdbcAggregateOperations aggregateOperations;
 
 	/**
 	 * Creates a new {@link AbstractJdbcQuery} for the given {@link JdbcQueryMethod} and
@@ -69,6 +73,32 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		return queryMethod;
 	}
 
+	/**
+	 * Configure the {@link JdbcAggregateOperations} whose buffered saves are flushed before this query runs.
+	 *
+	 * @param aggregateOperations must not be {@literal null}.
+	 * @since 4.2
+	 */
+	void setAggregateOperations(JdbcAggregateOperations aggregateOperations) {
+
+		Assert.notNull(aggregateOperations, "JdbcAggregateOperations must not be null");
+
+		this.aggregateOperations = aggregateOperations;
+	}
+
+	/**
+	 * Flush saves buffered for write-behind so that the query observes them.
+	 *
+	 * @since 4.2
+	 * @see JdbcAggregateOperations#flush()
+	 */
+	protected void flushPendingSaves() {
+
+		if (aggregateOperations != null) {
+			aggregateOperations.flush();
+		}
+	}
+
 	/**
 	 * Creates a {@link JdbcQueryExecution} given a {@link ResultSetExtractor} or a {@link RowMapper}. Prefers the given
 	 * {@link ResultSetExtractor} over {@link RowMapper}.
@@ -138,8 +168,20 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 				: returnedType.getReturnedType();
 	}
 
+	/**
+	 * Returns the {@link Dialect} used to apply driver-specific streaming hints to stream queries. Subclasses that know
+	 * the dialect should override this method.
+	 *
+	 * @return the dialect, may be {@literal null}.
+	 * @since 4.2
+	 */
+	protected @Nullable Dialect getDialect() {
+		return null;
+	}
+
 	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper) {
-		return (query, parameters) -> operations.queryForStream(query, parameters, rowMapper);
+		return (query, parameters) -> StreamingQueryUtils.queryForStream(operations, getDialect(), query, parameters,
+				rowMapper, queryMethod.getStreamingHints());
 	}
 
 	private <T> JdbcQueryExecution<T> createSingleReadingQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
@@ -30,6 +30,7 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
@@ -61,6 +62,7 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
 	private final StatementFactory statementFactory;
+	private final QueryTemplateCache.@Nullable Slot cacheSlot;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -99,9 +101,27 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 	 */
 	public JdbcQueryCreator(PartTree tree, JdbcConverter converter, Dialect dialect, JdbcQueryMethod queryMethod,
 			RelationalParameterAccessor accessor, ReturnedType returnedType) {
+		this(tree, converter, dialect, queryMethod, accessor, returnedType, null);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
+	 * {@link JdbcQueryMethod} and {@link RelationalParameterAccessor} reusing SQL rendered for previous invocations of
+	 * the same shape.
+	 *
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param returnedType the {@link ReturnedType} to be returned by the query. Must not be {@literal null}.
+	 * @param cacheSlot cache slot for the shape of the current invocation, can be {@literal null}.
+	 * @since 4.2
+	 */
+	JdbcQueryCreator(PartTree tree, JdbcConverter converter, Dialect dialect, JdbcQueryMethod queryMethod,
+			RelationalParameterAccessor accessor, ReturnedType returnedType, QueryTemplateCache.@Nullable Slot cacheSlot) {
 		this(converter.getMappingContext(), tree, converter, dialect, queryMethod.getEntityInformation(), accessor,
 				queryMethod.isSliceQuery(), returnedType, queryMethod.lookupLockAnnotation(),
-				new SqlGeneratorSource(converter, dialect));
+				new SqlGeneratorSource(converter, dialect), cacheSlot);
 	}
 
 	/**
@@ -124,6 +144,14 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 	public JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
 			ReturnedType returnedType, Optional<Lock> lockMode, SqlGeneratorSource sqlGeneratorSource) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, isSliceQuery, returnedType, lockMode,
+				sqlGeneratorSource, null);
+	}
+
+	private JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			ReturnedType returnedType, Optional<Lock> lockMode, SqlGeneratorSource sqlGeneratorSource,
+			QueryTemplateCache.@Nullable Slot cacheSlot) {
 
 		super(tree, accessor);
 
@@ -142,6 +170,7 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 		this.returnedType = returnedType;
 		this.lockMode = lockMode;
 		this.statementFactory = new StatementFactory(converter, dialect);
+		this.cacheSlot = cacheSlot;
 	}
 
 	StatementFactory getStatementFactory() {
@@ -211,6 +240,15 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 	@Override
 	protected ParametrizedQuery complete(@Nullable Criteria criteria, Sort sort) {
 
+		if (cacheSlot != null) {
+
+			ParametrizedQuery cached = cacheSlot.get(criteria);
+
+			if (cached != null) {
+				return cached;
+			}
+		}
+
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
@@ -219,11 +257,20 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 		selection.page(accessor.getPageable()).filter(criteria).orderBy(sort);
 
 		if (this.lockMode.isPresent()) {
-			selection.lock(this.lockMode.get().value());
+
+			Lock lock = this.lockMode.get();
+			selection.lock(lock.value(), LockWait.of(lock.waitPolicy(), lock.timeout()));
 		}
 
 		String sql = selection.build(parameterSource);
-		return new ParametrizedQuery(sql, parameterSource, criteria != null ? criteria : Criteria.empty());
+		ParametrizedQuery query = new ParametrizedQuery(sql, parameterSource,
+				criteria != null ? criteria : Criteria.empty());
+
+		if (cacheSlot != null) {
+			cacheSlot.put(query);
+		}
+
+		return query;
 	}
 
 	StatementFactory.SelectionBuilder getSelection(RelationalPersistentEntity<?> entity) {
@@ -23,6 +23,7 @@ import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -260,6 +261,19 @@ public class JdbcQueryMethod extends QueryMethod {
 		return doFindAnnotation(Lock.class);
 	}
 
+	/**
+	 * Returns the {@link StreamingHints} declared through the {@link Streaming} annotation.
+	 *
+	 * @return the {@link StreamingHints} to apply for stream queries. {@link StreamingHints#DEFAULT} if the method is not
+	 *         annotated.
+	 * @since 4.2
+	 */
+	public StreamingHints getStreamingHints() {
+		return doFindAnnotation(Streaming.class)
+				.map(it -> new StreamingHints(it.fetchSize(), it.readOnly(), it.forwardOnly()))
+				.orElse(StreamingHints.DEFAULT);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
@@ -39,6 +39,7 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
+import org.springframework.data.relational.repository.query.RelationalQueryCreator;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.ResultProcessor;
@@ -73,6 +74,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcConverter converter;
 	private final CachedRowMapperFactory cachedRowMapperFactory;
 	private final PartTree tree;
+	private final QueryTemplateCache cache;
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -86,6 +88,7 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 			org.springframework.data.jdbc.repository.query.RowMapperFactory rowMapperFactory) {
 		this(operations.getConverter().getMappingContext(), queryMethod, operations.getDataAccessStrategy().getDialect(),
 				operations.getConverter(), operations.getDataAccessStrategy().getJdbcOperations(), rowMapperFactory);
+		setAggregateOperations(operations);
 	}
 
 	/**
@@ -150,9 +153,11 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 			this.tree = new PartTree(queryMethod.getName(),
 					queryMethod.getResultProcessor().getReturnedType().getDomainType());
 			JdbcQueryCreator.validate(this.tree, this.parameters, this.converter.getMappingContext(), this.converter);
+			queryMethod.lookupLockAnnotation().ifPresent(lock -> RelationalQueryCreator.validate(lock, dialect));
 
 			this.cachedRowMapperFactory = new CachedRowMapperFactory(tree, rowMapperFactory, converter,
 					queryMethod.getResultProcessor());
+			this.cache = new QueryTemplateCache(converter, queryMethod.getEntityInformation().getTableEntity());
 		} catch (RuntimeException e) {
 			throw QueryCreationException.create(queryMethod, e);
 		}
@@ -162,10 +167,17 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
 
+	@Override
+	protected Dialect getDialect() {
+		return dialect;
+	}
+
 	@Override
 	@Nullable
 	public Object execute(Object[] values) {
 
+		flushPendingSaves();
+
 		RelationalParametersParameterAccessor accessor = new RelationalParametersParameterAccessor(getQueryMethod(),
 				values);
 
@@ -229,9 +241,12 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 	ParametrizedQuery createQuery(RelationalParametersParameterAccessor accessor, ReturnedType returnedType) {
 
+		Sort dynamicSort = getDynamicSort(accessor);
+		QueryTemplateCache.Slot cacheSlot = cache.getSlot(returnedType.getReturnedType(), dynamicSort, accessor);
+
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(tree, converter, dialect, getQueryMethod(), accessor,
-				returnedType);
-		return queryCreator.createQuery(getDynamicSort(accessor));
+				returnedType, cacheSlot);
+		return queryCreator.createQuery(dynamicSort);
 	}
 
 	private List<ParametrizedQuery> createDeleteQueries(RelationalParametersParameterAccessor accessor) {
@@ -341,8 +356,11 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 				}
 				Converter<Object, Object> resultProcessingConverter = new ResultProcessingConverter(processor,
 						converter.getMappingContext(), converter.getEntityInstantiators());
-				return new ConvertingRowMapper(
-						rowMapperFactory.create(processor.getReturnedType().getDomainType()), resultProcessingConverter);
+				ReturnedType returnedType = processor.getReturnedType();
+				RowMapper<Object> rowMapper = returnedType.needsCustomConstruction()
+						? rowMapperFactory.create(returnedType.getDomainType(), returnedType.getInputProperties())
+						: rowMapperFactory.create(returnedType.getDomainType());
+				return new ConvertingRowMapper(rowMapper, resultProcessingConverter);
 			};
 
 			this.rowMapper = Lazy.of(() -> this.rowMapperFunction.apply(defaultResultProcessor));
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.QueryMapper;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.query.QueryShapeCache;
+import org.springframework.data.relational.repository.query.QueryShapeCache.QueryShape;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Cache for SQL rendered by {@link PartTreeJdbcQuery} using a {@link QueryShapeCache}. Subsequent invocations of the
+ * same {@link QueryShape} map criteria values to parameters only and skip statement building and rendering.
+ *
+ * @since 4.2
+ */
+class QueryTemplateCache {
+
+	private final QueryMapper queryMapper;
+	private final RelationalPersistentEntity<?> entity;
+	private final Table table;
+	private final QueryShapeCache queries = new QueryShapeCache();
+
+	QueryTemplateCache(JdbcConverter converter, RelationalPersistentEntity<?> entity) {
+
+		this.queryMapper = new QueryMapper(converter);
+		this.entity = entity;
+		this.table = Table.create(entity.getQualifiedTableName());
+	}
+
+	/**
+	 * Obtain a {@link Slot} for the shape of the current invocation.
+	 *
+	 * @param returnedType the returned type considering dynamic projections.
+	 * @param sort the dynamic sort.
+	 * @param accessor the parameter accessor.
+	 * @return the slot for the current invocation.
+	 */
+	Slot getSlot(Class<?> returnedType, Sort sort, RelationalParameterAccessor accessor) {
+		return new Slot(QueryShape.of(returnedType, sort, accessor));
+	}
+
+	private ParametrizedQuery bind(String sql, @Nullable Criteria criteria) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		if (criteria != null && !criteria.isEmpty()) {
+			queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+		}
+
+		return new ParametrizedQuery(sql, parameterSource, criteria != null ? criteria : Criteria.empty());
+	}
+
+	/**
+	 * Cache access for a single {@link QueryShape}.
+	 */
+	class Slot {
+
+		private final QueryShape shape;
+
+		private Slot(QueryShape shape) {
+			this.shape = shape;
+		}
+
+		/**
+		 * Return a {@link ParametrizedQuery} using previously rendered SQL for {@code criteria}.
+		 *
+		 * @param criteria the criteria derived for the current invocation.
+		 * @return the query or {@literal null} if no SQL was cached for this shape.
+		 */
+		@Nullable
+		ParametrizedQuery get(@Nullable Criteria criteria) {
+
+			String sql = queries.get(shape);
+			return sql != null ? bind(sql, criteria) : null;
+		}
+
+		/**
+		 * Cache the SQL of {@code query}. The SQL is only cached if mapping its criteria on its own yields the same
+		 * parameters as {@code query}; otherwise caching is disabled for the query method.
+		 *
+		 * @param query the fully created query.
+		 */
+		void put(ParametrizedQuery query) {
+
+			if (!queries.isEnabled()) {
+				return;
+			}
+
+			ParametrizedQuery bound = bind(query.getQuery(), query.getCriteria());
+
+			if (getParameterLayout(query).equals(getParameterLayout(bound))) {
+				queries.put(shape, query.getQuery());
+			} else {
+				queries.disable();
+			}
+		}
+
+		private List<Object> getParameterLayout(ParametrizedQuery query) {
+
+			String[] names = query.getParameterSource().getParameterNames();
+			List<Object> layout = new ArrayList<>(names == null ? 0 : names.length * 2);
+
+			if (names != null) {
+				for (String name : names) {
+					layout.add(name);
+					layout.add(query.getParameterSource().getSqlType(name));
+				}
+			}
+
+			return layout;
+		}
+	}
+
+}
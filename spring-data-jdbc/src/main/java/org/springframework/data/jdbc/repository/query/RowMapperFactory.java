@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.util.Collection;
+
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -35,6 +37,20 @@ public interface RowMapperFactory {
 	 */
 	RowMapper<Object> create(Class<?> result);
 
+	/**
+	 * Obtain a {@link RowMapper} for {@code result} where only {@code projectedProperties} are accessed by the caller.
+	 * Implementations may skip loading relations outside the projected properties. The default implementation delegates
+	 * to {@link #create(Class)}.
+	 *
+	 * @param result must not be {@code null}.
+	 * @param projectedProperties names of the top-level properties that are accessed, must not be {@code null}.
+	 * @return a {@code RowMapper} producing instances of {@code result}.
+	 * @since 4.2
+	 */
+	default RowMapper<Object> create(Class<?> result, Collection<String> projectedProperties) {
+		return create(result);
+	}
+
 	/**
 	 * Obtain a {@link RowMapper} from some other source, typically a
 	 * {@link org.springframework.beans.factory.BeanFactory}.
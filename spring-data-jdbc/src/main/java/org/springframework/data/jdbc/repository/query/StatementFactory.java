@@ -38,6 +38,7 @@ import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -110,6 +111,7 @@ public class StatementFactory {
 		private final Mode mode;
 
 		private @Nullable LockMode lockMode;
+		private LockWait lockWait = LockWait.defaultWait();
 		private Limit limit = Limit.unlimited();
 		private Pageable pageable = Pageable.unpaged();
 		private Sort sort = Sort.unsorted();
@@ -169,7 +171,13 @@ public class StatementFactory {
 
 		@Contract("_ -> this")
 		public SelectionBuilder lock(LockMode lockMode) {
+			return lock(lockMode, LockWait.defaultWait());
+		}
+
+		@Contract("_, _ -> this")
+		public SelectionBuilder lock(LockMode lockMode, LockWait lockWait) {
 			this.lockMode = lockMode;
+			this.lockWait = lockWait;
 			return this;
 		}
 
@@ -212,7 +220,7 @@ public class StatementFactory {
 
 			SelectBuilder.BuildSelect completedBuildSelect = selectOrderBuilder;
 			if (this.lockMode != null) {
-				completedBuildSelect = selectOrderBuilder.lock(this.lockMode);
+				completedBuildSelect = selectOrderBuilder.lock(this.lockMode, this.lockWait);
 			}
 
 			Select select = completedBuildSelect.build();
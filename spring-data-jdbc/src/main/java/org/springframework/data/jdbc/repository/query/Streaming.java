@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures how a query method returning a {@link java.util.stream.Stream} consumes its result. A positive
+ * {@link #fetchSize()} allows drivers to use a server-side cursor so that the result is fetched in chunks instead of
+ * being read into memory entirely. Some drivers impose additional requirements, e.g. Postgres uses cursors only within
+ * a transaction.
+ *
+ * @since 4.2
+ * @see org.springframework.data.jdbc.core.dialect.StreamingHints
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Streaming {
+
+	/**
+	 * Number of rows to fetch per round trip. {@code 0} uses the driver default.
+	 */
+	int fetchSize() default 0;
+
+	/**
+	 * Whether to use a read-only result set.
+	 */
+	boolean readOnly() default true;
+
+	/**
+	 * Whether to use a forward-only result set.
+	 */
+	boolean forwardOnly() default true;
+}
@@ -169,11 +169,14 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 			RowMapperFactory rowMapperFactory, ValueExpressionDelegate delegate) {
 		this(query, queryMethod, operations.getDataAccessStrategy().getJdbcOperations(), rowMapperFactory,
 				operations.getConverter(), delegate);
+		setAggregateOperations(operations);
 	}
 
 	@Override
 	public @Nullable Object execute(Object[] objects) {
 
+		flushPendingSaves();
+
 		RelationalParameterAccessor accessor = new RelationalParametersParameterAccessor(getQueryMethod(), objects);
 		ResultProcessor processor = getQueryMethod().getResultProcessor().withDynamicProjection(accessor);
 
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.jdbc.repository.support;
 
+import java.util.Collection;
+
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.QueryMappingConfiguration;
 import org.springframework.data.jdbc.repository.query.RowMapperFactory;
@@ -67,6 +69,20 @@ public class DefaultRowMapperFactory implements RowMapperFactory {
 		return (RowMapper<Object>) determineDefaultMapper(returnedObjectType);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public RowMapper<Object> create(Class<?> returnedObjectType, Collection<String> projectedProperties) {
+
+		RelationalPersistentEntity<?> persistentEntity = operations.getConverter().getMappingContext()
+				.getPersistentEntity(returnedObjectType);
+
+		if (persistentEntity == null || queryMappingConfiguration.getRowMapper(returnedObjectType) != null) {
+			return create(returnedObjectType);
+		}
+
+		return (RowMapper<Object>) operations.getRowMapper(returnedObjectType, projectedProperties);
+	}
+
 	private RowMapper<?> determineDefaultMapper(Class<?> returnedObjectType) {
 
 		RowMapper<?> configuredQueryMapper = queryMappingConfiguration.getRowMapper(returnedObjectType);
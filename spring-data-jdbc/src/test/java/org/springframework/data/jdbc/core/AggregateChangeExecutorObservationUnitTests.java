@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.relational.core.conversion.BatchingAggregateChange;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.DeleteAggregateChange;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for observing {@link DbAction} execution through {@link AggregateChangeExecutor}.
+ */
+class AggregateChangeExecutorObservationUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+
+	AggregateChangeExecutor executor = new AggregateChangeExecutor(converter, accessStrategy);
+
+	@Test
+	void observesBatchedActions() {
+
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		executor.setObservationRegistry(registry);
+
+		BatchingAggregateChange<DummyEntity, DeleteAggregateChange<DummyEntity>> change = BatchingAggregateChange
+				.forDelete(DummyEntity.class);
+		change.add(deleteChange(1L));
+		change.add(deleteChange(2L));
+
+		executor.executeDelete(change);
+
+		verify(accessStrategy).delete(List.<Object> of(1L, 2L), DummyEntity.class);
+		assertThat(registry).hasObservationWithNameEqualTo("spring.data.jdbc.action").that() //
+				.hasBeenStarted() //
+				.hasBeenStopped() //
+				.hasLowCardinalityKeyValue("spring.data.jdbc.entity", DummyEntity.class.getName()) //
+				.hasLowCardinalityKeyValue("spring.data.jdbc.action", "BatchDeleteRoot") //
+				.hasHighCardinalityKeyValue("spring.data.jdbc.batch.size", "2");
+	}
+
+	@Test
+	void executesActionsWithoutRegistry() {
+
+		executor.executeDelete(deleteChange(1L));
+
+		verify(accessStrategy).delete(1L, DummyEntity.class);
+	}
+
+	private static DeleteAggregateChange<DummyEntity> deleteChange(Object id) {
+
+		DeleteAggregateChange<DummyEntity> change = MutableAggregateChange.forDelete(DummyEntity.class);
+		change.addAction(new DbAction.DeleteRoot<>(id, DummyEntity.class, null));
+		return change;
+	}
+
+	static class DummyEntity {
+		@Id Long id;
+	}
+}
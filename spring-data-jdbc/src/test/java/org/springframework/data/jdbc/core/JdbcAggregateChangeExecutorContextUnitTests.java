@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.IdentifierGenerator;
 import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
@@ -213,6 +214,22 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(root.id).isNull();
 	}
 
+	@Test
+	void batchUpsertRootOperation() {
+
+		DummyEntity other = new DummyEntity();
+		root.id = 23L;
+		other.id = 42L;
+
+		executionContext.executeBatchUpsertRoot(new DbAction.BatchUpsertRoot<>(
+				List.of(new DbAction.UpsertRoot<>(root), new DbAction.UpsertRoot<>(other))));
+
+		List<DummyEntity> newRoots = executionContext.populateIdsIfNecessary();
+
+		verify(accessStrategy).upsertAll(List.of(root, other), DummyEntity.class);
+		assertThat(newRoots).containsExactly(root, other);
+	}
+
 	@Test // GH-1201
 	void updates_whenReferencesWithImmutableIdAreInserted() {
 
@@ -264,6 +281,59 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content2.id).isEqualTo(12L);
 	}
 
+	@Test
+	void preAssignsIdsForBatchInsertsUsingIdentifierGenerator() {
+
+		executionContext = new JdbcAggregateChangeExecutionContext(converter, accessStrategy,
+				List.of(new LongIdentifierGenerator()));
+
+		DummyEntity other = new DummyEntity();
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root, IdValueSource.GENERATED);
+		DbAction.InsertRoot<DummyEntity> otherInsert = new DbAction.InsertRoot<>(other, IdValueSource.GENERATED);
+		when(accessStrategy.insert(anyList(), eq(DummyEntity.class), eq(IdValueSource.PROVIDED)))
+				.thenReturn(new Object[] { null, null });
+		executionContext.executeBatchInsertRoot(new DbAction.BatchInsertRoot<>(List.of(rootInsert, otherInsert)));
+
+		Content content = new Content();
+		when(accessStrategy.insert(singletonList(InsertSubject.describedBy(content, createBackRef(2L))), Content.class,
+				IdValueSource.PROVIDED)).thenReturn(new Object[] { null });
+		executionContext.executeBatchInsert(new DbAction.BatchInsert<>(
+				singletonList(createInsert(otherInsert, "content", content, null, IdValueSource.GENERATED))));
+
+		List<DummyEntity> newRoots = executionContext.populateIdsIfNecessary();
+
+		assertThat(newRoots).containsExactly(root, other);
+		assertThat(root.id).isEqualTo(1L);
+		assertThat(other.id).isEqualTo(2L);
+		assertThat(content.id).isEqualTo(3L);
+		verify(accessStrategy, never()).insert(anyList(), any(), eq(IdValueSource.GENERATED));
+	}
+
+	@Test
+	void preAssignsIdsOfImmutableEntities() {
+
+		executionContext = new JdbcAggregateChangeExecutionContext(converter, accessStrategy,
+				List.of(new LongIdentifierGenerator()));
+
+		root.id = 123L;
+		DbAction.UpdateRoot<DummyEntity> rootUpdate = new DbAction.UpdateRoot<>(root, null);
+		when(accessStrategy.update(root, DummyEntity.class)).thenReturn(true);
+		executionContext.executeUpdateRoot(rootUpdate);
+
+		ContentImmutableId contentImmutableId = new ContentImmutableId(null);
+		root.contentImmutableId = contentImmutableId;
+		Identifier identifier = Identifier.empty().withPart(SqlIdentifier.quoted("DUMMY_ENTITY"), 123L, Long.class);
+		executionContext.executeInsert(
+				createInsert(rootUpdate, "contentImmutableId", contentImmutableId, null, IdValueSource.GENERATED));
+
+		List<DummyEntity> newRoots = executionContext.populateIdsIfNecessary();
+
+		verify(accessStrategy).insert(new ContentImmutableId(1L), ContentImmutableId.class, identifier,
+				IdValueSource.PROVIDED);
+		assertThat(newRoots).containsExactly(root);
+		assertThat(root.contentImmutableId.id).isEqualTo(1L);
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key, IdValueSource idValueSource) {
 
@@ -312,4 +382,24 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 	record ContentImmutableId(@Id Long id) {
 	}
 
+	static class LongIdentifierGenerator implements IdentifierGenerator {
+
+		long next = 1;
+
+		@Override
+		public boolean supports(RelationalPersistentProperty idProperty) {
+			return Long.class.equals(idProperty.getType());
+		}
+
+		@Override
+		public List<?> generate(RelationalPersistentProperty idProperty, int count) {
+
+			List<Long> ids = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				ids.add(next++);
+			}
+			return ids;
+		}
+	}
+
 }
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -53,6 +54,8 @@ import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallba
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link JdbcAggregateTemplate}.
@@ -417,6 +420,268 @@ public class JdbcAggregateTemplateUnitTests {
 				.withMessage("Required identifier property not found for class %s".formatted(NoIdEntity.class.getName()));
 	}
 
+	@Test
+	void writeBehindExecutesBufferedSavesBeforeCommit() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion first = new EntityWithVersion(1L);
+		first.setVersion(1L);
+		EntityWithVersion second = new EntityWithVersion(2L);
+		second.setVersion(1L);
+
+		inTransaction(() -> {
+
+			assertThat(template.save(first).getVersion()).isEqualTo(2L);
+			template.save(second);
+
+			verifyNoInteractions(dataAccessStrategy);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.beforeCommit(false));
+		});
+
+		verify(dataAccessStrategy).updateWithVersion(first, EntityWithVersion.class, 1L);
+		verify(dataAccessStrategy).updateWithVersion(second, EntityWithVersion.class, 1L);
+		verify(callbacks).callback(AfterSaveCallback.class, first);
+		verify(callbacks).callback(AfterSaveCallback.class, second);
+	}
+
+	@Test
+	void writeBehindFlushesBufferedSavesBeforeQuery() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion entity = new EntityWithVersion(1L);
+		entity.setVersion(1L);
+
+		inTransaction(() -> {
+
+			template.save(entity);
+			template.findById(1L, EntityWithVersion.class);
+		});
+
+		InOrder inOrder = inOrder(dataAccessStrategy);
+		inOrder.verify(dataAccessStrategy).updateWithVersion(entity, EntityWithVersion.class, 1L);
+		inOrder.verify(dataAccessStrategy).findById(1L, EntityWithVersion.class);
+	}
+
+	@Test
+	void writeBehindPreservesOrderOfInterleavedAggregateTypes() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion first = new EntityWithVersion(1L);
+		first.setVersion(1L);
+		EntityWithPrimitiveVersion other = new EntityWithPrimitiveVersion(2L);
+		other.setVersion(1L);
+		EntityWithVersion second = new EntityWithVersion(3L);
+		second.setVersion(1L);
+
+		inTransaction(() -> {
+
+			template.save(first);
+			template.save(other);
+			template.save(second);
+
+			verifyNoInteractions(dataAccessStrategy);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.beforeCommit(false));
+		});
+
+		InOrder inOrder = inOrder(dataAccessStrategy);
+		inOrder.verify(dataAccessStrategy).updateWithVersion(first, EntityWithVersion.class, 1L);
+		inOrder.verify(dataAccessStrategy).updateWithVersion(other, EntityWithPrimitiveVersion.class, 1L);
+		inOrder.verify(dataAccessStrategy).updateWithVersion(second, EntityWithVersion.class, 1L);
+	}
+
+	@Test
+	void writeBehindIsNotAppliedOutsideOfTransaction() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion entity = new EntityWithVersion(1L);
+		entity.setVersion(1L);
+
+		template.save(entity);
+
+		verify(dataAccessStrategy).updateWithVersion(entity, EntityWithVersion.class, 1L);
+	}
+
+	@Test
+	void writeBehindFlushesBeforeSavingSameAggregateTwice() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion entity = new EntityWithVersion(1L);
+		entity.setVersion(1L);
+
+		inTransaction(() -> {
+
+			template.save(entity);
+			verifyNoInteractions(dataAccessStrategy);
+
+			template.save(entity);
+			verify(dataAccessStrategy).updateWithVersion(entity, EntityWithVersion.class, 1L);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.beforeCommit(false));
+		});
+
+		verify(dataAccessStrategy).updateWithVersion(entity, EntityWithVersion.class, 2L);
+		assertThat(entity.getVersion()).isEqualTo(3L);
+	}
+
+	@Test
+	void writeBehindExecutesSavesWithGeneratedIdsImmediately() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+		when(dataAccessStrategy.insert(any(SampleEntity.class), eq(SampleEntity.class), any(Identifier.class),
+				eq(IdValueSource.GENERATED))).thenReturn(23L);
+
+		EntityWithVersion buffered = new EntityWithVersion(1L);
+		buffered.setVersion(1L);
+		SampleEntity generated = new SampleEntity(null, "Alfred");
+
+		inTransaction(() -> {
+
+			template.save(buffered);
+			SampleEntity saved = template.save(generated);
+
+			assertThat(saved.getId()).isEqualTo(23L);
+
+			InOrder inOrder = inOrder(dataAccessStrategy);
+			inOrder.verify(dataAccessStrategy).updateWithVersion(buffered, EntityWithVersion.class, 1L);
+			inOrder.verify(dataAccessStrategy).insert(generated, SampleEntity.class, Identifier.empty(),
+					IdValueSource.GENERATED);
+		});
+	}
+
+	@Test
+	void writeBehindDiscardsBufferedSavesOnRollback() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+
+		EntityWithVersion entity = new EntityWithVersion(1L);
+		entity.setVersion(1L);
+
+		inTransaction(() -> {
+
+			template.save(entity);
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+			template.flush();
+		});
+
+		verifyNoInteractions(dataAccessStrategy);
+	}
+
+	@Test
+	void writeBehindDiscardsSavesBufferedWithinRolledBackSavepoint() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion outer = new EntityWithVersion(1L);
+		outer.setVersion(1L);
+		EntityWithVersion nested = new EntityWithVersion(2L);
+		nested.setVersion(1L);
+		Object savepoint = new Object();
+
+		inTransaction(() -> {
+
+			template.save(outer);
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.savepoint(savepoint));
+
+			template.save(nested);
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.savepointRollbackTo(savepoint));
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.beforeCommit(false));
+		});
+
+		verify(dataAccessStrategy).updateWithVersion(outer, EntityWithVersion.class, 1L);
+		verify(dataAccessStrategy, never()).updateWithVersion(eq(nested), any(), any());
+		verify(callbacks, never()).callback(AfterSaveCallback.class, nested);
+	}
+
+	@Test
+	void writeBehindReExecutesSavesFlushedWithinRolledBackSavepoint() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+
+		EntityWithVersion entity = new EntityWithVersion(1L);
+		entity.setVersion(1L);
+		Object savepoint = new Object();
+
+		inTransaction(() -> {
+
+			template.save(entity);
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.savepoint(savepoint));
+
+			template.findById(1L, EntityWithVersion.class);
+			verify(dataAccessStrategy).updateWithVersion(entity, EntityWithVersion.class, 1L);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.savepointRollbackTo(savepoint));
+			TransactionSynchronizationManager.getSynchronizations().forEach(it -> it.beforeCommit(false));
+		});
+
+		verify(dataAccessStrategy, times(2)).updateWithVersion(entity, EntityWithVersion.class, 1L);
+		verify(callbacks).callback(AfterSaveCallback.class, entity);
+	}
+
+	@Test
+	void writeBehindIsNotAppliedWhenContainedEntitiesRequireGeneratedIds() {
+
+		template.setWriteBehindEnabled(true);
+		when(callbacks.callback(any(), any(), any(Object[].class))).thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.updateWithVersion(any(), any(), any())).thenReturn(true);
+		lenient().when(dataAccessStrategy.insert(any(), any(), any(Identifier.class), any())).thenReturn(5L);
+		lenient().when(dataAccessStrategy.insert(anyList(), any(), any())).thenReturn(new Object[] { 5L });
+
+		EntityWithChildren entity = new EntityWithChildren(1L);
+		entity.version = 1L;
+		entity.children = List.of(new ChildWithId(null, "child"));
+
+		inTransaction(() -> {
+
+			EntityWithChildren saved = template.save(entity);
+
+			verify(dataAccessStrategy).updateWithVersion(entity, EntityWithChildren.class, 1L);
+			assertThat(saved.children).extracting(ChildWithId::id).containsExactly(5L);
+		});
+	}
+
+	private void inTransaction(Runnable runnable) {
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		try {
+			runnable.run();
+		} finally {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(template);
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
 	private static class SampleEntity {
 
 		@Column("id1")
@@ -470,6 +735,22 @@ public class JdbcAggregateTemplateUnitTests {
 		}
 	}
 
+	private static class EntityWithChildren {
+
+		@Id private final Long id;
+
+		@Version private Long version;
+
+		private List<ChildWithId> children;
+
+		EntityWithChildren(Long id) {
+			this.id = id;
+		}
+	}
+
+	record ChildWithId(@Id Long id, String name) {
+	}
+
 	private static class EntityWithImmutableVersion {
 
 		@Column("id1")
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link CachingDataAccessStrategy}.
+ */
+class CachingDataAccessStrategyUnitTests {
+
+	DataAccessStrategy delegate = mock(DataAccessStrategy.class);
+	ConcurrentMapCache cache = new ConcurrentMapCache("aggregates");
+
+	CachingDataAccessStrategy strategy;
+
+	@BeforeEach
+	void before() {
+
+		JdbcConverter converter = new MappingJdbcConverter(new JdbcMappingContext(), mock(RelationResolver.class));
+		strategy = new CachingDataAccessStrategy(delegate, converter, cache, List.of(Cached.class, OtherCached.class));
+	}
+
+	@AfterEach
+	void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void findByIdReadsThroughCache() {
+
+		Cached entity = new Cached(1L, "one");
+		when(delegate.findById(1L, Cached.class)).thenReturn(entity);
+
+		assertThat(strategy.findById(1L, Cached.class)).isSameAs(entity);
+		assertThat(strategy.findById(1, Cached.class)).isSameAs(entity);
+		assertThat(strategy.findById("1", Cached.class)).isSameAs(entity);
+
+		verify(delegate, times(1)).findById(any(), eq(Cached.class));
+	}
+
+	@Test
+	void doesNotCacheAbsentAggregates() {
+
+		strategy.findById(1L, Cached.class);
+		strategy.findById(1L, Cached.class);
+
+		verify(delegate, times(2)).findById(1L, Cached.class);
+	}
+
+	@Test
+	void bypassesCacheForOtherTypes() {
+
+		when(delegate.findById(1L, NotCached.class)).thenReturn(new NotCached(1L));
+
+		strategy.findById(1L, NotCached.class);
+		strategy.findById(1L, NotCached.class);
+
+		verify(delegate, times(2)).findById(1L, NotCached.class);
+		assertThat(cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void findAllByIdQueriesMissesOnly() {
+
+		Cached one = new Cached(1L, "one");
+		Cached two = new Cached(2L, "two");
+		when(delegate.findById(1L, Cached.class)).thenReturn(one);
+		when(delegate.findAllById(List.of(2L), Cached.class)).thenReturn(List.of(two));
+
+		strategy.findById(1L, Cached.class);
+
+		assertThat(strategy.findAllById(List.of(1L, 2L), Cached.class)).containsExactly(one, two);
+		assertThat(strategy.findAllById(List.of(1L, 2L), Cached.class)).containsExactly(one, two);
+
+		verify(delegate, times(1)).findAllById(List.of(2L), Cached.class);
+	}
+
+	@Test
+	void updateEvictsAggregate() {
+
+		Cached entity = new Cached(1L, "one");
+		when(delegate.findById(1L, Cached.class)).thenReturn(entity);
+
+		strategy.findById(1L, Cached.class);
+		strategy.update(new Cached(1L, "changed"), Cached.class);
+		strategy.findById(1L, Cached.class);
+
+		verify(delegate, times(2)).findById(1L, Cached.class);
+	}
+
+	@Test
+	void deleteAllInvalidatesAggregatesOfThatTypeOnly() {
+
+		when(delegate.findById(1L, Cached.class)).thenReturn(new Cached(1L, "one"));
+		when(delegate.findById(1L, OtherCached.class)).thenReturn(new OtherCached(1L));
+
+		strategy.findById(1L, Cached.class);
+		strategy.findById(1L, OtherCached.class);
+
+		strategy.deleteAll(Cached.class);
+
+		strategy.findById(1L, Cached.class);
+		strategy.findById(1L, OtherCached.class);
+
+		verify(delegate).deleteAll(Cached.class);
+		verify(delegate, times(2)).findById(1L, Cached.class);
+		verify(delegate, times(1)).findById(1L, OtherCached.class);
+	}
+
+	@Test
+	void doesNotPopulateCacheWithStateLoadedBeforeEviction() {
+
+		when(delegate.findById(1L, Cached.class)).thenAnswer(invocation -> {
+
+			// concurrent writer evicts the aggregate while the read is in progress
+			strategy.update(new Cached(1L, "changed"), Cached.class);
+			return new Cached(1L, "stale");
+		});
+
+		strategy.findById(1L, Cached.class);
+
+		assertThat(cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void doesNotPopulateCacheWithinReadWriteTransaction() {
+
+		when(delegate.findById(1L, Cached.class)).thenReturn(new Cached(1L, "one"));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		strategy.findById(1L, Cached.class);
+
+		assertThat(cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void populatesCacheWithinReadOnlyTransaction() {
+
+		when(delegate.findById(1L, Cached.class)).thenReturn(new Cached(1L, "one"));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		strategy.findById(1L, Cached.class);
+
+		assertThat(cache.getNativeCache()).hasSize(1);
+	}
+
+	@Test
+	void evictsAgainAfterTransactionCompletion() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		strategy.delete(1L, Cached.class);
+
+		// concurrent reader outside the transaction re-populates the cache with the stale state
+		cache.put(new CachingDataAccessStrategy.CacheKey(Cached.class, 0, 1L), new Cached(1L, "stale"));
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		assertThat(synchronizations).hasSize(1);
+		synchronizations.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		assertThat(cache.getNativeCache()).isEmpty();
+		assertThat(TransactionSynchronizationManager.hasResource(strategy)).isFalse();
+	}
+
+	record Cached(@Id Long id, String name) {
+	}
+
+	record OtherCached(@Id Long id) {
+	}
+
+	record NotCached(@Id Long id) {
+	}
+}
@@ -16,19 +16,38 @@
 package org.springframework.data.jdbc.core.convert;
 
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.jdbc.core.dialect.JdbcHsqlDbDialect;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -113,6 +132,217 @@ class DefaultDataAccessStrategyUnitTests {
 		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.GENERATED, null);
 	}
 
+	@Test
+	void deleteByIdsSplitsLargeIdSetsIntoChunks() {
+
+		when(sqlParametersFactory.forQueryByIds(any(), any())).thenReturn(new SqlIdentifierParameterSource());
+
+		DefaultDataAccessStrategy strategy = createDefaultDataAccessStrategy();
+		strategy.setInListChunkSize(2);
+
+		strategy.delete(List.<Object> of(1L, 2L, 3L, 4L, 5L), DummyEntity.class);
+
+		verify(sqlParametersFactory).forQueryByIds(List.of(1L, 2L), DummyEntity.class);
+		verify(sqlParametersFactory).forQueryByIds(List.of(3L, 4L), DummyEntity.class);
+		verify(sqlParametersFactory).forQueryByIds(List.of(5L), DummyEntity.class);
+		verify(namedJdbcOperations, times(3)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findAllByIdQueriesChunksInParallelAndMergesInOrder() throws Exception {
+
+		when(sqlParametersFactory.forQueryByIds(any(), any()))
+				.thenAnswer(invocation -> new MapSqlParameterSource("ids", invocation.getArgument(0)));
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenAnswer(invocation -> {
+
+					List<Object> ids = (List<Object>) invocation.<SqlParameterSource> getArgument(1).getValue("ids");
+					return ids.stream().map(id -> new DummyEntity((Long) id)).toList();
+				});
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+
+			DefaultDataAccessStrategy strategy = createDefaultDataAccessStrategy();
+			strategy.setInListChunkSize(2);
+			strategy.setParallelFindAllById(executor, 2);
+
+			List<DummyEntity> result = strategy.findAllById(List.of(1L, 2L, 3L, 4L, 5L), DummyEntity.class);
+
+			assertThat(result).extracting(it -> it.id).containsExactly(1L, 2L, 3L, 4L, 5L);
+			verify(namedJdbcOperations, times(3)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findAllByIdPropagatesChunkFailure() {
+
+		when(sqlParametersFactory.forQueryByIds(any(), any())).thenReturn(new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenThrow(new DataRetrievalFailureException("boom"));
+
+		DefaultDataAccessStrategy strategy = createDefaultDataAccessStrategy();
+		strategy.setInListChunkSize(2);
+		strategy.setParallelFindAllById(Runnable::run, 2);
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class)
+				.isThrownBy(() -> strategy.findAllById(List.of(1L, 2L, 3L), DummyEntity.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findAllByIdRunsSingleQueryWithinTransactionSynchronization() {
+
+		when(sqlParametersFactory.forQueryByIds(any(), any())).thenReturn(new SqlIdentifierParameterSource());
+		Executor executor = mock(Executor.class);
+
+		DefaultDataAccessStrategy strategy = createDefaultDataAccessStrategy();
+		strategy.setInListChunkSize(2);
+		strategy.setParallelFindAllById(executor, 2);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			strategy.findAllById(List.of(1L, 2L, 3L), DummyEntity.class);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verifyNoInteractions(executor);
+		verify(namedJdbcOperations).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void upsertAllExecutesSingleBatch() {
+
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 1 });
+
+		createDefaultDataAccessStrategy().upsertAll(List.of(new DummyEntity(1L), new DummyEntity(2L)), DummyEntity.class);
+
+		verify(sqlParametersFactory, times(2)).forInsert(any(), eq(DummyEntity.class), eq(Identifier.empty()),
+				eq(IdValueSource.PROVIDED));
+		verify(namedJdbcOperations).batchUpdate(startsWith("MERGE INTO"),
+				argThat((SqlParameterSource[] sources) -> sources.length == 2));
+	}
+
+	@Test
+	void deleteWithVersionExecutesSingleBatch() {
+
+		when(sqlParametersFactory.forQueryById(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 1 });
+
+		createDefaultDataAccessStrategy().deleteWithVersion(List.of(Pair.of(1L, 3), Pair.of(2L, 5)),
+				VersionedEntity.class);
+
+		verify(namedJdbcOperations).batchUpdate(anyString(), argThat((SqlParameterSource[] sources) -> sources.length == 2));
+	}
+
+	@Test
+	void deleteWithVersionFailsForOutdatedVersionInBatch() {
+
+		when(sqlParametersFactory.forQueryById(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 0 });
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> createDefaultDataAccessStrategy()
+						.deleteWithVersion(List.of(Pair.of(1L, 3), Pair.of(2L, 5)), VersionedEntity.class));
+	}
+
+	@Test
+	void deleteWithVersionKeepsDuplicateIds() {
+
+		when(sqlParametersFactory.forQueryById(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 0 });
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> createDefaultDataAccessStrategy()
+						.deleteWithVersion(List.of(Pair.of(1L, 3), Pair.of(1L, 3)), VersionedEntity.class));
+
+		verify(namedJdbcOperations).batchUpdate(anyString(), argThat((SqlParameterSource[] sources) -> sources.length == 2));
+	}
+
+	@Test
+	void deleteWithVersionChecksRowsWithoutReportedUpdateCount() {
+
+		when(sqlParametersFactory.forQueryById(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class)))
+				.thenReturn(false, true);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> createDefaultDataAccessStrategy()
+						.deleteWithVersion(List.of(Pair.of(1L, 3), Pair.of(2L, 5)), VersionedEntity.class))
+				.withMessageContaining("id '2'");
+
+		verify(namedJdbcOperations, times(2)).queryForObject(anyString(), any(SqlParameterSource.class),
+				eq(Boolean.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void insertReusesStatementWithinTransaction() throws Exception {
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>> getArgument(0).doInConnection(connection));
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+		DefaultDataAccessStrategy strategy = createDefaultDataAccessStrategy();
+		strategy.setStatementReuse(true);
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+
+			strategy.insert(new DummyEntity(1L), DummyEntity.class, Identifier.empty(), IdValueSource.PROVIDED);
+			strategy.insert(new DummyEntity(2L), DummyEntity.class, Identifier.empty(), IdValueSource.PROVIDED);
+
+			verify(connection).prepareStatement(startsWith("INSERT INTO"));
+			verify(statement, times(2)).executeUpdate();
+			verifyNoInteractions(insertStrategyFactory);
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		verify(statement).close();
+	}
+
+	@Test
+	void insertWithGeneratedIdDoesNotReuseStatements() {
+
+		DefaultDataAccessStrategy strategy = createDefaultDataAccessStrategy();
+		strategy.setStatementReuse(true);
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			strategy.insert(new DummyEntity(null), DummyEntity.class, Identifier.empty(), IdValueSource.GENERATED);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		verify(insertStrategyFactory).insertStrategy(IdValueSource.GENERATED, SqlIdentifier.quoted("ID"));
+		verifyNoInteractions(jdbcOperations);
+	}
+
+	private DefaultDataAccessStrategy createDefaultDataAccessStrategy() {
+
+		return new DefaultDataAccessStrategy(new SqlGeneratorSource(context, converter, JdbcHsqlDbDialect.INSTANCE),
+				context, converter, namedJdbcOperations, sqlParametersFactory, insertStrategyFactory,
+				QueryMappingConfiguration.EMPTY);
+	}
+
 	private static class DummyEntity {
 
 		@Id private final Long id;
@@ -122,6 +352,12 @@ class DefaultDataAccessStrategyUnitTests {
 		}
 	}
 
+	private static class VersionedEntity {
+
+		@Id private Long id;
+		@Version private long version;
+	}
+
 	private static class DummyEntityWithoutIdAnnotation {
 
 		private final Long id;
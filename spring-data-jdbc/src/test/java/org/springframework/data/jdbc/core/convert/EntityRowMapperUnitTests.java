@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,9 +47,12 @@ import org.springframework.data.annotation.Transient;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
+import org.springframework.data.relational.core.mapping.MappedCollection;
+import org.springframework.data.relational.core.mapping.MappedCollection.Fetch;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -226,6 +230,75 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_REFERENCING_MAP, "alpha", 2);
 	}
 
+	@Test
+	void collectionReferenceExcludedByPathFilterIsNotLoaded() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		OneToSet extracted = createRowMapper(OneToSet.class, DefaultNamingStrategy.INSTANCE,
+				path -> path.getRequiredBaseProperty().getName().equals("children")).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.children.size()) //
+				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", 0);
+	}
+
+	@Test
+	void mapReferenceExcludedByPathFilterIsNotLoaded() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		OneToMap extracted = createRowMapper(OneToMap.class, DefaultNamingStrategy.INSTANCE,
+				path -> path.getRequiredBaseProperty().getName().equals("children")).mapRow(rs, 1);
+
+		assertThat(extracted) //
+				.isNotNull() //
+				.extracting(e -> e.id, e -> e.name, e -> e.children.size()) //
+				.containsExactly(ID_FOR_ENTITY_REFERENCING_MAP, "alpha", 0);
+	}
+
+	@Test
+	void lazyCollectionReferenceIsLoadedOnFirstAccess() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		DataAccessStrategy accessStrategy = createAccessStrategy();
+		LazyOneToSet extracted = createRowMapper(LazyOneToSet.class, DefaultNamingStrategy.INSTANCE, path -> false,
+				accessStrategy).mapRow(rs, 1);
+
+		verify(accessStrategy, never()).findAllByPath(any(), any());
+
+		assertThat(extracted.children).extracting(Trivial::getName).containsExactlyInAnyOrder("one", "two");
+		assertThat(extracted.children).hasSize(2);
+
+		verify(accessStrategy).findAllByPath(any(), any());
+	}
+
+	@Test
+	void lazyMapReferenceIsLoadedOnFirstAccess() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_REFERENCING_MAP, "alpha");
+		rs.next();
+
+		DataAccessStrategy accessStrategy = createAccessStrategy();
+		LazyOneToMap extracted = createRowMapper(LazyOneToMap.class, DefaultNamingStrategy.INSTANCE, path -> false,
+				accessStrategy).mapRow(rs, 1);
+
+		verify(accessStrategy, never()).findAllByPath(any(), any());
+
+		assertThat(extracted.children).containsOnlyKeys("one", "two");
+
+		verify(accessStrategy).findAllByPath(any(), any());
+	}
+
 	@Test // DATAJDBC-130
 	void listReferenceGetsLoadedWithAdditionalSelect() throws SQLException {
 
@@ -910,6 +983,20 @@ public class EntityRowMapperUnitTests {
 		Map<String, Trivial> children;
 	}
 
+	static class LazyOneToSet {
+
+		@Id Long id;
+		String name;
+		@MappedCollection(fetch = Fetch.LAZY) Set<Trivial> children;
+	}
+
+	static class LazyOneToMap {
+
+		@Id Long id;
+		String name;
+		@MappedCollection(fetch = Fetch.LAZY) Map<String, Trivial> children;
+	}
+
 	static class OneToList {
 
 		@Id Long id;
@@ -1028,11 +1115,34 @@ public class EntityRowMapperUnitTests {
 		return createRowMapper(type, DefaultNamingStrategy.INSTANCE);
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy) {
+		return createRowMapper(type, namingStrategy, path -> false);
+	}
+
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			Predicate<AggregatePath> pathFilter) {
+		return createRowMapper(type, namingStrategy, pathFilter, createAccessStrategy());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			Predicate<AggregatePath> pathFilter, DataAccessStrategy accessStrategy) {
 
 		RelationalMappingContext context = JdbcMappingContext.forQuotedIdentifiers(namingStrategy);
 
+		MappingJdbcConverter converter = new MappingJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
+				JdbcTypeFactory.unsupported());
+
+		return new EntityRowMapper<>( //
+				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
+				converter, //
+				pathFilter //
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private DataAccessStrategy createAccessStrategy() {
+
 		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
 
 		// the ID of the entity is used to determine what kind of ResultSet is needed for subsequent selects.
@@ -1063,13 +1173,7 @@ public class EntityRowMapperUnitTests {
 		doReturn(simpleEntriesWithInts).when(accessStrategy)
 				.findAllByPath(identifierOfValue(ID_FOR_ENTITY_REFERENCING_LIST), any(PersistentPropertyPath.class));
 
-		MappingJdbcConverter converter = new MappingJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
-				JdbcTypeFactory.unsupported());
-
-		return new EntityRowMapper<>( //
-				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
-				converter //
-		);
+		return accessStrategy;
 	}
 
 	private Identifier identifierOfValue(long value) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.domain.RowDocument;
+
+/**
+ * Unit tests for {@link SqlGenerationEvent}, {@link StatementExecutionEvent} and {@link RowMappingEvent}.
+ */
+class FlightRecorderEventsUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	MappingJdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> List.of());
+
+	@Test
+	void recordsSqlGeneration() throws IOException {
+
+		SqlGenerator generator = new SqlGenerator(context, converter,
+				context.getRequiredPersistentEntity(EventEntity.class), JdbcH2Dialect.INSTANCE);
+
+		List<RecordedEvent> events = record(SqlGenerationEvent.class, generator::getFindOne);
+
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getClass("entityType").getName()).isEqualTo(EventEntity.class.getName());
+			assertThat(event.getString("statementKind")).isEqualTo("SELECT");
+		});
+	}
+
+	@Test
+	void recordsStatementExecution() throws IOException {
+
+		List<RecordedEvent> events = record(StatementExecutionEvent.class, () -> StatementExecutionEvent.start()
+				.finish(EventEntity.class, "children", " DELETE FROM event_entity WHERE id = :id", 3));
+
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getClass("entityType").getName()).isEqualTo(EventEntity.class.getName());
+			assertThat(event.getString("statementKind")).isEqualTo("DELETE");
+			assertThat(event.getString("aggregatePath")).isEqualTo("children");
+			assertThat(event.getString("sql")).isEqualTo(" DELETE FROM event_entity WHERE id = :id");
+			assertThat(event.getInt("rowCount")).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void recordsOneRowMappingEventPerRow() throws IOException {
+
+		List<RecordedEvent> events = record(RowMappingEvent.class, () -> {
+
+			assertThat(RowMappingEvent.isRecording()).isTrue();
+
+			converter.readAndResolve(EventEntity.class, new RowDocument(Map.of("ID", 1L, "NAME", "one")));
+			converter.readAndResolve(EventEntity.class, new RowDocument(Map.of("ID", 2L, "NAME", "two")));
+		});
+
+		assertThat(events).hasSize(2).allSatisfy(event -> {
+			assertThat(event.getString("aggregatePath")).isEmpty();
+			assertThat(event.getInt("rowCount")).isOne();
+		});
+	}
+
+	/**
+	 * Run {@code action} within a recording of {@code eventType} and return the events recorded for
+	 * {@link EventEntity}.
+	 */
+	private static List<RecordedEvent> record(Class<? extends Event> eventType, Runnable action) throws IOException {
+
+		Path file = Files.createTempFile("spring-data-jdbc", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(eventType);
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file).stream() //
+					.filter(it -> it.getClass("entityType") != null
+							&& it.getClass("entityType").getName().equals(EventEntity.class.getName())) //
+					.toList();
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	record EventEntity(@Id Long id, String name) {
+	}
+}
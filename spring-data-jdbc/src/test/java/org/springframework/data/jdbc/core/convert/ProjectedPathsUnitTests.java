@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+
+/**
+ * Unit tests for {@link ProjectedPaths}.
+ */
+class ProjectedPathsUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+
+	@Test
+	void shouldNotExcludeRootPath() {
+
+		Predicate<AggregatePath> filter = ProjectedPaths.excludedBy(List.of("name"));
+
+		assertThat(filter.test(context.getAggregatePath(context.getRequiredPersistentEntity(Parent.class)))).isFalse();
+	}
+
+	@Test
+	void shouldExcludePathsOfPropertiesNotProjected() {
+
+		Predicate<AggregatePath> filter = ProjectedPaths.excludedBy(List.of("name", "favorite"));
+
+		assertThat(filter.test(path("name"))).isFalse();
+		assertThat(filter.test(path("favorite"))).isFalse();
+		assertThat(filter.test(path("favorite.name"))).isFalse();
+		assertThat(filter.test(path("children"))).isTrue();
+		assertThat(filter.test(path("children.name"))).isTrue();
+	}
+
+	private AggregatePath path(String path) {
+		return context.getAggregatePath(context.getPersistentPropertyPath(path, Parent.class));
+	}
+
+	record Parent(@Id Long id, String name, Child favorite, List<Child> children) {
+	}
+
+	record Child(String name) {
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.dialect.JdbcDb2Dialect;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
+import org.springframework.data.jdbc.core.dialect.JdbcHsqlDbDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcOracleDialect;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.Sequence;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link SequenceIdentifierGenerator}.
+ */
+class SequenceIdentifierGeneratorUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+
+	@Test
+	void fetchesValuesWithSingleQueryOnPostgres() {
+		assertThat(generateWithSingleQuery(JdbcPostgresDialect.INSTANCE)).startsWith("SELECT nextval(")
+				.endsWith(" FROM generate_series(1, 3)");
+	}
+
+	@Test
+	void fetchesValuesWithSingleQueryOnOracle() {
+		assertThat(generateWithSingleQuery(JdbcOracleDialect.INSTANCE)).startsWith("SELECT ")
+				.endsWith(".nextval FROM DUAL CONNECT BY LEVEL <= 3");
+	}
+
+	@Test
+	void fetchesValuesWithSingleQueryOnH2() {
+		assertThat(generateWithSingleQuery(JdbcH2Dialect.INSTANCE)).startsWith("SELECT NEXT VALUE FOR ")
+				.endsWith(" FROM SYSTEM_RANGE(1, 3)");
+	}
+
+	@Test
+	void fetchesValuesWithSingleQueryOnHsqlDb() {
+		assertThat(generateWithSingleQuery(JdbcHsqlDbDialect.INSTANCE)).startsWith("SELECT NEXT VALUE FOR ")
+				.endsWith(" FROM UNNEST(SEQUENCE_ARRAY(1, 3, 1))");
+	}
+
+	@Test
+	void queriesSequenceOncePerValueIfDialectCannotFetchMultipleValues() {
+
+		when(operations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(1L,
+				2L, 3L);
+
+		List<?> ids = new SequenceIdentifierGenerator(JdbcDb2Dialect.INSTANCE, operations).generate(idProperty(), 3);
+
+		assertThat(ids).containsExactly(1L, 2L, 3L);
+		verify(operations, times(3)).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(operations, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void queriesSingleValueWithoutBatchQuery() {
+
+		when(operations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(1);
+
+		List<?> ids = new SequenceIdentifierGenerator(JdbcPostgresDialect.INSTANCE, operations).generate(idProperty(), 1);
+
+		assertThat(ids).containsExactly(1L);
+		verify(operations, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void rejectsIncompleteSequenceValues() {
+
+		doReturn(List.of(1, 2)).when(operations).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+		SequenceIdentifierGenerator generator = new SequenceIdentifierGenerator(JdbcPostgresDialect.INSTANCE, operations);
+
+		assertThatIllegalStateException().isThrownBy(() -> generator.generate(idProperty(), 3));
+	}
+
+	private String generateWithSingleQuery(Dialect dialect) {
+
+		doReturn(List.of(1, 2, 3)).when(operations).query(anyString(), any(SqlParameterSource.class),
+				any(RowMapper.class));
+
+		List<?> ids = new SequenceIdentifierGenerator(dialect, operations).generate(idProperty(), 3);
+
+		assertThat(ids).containsExactly(1L, 2L, 3L);
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(operations).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(operations, never()).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+		return sql.getValue();
+	}
+
+	RelationalPersistentProperty idProperty() {
+		return context.getRequiredPersistentEntity(WithSequence.class).getRequiredIdProperty();
+	}
+
+	record WithSequence(@Id @Sequence("id_seq") Long id) {
+	}
+}
@@ -55,6 +55,7 @@ import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.Aliased;
 import org.springframework.data.relational.core.sql.Comparison;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -154,6 +155,20 @@ class SqlGeneratorUnitTests {
 				.doesNotContain("Element AS elements"));
 	}
 
+	@Test
+	void getAcquireLockByIdIn() {
+
+		String sql = sqlGenerator.getAcquireLockByIdIn(LockMode.PESSIMISTIC_WRITE);
+
+		assertSoftly(softly -> softly //
+				.assertThat(sql) //
+				.startsWith("SELECT") //
+				.contains("dummy_entity.id1") //
+				.contains("WHERE dummy_entity.id1 IN (:ids)") //
+				.contains("FOR UPDATE") //
+				.doesNotContain("Element AS elements"));
+	}
+
 	@Test // DATAJDBC-493
 	void getAcquireLockAll() {
 
@@ -378,6 +393,17 @@ class SqlGeneratorUnitTests {
 		);
 	}
 
+	@Test
+	void selectByQueryAppliesLock() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, JdbcPostgresDialect.INSTANCE);
+		Query query = Query.query(Criteria.where("id").is(23L)).lock(LockMode.PESSIMISTIC_WRITE, LockWait.skipLocked());
+
+		String sql = sqlGenerator.selectByQuery(query, new MapSqlParameterSource());
+
+		assertThat(sql).endsWith("FOR UPDATE OF \"dummy_entity\" SKIP LOCKED");
+	}
+
 	@Test // GH-1803
 	void selectByQueryWithColumnLimit() {
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.jdbc.core.dialect.JdbcHsqlDbDialect;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * Unit tests for {@link StreamingQueryUtils}.
+ */
+class StreamingQueryUtilsUnitTests {
+
+	NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+	JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+	RowMapper<Object> rowMapper = (rs, rowNum) -> rs.getObject(1);
+
+	@Test
+	void usesNamedParameterOperationsForDefaultHints() {
+
+		MapSqlParameterSource parameters = new MapSqlParameterSource("id", 1);
+
+		StreamingQueryUtils.queryForStream(operations, JdbcHsqlDbDialect.INSTANCE, "SELECT * FROM t WHERE id = :id",
+				parameters, rowMapper, StreamingHints.DEFAULT);
+
+		verify(operations).queryForStream("SELECT * FROM t WHERE id = :id", parameters, rowMapper);
+		verifyNoInteractions(jdbcOperations);
+	}
+
+	@Test
+	void appliesStreamingHintsToStatement() throws Exception {
+
+		when(operations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		StreamingQueryUtils.queryForStream(operations, JdbcHsqlDbDialect.INSTANCE, "SELECT * FROM t WHERE id = :id",
+				new MapSqlParameterSource("id", 1), rowMapper, StreamingHints.of(250));
+
+		ArgumentCaptor<PreparedStatementCreator> captor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).queryForStream(captor.capture(), eq(rowMapper));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement("SELECT * FROM t WHERE id = ?")).thenReturn(statement);
+
+		assertThat(captor.getValue().createPreparedStatement(connection)).isSameAs(statement);
+
+		verify(statement).setFetchSize(250);
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link TransactionalStatementReuse}.
+ *
+ * @since 4.2
+ */
+class TransactionalStatementReuseUnitTests {
+
+	static final String UPDATE = "UPDATE person SET name = :name WHERE id = :id";
+
+	NamedParameterJdbcOperations namedOperations = mock(NamedParameterJdbcOperations.class);
+	JdbcOperations operations = mock(JdbcOperations.class);
+	Connection connection = mock(Connection.class);
+	PreparedStatement statement = mock(PreparedStatement.class);
+
+	TransactionalStatementReuse reuse = new TransactionalStatementReuse(namedOperations);
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void before() throws Exception {
+
+		when(namedOperations.getJdbcOperations()).thenReturn(operations);
+		when(operations.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>> getArgument(0).doInConnection(connection));
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(statement.executeUpdate()).thenReturn(1);
+	}
+
+	@AfterEach
+	void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.unbindResourceIfPossible(reuse);
+	}
+
+	@Test
+	void delegatesOutsideOfTransaction() {
+
+		when(namedOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+
+		assertThat(reuse.update(UPDATE, parameters(1L, "Bilbo"))).isOne();
+
+		verify(namedOperations).update(eq(UPDATE), any(SqlParameterSource.class));
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void reusesStatementWithinTransaction() throws Exception {
+
+		beginTransaction();
+
+		assertThat(reuse.update(UPDATE, parameters(1L, "Bilbo"))).isOne();
+		assertThat(reuse.update(UPDATE, parameters(2L, "Frodo"))).isOne();
+
+		verify(connection).prepareStatement("UPDATE person SET name = ? WHERE id = ?");
+		verify(statement, times(2)).executeUpdate();
+		verify(statement).setString(1, "Frodo");
+		verify(statement).setObject(2, 2L);
+		verify(statement, never()).close();
+
+		completeTransaction();
+
+		verify(statement).close();
+		assertThat(TransactionSynchronizationManager.hasResource(reuse)).isFalse();
+	}
+
+	@Test
+	void preparesStatementPerSql() throws Exception {
+
+		beginTransaction();
+
+		reuse.update(UPDATE, parameters(1L, "Bilbo"));
+		reuse.update("DELETE FROM person WHERE id = :id", parameters(1L, "Bilbo"));
+
+		verify(connection, times(2)).prepareStatement(anyString());
+
+		completeTransaction();
+
+		verify(statement, times(2)).close();
+	}
+
+	@Test
+	void keepsStatementsAcrossSuspendAndResume() throws Exception {
+
+		beginTransaction();
+
+		reuse.update(UPDATE, parameters(1L, "Bilbo"));
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+		synchronizations.forEach(TransactionSynchronization::suspend);
+
+		assertThat(TransactionSynchronizationManager.hasResource(reuse)).isFalse();
+		verify(statement, never()).close();
+
+		synchronizations.forEach(TransactionSynchronization::resume);
+		reuse.update(UPDATE, parameters(2L, "Frodo"));
+
+		verify(connection).prepareStatement(anyString());
+		verify(statement, times(2)).executeUpdate();
+
+		completeTransaction();
+
+		verify(statement).close();
+	}
+
+	@Test
+	void closesStatementsExceedingLimitAfterExecution() throws Exception {
+
+		beginTransaction();
+
+		for (int i = 0; i <= TransactionalStatementReuse.MAX_STATEMENTS_PER_TRANSACTION; i++) {
+			reuse.update("DELETE FROM person_" + i + " WHERE id = :id", parameters(1L, "Bilbo"));
+		}
+
+		verify(connection, times(TransactionalStatementReuse.MAX_STATEMENTS_PER_TRANSACTION + 1))
+				.prepareStatement(anyString());
+		verify(statement).close();
+
+		completeTransaction();
+
+		verify(statement, times(TransactionalStatementReuse.MAX_STATEMENTS_PER_TRANSACTION + 1)).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void appliesStatementSettingsOfJdbcTemplateForEachExecution() throws Exception {
+
+		JdbcTemplate template = mock(JdbcTemplate.class);
+		when(template.getFetchSize()).thenReturn(-1);
+		when(template.getMaxRows()).thenReturn(-1);
+		when(template.getQueryTimeout()).thenReturn(5);
+		when(template.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>> getArgument(0).doInConnection(connection));
+		when(namedOperations.getJdbcOperations()).thenReturn(template);
+
+		beginTransaction();
+
+		reuse.update(UPDATE, parameters(1L, "Bilbo"));
+		reuse.update(UPDATE, parameters(2L, "Frodo"));
+
+		verify(statement, times(2)).setQueryTimeout(5);
+		verify(statement, never()).setFetchSize(anyInt());
+		verify(statement, never()).setMaxRows(anyInt());
+
+		completeTransaction();
+	}
+
+	private static SqlParameterSource parameters(long id, String name) {
+		return new MapSqlParameterSource("id", id).addValue("name", name);
+	}
+
+	private static void beginTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+	}
+
+	private static void completeTransaction() {
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+}
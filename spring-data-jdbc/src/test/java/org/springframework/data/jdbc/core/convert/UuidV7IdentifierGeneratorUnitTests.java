@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Unit tests for {@link UuidV7IdentifierGenerator}.
+ */
+class UuidV7IdentifierGeneratorUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+
+	@Test
+	void supportsUuidIdentifiersOnly() {
+
+		assertThat(IdentifierGenerator.uuidV7().supports(idProperty(WithUuid.class))).isTrue();
+		assertThat(IdentifierGenerator.uuidV7().supports(idProperty(WithLong.class))).isFalse();
+	}
+
+	@Test
+	void generatesDistinctVersion7Uuids() {
+
+		List<?> ids = IdentifierGenerator.uuidV7().generate(idProperty(WithUuid.class), 100);
+
+		assertThat(ids).hasSize(100).doesNotHaveDuplicates().allSatisfy(it -> {
+
+			UUID uuid = (UUID) it;
+			assertThat(uuid.version()).isEqualTo(7);
+			assertThat(uuid.variant()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void encodesTimestampInMostSignificantBits() {
+
+		UUID earlier = UuidV7IdentifierGenerator.next(1_700_000_000_000L);
+		UUID later = UuidV7IdentifierGenerator.next(1_700_000_000_001L);
+
+		assertThat(earlier.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+		assertThat(earlier.toString()).isLessThan(later.toString());
+	}
+
+	RelationalPersistentProperty idProperty(Class<?> type) {
+		return context.getRequiredPersistentEntity(type).getRequiredIdProperty();
+	}
+
+	record WithUuid(@Id UUID id) {
+	}
+
+	record WithLong(@Id Long id) {
+	}
+}
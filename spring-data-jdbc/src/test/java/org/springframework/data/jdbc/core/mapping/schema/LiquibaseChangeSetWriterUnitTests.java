@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import liquibase.change.Change;
 import liquibase.change.ColumnConfig;
 import liquibase.change.core.AddForeignKeyConstraintChange;
+import liquibase.change.core.CreateIndexChange;
 import liquibase.change.core.CreateTableChange;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
@@ -28,14 +29,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.mapping.schema.LiquibaseChangeSetWriter.ChangeSetMetadata;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.repository.CrudRepository;
 
 /**
  * Unit tests for {@link LiquibaseChangeSetWriter}.
@@ -175,6 +179,87 @@ class LiquibaseChangeSetWriterUnitTests {
 
 	}
 
+	@Test
+	void doesNotCreateIndexesByDefault() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(DifferentTables.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(changeSet.getChanges()).noneMatch(CreateIndexChange.class::isInstance);
+	}
+
+	@Test
+	void createsIndexOnBackReferenceColumn() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(DifferentTables.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+		writer.setForeignKeyIndexes(true);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(getCreateIndexes(changeSet)).extracting(CreateIndexChange::getTableName, this::getIndexColumns)
+				.containsExactly(Tuple.tuple("table_with_fk_field", "tables_id"));
+	}
+
+	@Test
+	void createsIndexOnBackReferenceAndKeyColumn() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(ListOfOtherTables.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+		writer.setForeignKeyIndexes(true);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(getCreateIndexes(changeSet)).extracting(CreateIndexChange::getTableName, this::getIndexColumns)
+				.containsExactly(Tuple.tuple("other_table", "list_of_other_tables,list_of_other_tables_key"));
+	}
+
+	@Test
+	void skipsIndexForColumnsLeadingThePrimaryKey() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(ListOfMapOfNoIdTables.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+		writer.setForeignKeyIndexes(true);
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(getCreateIndexes(changeSet)).isEmpty();
+	}
+
+	@Test
+	void createsIndexesForDerivedQueries() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.getRequiredPersistentEntity(VariousTypes.class);
+
+		LiquibaseChangeSetWriter writer = new LiquibaseChangeSetWriter(context);
+		writer.setIndexedRepositories(List.of(VariousTypesRepository.class));
+
+		ChangeSet changeSet = writer.createChangeSet(ChangeSetMetadata.create(), new DatabaseChangeLog());
+
+		assertThat(getCreateIndexes(changeSet)).extracting(CreateIndexChange::getTableName, this::getIndexColumns)
+				.containsExactlyInAnyOrder(Tuple.tuple("various_types", "luke_i_am_your_father,dark_side,floater"),
+						Tuple.tuple("various_types", "integer_class"));
+	}
+
+	List<CreateIndexChange> getCreateIndexes(ChangeSet changeSet) {
+		return changeSet.getChanges().stream().filter(CreateIndexChange.class::isInstance)
+				.map(CreateIndexChange.class::cast).toList();
+	}
+
+	String getIndexColumns(CreateIndexChange change) {
+		return change.getColumns().stream().map(ColumnConfig::getName).collect(Collectors.joining(","));
+	}
 
 	void assertCreateTable(ChangeSet changeSet, String tableName, Tuple... columnTuples) {
 		Optional<Change> createTableOptional = changeSet.getChanges().stream().filter(change -> change instanceof CreateTableChange createTableChange && createTableChange.getTableName().equals(tableName)).findFirst();
@@ -208,6 +293,24 @@ class LiquibaseChangeSetWriterUnitTests {
 		Integer integerClass;
 	}
 
+	interface VariousTypesRepository extends CrudRepository<VariousTypes, Long> {
+
+		List<VariousTypes> findByLukeIAmYourFatherAndDarkSideOrderByFloater(String luke, Boolean darkSide);
+
+		List<VariousTypes> findByIntegerClassOrId(Integer integerClass, long id);
+
+		List<VariousTypes> findByLukeIAmYourFather(String luke);
+
+		@Query("SELECT * FROM various_types WHERE double_class = :doubleClass")
+		List<VariousTypes> findByDoubleClass(Double doubleClass);
+	}
+
+	@org.springframework.data.relational.core.mapping.Table
+	static class ListOfOtherTables {
+		@Id int id;
+		@MappedCollection List<OtherTable> others;
+	}
+
 	@org.springframework.data.relational.core.mapping.Table
 	static class OtherTable {
 		@Id long id;
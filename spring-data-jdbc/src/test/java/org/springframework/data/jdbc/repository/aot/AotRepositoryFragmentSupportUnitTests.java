@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.query.RowMapperFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+
+/**
+ * Unit tests for {@link AotRepositoryFragmentSupport}.
+ */
+class AotRepositoryFragmentSupportUnitTests {
+
+	JdbcAggregateOperations operations = mock(JdbcAggregateOperations.class);
+	DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+
+	@Test
+	void flushesPendingSavesBeforeProvidingJdbcOperations() {
+
+		JdbcConverter converter = new MappingJdbcConverter(new JdbcMappingContext(), (identifier, path) -> null);
+
+		when(operations.getConverter()).thenReturn(converter);
+		when(operations.getDataAccessStrategy()).thenReturn(accessStrategy);
+		when(accessStrategy.getDialect()).thenReturn(JdbcH2Dialect.INSTANCE);
+		when(accessStrategy.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		AotRepositoryFragmentSupport support = new AotRepositoryFragmentSupport(operations, mock(RowMapperFactory.class),
+				mock(RepositoryMetadata.class), mock(ValueExpressionDelegate.class), new SpelAwareProxyProjectionFactory()) {};
+
+		assertThat(support.getJdbcOperations()).isSameAs(jdbcOperations);
+
+		InOrder inOrder = inOrder(operations, accessStrategy);
+		inOrder.verify(operations).flush();
+		inOrder.verify(accessStrategy).getJdbcOperations();
+	}
+}
@@ -189,6 +189,14 @@ class JdbcRepositoryContributorIntegrationTests {
 		assertThat(users).hasSize(2);
 	}
 
+	@Test
+	void shouldFindWithLockWaitPolicy() {
+
+		List<User> users = fragment.findLockedByAgeGreaterThan(60);
+
+		assertThat(users).extracting(User::getFirstname).containsExactlyInAnyOrder("Mike", "Hector");
+	}
+
 	@Test // GH-2175
 	void shouldReturnStreamable() {
 
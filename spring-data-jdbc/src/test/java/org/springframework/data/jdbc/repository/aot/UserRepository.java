@@ -26,6 +26,9 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
+import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.util.Streamable;
@@ -74,6 +77,9 @@ public interface UserRepository extends CrudRepository<User, Integer> {
 
 	Streamable<User> findStreamableByAgeGreaterThan(Pageable pageable, int age);
 
+	@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWait.Policy.SKIP_LOCKED)
+	List<User> findLockedByAgeGreaterThan(int age);
+
 	// -------------------------------------------------------------------------
 	// Declared Queries
 	// -------------------------------------------------------------------------
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.jdbc.core.dialect.StreamingHints;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.sql.LockMode;
@@ -148,10 +149,30 @@ public class JdbcQueryMethodUnitTests {
 		assertThat(queryMethodWithWriteLock.lookupLockAnnotation()).isEmpty();
 	}
 
+	@Test
+	void returnsStreamingHints() throws NoSuchMethodException {
+
+		JdbcQueryMethod queryMethod = createJdbcQueryMethod("queryMethodWithStreaming");
+
+		assertThat(queryMethod.getStreamingHints()).isEqualTo(new StreamingHints(500, true, false));
+	}
+
+	@Test
+	void returnsDefaultStreamingHintsIfNotAnnotated() throws NoSuchMethodException {
+
+		JdbcQueryMethod queryMethod = createJdbcQueryMethod("queryMethodName");
+
+		assertThat(queryMethod.getStreamingHints()).isEqualTo(StreamingHints.DEFAULT);
+	}
+
 	@Lock(LockMode.PESSIMISTIC_WRITE)
 	@Query
 	private void queryMethodWithWriteLock() {}
 
+	@Streaming(fetchSize = 500, forwardOnly = false)
+	@Query
+	private void queryMethodWithStreaming() {}
+
 	@Lock(LockMode.PESSIMISTIC_READ)
 	@Query
 	private void queryMethodWithReadLock() {}
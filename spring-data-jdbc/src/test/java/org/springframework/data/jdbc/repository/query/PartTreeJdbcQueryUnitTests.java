@@ -56,6 +56,7 @@ import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -176,6 +177,40 @@ public class PartTreeJdbcQueryUnitTests {
 		});
 	}
 
+	@Test
+	void createQueryWithSkipLockedWaitPolicy() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByLastName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Krupitza" }),
+				returnedType);
+
+		assertThat(query.getQuery().toUpperCase()).endsWith("FOR UPDATE SKIP LOCKED");
+	}
+
+	@Test
+	void createQueryWithLockTimeout() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAge", Integer.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { 22 }), returnedType);
+
+		assertThat(query.getQuery().toUpperCase()).endsWith("FOR UPDATE WAIT 5");
+	}
+
+	@Test
+	void rejectsLockTimeoutNotSupportedByDialectOnQueryCreation() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAge", Integer.class);
+
+		assertThatExceptionOfType(QueryCreationException.class)
+				.isThrownBy(() -> new PartTreeJdbcQuery(mappingContext, queryMethod, JdbcPostgresDialect.INSTANCE, converter,
+						mock(NamedParameterJdbcOperations.class), mock(RowMapper.class)))
+				.withRootCauseInstanceOf(UnsupportedOperationException.class);
+	}
+
 	@Test // DATAJDBC-318
 	void shouldFailForQueryByList() throws Exception {
 
@@ -258,6 +293,49 @@ public class PartTreeJdbcQueryUnitTests {
 				.contains(" WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
 	}
 
+	@Test
+	void reusesRenderedQueryForSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }), returnedType);
+
+		assertThat(second.getQuery()).isEqualTo(first.getQuery());
+		assertThat(second.getParameterSource().getParameterNames()).containsExactly("first_name");
+		assertThat(second.getParameterSource().getValue("first_name")).isEqualTo("Jane");
+	}
+
+	@Test
+	void rendersQueryPerShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }), returnedType);
+
+		QueryAssert.assertThat(query).containsQuotedAliasedColumns(columns)
+				.contains(" WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+	}
+
+	@Test
+	void rendersQueryPerCollectionSize() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Collections.singleton(25) }), returnedType);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(25, 30) }),
+				returnedType);
+
+		QueryAssert.assertThat(query).containsQuotedAliasedColumns(columns)
+				.contains(" WHERE " + TABLE + ".\"AGE\" IN (:age, :age1)");
+		assertThat(query.getParameterSource().getValue("age")).isEqualTo(25);
+		assertThat(query.getParameterSource().getValue("age1")).isEqualTo(30);
+	}
+
 	@Test // DATAJDBC-318
 	void createsQueryWithLimitForExistsProjection() throws Exception {
 
@@ -811,6 +889,12 @@ public class PartTreeJdbcQueryUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		List<User> findAllByFirstNameAndAge(String firstName, Integer age);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWait.Policy.SKIP_LOCKED)
+		List<User> findAllByLastName(String lastName);
+
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, timeout = 5)
+		List<User> findAllByAge(Integer age);
+
 		List<User> findAllByFirstName(String firstName);
 
 		List<User> findAllByHated(Hobby hobby);
@@ -37,6 +37,7 @@ import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.dao.DataAccessException;
@@ -47,6 +48,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.expression.ValueExpressionParser;
+import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.core.convert.JdbcTypeFactory;
@@ -228,6 +231,26 @@ class StringBasedJdbcQueryUnitTests {
 						"RowMapper is not expected to be custom");
 	}
 
+	@Test
+	void flushesBufferedSavesBeforeExecution() {
+
+		JdbcAggregateOperations aggregateOperations = mock(JdbcAggregateOperations.class);
+		DataAccessStrategy accessStrategy = mock(DataAccessStrategy.class);
+		when(aggregateOperations.getDataAccessStrategy()).thenReturn(accessStrategy);
+		when(aggregateOperations.getConverter()).thenReturn(converter);
+		when(accessStrategy.getJdbcOperations()).thenReturn(operations);
+
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery("some sql statement", createMethod("findAll"),
+				aggregateOperations, new StubRowMapperFactory(null, null), delegate);
+
+		query.execute(new Object[] {});
+
+		InOrder inOrder = inOrder(aggregateOperations, operations);
+		inOrder.verify(aggregateOperations).flush();
+		inOrder.verify(operations).query(eq("some sql statement"), any(SqlParameterSource.class),
+				any(ResultSetExtractor.class));
+	}
+
 	@Test // GH-578
 	void streamQueryCallsQueryForStreamOnOperations() {
 
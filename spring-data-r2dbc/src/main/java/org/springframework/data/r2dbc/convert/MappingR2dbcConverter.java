@@ -142,6 +142,21 @@ public class MappingR2dbcConverter extends MappingRelationalConverter implements
 		return document;
 	}
 
+	/**
+	 * Returns a {@link BiFunction row mapping function} that resolves column positions once through {@link RowReadPlan}
+	 * and creates the same documents as {@link #toRowDocument(Class, Readable, Iterable)}. Subclasses customizing
+	 * {@code toRowDocument} must override this method as well, for example to return
+	 * {@code (row, metadata) -> toRowDocument(type, row, metadata.getColumnMetadatas())}.
+	 *
+	 * @param type the underlying entity type.
+	 * @return the row mapping function.
+	 * @since 4.2
+	 */
+	@Override
+	public BiFunction<Row, RowMetadata, RowDocument> getRowDocumentMapper(Class<?> type) {
+		return RowReadPlan.mapper(getMappingContext().getPersistentEntity(type));
+	}
+
 	private static void captureRowValues(Readable row, @Nullable Iterable<? extends ReadableMetadata> metadata,
 			RowDocument document, RelationalPersistentEntity<?> persistentEntity) {
 
@@ -108,4 +108,20 @@ public interface R2dbcConverter
 	 */
 	RowDocument toRowDocument(Class<?> type, Readable row, Iterable<? extends ReadableMetadata> metadata);
 
+	/**
+	 * Returns a {@link BiFunction row mapping function} to create flat {@link RowDocument documents} for the given
+	 * {@code type}. The returned function is intended to be used for all rows of a query so that implementations can
+	 * resolve column positions once from the first {@link RowMetadata} instead of looking up columns for each row. The
+	 * function must create the same documents as {@link #toRowDocument(Class, Readable, Iterable)}, so implementations
+	 * customizing one of both methods must customize the other one as well.
+	 *
+	 * @param type the underlying entity type.
+	 * @return the row mapping function.
+	 * @since 4.2
+	 * @see RowReadPlan
+	 */
+	default BiFunction<Row, RowMetadata, RowDocument> getRowDocumentMapper(Class<?> type) {
+		return (row, metadata) -> toRowDocument(type, row, metadata.getColumnMetadatas());
+	}
+
 }
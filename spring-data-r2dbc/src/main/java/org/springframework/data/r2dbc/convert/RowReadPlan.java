@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.convert;
+
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.ReadableMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.relational.domain.RowDocumentSchema;
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Read plan to create {@link RowDocument documents} from {@link Readable rows} by column index. The plan is resolved
+ * once from the column metadata of a result and captures the column index and read type for each document entry so
+ * that reading a row does not require column name lookups.
+ * <p>
+ * Documents contain the columns of mapped entity properties in property order followed by all remaining columns of
+ * the result, which is the same content as {@link R2dbcConverter#toRowDocument(Class, Readable, Iterable)}.
+ *
+ * @since 4.2
+ */
+public final class RowReadPlan {
+
+	private final List<String> columnNames;
+	private final RowDocumentSchema schema;
+	private final int[] columnIndexes;
+	private final @Nullable Class<?>[] readTypes;
+
+	private RowReadPlan(List<String> columnNames, RowDocumentSchema schema, int[] columnIndexes,
+			@Nullable Class<?>[] readTypes) {
+
+		this.columnNames = columnNames;
+		this.schema = schema;
+		this.columnIndexes = columnIndexes;
+		this.readTypes = readTypes;
+	}
+
+	/**
+	 * Create a new {@link RowReadPlan} for the given {@code entity} and result {@code metadata}.
+	 *
+	 * @param entity the entity to read, can be {@literal null} when reading a type that is not an entity.
+	 * @param metadata result column metadata.
+	 * @return the read plan.
+	 */
+	public static RowReadPlan of(@Nullable RelationalPersistentEntity<?> entity,
+			Iterable<? extends ReadableMetadata> metadata) {
+
+		Assert.notNull(metadata, "Metadata must not be null");
+
+		List<String> columnNames = new ArrayList<>();
+		Map<String, Integer> columnIndexByName = new LinkedCaseInsensitiveMap<>();
+
+		for (ReadableMetadata column : metadata) {
+
+			columnIndexByName.putIfAbsent(column.getName(), columnNames.size());
+			columnNames.add(column.getName());
+		}
+
+		Map<String, Integer> slotByName = new LinkedCaseInsensitiveMap<>(columnNames.size());
+		List<Integer> columnIndexes = new ArrayList<>(columnNames.size());
+		List<@Nullable Class<?>> readTypes = new ArrayList<>(columnNames.size());
+
+		if (entity != null) {
+
+			for (RelationalPersistentProperty property : entity) {
+
+				String identifier = property.getColumnName().getReference();
+				Integer columnIndex = columnIndexByName.get(identifier);
+
+				if (property.isEntity() || columnIndex == null || slotByName.containsKey(identifier)) {
+					continue;
+				}
+
+				slotByName.put(identifier, columnIndexes.size());
+				columnIndexes.add(columnIndex);
+				readTypes.add(getReadType(property.getType()));
+			}
+		}
+
+		for (int i = 0; i < columnNames.size(); i++) {
+
+			String columnName = columnNames.get(i);
+
+			if (slotByName.containsKey(columnName)) {
+				continue;
+			}
+
+			slotByName.put(columnName, columnIndexes.size());
+			columnIndexes.add(i);
+			readTypes.add(null);
+		}
+
+		return new RowReadPlan(List.copyOf(columnNames), RowDocumentSchema.of(new ArrayList<>(slotByName.keySet())),
+				columnIndexes.stream().mapToInt(Integer::intValue).toArray(), readTypes.toArray(new Class<?>[0]));
+	}
+
+	/**
+	 * Create a {@link BiFunction row mapper} that resolves a {@link RowReadPlan} from the first row and reuses it for
+	 * subsequent rows as long as the result columns remain the same.
+	 *
+	 * @param entity the entity to read, can be {@literal null} when reading a type that is not an entity.
+	 * @return the row mapper.
+	 */
+	public static BiFunction<Row, RowMetadata, RowDocument> mapper(@Nullable RelationalPersistentEntity<?> entity) {
+		return new CachingRowDocumentMapper(entity);
+	}
+
+	/**
+	 * Check whether this plan was created for a result with the same columns as described by {@code metadata}.
+	 *
+	 * @param metadata result column metadata.
+	 * @return {@code true} if this plan can read rows described by {@code metadata}.
+	 */
+	public boolean isCompatibleWith(Iterable<? extends ReadableMetadata> metadata) {
+
+		Iterator<? extends ReadableMetadata> iterator = metadata.iterator();
+
+		for (String columnName : columnNames) {
+
+			if (!iterator.hasNext() || !columnName.equals(iterator.next().getName())) {
+				return false;
+			}
+		}
+
+		return !iterator.hasNext();
+	}
+
+	/**
+	 * Read the given {@link Readable row} into a {@link RowDocument}.
+	 *
+	 * @param row the row to read.
+	 * @return the {@link RowDocument} containing the row data.
+	 */
+	public RowDocument read(Readable row) {
+
+		@Nullable
+		Object[] values = new Object[columnIndexes.length];
+
+		for (int i = 0; i < columnIndexes.length; i++) {
+
+			Class<?> readType = readTypes[i];
+			values[i] = readType != null ? row.get(columnIndexes[i], readType) : row.get(columnIndexes[i]);
+		}
+
+		return new RowDocument(schema, values);
+	}
+
+	private static @Nullable Class<?> getReadType(Class<?> propertyType) {
+
+		if (propertyType.equals(Clob.class)) {
+			return Clob.class;
+		}
+
+		if (propertyType.equals(Blob.class)) {
+			return Blob.class;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Row mapper caching the {@link RowReadPlan} of the most recent result.
+	 */
+	private static class CachingRowDocumentMapper implements BiFunction<Row, RowMetadata, RowDocument> {
+
+		private final @Nullable RelationalPersistentEntity<?> entity;
+		private volatile @Nullable CachedPlan cached;
+
+		CachingRowDocumentMapper(@Nullable RelationalPersistentEntity<?> entity) {
+			this.entity = entity;
+		}
+
+		@Override
+		public RowDocument apply(Row row, RowMetadata metadata) {
+			return getPlan(metadata).read(row);
+		}
+
+		private RowReadPlan getPlan(RowMetadata metadata) {
+
+			CachedPlan cached = this.cached;
+
+			if (cached != null && cached.metadata() == metadata) {
+				return cached.plan();
+			}
+
+			Iterable<? extends ReadableMetadata> columns = RowMetadataUtils.getColumnMetadata(metadata);
+			RowReadPlan plan = cached != null && cached.plan().isCompatibleWith(columns) ? cached.plan()
+					: RowReadPlan.of(entity, columns);
+
+			this.cached = new CachedPlan(metadata, plan);
+
+			return plan;
+		}
+
+		private record CachedPlan(RowMetadata metadata, RowReadPlan plan) {
+		}
+	}
+}
@@ -267,6 +267,25 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 		return this.converter.toRowDocument(type, row, metadata);
 	}
 
+	/**
+	 * Returns the {@link R2dbcConverter#getRowDocumentMapper(Class) row document mapper} of the converter. Subclasses
+	 * may override {@link #toRowDocument(Class, Readable, Iterable)}, so their row document mapper delegates to
+	 * {@code toRowDocument} for each row unless they override this method as well.
+	 *
+	 * @param type the underlying entity type.
+	 * @return the row mapping function.
+	 * @since 4.2
+	 */
+	@Override
+	public BiFunction<Row, RowMetadata, RowDocument> getRowDocumentMapper(Class<?> type) {
+
+		if (getClass() != DefaultReactiveDataAccessStrategy.class) {
+			return ReactiveDataAccessStrategy.super.getRowDocumentMapper(type);
+		}
+
+		return this.converter.getRowDocumentMapper(type);
+	}
+
 	@Override
 	public PreparedOperation<?> processNamedParameters(String query, NamedParameterProvider parameterProvider) {
 
@@ -17,6 +17,7 @@ package org.springframework.data.r2dbc.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -128,7 +129,7 @@ class DefaultStatementMapper implements StatementMapper {
 		}
 
 		if (selectSpec.getLock() != null) {
-			selectBuilder.lock(selectSpec.getLock());
+			selectBuilder.lock(selectSpec.getLock(), selectSpec.getLockWait());
 		}
 
 		Select select = selectBuilder.build();
@@ -271,8 +272,9 @@ class DefaultStatementMapper implements StatementMapper {
 		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
 		Table table = Table.create(toSql(upsertSpec.getTable()));
 
-		BoundAssignments boundAssignments = this.updateMapper.getMappedObject(bindMarkers, upsertSpec.getAssignments(),
-				table, entity);
+		List<Map<SqlIdentifier, io.r2dbc.spi.Parameter>> rows = upsertSpec.getRows();
+
+		BoundAssignments boundAssignments = this.updateMapper.getMappedObject(bindMarkers, rows.get(0), table, entity);
 		Bindings bindings = boundAssignments.getBindings();
 
 		List<SqlIdentifier> conflictColumnIds = upsertSpec.getConflictColumns();
@@ -281,8 +283,17 @@ class DefaultStatementMapper implements StatementMapper {
 		Column[] conflictColumns = conflictColumnIds.stream().map(table::column).toArray(Column[]::new);
 		Column[] updateColumns = upsertSpec.getUpdateColumns().stream().map(table::column).toArray(Column[]::new);
 
-		Upsert upsert = StatementBuilder.upsert(table) //
-				.insert(boundAssignments.getAssignments()) //
+		UpsertBuilder.UpsertOnMatch upsertBuilder = StatementBuilder.upsert(table) //
+				.insert(boundAssignments.getAssignments());
+
+		for (Map<SqlIdentifier, io.r2dbc.spi.Parameter> row : rows.subList(1, rows.size())) {
+
+			BoundAssignments rowAssignments = this.updateMapper.getMappedObject(bindMarkers, row, table, entity);
+			upsertBuilder = upsertBuilder.andInsert(rowAssignments.getAssignments());
+			bindings = bindings.and(rowAssignments.getBindings());
+		}
+
+		Upsert upsert = upsertBuilder //
 				.onConflict(it -> it.with(conflictColumns).update(updateColumns)) //
 				.build();
 
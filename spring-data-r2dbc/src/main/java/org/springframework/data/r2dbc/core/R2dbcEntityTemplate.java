@@ -24,6 +24,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -45,6 +46,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -64,6 +66,7 @@ import org.springframework.data.r2dbc.mapping.event.BeforeSaveCallback;
 import org.springframework.data.relational.core.conversion.AbstractRelationalConverter;
 import org.springframework.data.relational.core.mapping.OptimisticLockingUtils;
 import org.springframework.data.relational.core.mapping.PersistentPropertyTranslator;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
@@ -73,6 +76,7 @@ import org.springframework.data.relational.core.query.Update;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.domain.RowDocument;
@@ -115,6 +119,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private final SpelAwareProxyProjectionFactory projectionFactory;
 
+	private final @Nullable ReactiveAggregateReader aggregateReader;
+
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
 	private Function<Statement, Statement> statementFilterFunction = Function.identity();
@@ -137,6 +143,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.converter = dataAccessStrategy.getConverter();
 		this.mappingContext = converter.getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.aggregateReader = createAggregateReader(dataAccessStrategy, databaseClient);
 	}
 
 	/**
@@ -179,6 +186,18 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.converter = dataAccessStrategy.getConverter();
 		this.mappingContext = strategy.getConverter().getMappingContext();
 		this.projectionFactory = new SpelAwareProxyProjectionFactory();
+		this.aggregateReader = createAggregateReader(strategy, databaseClient);
+	}
+
+	private static @Nullable ReactiveAggregateReader createAggregateReader(ReactiveDataAccessStrategy strategy,
+			DatabaseClient databaseClient) {
+
+		if (strategy.getDialect() instanceof R2dbcDialect dialect && dialect.supportsSingleQueryLoading()
+				&& strategy.getConverter().getMappingContext() instanceof RelationalMappingContext) {
+			return new ReactiveAggregateReader(dialect, strategy.getConverter(), databaseClient);
+		}
+
+		return null;
 	}
 
 	/**
@@ -364,9 +383,17 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return (P) ((Flux<?>) result).concatMap(it -> maybeCallAfterConvert(it, tableName));
 	}
 
+	@SuppressWarnings("unchecked")
 	private <T> RowsFetchSpec<T> doSelect(Query query, Class<?> entityType, SqlIdentifier tableName, Class<T> returnType,
 			Function<? super Statement, ? extends Statement> filterFunction) {
 
+		if (aggregateReader != null && isAggregateQuery(query, entityType, tableName, returnType)) {
+
+			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) getRequiredEntity(entityType);
+			return new AggregateFetchSpec<>(
+					aggregateReader.findAll(query, entity, statementFilterFunction.andThen(filterFunction)));
+		}
+
 		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entityType);
 
 		StatementMapper.SelectSpec selectSpec = statementMapper //
@@ -385,6 +412,11 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			selectSpec = selectSpec.withSort(query.getSort());
 		}
 
+		LockMode lockMode = query.getLockMode();
+		if (lockMode != null) {
+			selectSpec = selectSpec.lock(lockMode, query.getLockWait());
+		}
+
 		Optional<CriteriaDefinition> criteria = query.getCriteria();
 		if (criteria.isPresent()) {
 			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
@@ -396,10 +428,45 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 				entityType, returnType);
 	}
 
+	/**
+	 * Check whether the query selects whole aggregates with collections or maps that can be loaded with a single query.
+	 * This requires single query loading to be enabled on the mapping context and a dialect supporting it.
+	 */
+	private boolean isAggregateQuery(Query query, Class<?> entityType, SqlIdentifier tableName, Class<?> returnType) {
+
+		if (aggregateReader == null || !(mappingContext instanceof RelationalMappingContext context)
+				|| !context.isSingleQueryLoadingEnabled()) {
+			return false;
+		}
+
+		if (!entityType.equals(returnType) || query.isSorted() || query.isLimited() || query.getOffset() > 0
+				|| !query.getColumns().isEmpty() || query.isLocked()) {
+			return false;
+		}
+
+		RelationalPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityType);
+
+		return entity != null && entity.getQualifiedTableName().equals(tableName) && aggregateReader.supports(entity);
+	}
+
+	/**
+	 * Apply {@code limit} to a query that expects a single result. Aggregate queries remain unlimited as the limit would
+	 * apply to rows instead of aggregates. Their result size is checked while consuming the aggregates instead, which
+	 * cancels the query once {@code limit} aggregates were read.
+	 */
+	Query limitForSingleResult(Query query, Class<?> entityType, SqlIdentifier tableName, Class<?> returnType,
+			int limit) {
+		return isAggregateQuery(query, entityType, tableName, returnType) ? query : query.limit(limit);
+	}
+
 	@Override
 	public <T> Mono<T> selectOne(Query query, Class<T> entityClass) throws DataAccessException {
-		return doSelect(query.isLimited() ? query : query.limit(2), entityClass, getTableName(entityClass), entityClass,
-				RowsFetchSpec::one, null);
+
+		SqlIdentifier tableName = getTableName(entityClass);
+		Query queryToUse = query.isLimited() ? query
+				: limitForSingleResult(query, entityClass, tableName, entityClass, 2);
+
+		return doSelect(queryToUse, entityClass, tableName, entityClass, RowsFetchSpec::one, null);
 	}
 
 	@Override
@@ -730,10 +797,110 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			RelationalPersistentEntity<T> persistentEntity) {
 
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+		PreparedOperation<?> operation = mapper
+				.getMappedObject(createUpsert(mapper, tableName, List.of(outboundRow), persistentEntity));
+
+		return this.databaseClient.sql(operation) //
+				.filter(statementFilterFunction) //
+				.fetch() //
+				.rowsUpdated() //
+				.thenReturn(entity) //
+				.flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+	}
+
+	/**
+	 * Upsert all {@code objects} using multi-row upsert statements of up to {@code batchSize} rows. At most
+	 * {@code concurrency} statements are in flight at the same time. Upserted entities are emitted in the order of
+	 * {@code objects}.
+	 */
+	<T> Flux<T> doUpsertAll(Publisher<? extends T> objects, SqlIdentifier tableName, int batchSize, int concurrency) {
+
+		return Flux.<T> from(objects) //
+				.concatMap(entity -> maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
+
+					OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(onBeforeConvert);
+
+					return maybeCallBeforeSave(onBeforeConvert, outboundRow, tableName) //
+							.map(entityToSave -> new PendingUpsert<>(entityToSave, outboundRow));
+				})) //
+				.buffer(batchSize) //
+				.flatMapSequential(chunk -> doUpsertChunk(chunk, tableName), concurrency);
+	}
+
+	private <T> Flux<T> doUpsertChunk(List<PendingUpsert<T>> chunk, SqlIdentifier tableName) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(chunk.get(0).entity());
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(persistentEntity.getType());
+		int maxBindParameters = getMaxBindParameters();
+
+		// rows share a statement only if they assign the same columns, stay within the bind parameter limit and do not
+		// affect the same row twice. Other rows start a new statement so that all rows are written in source order.
+		List<List<OutboundRow>> statements = new ArrayList<>();
+		List<OutboundRow> rows = new ArrayList<>();
+		Set<List<@Nullable Object>> ids = new HashSet<>();
+
+		for (PendingUpsert<T> pending : chunk) {
+
+			OutboundRow row = pending.row();
+			List<@Nullable Object> id = identifierColumns.stream().map(row::get)
+					.map(parameter -> parameter != null ? parameter.getValue() : null).toList();
+			int maxRows = Math.max(1, maxBindParameters / Math.max(1, row.size()));
+
+			if (!rows.isEmpty() && (rows.size() >= maxRows || ids.contains(id)
+					|| !List.copyOf(rows.get(0).keySet()).equals(List.copyOf(row.keySet())))) {
+
+				statements.add(rows);
+				rows = new ArrayList<>();
+				ids = new HashSet<>();
+			}
+
+			rows.add(row);
+			if (!id.contains(null)) {
+				ids.add(id);
+			}
+		}
+		statements.add(rows);
+
+		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+
+		return Flux.fromIterable(statements) //
+				.concatMap(statementRows -> {
+
+					PreparedOperation<?> operation = mapper
+							.getMappedObject(createUpsert(mapper, tableName, statementRows, persistentEntity));
+
+					return this.databaseClient.sql(operation) //
+							.filter(statementFilterFunction) //
+							.fetch() //
+							.rowsUpdated();
+				}) //
+				.thenMany(Flux.fromIterable(chunk)) //
+				.concatMap(pending -> maybeCallAfterSave(pending.entity(), pending.row(), tableName));
+	}
+
+	/**
+	 * Return the maximum number of bind parameters of a single statement for the current dialect.
+	 */
+	private int getMaxBindParameters() {
+		return dataAccessStrategy.getDialect() instanceof R2dbcDialect dialect ? dialect.getMaxBindParameters()
+				: Integer.MAX_VALUE;
+	}
+
+	private StatementMapper.UpsertSpec createUpsert(StatementMapper mapper, SqlIdentifier tableName,
+			List<OutboundRow> rows, RelationalPersistentEntity<?> persistentEntity) {
+
 		StatementMapper.UpsertSpec upsert = mapper.createUpsert(tableName);
 
-		for (SqlIdentifier column : outboundRow.keySet()) {
-			upsert = upsert.withColumn(column, ParameterAdapter.wrap(Objects.requireNonNull(outboundRow.get(column))));
+		for (int i = 0; i < rows.size(); i++) {
+
+			if (i > 0) {
+				upsert = upsert.andRow();
+			}
+
+			OutboundRow outboundRow = rows.get(i);
+			for (SqlIdentifier column : outboundRow.keySet()) {
+				upsert = upsert.withColumn(column, ParameterAdapter.wrap(Objects.requireNonNull(outboundRow.get(column))));
+			}
 		}
 
 		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(persistentEntity.getType());
@@ -748,16 +915,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			}
 		});
 
-		upsert = upsert.withUpdateColumns(updateColumns);
-
-		PreparedOperation<?> operation = mapper.getMappedObject(upsert);
-
-		return this.databaseClient.sql(operation) //
-				.filter(statementFilterFunction) //
-				.fetch() //
-				.rowsUpdated() //
-				.thenReturn(entity) //
-				.flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
+		return upsert.withUpdateColumns(updateColumns);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -960,11 +1118,9 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			Class<T> typeToRead = projection.isProjection() ? resultType
 					: resultType.isInterface() ? (Class<T>) entityType : resultType;
 
-			rowMapper = (row, rowMetadata) -> {
+			BiFunction<Row, RowMetadata, RowDocument> documentMapper = dataAccessStrategy.getRowDocumentMapper(typeToRead);
 
-				RowDocument document = dataAccessStrategy.toRowDocument(typeToRead, row, rowMetadata.getColumnMetadatas());
-				return converter.project(projection, document);
-			};
+			rowMapper = (row, rowMetadata) -> converter.project(projection, documentMapper.apply(row, rowMetadata));
 		}
 
 		// avoid top-level null values if the read type is a simple one (e.g. SELECT MAX(age) via Integer.class)
@@ -976,6 +1132,30 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return executeSpec.map(rowMapper);
 	}
 
+	/**
+	 * {@link RowsFetchSpec} adapter for aggregates loaded through {@link ReactiveAggregateReader}.
+	 *
+	 * @param <T>
+	 */
+	private record AggregateFetchSpec<T>(Flux<T> aggregates) implements RowsFetchSpec<T> {
+
+		@Override
+		public Mono<T> one() {
+			return aggregates.buffer(2).next().flatMap(it -> it.size() == 1 ? Mono.just(it.get(0))
+					: Mono.error(new IncorrectResultSizeDataAccessException(1, it.size())));
+		}
+
+		@Override
+		public Mono<T> first() {
+			return aggregates.next();
+		}
+
+		@Override
+		public Flux<T> all() {
+			return aggregates;
+		}
+	}
+
 	/**
 	 * {@link RowsFetchSpec} adapter emitting values from {@link Optional} if they exist.
 	 *
@@ -1031,4 +1211,11 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 	}
 
+	/**
+	 * Entity that passed {@link BeforeSaveCallback before-save callbacks} along with its {@link OutboundRow}, awaiting
+	 * its batched upsert.
+	 */
+	private record PendingUpsert<T>(T entity, OutboundRow row) {
+	}
+
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.r2dbc.query.BoundCondition;
+import org.springframework.data.r2dbc.query.QueryMapper;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sqlgeneration.AliasFactory;
+import org.springframework.data.relational.core.sqlgeneration.PathToColumnMapping;
+import org.springframework.data.relational.core.sqlgeneration.SingleQuerySqlGenerator;
+import org.springframework.data.relational.core.sqlgeneration.SqlGenerator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.r2dbc.core.binding.Bindings;
+
+/**
+ * Reads complete aggregates including their collections and maps from the database using a single query generated by
+ * {@link SingleQuerySqlGenerator}. Rows are assembled into {@link org.springframework.data.relational.domain.RowDocument
+ * documents} by {@link ReactiveRowDocumentExtractor} and mapped via
+ * {@link R2dbcConverter#read(Class, org.springframework.data.relational.domain.RowDocument)}.
+ *
+ * @since 4.2
+ */
+class ReactiveAggregateReader implements PathToColumnMapping {
+
+	private final RelationalMappingContext mappingContext;
+	private final AliasFactory aliasFactory;
+	private final SqlGenerator sqlGenerator;
+	private final R2dbcDialect dialect;
+	private final R2dbcConverter converter;
+	private final QueryMapper queryMapper;
+	private final DatabaseClient databaseClient;
+	private final ReactiveRowDocumentExtractor extractor;
+
+	ReactiveAggregateReader(R2dbcDialect dialect, R2dbcConverter converter, DatabaseClient databaseClient) {
+
+		this.mappingContext = (RelationalMappingContext) converter.getMappingContext();
+		this.aliasFactory = new AliasFactory();
+		this.sqlGenerator = new SingleQuerySqlGenerator(mappingContext, aliasFactory, dialect);
+		this.dialect = dialect;
+		this.converter = converter;
+		this.queryMapper = new QueryMapper(dialect, converter);
+		this.databaseClient = databaseClient;
+		this.extractor = new ReactiveRowDocumentExtractor(mappingContext, this);
+	}
+
+	@Override
+	public String column(AggregatePath path) {
+
+		String alias = aliasFactory.getColumnAlias(path);
+
+		if (alias == null) {
+			throw new IllegalStateException(String.format("Alias for '%s' must not be null", path));
+		}
+
+		return alias;
+	}
+
+	@Override
+	public String keyColumn(AggregatePath path) {
+		return aliasFactory.getKeyAlias(path);
+	}
+
+	/**
+	 * Check whether the aggregate {@code entity} contains collections or maps and can be loaded with a single query.
+	 * Single references, embedded entities and nested relations are not supported by the single query generator.
+	 *
+	 * @param entity the aggregate root entity.
+	 * @return {@code true} if the aggregate should be loaded through this reader.
+	 */
+	boolean supports(RelationalPersistentEntity<?> entity) {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		boolean hasCollections = false;
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), __ -> true)) {
+
+			RelationalPersistentProperty property = path.getLeafProperty();
+
+			if (!property.isEntity()) {
+				continue;
+			}
+
+			if (!(property.isMap() || property.isCollectionLike()) || property.isEmbedded() || path.getLength() > 1) {
+				return false;
+			}
+
+			hasCollections = true;
+		}
+
+		return hasCollections;
+	}
+
+	/**
+	 * Select aggregates by {@link Query}. Sorting, limits and offsets are not supported as they would apply to rows
+	 * instead of aggregates.
+	 *
+	 * @param query the query to run, must not be {@literal null}.
+	 * @param entity the aggregate root entity.
+	 * @param filterFunction filter function to apply to the statement.
+	 * @return the found aggregate roots.
+	 * @param <T> aggregate type.
+	 */
+	<T> Flux<T> findAll(Query query, RelationalPersistentEntity<T> entity,
+			Function<? super Statement, ? extends Statement> filterFunction) {
+
+		BindMarkers bindMarkers = dialect.getBindMarkersFactory().create();
+		Bindings bindings = Bindings.empty();
+		@Nullable
+		Condition condition = null;
+
+		Optional<CriteriaDefinition> criteria = query.getCriteria();
+		if (criteria.isPresent() && !criteria.get().isEmpty()) {
+
+			BoundCondition mappedObject = queryMapper.getMappedObject(bindMarkers, criteria.get(),
+					Table.create(entity.getQualifiedTableName()), entity);
+
+			bindings = mappedObject.getBindings();
+			condition = mappedObject.getCondition();
+		}
+
+		AggregateQuery operation = new AggregateQuery(sqlGenerator.findAll(entity, condition), bindings);
+
+		return extractor
+				.extract(entity, databaseClient.sql(operation).filter(filterFunction).map(extractor.rowMapper()).all())
+				.map(document -> converter.read(entity.getType(), document));
+	}
+
+	/**
+	 * {@link PreparedOperation} for a rendered single query and its {@link Bindings}.
+	 */
+	private record AggregateQuery(String sql, Bindings bindings) implements PreparedOperation<String> {
+
+		@Override
+		public String getSource() {
+			return sql;
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+			bindings.apply(target);
+		}
+
+		@Override
+		public String toQuery() {
+			return sql;
+		}
+	}
+}
@@ -98,6 +98,19 @@ public interface ReactiveDataAccessStrategy {
 	 */
 	RowDocument toRowDocument(Class<?> type, Readable row, Iterable<? extends ReadableMetadata> metadata);
 
+	/**
+	 * Returns a {@link BiFunction row mapping function} to create flat {@link RowDocument documents} for all rows of a
+	 * query.
+	 *
+	 * @param type the underlying entity type.
+	 * @return the row mapping function.
+	 * @since 4.2
+	 * @see R2dbcConverter#getRowDocumentMapper(Class)
+	 */
+	default BiFunction<Row, RowMetadata, RowDocument> getRowDocumentMapper(Class<?> type) {
+		return (row, metadata) -> toRowDocument(type, row, metadata.getColumnMetadatas());
+	}
+
 	/**
 	 * @param type
 	 * @return the table name for the {@link Class entity type}.
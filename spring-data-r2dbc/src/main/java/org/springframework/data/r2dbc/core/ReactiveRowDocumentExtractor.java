@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import io.r2dbc.spi.ReadableMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sqlgeneration.PathToColumnMapping;
+import org.springframework.data.relational.core.sqlgeneration.RowDocumentExtractorSupport.AggregateContext;
+import org.springframework.data.relational.core.sqlgeneration.RowDocumentExtractorSupport.RowDocumentSink;
+import org.springframework.data.relational.core.sqlgeneration.RowDocumentExtractorSupport.TabularResultAdapter;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Reactive counterpart of the JDBC {@code RowDocumentResultSetExtractor} assembling {@link RowDocument documents} from
+ * consecutive rows of a single-query aggregate result. A document is emitted as soon as the rows of the next aggregate
+ * root arrive or the result completes, so only the rows of a single aggregate are held in memory.
+ *
+ * @since 4.2
+ */
+class ReactiveRowDocumentExtractor {
+
+	private final RelationalMappingContext context;
+	private final PathToColumnMapping propertyToColumn;
+
+	ReactiveRowDocumentExtractor(RelationalMappingContext context, PathToColumnMapping propertyToColumn) {
+
+		this.context = context;
+		this.propertyToColumn = propertyToColumn;
+	}
+
+	/**
+	 * Create a row mapping function capturing column values of a {@link Row} as {@link TabularRow}. Rows must be
+	 * captured while being mapped as drivers may release row resources afterwards.
+	 *
+	 * @return the row mapping function.
+	 */
+	BiFunction<Row, RowMetadata, TabularRow> rowMapper() {
+		return new TabularRowMapper();
+	}
+
+	/**
+	 * Assemble {@link RowDocument documents} for {@code entity} from the given {@code rows}.
+	 *
+	 * @param entity the entity defining the document structure.
+	 * @param rows the rows to consume.
+	 * @return a {@link Flux} emitting one document per aggregate root.
+	 */
+	Flux<RowDocument> extract(RelationalPersistentEntity<?> entity, Flux<TabularRow> rows) {
+
+		AggregatePath rootPath = context.getAggregatePath(entity);
+		String idColumn = propertyToColumn.column(rootPath.append(entity.getRequiredIdProperty()));
+
+		return Flux.defer(() -> {
+
+			AggregateBoundary boundary = new AggregateBoundary(idColumn);
+
+			return rows.bufferUntil(boundary::startsNewAggregate, true)
+					.map(aggregateRows -> toDocument(entity, rootPath, aggregateRows));
+		});
+	}
+
+	private RowDocument toDocument(RelationalPersistentEntity<?> entity, AggregatePath rootPath,
+			List<TabularRow> rows) {
+
+		AggregateContext<TabularRow> aggregateContext = new AggregateContext<>(TabularRowAdapter.INSTANCE, context,
+				propertyToColumn, rows.get(0).columns());
+		RowDocumentSink<TabularRow> sink = new RowDocumentSink<>(aggregateContext, entity, rootPath);
+
+		for (TabularRow row : rows) {
+			sink.accept(row);
+		}
+
+		return sink.getResult();
+	}
+
+	/**
+	 * Column values of a single row.
+	 *
+	 * @param columns column name to column index map, shared by all rows of a result.
+	 * @param values the column values.
+	 */
+	record TabularRow(Map<String, Integer> columns, @Nullable Object[] values) {
+
+		@Nullable
+		Object getValue(String columnName) {
+
+			Integer index = columns.get(columnName);
+
+			Assert.state(index != null, () -> "Column '%s' not found".formatted(columnName));
+
+			return values[index];
+		}
+	}
+
+	/**
+	 * Adapter to obtain values and column metadata from {@link TabularRow}.
+	 */
+	enum TabularRowAdapter implements TabularResultAdapter<TabularRow> {
+
+		INSTANCE;
+
+		@Override
+		public @Nullable Object getObject(TabularRow row, int index) {
+			return row.values()[index];
+		}
+
+		@Override
+		public Map<String, Integer> getColumnMap(TabularRow result) {
+			return result.columns();
+		}
+	}
+
+	/**
+	 * Detects the first row of the next aggregate root. Rows without a root identifier continue the current aggregate.
+	 */
+	private static class AggregateBoundary {
+
+		private final String idColumn;
+		private @Nullable Object key;
+
+		AggregateBoundary(String idColumn) {
+			this.idColumn = idColumn;
+		}
+
+		boolean startsNewAggregate(TabularRow row) {
+
+			Object nextKey = row.getValue(idColumn);
+
+			if (nextKey == null) {
+				return false;
+			}
+
+			boolean keyChange = key != null && !key.equals(nextKey);
+			key = nextKey;
+
+			return keyChange;
+		}
+	}
+
+	/**
+	 * Row mapping function caching the column map of the most recent {@link RowMetadata}.
+	 */
+	private static class TabularRowMapper implements BiFunction<Row, RowMetadata, TabularRow> {
+
+		private volatile @Nullable Columns cached;
+
+		@Override
+		public TabularRow apply(Row row, RowMetadata metadata) {
+
+			Columns columns = getColumns(metadata);
+			@Nullable
+			Object[] values = new Object[columns.count()];
+
+			for (int i = 0; i < values.length; i++) {
+				values[i] = row.get(i);
+			}
+
+			return new TabularRow(columns.indexByName(), values);
+		}
+
+		private Columns getColumns(RowMetadata metadata) {
+
+			Columns cached = this.cached;
+
+			if (cached != null && cached.metadata() == metadata) {
+				return cached;
+			}
+
+			List<? extends ReadableMetadata> columnMetadata = metadata.getColumnMetadatas();
+			Map<String, Integer> indexByName = new LinkedCaseInsensitiveMap<>(columnMetadata.size());
+
+			for (int i = 0; i < columnMetadata.size(); i++) {
+				indexByName.putIfAbsent(columnMetadata.get(i).getName(), i);
+			}
+
+			Columns columns = new Columns(metadata, indexByName, columnMetadata.size());
+			this.cached = columns;
+
+			return columns;
+		}
+
+		private record Columns(RowMetadata metadata, Map<String, Integer> indexByName, int count) {
+		}
+	}
+}
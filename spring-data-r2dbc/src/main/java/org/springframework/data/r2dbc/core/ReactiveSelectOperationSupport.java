@@ -102,12 +102,14 @@ record ReactiveSelectOperationSupport(R2dbcEntityTemplate template) implements R
 
 		@Override
 		public Mono<T> first() {
-			return template.doSelect(query.limit(1), domainType, getTableName(), returnType, RowsFetchSpec::first, fetchSize);
+			return template.doSelect(template.limitForSingleResult(query, domainType, getTableName(), returnType, 1),
+					domainType, getTableName(), returnType, RowsFetchSpec::first, fetchSize);
 		}
 
 		@Override
 		public Mono<T> one() {
-			return template.doSelect(query.limit(2), domainType, getTableName(), returnType, RowsFetchSpec::one, fetchSize);
+			return template.doSelect(template.limitForSingleResult(query, domainType, getTableName(), returnType, 2),
+					domainType, getTableName(), returnType, RowsFetchSpec::one, fetchSize);
 		}
 
 		@Override
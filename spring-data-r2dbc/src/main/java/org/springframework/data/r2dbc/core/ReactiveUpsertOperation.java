@@ -15,8 +15,10 @@
  */
 package org.springframework.data.r2dbc.core;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.reactivestreams.Publisher;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
@@ -36,6 +38,17 @@ import org.springframework.data.relational.core.sql.SqlIdentifier;
  *             .using(luke);
  *     </code>
  * </pre>
+ * <p>
+ * Multiple objects can be upserted using multi-row upsert statements:
+ *
+ * <pre>
+ *     <code>
+ *         upsert(Jedi.class)
+ *             .batchSize(500)
+ *             .concurrency(2)
+ *             .all(jedis);
+ *     </code>
+ * </pre>
  *
  * @author Christoph Strobl
  * @since 4.1
@@ -56,7 +69,7 @@ public interface ReactiveUpsertOperation {
 	/**
 	 * Table override (optional).
 	 */
-	interface UpsertWithTable<T> extends TerminatingUpsert<T> {
+	interface UpsertWithTable<T> extends UpsertWithBatching<T> {
 
 		/**
 		 * Explicitly set the {@link String name} of the table.
@@ -64,10 +77,10 @@ public interface ReactiveUpsertOperation {
 		 * Skip this step to use the default table derived from the {@link Class domain type}.
 		 *
 		 * @param table {@link String name} of the table; must not be {@literal null} or empty.
-		 * @return new instance of {@link TerminatingUpsert}.
+		 * @return new instance of {@link UpsertWithBatching}.
 		 * @throws IllegalArgumentException if {@link String table} is {@literal null} or empty.
 		 */
-		default TerminatingUpsert<T> inTable(String table) {
+		default UpsertWithBatching<T> inTable(String table) {
 			return inTable(SqlIdentifier.unquoted(table));
 		}
 
@@ -77,10 +90,39 @@ public interface ReactiveUpsertOperation {
 		 * Skip this step to use the default table derived from the {@link Class domain type}.
 		 *
 		 * @param table {@link SqlIdentifier name} of the table; must not be {@literal null}.
-		 * @return new instance of {@link TerminatingUpsert}.
+		 * @return new instance of {@link UpsertWithBatching}.
 		 * @throws IllegalArgumentException if {@link SqlIdentifier table} is {@literal null}.
 		 */
-		TerminatingUpsert<T> inTable(SqlIdentifier table);
+		UpsertWithBatching<T> inTable(SqlIdentifier table);
+
+	}
+
+	/**
+	 * Batching options (optional) applied when upserting multiple objects through {@link TerminatingUpsert#all}.
+	 *
+	 * @since 4.2
+	 */
+	interface UpsertWithBatching<T> extends TerminatingUpsert<T> {
+
+		/**
+		 * Set the maximum number of rows per upsert statement. Defaults to {@code 100}. Statements are split further to
+		 * stay within the {@link org.springframework.data.r2dbc.dialect.R2dbcDialect#getMaxBindParameters() bind parameter
+		 * limit} of the dialect.
+		 *
+		 * @param batchSize maximum number of rows per statement; must be greater than zero.
+		 * @return new instance of {@link UpsertWithBatching}.
+		 * @throws IllegalArgumentException if {@code batchSize} is less than one.
+		 */
+		UpsertWithBatching<T> batchSize(int batchSize);
+
+		/**
+		 * Set the maximum number of upsert statements in flight at the same time. Defaults to {@code 1}.
+		 *
+		 * @param concurrency maximum number of concurrently executed statements; must be greater than zero.
+		 * @return new instance of {@link UpsertWithBatching}.
+		 * @throws IllegalArgumentException if {@code concurrency} is less than one.
+		 */
+		UpsertWithBatching<T> concurrency(int concurrency);
 
 	}
 
@@ -99,6 +141,19 @@ public interface ReactiveUpsertOperation {
 		 */
 		Mono<T> one(T object);
 
+		/**
+		 * Upsert all objects emitted by {@link Publisher objects} using multi-row upsert statements. Objects are grouped
+		 * into statements of up to {@link UpsertWithBatching#batchSize(int) batch size} rows. If a batch contains multiple
+		 * objects with the same identifier, each of them is written in a subsequent statement.
+		 *
+		 * @param objects objects to upsert; must not be {@literal null}.
+		 * @return the upserted entities in the order of {@code objects}.
+		 * @throws IllegalArgumentException if {@link Publisher objects} is {@literal null}.
+		 * @see Flux
+		 * @since 4.2
+		 */
+		Flux<T> all(Publisher<? extends T> objects);
+
 	}
 
 	/**
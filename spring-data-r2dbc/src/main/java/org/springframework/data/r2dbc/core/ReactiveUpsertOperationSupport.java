@@ -15,9 +15,11 @@
  */
 package org.springframework.data.r2dbc.core;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 
@@ -29,11 +31,13 @@ import org.springframework.util.Assert;
  */
 record ReactiveUpsertOperationSupport(R2dbcEntityTemplate template) implements ReactiveUpsertOperation {
 
+	static final int DEFAULT_BATCH_SIZE = 100;
+
 	@Override
 	public <T> ReactiveUpsert<T> upsert(Class<T> domainType) {
 
 		Assert.notNull(domainType, "DomainType must not be null");
-		return new ReactiveUpsertSupport<>(template, domainType, null);
+		return new ReactiveUpsertSupport<>(template, domainType, null, DEFAULT_BATCH_SIZE, 1);
 	}
 
 	static class ReactiveUpsertSupport<T> implements ReactiveUpsert<T> {
@@ -41,19 +45,38 @@ record ReactiveUpsertOperationSupport(R2dbcEntityTemplate template) implements R
 		private final R2dbcEntityTemplate template;
 		private final Class<T> domainType;
 		private final @Nullable SqlIdentifier tableName;
+		private final int batchSize;
+		private final int concurrency;
 
-		ReactiveUpsertSupport(R2dbcEntityTemplate template, Class<T> domainType, @Nullable SqlIdentifier tableName) {
+		ReactiveUpsertSupport(R2dbcEntityTemplate template, Class<T> domainType, @Nullable SqlIdentifier tableName,
+				int batchSize, int concurrency) {
 
 			this.template = template;
 			this.domainType = domainType;
 			this.tableName = tableName;
+			this.batchSize = batchSize;
+			this.concurrency = concurrency;
 		}
 
 		@Override
-		public TerminatingUpsert<T> inTable(SqlIdentifier tableName) {
+		public UpsertWithBatching<T> inTable(SqlIdentifier tableName) {
 
 			Assert.notNull(tableName, "Table name must not be null");
-			return new ReactiveUpsertSupport<>(template, domainType, tableName);
+			return new ReactiveUpsertSupport<>(template, domainType, tableName, batchSize, concurrency);
+		}
+
+		@Override
+		public UpsertWithBatching<T> batchSize(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+			return new ReactiveUpsertSupport<>(template, domainType, tableName, batchSize, concurrency);
+		}
+
+		@Override
+		public UpsertWithBatching<T> concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+			return new ReactiveUpsertSupport<>(template, domainType, tableName, batchSize, concurrency);
 		}
 
 		@Override
@@ -63,6 +86,13 @@ record ReactiveUpsertOperationSupport(R2dbcEntityTemplate template) implements R
 			return template.doUpsert(object, getTableName());
 		}
 
+		@Override
+		public Flux<T> all(Publisher<? extends T> objects) {
+
+			Assert.notNull(objects, "Objects to upsert must not be null");
+			return template.doUpsertAll(objects, getTableName(), batchSize, concurrency);
+		}
+
 		private SqlIdentifier getTableName() {
 			return tableName != null ? tableName : template.getTableName(domainType);
 		}
@@ -37,6 +37,7 @@ import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.RenderContext;
@@ -264,10 +265,21 @@ public interface StatementMapper {
 		private final int limit;
 		private final boolean distinct;
 		private final @Nullable LockMode lockMode;
+		private final LockWait lockWait;
 
 		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
 				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct,
 				@Nullable LockMode lockMode) {
+			this(table, projectedFields, selectList, criteria, sort, limit, offset, distinct, lockMode,
+					LockWait.defaultWait());
+		}
+
+		/**
+		 * @since 4.2
+		 */
+		protected SelectSpec(Table table, List<String> projectedFields, List<Expression> selectList,
+				@Nullable CriteriaDefinition criteria, Sort sort, int limit, long offset, boolean distinct,
+				@Nullable LockMode lockMode, LockWait lockWait) {
 			this.table = table;
 			this.projectedFields = projectedFields;
 			this.selectList = selectList;
@@ -277,6 +289,7 @@ public interface StatementMapper {
 			this.limit = limit;
 			this.distinct = distinct;
 			this.lockMode = lockMode;
+			this.lockWait = lockWait;
 		}
 
 		/**
@@ -343,7 +356,7 @@ public interface StatementMapper {
 			selectList.addAll(Arrays.asList(expressions));
 
 			return new SelectSpec(this.table, projectedFields, selectList, this.criteria, this.sort, this.limit, this.offset,
-					this.distinct, this.lockMode);
+					this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -359,7 +372,7 @@ public interface StatementMapper {
 			selectList.addAll(projectedFields);
 
 			return new SelectSpec(this.table, this.projectedFields, selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -370,7 +383,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec withCriteria(CriteriaDefinition criteria) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -383,11 +396,11 @@ public interface StatementMapper {
 
 			if (sort.isSorted()) {
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, sort, this.limit,
-						this.offset, this.distinct, this.lockMode);
+						this.offset, this.distinct, this.lockMode, this.lockWait);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -403,11 +416,11 @@ public interface StatementMapper {
 				Sort sort = page.getSort();
 
 				return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria,
-						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode);
+						sort.isSorted() ? sort : this.sort, page.getPageSize(), page.getOffset(), this.distinct, this.lockMode, this.lockWait);
 			}
 
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -418,7 +431,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec offset(long offset) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, this.limit,
-					offset, this.distinct, this.lockMode);
+					offset, this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -429,7 +442,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec limit(int limit) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, this.lockMode);
+					this.offset, this.distinct, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -439,7 +452,7 @@ public interface StatementMapper {
 		 */
 		public SelectSpec distinct() {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, true, this.lockMode);
+					this.offset, true, this.lockMode, this.lockWait);
 		}
 
 		/**
@@ -449,8 +462,21 @@ public interface StatementMapper {
 		 * @return the {@link SelectSpec}.
 		 */
 		public SelectSpec lock(LockMode lockMode) {
+			return lock(lockMode, LockWait.defaultWait());
+		}
+
+		/**
+		 * Associate a lock mode and the behavior when encountering locked rows with the select and create a new
+		 * {@link SelectSpec}.
+		 *
+		 * @param lockMode the {@link LockMode} we want to use.
+		 * @param lockWait the {@link LockWait} behavior for rows that are already locked.
+		 * @return the {@link SelectSpec}.
+		 * @since 4.2
+		 */
+		public SelectSpec lock(LockMode lockMode, LockWait lockWait) {
 			return new SelectSpec(this.table, this.projectedFields, this.selectList, this.criteria, this.sort, limit,
-					this.offset, this.distinct, lockMode);
+					this.offset, this.distinct, lockMode, lockWait);
 		}
 
 		/**
@@ -463,6 +489,16 @@ public interface StatementMapper {
 			return this.lockMode;
 		}
 
+		/**
+		 * The behavior when encountering locked rows.
+		 *
+		 * @return the {@link LockWait}.
+		 * @since 4.2
+		 */
+		public LockWait getLockWait() {
+			return this.lockWait;
+		}
+
 		public Table getTable() {
 			return this.table;
 		}
@@ -689,14 +725,25 @@ public interface StatementMapper {
 	class UpsertSpec {
 
 		private final SqlIdentifier table;
+		private final List<Map<SqlIdentifier, io.r2dbc.spi.Parameter>> previousRows;
 		private final Map<SqlIdentifier, io.r2dbc.spi.Parameter> assignments;
 		private final List<SqlIdentifier> conflictColumns;
 		private final List<SqlIdentifier> updateColumns;
 
 		protected UpsertSpec(SqlIdentifier table, Map<SqlIdentifier, io.r2dbc.spi.Parameter> assignments,
 				List<SqlIdentifier> conflictColumns, List<SqlIdentifier> updateColumns) {
+			this(table, Collections.emptyList(), assignments, conflictColumns, updateColumns);
+		}
+
+		/**
+		 * @since 4.2
+		 */
+		protected UpsertSpec(SqlIdentifier table, List<Map<SqlIdentifier, io.r2dbc.spi.Parameter>> previousRows,
+				Map<SqlIdentifier, io.r2dbc.spi.Parameter> assignments, List<SqlIdentifier> conflictColumns,
+				List<SqlIdentifier> updateColumns) {
 
 			this.table = table;
+			this.previousRows = previousRows;
 			this.assignments = assignments;
 			this.conflictColumns = conflictColumns;
 			this.updateColumns = updateColumns;
@@ -768,7 +815,25 @@ public interface StatementMapper {
 			Map<SqlIdentifier, io.r2dbc.spi.Parameter> values = new LinkedHashMap<>(this.assignments);
 			values.put(column, value);
 
-			return new UpsertSpec(this.table, values, this.conflictColumns, this.updateColumns);
+			return new UpsertSpec(this.table, this.previousRows, values, this.conflictColumns, this.updateColumns);
+		}
+
+		/**
+		 * Complete the current row and create a new {@link UpsertSpec} that starts another row. Subsequent
+		 * {@code withColumn(…)} calls assign values of the new row. All rows must assign the same columns in the same
+		 * order so that they can be rendered as a single multi-row upsert.
+		 *
+		 * @return the {@link UpsertSpec}.
+		 * @since 4.2
+		 */
+		public UpsertSpec andRow() {
+
+			Assert.state(!this.assignments.isEmpty(), "Current row must not be empty");
+
+			List<Map<SqlIdentifier, io.r2dbc.spi.Parameter>> rows = new ArrayList<>(this.previousRows);
+			rows.add(this.assignments);
+
+			return new UpsertSpec(this.table, rows, Collections.emptyMap(), this.conflictColumns, this.updateColumns);
 		}
 
 		/**
@@ -782,21 +847,40 @@ public interface StatementMapper {
 			List<SqlIdentifier> conflict = new ArrayList<>(this.conflictColumns);
 			conflict.add(column);
 
-			return new UpsertSpec(this.table, this.assignments, conflict, this.updateColumns);
+			return new UpsertSpec(this.table, this.previousRows, this.assignments, conflict, this.updateColumns);
 		}
 
 		public UpsertSpec withUpdateColumns(List<SqlIdentifier> updateColumns) {
-			return new UpsertSpec(this.table, this.assignments, this.conflictColumns, updateColumns);
+			return new UpsertSpec(this.table, this.previousRows, this.assignments, this.conflictColumns, updateColumns);
 		}
 
 		public SqlIdentifier getTable() {
 			return this.table;
 		}
 
+		/**
+		 * @return assignments of the current row.
+		 */
 		public Map<SqlIdentifier, io.r2dbc.spi.Parameter> getAssignments() {
 			return Collections.unmodifiableMap(this.assignments);
 		}
 
+		/**
+		 * @return assignments of all rows including the current one.
+		 * @since 4.2
+		 */
+		public List<Map<SqlIdentifier, io.r2dbc.spi.Parameter>> getRows() {
+
+			if (this.previousRows.isEmpty()) {
+				return List.of(getAssignments());
+			}
+
+			List<Map<SqlIdentifier, io.r2dbc.spi.Parameter>> rows = new ArrayList<>(this.previousRows.size() + 1);
+			this.previousRows.forEach(row -> rows.add(Collections.unmodifiableMap(row)));
+			rows.add(getAssignments());
+			return Collections.unmodifiableList(rows);
+		}
+
 		public List<SqlIdentifier> getConflictColumns() {
 			return Collections.unmodifiableList(this.conflictColumns);
 		}
@@ -63,6 +63,16 @@ public class MySqlDialect extends org.springframework.data.relational.core.diale
 		return ANONYMOUS;
 	}
 
+	/**
+	 * MySQL and MariaDB limit prepared statements to 65535 placeholders.
+	 *
+	 * @since 4.2
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 65535;
+	}
+
 	@Override
 	public Set<Class<?>> simpleTypes() {
 		return SIMPLE_TYPES;
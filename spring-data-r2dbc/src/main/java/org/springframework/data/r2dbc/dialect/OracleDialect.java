@@ -39,6 +39,16 @@ public class OracleDialect extends org.springframework.data.relational.core.dial
 		return NAMED;
 	}
 
+	/**
+	 * Oracle limits statements to 65535 bind variables.
+	 *
+	 * @since 4.2
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 65535;
+	}
+
 	private static String filterBindMarker(CharSequence input) {
 
 		StringBuilder builder = new StringBuilder();
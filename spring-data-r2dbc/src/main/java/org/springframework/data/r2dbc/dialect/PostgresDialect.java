@@ -114,6 +114,16 @@ public class PostgresDialect extends org.springframework.data.relational.core.di
 		return INDEXED;
 	}
 
+	/**
+	 * The PostgreSQL wire protocol transmits the parameter count as a 16 bit integer.
+	 *
+	 * @since 4.2
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 32767;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return CONVERTERS;
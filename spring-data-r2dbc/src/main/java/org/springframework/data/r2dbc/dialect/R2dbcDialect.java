@@ -67,4 +67,15 @@ public interface R2dbcDialect extends Dialect {
 		return identifier.toSql(getIdentifierProcessing());
 	}
 
+	/**
+	 * Return the maximum number of bind parameters a single statement may use. Multi-row statements, such as batched
+	 * upserts, are split so that they stay within this limit. Defaults to {@link Integer#MAX_VALUE}, i.e. no limit.
+	 *
+	 * @return the maximum number of bind parameters per statement.
+	 * @since 4.2
+	 */
+	default int getMaxBindParameters() {
+		return Integer.MAX_VALUE;
+	}
+
 }
@@ -30,6 +30,16 @@ public class SqlServerDialect extends org.springframework.data.relational.core.d
 		return NAMED;
 	}
 
+	/**
+	 * SQL Server limits a request to 2100 parameters, some of which the driver may use itself.
+	 *
+	 * @since 4.2
+	 */
+	@Override
+	public int getMaxBindParameters() {
+		return 2000;
+	}
+
 	@Override
 	public Set<Class<?>> simpleTypes() {
 		return SIMPLE_TYPES;
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.ValueFunction;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.util.ReflectionUtils;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Support class for R2DBC AOT repository fragments.
+ * <p>
+ * This class is indented to be used by generated AOT fragments and not to be used directly.
+ *
+ * @since 4.2
+ */
+public class AotRepositoryFragmentSupport {
+
+	private final R2dbcEntityOperations operations;
+
+	private final ProjectionFactory projectionFactory;
+
+	protected AotRepositoryFragmentSupport(R2dbcEntityOperations operations,
+			RepositoryFactoryBeanSupport.FragmentCreationContext context) {
+		this(operations, context.getProjectionFactory());
+	}
+
+	protected AotRepositoryFragmentSupport(R2dbcEntityOperations operations, ProjectionFactory projectionFactory) {
+
+		this.operations = operations;
+		this.projectionFactory = projectionFactory;
+	}
+
+	protected R2dbcEntityOperations getOperations() {
+		return operations;
+	}
+
+	protected ProjectionFactory getProjectionFactory() {
+		return projectionFactory;
+	}
+
+	/**
+	 * Create a {@link DatabaseClient.GenericExecuteSpec} for the given SQL query. The query is subject to named parameter
+	 * expansion by {@link DatabaseClient}.
+	 *
+	 * @param sql the SQL query.
+	 * @return the execute spec.
+	 */
+	protected DatabaseClient.GenericExecuteSpec sql(String sql) {
+		return operations.getDatabaseClient().sql(sql);
+	}
+
+	/**
+	 * Bind the method argument {@code value} to the named parameter {@code name} applying the same value conversion as
+	 * string-based repository queries.
+	 *
+	 * @param spec the execute spec.
+	 * @param name the parameter name.
+	 * @param value the method argument, can be {@literal null}.
+	 * @param type the declared parameter type.
+	 * @return the execute spec with the parameter bound.
+	 */
+	protected DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+			@Nullable Object value, Class<?> type) {
+
+		Parameter parameter = getBindValue(value, type);
+		Object bindValue = parameter.getValue();
+
+		return bindValue == null ? spec.bindNull(name, parameter.getType()) : spec.bind(name, bindValue);
+	}
+
+	/**
+	 * Bind the method argument {@code value} to the parameter at {@code index} applying the same value conversion as
+	 * string-based repository queries.
+	 *
+	 * @param spec the execute spec.
+	 * @param index the zero-based bind marker index.
+	 * @param value the method argument, can be {@literal null}.
+	 * @param type the declared parameter type.
+	 * @return the execute spec with the parameter bound.
+	 */
+	protected DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, int index,
+			@Nullable Object value, Class<?> type) {
+
+		Parameter parameter = getBindValue(value, type);
+		Object bindValue = parameter.getValue();
+
+		return bindValue == null ? spec.bindNull(index, parameter.getType()) : spec.bind(index, bindValue);
+	}
+
+	private Parameter getBindValue(@Nullable Object value, Class<?> type) {
+		return operations.getDataAccessStrategy().getBindValue(Parameter.fromOrEmpty(value, type));
+	}
+
+	/**
+	 * Map the results of {@code spec} to {@code resultType} considering projections of {@code entityType}.
+	 *
+	 * @param spec the execute spec.
+	 * @param entityType the repository domain type.
+	 * @param resultType the type to read.
+	 * @return the fetch spec.
+	 */
+	protected <T> RowsFetchSpec<T> map(DatabaseClient.GenericExecuteSpec spec, Class<?> entityType,
+			Class<T> resultType) {
+		return operations.getRowsFetchSpec(spec, entityType, resultType);
+	}
+
+	/**
+	 * Convert the number of affected rows into the return type of a modifying query method.
+	 *
+	 * @param rowsUpdated the number of affected rows.
+	 * @param returnType the actual return type of the query method.
+	 * @return the converted result.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> Mono<T> rowsUpdated(Mono<Long> rowsUpdated, Class<T> returnType) {
+
+		if (Boolean.class.isAssignableFrom(returnType)) {
+			return (Mono<T>) rowsUpdated.map(count -> count > 0);
+		}
+
+		if (Number.class.isAssignableFrom(returnType)) {
+			return rowsUpdated.map(count -> operations.getConverter().getConversionService().convert(count, returnType));
+		}
+
+		if (ReflectionUtils.isVoid(returnType)) {
+			return (Mono<T>) rowsUpdated.then();
+		}
+
+		return (Mono<T>) rowsUpdated;
+	}
+
+	/**
+	 * Create a {@link Criteria} for an equality comparison of a derived query. {@literal null} values are translated into
+	 * {@code IS NULL} comparisons.
+	 *
+	 * @param step the criteria step.
+	 * @param value the value to compare with, can be {@literal null}.
+	 * @param ignoreCase whether to compare case-insensitive.
+	 * @return the criteria.
+	 */
+	protected static Criteria is(Criteria.CriteriaStep step, @Nullable Object value, boolean ignoreCase) {
+		return value == null ? step.isNull() : step.is(value).ignoreCase(ignoreCase);
+	}
+
+	/**
+	 * Create the value for a {@code LIKE} comparison of a derived query, escaping {@code value} and adding wildcards
+	 * according to {@code type}.
+	 *
+	 * @param type the part type.
+	 * @param value the method argument.
+	 * @return the like value.
+	 */
+	protected static Object like(Part.Type type, Object value) {
+
+		return switch (type) {
+			case STARTING_WITH -> (ValueFunction<String>) escaper -> escaper.escape(value.toString()) + "%";
+			case ENDING_WITH -> (ValueFunction<String>) escaper -> "%" + escaper.escape(value.toString());
+			case CONTAINING, NOT_CONTAINING ->
+				(ValueFunction<String>) escaper -> "%" + escaper.escape(value.toString()) + "%";
+			default -> value;
+		};
+	}
+
+	/**
+	 * Return {@code value} as collection for {@code IN} comparisons of a derived query.
+	 *
+	 * @param value a collection or array.
+	 * @return the collection.
+	 */
+	@SuppressWarnings("unchecked")
+	protected static Collection<Object> asCollection(@Nullable Object value) {
+
+		if (value == null) {
+			return Collections.emptyList();
+		}
+
+		if (value instanceof Collection) {
+			return (Collection<Object>) value;
+		}
+
+		if (value.getClass().isArray()) {
+			return Arrays.asList(ObjectUtils.toObjectArray(value));
+		}
+
+		return Collections.singletonList(value);
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryMethod;
+import org.springframework.data.repository.aot.generate.QueryMetadata;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Derived query backed by a {@link PartTree} whose criteria can be rendered into code at build time.
+ *
+ * @since 4.2
+ */
+class DerivedAotQuery implements QueryMetadata {
+
+	private static final Set<Part.Type> SUPPORTED_TYPES = EnumSet.of(Part.Type.BETWEEN, Part.Type.AFTER,
+			Part.Type.GREATER_THAN, Part.Type.GREATER_THAN_EQUAL, Part.Type.BEFORE, Part.Type.LESS_THAN,
+			Part.Type.LESS_THAN_EQUAL, Part.Type.IN, Part.Type.NOT_IN, Part.Type.STARTING_WITH, Part.Type.ENDING_WITH,
+			Part.Type.CONTAINING, Part.Type.NOT_CONTAINING, Part.Type.LIKE, Part.Type.NOT_LIKE, Part.Type.SIMPLE_PROPERTY,
+			Part.Type.NEGATING_SIMPLE_PROPERTY, Part.Type.IS_NULL, Part.Type.IS_NOT_NULL, Part.Type.TRUE, Part.Type.FALSE);
+
+	private final PartTree tree;
+
+	private DerivedAotQuery(PartTree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * Create a {@link DerivedAotQuery} for the given query method.
+	 *
+	 * @param queryMethod the query method.
+	 * @return the derived query or {@literal null} if the query cannot be generated ahead of time and must be created
+	 *         at runtime.
+	 */
+	static @Nullable DerivedAotQuery create(R2dbcQueryMethod queryMethod) {
+
+		PartTree tree;
+
+		try {
+			tree = new PartTree(queryMethod.getName(),
+					queryMethod.getResultProcessor().getReturnedType().getDomainType());
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		if (tree.isDistinct() || tree.isLimiting() && tree.getMaxResults() == null) {
+			return null;
+		}
+
+		Parameters<?, ?> parameters = queryMethod.getParameters();
+		int position = 0;
+
+		for (PartTree.OrPart orPart : tree) {
+			for (Part part : orPart) {
+
+				if (!SUPPORTED_TYPES.contains(part.getType())) {
+					return null;
+				}
+
+				for (int i = 0; i < part.getNumberOfArguments(); i++) {
+					if (!parameters.getBindableParameters().hasParameterAt(position++)) {
+						return null;
+					}
+				}
+
+				if (part.shouldIgnoreCase() == Part.IgnoreCaseType.ALWAYS && supportsIgnoreCase(part.getType())
+						&& !canUpperCase(part, parameters, position - 1)) {
+					return null;
+				}
+			}
+		}
+
+		for (Sort.Order order : tree.getSort()) {
+			if (order.isIgnoreCase()) {
+				return null;
+			}
+		}
+
+		return new DerivedAotQuery(tree);
+	}
+
+	PartTree getTree() {
+		return tree;
+	}
+
+	/**
+	 * Determine whether the comparison of {@code part} is rendered case-insensitive. Mirrors the runtime criteria
+	 * creation that only upper-cases {@link String} properties and arguments.
+	 *
+	 * @param part the part.
+	 * @param parameters the method parameters.
+	 * @param position position of the last bindable argument consumed by {@code part}.
+	 * @return {@literal true} to apply {@code ignoreCase}.
+	 */
+	static boolean ignoreCase(Part part, Parameters<?, ?> parameters, int position) {
+		return shouldIgnoreCase(part) && supportsIgnoreCase(part.getType()) && canUpperCase(part, parameters, position);
+	}
+
+	private static boolean supportsIgnoreCase(Part.Type type) {
+
+		return switch (type) {
+			case IN, NOT_IN, STARTING_WITH, ENDING_WITH, CONTAINING, NOT_CONTAINING, LIKE, NOT_LIKE, SIMPLE_PROPERTY,
+					NEGATING_SIMPLE_PROPERTY ->
+				true;
+			default -> false;
+		};
+	}
+
+	private static boolean shouldIgnoreCase(Part part) {
+		return part.shouldIgnoreCase() == Part.IgnoreCaseType.ALWAYS
+				|| part.shouldIgnoreCase() == Part.IgnoreCaseType.WHEN_POSSIBLE;
+	}
+
+	private static boolean canUpperCase(Part part, Parameters<?, ?> parameters, int position) {
+
+		if (part.getProperty().getType() != String.class) {
+			return false;
+		}
+
+		return part.getType() == Part.Type.IN || part.getType() == Part.Type.NOT_IN
+				|| parameters.getBindableParameter(position).getType() == String.class;
+	}
+
+	@Override
+	public Map<String, Object> serialize() {
+		return Map.of();
+	}
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import java.util.Iterator;
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryMethod;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
+import org.springframework.data.relational.repository.Lock;
+import org.springframework.data.repository.aot.generate.AotQueryMethodGenerationContext;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.CodeBlock.Builder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.util.StringUtils;
+
+/**
+ * Common code blocks for R2DBC AOT Fragment generation.
+ *
+ * @since 4.2
+ */
+class R2dbcCodeBlocks {
+
+	/**
+	 * Build the method body for a declared or named SQL query. The SQL string and the parameter binding strategy are
+	 * resolved at build time so that the generated code binds values directly to {@link DatabaseClient}.
+	 *
+	 * @param context the generation context.
+	 * @param queryMethod the query method.
+	 * @param query the query.
+	 * @param actualReturnType the type emitted by the returned {@code Mono} or {@code Flux}.
+	 * @return the method body.
+	 */
+	static CodeBlock stringQuery(AotQueryMethodGenerationContext context, R2dbcQueryMethod queryMethod,
+			StringAotQuery query, Class<?> actualReturnType) {
+
+		Builder builder = CodeBlock.builder();
+		String spec = context.localVariable("spec");
+
+		builder.addStatement("$T $L = sql($S)", DatabaseClient.GenericExecuteSpec.class, spec, query.queryString());
+
+		for (StringAotQuery.Binding binding : query.bindings()) {
+
+			String parameterName = context.getRequiredBindableParameterName(binding.position());
+
+			if (binding.isNamed()) {
+				builder.addStatement("$1L = bind($1L, $2S, $3L, $4T.class)", spec, binding.name(), parameterName,
+						binding.type());
+			} else {
+				builder.addStatement("$1L = bind($1L, $2L, $3L, $4T.class)", spec, binding.index(), parameterName,
+						binding.type());
+			}
+		}
+
+		if (queryMethod.isModifyingQuery()) {
+			builder.addStatement("return rowsUpdated($L.fetch().rowsUpdated(), $T.class)", spec, actualReturnType);
+			return builder.build();
+		}
+
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+		String result = context.localVariable("result");
+
+		builder.addStatement("$T<?> $L = map($L, $T.class, $T.class)", RowsFetchSpec.class, result, spec,
+				returnedType.getDomainType(), getResultType(returnedType));
+		builder.addStatement("return ($T) $L.$L()", context.getMethodReturn().getTypeName(), result,
+				queryMethod.isCollectionQuery() ? "all" : "one");
+
+		return builder.build();
+	}
+
+	/**
+	 * Build the method body for a derived query. Criteria, sorting, limiting and locking derived from the method name are
+	 * rendered as code and executed through the fluent {@code R2dbcEntityOperations} API.
+	 *
+	 * @param context the generation context.
+	 * @param queryMethod the query method.
+	 * @param query the derived query.
+	 * @param actualReturnType the type emitted by the returned {@code Mono} or {@code Flux}.
+	 * @return the method body.
+	 */
+	static CodeBlock derivedQuery(AotQueryMethodGenerationContext context, R2dbcQueryMethod queryMethod,
+			DerivedAotQuery query, Class<?> actualReturnType) {
+
+		PartTree tree = query.getTree();
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+		Class<?> domainType = returnedType.getDomainType();
+
+		Builder builder = CodeBlock.builder();
+		String queryVariable = context.localVariable("query");
+
+		builder.add("$[$T $L = ", Query.class, queryVariable);
+
+		CodeBlock criteria = buildCriteria(context, queryMethod.getParameters(), tree);
+		if (criteria.isEmpty()) {
+			builder.add("$T.empty()", Query.class);
+		} else {
+			builder.add("$T.query($L)", Query.class, criteria);
+		}
+
+		if (tree.getSort().isSorted()) {
+			builder.add(".sort($L)", buildSort(tree.getSort()));
+		}
+
+		if (tree.isExistsProjection()) {
+			builder.add(".limit(1)");
+		} else if (tree.isLimiting() && tree.getMaxResults() != null) {
+			builder.add(".limit($L)", tree.getMaxResults());
+		}
+
+		MergedAnnotation<Lock> lock = context.getAnnotation(Lock.class);
+		if (lock.isPresent() && !tree.isDelete()) {
+
+			LockMode lockMode = lock.getEnum("value", LockMode.class);
+			LockWait.Policy waitPolicy = lock.getEnum("waitPolicy", LockWait.Policy.class);
+			long timeout = lock.getLong("timeout");
+
+			builder.add(".lock($T.$L, $T.of($T.$L, $L))", LockMode.class, lockMode.name(), LockWait.class,
+					LockWait.Policy.class, waitPolicy.name(), timeout);
+		}
+
+		builder.add(";\n$]");
+
+		if (StringUtils.hasText(context.getSortParameterName())) {
+			builder.addStatement("$1L = $1L.sort($2L)", queryVariable, context.getSortParameterName());
+		}
+
+		if (StringUtils.hasText(context.getPageableParameterName())) {
+			builder.addStatement("$1L = $1L.with($2L)", queryVariable, context.getPageableParameterName());
+		}
+
+		if (tree.isDelete()) {
+			builder.addStatement("return rowsUpdated(getOperations().delete($T.class).matching($L).all(), $T.class)",
+					domainType, queryVariable, actualReturnType);
+			return builder.build();
+		}
+
+		if (tree.isCountProjection()) {
+			builder.addStatement("return getOperations().select($T.class).matching($L).count()", domainType, queryVariable);
+			return builder.build();
+		}
+
+		if (tree.isExistsProjection()) {
+			builder.addStatement("return getOperations().select($T.class).matching($L).exists()", domainType,
+					queryVariable);
+			return builder.build();
+		}
+
+		Class<?> resultType = getResultType(returnedType);
+		CodeBlock select = resultType == domainType ? CodeBlock.of("select($T.class)", domainType)
+				: CodeBlock.of("select($T.class).as($T.class)", domainType, resultType);
+
+		builder.addStatement("return ($T) getOperations().$L.matching($L).$L()", context.getMethodReturn().getTypeName(),
+				select, queryVariable, queryMethod.isCollectionQuery() ? "all" : "one");
+
+		return builder.build();
+	}
+
+	/**
+	 * Render the criteria of a {@link PartTree} combining {@link Part}s the same way the runtime query creator does:
+	 * parts of an {@link PartTree.OrPart} are and-ed, {@link PartTree.OrPart}s are or-ed.
+	 */
+	private static CodeBlock buildCriteria(AotQueryMethodGenerationContext context, Parameters<?, ?> parameters,
+			PartTree tree) {
+
+		CodeBlock criteria = CodeBlock.of("");
+		int position = 0;
+
+		for (PartTree.OrPart orPart : tree) {
+
+			CodeBlock andCriteria = CodeBlock.of("");
+
+			for (Part part : orPart) {
+
+				int start = position;
+				position += part.getNumberOfArguments();
+
+				CodeBlock partCriteria = buildCriteria(context, parameters, part, start);
+				andCriteria = andCriteria.isEmpty() ? partCriteria : CodeBlock.of("$L.and($L)", andCriteria, partCriteria);
+			}
+
+			criteria = criteria.isEmpty() ? andCriteria : CodeBlock.of("$L.or($L)", criteria, andCriteria);
+		}
+
+		return criteria;
+	}
+
+	private static CodeBlock buildCriteria(AotQueryMethodGenerationContext context, Parameters<?, ?> parameters,
+			Part part, int position) {
+
+		Iterator<String> arguments = new Iterator<>() {
+
+			int current = position;
+
+			@Override
+			public boolean hasNext() {
+				return current < position + part.getNumberOfArguments();
+			}
+
+			@Override
+			public String next() {
+				return context.getRequiredBindableParameterName(current++);
+			}
+		};
+
+		CodeBlock step = CodeBlock.of("$T.where($S)", Criteria.class, part.getProperty().toDotPath());
+		boolean ignoreCase = DerivedAotQuery.ignoreCase(part, parameters, position + part.getNumberOfArguments() - 1);
+
+		CodeBlock criteria = switch (part.getType()) {
+			case IS_NULL -> CodeBlock.of("$L.isNull()", step);
+			case IS_NOT_NULL -> CodeBlock.of("$L.isNotNull()", step);
+			case TRUE -> CodeBlock.of("$L.isTrue()", step);
+			case FALSE -> CodeBlock.of("$L.isFalse()", step);
+			case BETWEEN -> CodeBlock.of("$L.between($L, $L)", step, arguments.next(), arguments.next());
+			case AFTER, GREATER_THAN -> CodeBlock.of("$L.greaterThan($L)", step, arguments.next());
+			case GREATER_THAN_EQUAL -> CodeBlock.of("$L.greaterThanOrEquals($L)", step, arguments.next());
+			case BEFORE, LESS_THAN -> CodeBlock.of("$L.lessThan($L)", step, arguments.next());
+			case LESS_THAN_EQUAL -> CodeBlock.of("$L.lessThanOrEquals($L)", step, arguments.next());
+			case IN -> CodeBlock.of("$L.in(asCollection($L))", step, arguments.next());
+			case NOT_IN -> CodeBlock.of("$L.notIn(asCollection($L))", step, arguments.next());
+			case LIKE, STARTING_WITH, ENDING_WITH, CONTAINING -> CodeBlock.of("$L.like(like($T.Type.$L, $L))", step,
+					Part.class, part.getType().name(), arguments.next());
+			case NOT_LIKE, NOT_CONTAINING -> CodeBlock.of("$L.notLike(like($T.Type.$L, $L))", step, Part.class,
+					part.getType().name(), arguments.next());
+			case SIMPLE_PROPERTY -> CodeBlock.of("is($L, $L, $L)", step, arguments.next(), ignoreCase);
+			case NEGATING_SIMPLE_PROPERTY -> CodeBlock.of("$L.not($L)", step, arguments.next());
+			default -> throw new IllegalArgumentException("Unsupported keyword " + part.getType());
+		};
+
+		if (ignoreCase && part.getType() != Part.Type.SIMPLE_PROPERTY) {
+			return CodeBlock.of("$L.ignoreCase(true)", criteria);
+		}
+
+		return criteria;
+	}
+
+	private static CodeBlock buildSort(Sort sort) {
+
+		Builder sortBuilder = CodeBlock.builder();
+		sortBuilder.add("$T.by(", Sort.class);
+
+		boolean first = true;
+		for (Sort.Order order : sort) {
+
+			if (first) {
+				first = false;
+			} else {
+				sortBuilder.add(", ");
+			}
+
+			sortBuilder.add("$T.$L($S)", Sort.Order.class, order.getDirection().name().toLowerCase(Locale.ROOT),
+					order.getProperty());
+		}
+
+		sortBuilder.add(")");
+
+		return sortBuilder.build();
+	}
+
+	/**
+	 * Resolve the type to read, mirroring the runtime query execution.
+	 */
+	private static Class<?> getResultType(ReturnedType returnedType) {
+
+		if (returnedType.getReturnedType().isAssignableFrom(returnedType.getDomainType())) {
+			return returnedType.getDomainType();
+		}
+
+		return returnedType.getReturnedType();
+	}
+
+	static boolean returnsRowsUpdated(@Nullable Class<?> actualReturnType) {
+
+		return actualReturnType != null && (Boolean.class.equals(actualReturnType)
+				|| Number.class.isAssignableFrom(actualReturnType) || Void.class.equals(actualReturnType));
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryMethod;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.repository.aot.generate.AotRepositoryClassBuilder;
+import org.springframework.data.repository.aot.generate.AotRepositoryConstructorBuilder;
+import org.springframework.data.repository.aot.generate.MethodContributor;
+import org.springframework.data.repository.aot.generate.RepositoryContributor;
+import org.springframework.data.repository.config.AotRepositoryContext;
+import org.springframework.data.repository.config.PropertiesBasedNamedQueriesFactoryBean;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.javapoet.TypeName;
+import org.springframework.util.StringUtils;
+
+/**
+ * R2DBC-specific {@link RepositoryContributor} contributing an AOT repository fragment.
+ * <p>
+ * Declared and named queries are emitted with their SQL and parameter bindings resolved at build time. Derived queries
+ * are emitted as pre-built {@link org.springframework.data.relational.core.query.Criteria} executed through
+ * {@link R2dbcEntityOperations}. Query methods that require runtime evaluation (value expressions, reactive wrapper
+ * parameters, dynamic projections, non-{@link Mono}/{@link Flux} return types or unsupported keywords) are not
+ * contributed and continue to be backed by the reflective query infrastructure.
+ *
+ * @since 4.2
+ */
+public class R2dbcRepositoryContributor extends RepositoryContributor {
+
+	private static final String DEFAULT_NAMED_QUERY_LOCATION = "classpath*:META-INF/r2dbc-named-queries.properties";
+
+	private final RelationalMappingContext mappingContext;
+	private final NamedQueries namedQueries;
+	private final @Nullable String entityOperationsRef;
+
+	public R2dbcRepositoryContributor(AotRepositoryContext repositoryContext,
+			RelationalMappingContext mappingContext) {
+
+		super(repositoryContext);
+
+		this.mappingContext = mappingContext;
+
+		RepositoryConfigurationSource configurationSource = repositoryContext.getConfigurationSource();
+
+		this.namedQueries = getNamedQueries(configurationSource, repositoryContext.getRequiredClassLoader());
+		this.entityOperationsRef = configurationSource.getAttribute("entityOperationsRef").orElse(null);
+	}
+
+	private static NamedQueries getNamedQueries(RepositoryConfigurationSource configSource, ClassLoader classLoader) {
+
+		String location = configSource.getNamedQueryLocation().orElse(DEFAULT_NAMED_QUERY_LOCATION);
+
+		try {
+
+			PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+
+			PropertiesBasedNamedQueriesFactoryBean factoryBean = new PropertiesBasedNamedQueriesFactoryBean();
+			factoryBean.setLocations(resolver.getResources(location));
+			factoryBean.afterPropertiesSet();
+			return Objects.requireNonNull(factoryBean.getObject());
+		} catch (IOException e) {
+			return new PropertiesBasedNamedQueries(new Properties());
+		}
+	}
+
+	@Override
+	protected void customizeClass(AotRepositoryClassBuilder classBuilder) {
+		classBuilder.customize(builder -> builder.superclass(TypeName.get(AotRepositoryFragmentSupport.class)));
+	}
+
+	@Override
+	protected void customizeConstructor(AotRepositoryConstructorBuilder constructorBuilder) {
+
+		constructorBuilder.addParameter("operations", R2dbcEntityOperations.class, customizer -> {
+
+			customizer.origin(StringUtils.hasText(entityOperationsRef)
+					? new RuntimeBeanReference(entityOperationsRef, R2dbcEntityOperations.class)
+					: new RuntimeBeanReference(R2dbcEntityOperations.class));
+		});
+
+		constructorBuilder.addParameter("context", RepositoryFactoryBeanSupport.FragmentCreationContext.class, false);
+	}
+
+	@Override
+	protected @Nullable MethodContributor<? extends QueryMethod> contributeQueryMethod(Method method) {
+
+		R2dbcQueryMethod queryMethod = new R2dbcQueryMethod(method, getRepositoryInformation(), getProjectionFactory(),
+				mappingContext);
+
+		Class<?> returnType = method.getReturnType();
+
+		if (!(Mono.class.equals(returnType) || Flux.class.equals(returnType)) || queryMethod.hasReactiveWrapperParameter()
+				|| queryMethod.getParameters().hasDynamicProjection()
+				|| queryMethod.getParameters().hasLimitParameter()) {
+			return null;
+		}
+
+		Class<?> actualReturnType = TypeInformation.fromReturnTypeOf(method).getRequiredComponentType().getType();
+		String namedQueryName = queryMethod.getNamedQueryName();
+
+		if (namedQueries.hasQuery(namedQueryName) || queryMethod.hasAnnotatedQuery()) {
+
+			StringAotQuery query = namedQueries.hasQuery(namedQueryName)
+					? StringAotQuery.named(namedQueryName, namedQueries.getQuery(namedQueryName), queryMethod.getParameters())
+					: StringAotQuery.of(queryMethod.getRequiredAnnotatedQuery(), queryMethod.getParameters());
+
+			if (query.hasExpressions() || (queryMethod.isModifyingQuery()
+					&& (!Mono.class.equals(returnType) || !R2dbcCodeBlocks.returnsRowsUpdated(actualReturnType)))) {
+				return MethodContributor.forQueryMethod(queryMethod).metadataOnly(query);
+			}
+
+			return MethodContributor.forQueryMethod(queryMethod).withMetadata(query)
+					.contribute(context -> R2dbcCodeBlocks.stringQuery(context, queryMethod, query, actualReturnType));
+		}
+
+		DerivedAotQuery query = DerivedAotQuery.create(queryMethod);
+
+		if (query == null || !isSupported(query, returnType, actualReturnType)) {
+			return null;
+		}
+
+		return MethodContributor.forQueryMethod(queryMethod).withMetadata(query)
+				.contribute(context -> R2dbcCodeBlocks.derivedQuery(context, queryMethod, query, actualReturnType));
+	}
+
+	private static boolean isSupported(DerivedAotQuery query, Class<?> returnType, Class<?> actualReturnType) {
+
+		if (query.getTree().isDelete()) {
+			return Mono.class.equals(returnType) && R2dbcCodeBlocks.returnsRowsUpdated(actualReturnType);
+		}
+
+		if (query.getTree().isCountProjection()) {
+			return Mono.class.equals(returnType) && Long.class.equals(actualReturnType);
+		}
+
+		if (query.getTree().isExistsProjection()) {
+			return Mono.class.equals(returnType) && Boolean.class.equals(actualReturnType);
+		}
+
+		return true;
+	}
+
+}
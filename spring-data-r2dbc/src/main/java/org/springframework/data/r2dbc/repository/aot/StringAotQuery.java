@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.repository.aot.generate.QueryMetadata;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+
+/**
+ * Declared or named SQL query along with the parameter bindings resolved at build time.
+ *
+ * @param queryString the SQL query.
+ * @param queryName name of the named query, or {@literal null} for declared queries.
+ * @param bindings bindings of the bindable method parameters, in declaration order.
+ * @since 4.2
+ */
+record StringAotQuery(String queryString, @Nullable String queryName,
+		List<Binding> bindings) implements QueryMetadata {
+
+	/**
+	 * Create a {@link StringAotQuery} for a declared query.
+	 */
+	static StringAotQuery of(String queryString, Parameters<?, ?> parameters) {
+		return new StringAotQuery(queryString, null, getBindings(queryString, parameters));
+	}
+
+	/**
+	 * Create a {@link StringAotQuery} for a named query.
+	 */
+	static StringAotQuery named(String queryName, String queryString, Parameters<?, ?> parameters) {
+		return new StringAotQuery(queryString, queryName, getBindings(queryString, parameters));
+	}
+
+	/**
+	 * Resolve bindings the same way as the runtime parameter binder: parameters referenced by name are bound by name, all
+	 * others are bound by their index.
+	 */
+	private static List<Binding> getBindings(String queryString, Parameters<?, ?> parameters) {
+
+		List<Binding> bindings = new ArrayList<>();
+		int position = 0;
+		int bindingIndex = 0;
+
+		for (Parameter parameter : parameters.getBindableParameters()) {
+
+			Optional<String> name = parameter.getName();
+
+			if (name.isPresent() && isNamedParameterReferencedFromQuery(queryString, name.get())) {
+				bindings.add(new Binding(position++, parameter.getType(), name.get(), -1));
+			} else {
+				bindings.add(new Binding(position++, parameter.getType(), null, bindingIndex++));
+			}
+		}
+
+		return bindings;
+	}
+
+	private static boolean isNamedParameterReferencedFromQuery(String queryString, String name) {
+
+		Pattern namedParameterPattern = Pattern.compile("(\\W)[:#$@]" + Pattern.quote(name) + "(\\W|$)");
+		return namedParameterPattern.matcher(queryString).find();
+	}
+
+	/**
+	 * @return {@literal true} if the query uses value expressions that require evaluation at runtime.
+	 */
+	boolean hasExpressions() {
+		return queryString.contains("#{") || queryString.contains("${");
+	}
+
+	@Override
+	public Map<String, Object> serialize() {
+
+		Map<String, Object> serialized = new LinkedHashMap<>();
+
+		serialized.put("query", queryString);
+
+		if (queryName != null) {
+			serialized.put("name", queryName);
+		}
+
+		return serialized;
+	}
+
+	/**
+	 * Binding of a bindable method parameter.
+	 *
+	 * @param position position of the parameter among the bindable parameters.
+	 * @param type declared parameter type.
+	 * @param name name of the parameter if bound by name.
+	 * @param index bind marker index if bound by index.
+	 */
+	record Binding(int position, Class<?> type, @Nullable String name, int index) {
+
+		boolean isNamed() {
+			return name != null;
+		}
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Ahead-of-Time (AOT) generation for Spring Data R2DBC repositories.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.r2dbc.repository.aot;
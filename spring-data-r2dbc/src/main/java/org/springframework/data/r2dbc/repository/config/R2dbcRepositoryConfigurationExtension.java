@@ -19,14 +19,24 @@ import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.r2dbc.repository.aot.R2dbcRepositoryContributor;
 import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactoryBean;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.repository.aot.generate.RepositoryContributor;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.AotRepositoryContext;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
 import org.springframework.data.repository.core.RepositoryMetadata;
 
 /**
@@ -72,4 +82,34 @@ public class R2dbcRepositoryConfigurationExtension extends RepositoryConfigurati
 	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
 		return metadata.isReactiveRepository();
 	}
+
+	@Override
+	public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+		return R2dbcRepositoryRegistrationAotProcessor.class;
+	}
+
+	/**
+	 * A {@link RepositoryRegistrationAotProcessor} implementation that contributes generated R2DBC repository fragments.
+	 *
+	 * @since 4.2
+	 */
+	public static class R2dbcRepositoryRegistrationAotProcessor extends RepositoryRegistrationAotProcessor {
+
+		private static final String MODULE_NAME = "r2dbc";
+
+		@Override
+		protected @Nullable RepositoryContributor contributeAotRepository(AotRepositoryContext repositoryContext) {
+
+			if (!repositoryContext.isGeneratedRepositoriesEnabled(MODULE_NAME)) {
+				return null;
+			}
+
+			ConfigurableListableBeanFactory beanFactory = repositoryContext.getBeanFactory();
+			RelationalMappingContext mappingContext = beanFactory.getBeanProvider(RelationalMappingContext.class)
+					.getIfAvailable(R2dbcMappingContext::new);
+
+			return new R2dbcRepositoryContributor(repositoryContext, mappingContext);
+		}
+
+	}
 }
@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
@@ -28,6 +30,7 @@ import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
+import org.springframework.data.relational.repository.query.RelationalQueryCreator;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
@@ -48,6 +51,7 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
 	private final RelationalParameters parameters;
 	private final PartTree tree;
+	private final @Nullable PreparedOperationCache cache;
 
 	/**
 	 * Creates new instance of this class with the given {@link R2dbcQueryMethod}, {@link DatabaseClient},
@@ -70,10 +74,13 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 			this.tree = new PartTree(method.getName(), processor.getReturnedType()
 					.getDomainType());
 			R2dbcQueryCreator.validate(this.tree, this.parameters);
+			method.getLock().ifPresent(lock -> RelationalQueryCreator.validate(lock, dataAccessStrategy.getDialect()));
 		} catch (RuntimeException e) {
 			throw new IllegalArgumentException(
 					String.format("Failed to create query for method %s; %s", method, e.getMessage()), e);
 		}
+
+		this.cache = PreparedOperationCache.create(dataAccessStrategy, converter, method.getEntityInformation());
 	}
 
 	@Override
@@ -103,10 +110,15 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 				projectedProperties = new ArrayList<>(returnedType.getInputProperties());
 			}
 
+			Sort dynamicSort = getDynamicSort(accessor);
+			PreparedOperationCache.Slot cacheSlot = cache != null
+					? cache.getSlot(returnedType.getReturnedType(), dynamicSort, accessor)
+					: null;
+
 			RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 			R2dbcQueryCreator queryCreator = new R2dbcQueryCreator(tree, dataAccessStrategy, entityMetadata, accessor,
-					projectedProperties, this.getQueryMethod().getLock());
-			return queryCreator.createQuery(getDynamicSort(accessor));
+					projectedProperties, this.getQueryMethod().getLock(), cacheSlot);
+			return queryCreator.createQuery(dynamicSort);
 		});
 	}
 
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.r2dbc.query.QueryMapper;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.query.QueryShapeCache;
+import org.springframework.data.relational.repository.query.QueryShapeCache.QueryShape;
+import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.r2dbc.core.binding.Bindings;
+
+/**
+ * Cache for SQL rendered by {@link PartTreeR2dbcQuery} using a {@link QueryShapeCache}. Subsequent invocations of the
+ * same {@link QueryShape} map and bind criteria values only and skip statement building and rendering.
+ *
+ * @since 4.2
+ */
+class PreparedOperationCache {
+
+	private final QueryMapper queryMapper;
+	private final R2dbcDialect dialect;
+	private final RelationalEntityMetadata<?> entityMetadata;
+	private final QueryShapeCache queries = new QueryShapeCache();
+
+	private PreparedOperationCache(QueryMapper queryMapper, R2dbcDialect dialect,
+			RelationalEntityMetadata<?> entityMetadata) {
+
+		this.queryMapper = queryMapper;
+		this.dialect = dialect;
+		this.entityMetadata = entityMetadata;
+	}
+
+	/**
+	 * Create a {@link PreparedOperationCache} if the {@link ReactiveDataAccessStrategy} uses a {@link R2dbcDialect}.
+	 *
+	 * @return the cache or {@literal null} if SQL caching is not supported.
+	 */
+	static @Nullable PreparedOperationCache create(ReactiveDataAccessStrategy dataAccessStrategy,
+			R2dbcConverter converter, RelationalEntityMetadata<?> entityMetadata) {
+
+		if (dataAccessStrategy.getDialect() instanceof R2dbcDialect dialect) {
+			return new PreparedOperationCache(new QueryMapper(dialect, converter), dialect, entityMetadata);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Obtain a {@link Slot} for the shape of the current invocation.
+	 *
+	 * @param returnedType the returned type considering dynamic projections.
+	 * @param sort the dynamic sort.
+	 * @param accessor the parameter accessor.
+	 * @return the slot for the current invocation.
+	 */
+	Slot getSlot(Class<?> returnedType, Sort sort, RelationalParameterAccessor accessor) {
+		return new Slot(QueryShape.of(returnedType, sort, accessor));
+	}
+
+	private PreparedOperation<String> bind(String sql, @Nullable Criteria criteria) {
+
+		BindMarkers bindMarkers = dialect.getBindMarkersFactory().create();
+		Bindings bindings = Bindings.empty();
+
+		if (criteria != null && !criteria.isEmpty()) {
+			bindings = queryMapper.getMappedObject(bindMarkers, criteria, Table.create(entityMetadata.getTableName()),
+					entityMetadata.getTableEntity()).getBindings();
+		}
+
+		return new CachedPreparedOperation(sql, bindings::apply);
+	}
+
+	/**
+	 * Cache access for a single {@link QueryShape}.
+	 */
+	class Slot {
+
+		private final QueryShape shape;
+
+		private Slot(QueryShape shape) {
+			this.shape = shape;
+		}
+
+		/**
+		 * Return a {@link PreparedOperation} using previously rendered SQL for {@code criteria}.
+		 *
+		 * @param criteria the criteria derived for the current invocation.
+		 * @return the prepared operation or {@literal null} if no SQL was cached for this shape.
+		 */
+		@Nullable
+		PreparedOperation<?> get(@Nullable Criteria criteria) {
+
+			String sql = queries.get(shape);
+			return sql != null ? bind(sql, criteria) : null;
+		}
+
+		/**
+		 * Render and cache the SQL of {@code operation}. The SQL is only cached if binding {@code criteria} on its own
+		 * yields the same bind marker layout as {@code operation}; otherwise caching is disabled for the query method.
+		 *
+		 * @param operation the fully created operation.
+		 * @param criteria the criteria used to create {@code operation}.
+		 * @return a prepared operation using the rendered SQL.
+		 */
+		PreparedOperation<?> put(PreparedOperation<?> operation, @Nullable Criteria criteria) {
+
+			String sql = operation.toQuery();
+
+			if (!queries.isEnabled()) {
+				return new CachedPreparedOperation(sql, operation::bindTo);
+			}
+
+			PreparedOperation<String> bound = bind(sql, criteria);
+
+			if (BindLayout.of(operation).equals(BindLayout.of(bound))) {
+				queries.put(shape, sql);
+			} else {
+				queries.disable();
+			}
+
+			return new CachedPreparedOperation(sql, operation::bindTo);
+		}
+	}
+
+	/**
+	 * Recorded sequence of bind marker identifiers and indexes.
+	 */
+	private static class BindLayout implements BindTarget {
+
+		private final List<Object> markers = new ArrayList<>();
+
+		static List<Object> of(PreparedOperation<?> operation) {
+
+			BindLayout layout = new BindLayout();
+			operation.bindTo(layout);
+			return layout.markers;
+		}
+
+		@Override
+		public void bind(String identifier, Object value) {
+			markers.add(identifier);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+			markers.add(index);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			markers.add(identifier);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			markers.add(index);
+		}
+	}
+
+	/**
+	 * {@link PreparedOperation} using pre-rendered SQL.
+	 */
+	private static class CachedPreparedOperation implements PreparedOperation<String> {
+
+		private final String sql;
+		private final Consumer<BindTarget> binder;
+
+		CachedPreparedOperation(String sql, Consumer<BindTarget> binder) {
+
+			this.sql = sql;
+			this.binder = binder;
+		}
+
+		@Override
+		public String getSource() {
+			return sql;
+		}
+
+		@Override
+		public String toQuery() {
+			return sql;
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+			binder.accept(target);
+		}
+
+		@Override
+		public String toString() {
+			return sql;
+		}
+	}
+
+}
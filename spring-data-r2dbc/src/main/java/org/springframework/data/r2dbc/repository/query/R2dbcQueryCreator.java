@@ -33,6 +33,7 @@ import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.repository.Lock;
@@ -63,6 +64,7 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 	private final List<String> projectedProperties;
 	private final Class<?> entityToRead;
 	private final Optional<Lock> lock;
+	private final PreparedOperationCache.@Nullable Slot cacheSlot;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link ReactiveDataAccessStrategy},
@@ -77,6 +79,25 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 	public R2dbcQueryCreator(PartTree tree, ReactiveDataAccessStrategy dataAccessStrategy,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor,
 			List<String> projectedProperties, Optional<Lock> lock) {
+		this(tree, dataAccessStrategy, entityMetadata, accessor, projectedProperties, lock, null);
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link ReactiveDataAccessStrategy},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor} reusing SQL rendered for previous
+	 * invocations of the same shape.
+	 *
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param dataAccessStrategy data access strategy, must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param projectedProperties properties to project, must not be {@literal null}.
+	 * @param cacheSlot cache slot for the shape of the current invocation, can be {@literal null}.
+	 * @since 4.2
+	 */
+	R2dbcQueryCreator(PartTree tree, ReactiveDataAccessStrategy dataAccessStrategy,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor,
+			List<String> projectedProperties, Optional<Lock> lock, PreparedOperationCache.@Nullable Slot cacheSlot) {
 
 		super(tree, accessor);
 
@@ -88,6 +109,7 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		this.projectedProperties = projectedProperties;
 		this.entityToRead = entityMetadata.getTableEntity().getType();
 		this.lock = lock;
+		this.cacheSlot = cacheSlot;
 	}
 
 	/**
@@ -100,13 +122,21 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 	@Override
 	protected PreparedOperation<?> complete(@Nullable Criteria criteria, Sort sort) {
 
-		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entityToRead);
+		if (cacheSlot != null) {
 
-		if (tree.isDelete()) {
-			return delete(criteria, statementMapper);
+			PreparedOperation<?> cached = cacheSlot.get(criteria);
+
+			if (cached != null) {
+				return cached;
+			}
 		}
 
-		return select(criteria, sort, statementMapper);
+		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entityToRead);
+
+		PreparedOperation<?> operation = tree.isDelete() ? delete(criteria, statementMapper)
+				: select(criteria, sort, statementMapper);
+
+		return cacheSlot != null ? cacheSlot.put(operation, criteria) : operation;
 	}
 
 	private PreparedOperation<?> delete(@Nullable Criteria criteria, StatementMapper statementMapper) {
@@ -151,7 +181,9 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		}
 
 		if (this.lock.isPresent()) {
-			selectSpec = selectSpec.lock(this.lock.get().value());
+
+			Lock lock = this.lock.get();
+			selectSpec = selectSpec.lock(lock.value(), LockWait.of(lock.waitPolicy(), lock.timeout()));
 		}
 
 		return statementMapper.getMappedObject(selectSpec);
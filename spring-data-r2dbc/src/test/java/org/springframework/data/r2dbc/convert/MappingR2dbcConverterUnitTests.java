@@ -19,7 +19,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.ReadableMetadata;
 import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.test.MockColumnMetadata;
 import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
@@ -29,7 +32,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.BiFunction;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Value;
@@ -46,6 +51,7 @@ import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.r2dbc.core.Parameter;
 
 /**
@@ -309,6 +315,50 @@ public class MappingR2dbcConverterUnitTests {
 		));
 	}
 
+	@Test
+	void rowDocumentMapperShouldCreateSameDocumentAsToRowDocument() {
+
+		MockRow row = MockRow.builder().identified("id", Object.class, "42").identified("firstname", Object.class, "Walter")
+				.build();
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("firstname").type(R2dbcType.VARCHAR).build()).build();
+
+		RowDocument document = converter.getRowDocumentMapper(Person.class).apply(row, metadata);
+
+		assertThat(document)
+				.containsExactlyInAnyOrderEntriesOf(converter.toRowDocument(Person.class, row, metadata.getColumnMetadatas()));
+	}
+
+	@Test
+	void rowDocumentMapperShouldUseOverriddenToRowDocument() {
+
+		MappingR2dbcConverter customConverter = new MappingR2dbcConverter(mappingContext) {
+
+			@Override
+			public RowDocument toRowDocument(Class<?> type, Readable row,
+					@Nullable Iterable<? extends ReadableMetadata> metadata) {
+
+				RowDocument document = super.toRowDocument(type, row, metadata);
+				document.put("custom", "value");
+				return document;
+			}
+
+			@Override
+			public BiFunction<Row, RowMetadata, RowDocument> getRowDocumentMapper(Class<?> type) {
+				return (row, metadata) -> toRowDocument(type, row, metadata.getColumnMetadatas());
+			}
+		};
+
+		MockRow row = MockRow.builder().identified("id", Object.class, "42").build();
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build()).build();
+
+		RowDocument document = customConverter.getRowDocumentMapper(Person.class).apply(row, metadata);
+
+		assertThat(document).containsEntry("id", "42").containsEntry("custom", "value");
+	}
+
 	static class Person {
 		@Id String id;
 		String firstname, lastname;
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.domain.RowDocument;
+
+/**
+ * Unit tests for {@link RowReadPlan}.
+ */
+class RowReadPlanUnitTests {
+
+	RelationalMappingContext mappingContext = R2dbcMappingContext.forPlainIdentifiers();
+	RelationalPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+	RowMetadata metadata = MockRowMetadata.builder()
+			.columnMetadata(MockColumnMetadata.builder().name("ID").type(R2dbcType.INTEGER).build())
+			.columnMetadata(MockColumnMetadata.builder().name("extra").type(R2dbcType.VARCHAR).build())
+			.columnMetadata(MockColumnMetadata.builder().name("FIRST_NAME").type(R2dbcType.VARCHAR).build()).build();
+
+	@Test
+	void shouldReadMappedColumnsFollowedByRemainingColumns() {
+
+		MockRow row = MockRow.builder().identified(0, Object.class, 42L).identified(1, Object.class, "value")
+				.identified(2, Object.class, "Walter").build();
+
+		RowDocument document = RowReadPlan.of(entity, metadata.getColumnMetadatas()).read(row);
+
+		assertThat(document.keySet()).containsExactly("id", "first_name", "extra");
+		assertThat(document.get("ID")).isEqualTo(42L);
+		assertThat(document.get("first_name")).isEqualTo("Walter");
+		assertThat(document.get("EXTRA")).isEqualTo("value");
+	}
+
+	@Test
+	void shouldSkipPropertiesWithoutColumn() {
+
+		RowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
+		MockRow row = MockRow.builder().identified(0, Object.class, 42L).build();
+
+		RowDocument document = RowReadPlan.of(entity, metadata.getColumnMetadatas()).read(row);
+
+		assertThat(document).hasSize(1).containsEntry("id", 42L);
+		assertThat(document.containsKey("first_name")).isFalse();
+	}
+
+	@Test
+	void shouldReadColumnsWithoutEntity() {
+
+		MockRow row = MockRow.builder().identified(0, Object.class, 42L).identified(1, Object.class, "value")
+				.identified(2, Object.class, "Walter").build();
+
+		RowDocument document = RowReadPlan.of(null, metadata.getColumnMetadatas()).read(row);
+
+		assertThat(document.keySet()).containsExactly("ID", "extra", "FIRST_NAME");
+	}
+
+	@Test
+	void shouldConsiderCompatibleMetadata() {
+
+		RowReadPlan plan = RowReadPlan.of(entity, metadata.getColumnMetadatas());
+
+		RowMetadata same = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("ID").type(R2dbcType.INTEGER).build())
+				.columnMetadata(MockColumnMetadata.builder().name("extra").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("FIRST_NAME").type(R2dbcType.VARCHAR).build()).build();
+		RowMetadata other = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("ID").type(R2dbcType.INTEGER).build()).build();
+
+		assertThat(plan.isCompatibleWith(same.getColumnMetadatas())).isTrue();
+		assertThat(plan.isCompatibleWith(other.getColumnMetadatas())).isFalse();
+	}
+
+	@Test
+	void mapperShouldReadRowsByIndex() {
+
+		BiFunction<Row, RowMetadata, RowDocument> mapper = RowReadPlan.mapper(entity);
+		Row row = mock(Row.class);
+		when(row.get(0)).thenReturn(42L);
+		when(row.get(1)).thenReturn("value");
+		when(row.get(2)).thenReturn("Walter");
+
+		mapper.apply(row, metadata);
+		RowDocument document = mapper.apply(row, metadata);
+
+		assertThat(document).containsEntry("id", 42L).containsEntry("first_name", "Walter").containsEntry("extra", "value");
+		verify(row, times(2)).get(0);
+		verify(row, times(2)).get(1);
+		verify(row, times(2)).get(2);
+		verifyNoMoreInteractions(row);
+	}
+
+	@Test
+	void mapperShouldResolveNewPlanForDifferentColumns() {
+
+		BiFunction<Row, RowMetadata, RowDocument> mapper = RowReadPlan.mapper(entity);
+		RowMetadata other = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("FIRST_NAME").type(R2dbcType.VARCHAR).build()).build();
+
+		mapper.apply(MockRow.builder().identified(0, Object.class, 42L).identified(1, Object.class, "value")
+				.identified(2, Object.class, "Walter").build(), metadata);
+		RowDocument document = mapper.apply(MockRow.builder().identified(0, Object.class, "Jesse").build(), other);
+
+		assertThat(document).hasSize(1).containsEntry("first_name", "Jesse");
+	}
+
+	static class Person {
+
+		@Id Long id;
+		@Column("first_name") String firstName;
+	}
+}
@@ -2,10 +2,18 @@ package org.springframework.data.r2dbc.core;
 
 import static org.assertj.core.api.Assertions.*;
 
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.ReadableMetadata;
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -13,6 +21,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.r2dbc.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.RowDocument;
 
 /**
  * Unit tests for {@link DefaultReactiveDataAccessStrategy}.
@@ -33,6 +42,29 @@ class DefaultReactiveDataAccessStrategyUnitTests {
 				.containsExactlyInAnyOrder(sqlIdentifiers.toArray(new SqlIdentifier[0]));
 	}
 
+	@Test
+	void rowDocumentMapperShouldUseOverriddenToRowDocument() {
+
+		DefaultReactiveDataAccessStrategy customStrategy = new DefaultReactiveDataAccessStrategy(H2Dialect.INSTANCE) {
+
+			@Override
+			public RowDocument toRowDocument(Class<?> type, Readable row, Iterable<? extends ReadableMetadata> metadata) {
+
+				RowDocument document = super.toRowDocument(type, row, metadata);
+				document.put("custom", "value");
+				return document;
+			}
+		};
+
+		MockRow row = MockRow.builder().identified("id", Object.class, 42).build();
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
+
+		RowDocument document = customStrategy.getRowDocumentMapper(SimpleEntity.class).apply(row, metadata);
+
+		assertThat(document).containsEntry("id", 42).containsEntry("custom", "value");
+	}
+
 	static Stream<Fixture> fixtures() {
 		return Stream.of(new Fixture(SimpleEntity.class, "ID", "NAME"),
 				new Fixture(WithEmbedded.class, "ID", "L1_NAME", "L1_L2_NAME", "L1_L2_NUMBER"),
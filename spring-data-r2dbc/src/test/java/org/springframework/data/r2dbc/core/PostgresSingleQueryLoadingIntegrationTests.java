@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.relational.core.query.Criteria.*;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.r2dbc.testing.ExternalDatabase;
+import org.springframework.data.r2dbc.testing.PostgresTestSupport;
+import org.springframework.data.r2dbc.testing.R2dbcIntegrationTestSupport;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Integration tests for loading aggregates with collections through single query loading on PostgreSQL.
+ */
+class PostgresSingleQueryLoadingIntegrationTests extends R2dbcIntegrationTestSupport {
+
+	@RegisterExtension public static final ExternalDatabase database = PostgresTestSupport.database();
+
+	private final DataSource dataSource = PostgresTestSupport.createDataSource(database);
+	private final ConnectionFactory connectionFactory = PostgresTestSupport.createConnectionFactory(database);
+	private final JdbcTemplate jdbc = createJdbcTemplate(dataSource);
+
+	private R2dbcEntityTemplate template;
+
+	@BeforeEach
+	void before() {
+
+		jdbc.execute("DROP TABLE IF EXISTS aggregate_child");
+		jdbc.execute("DROP TABLE IF EXISTS aggregate_root");
+		jdbc.execute("CREATE TABLE aggregate_root (id integer PRIMARY KEY, name varchar(255))");
+		jdbc.execute("CREATE TABLE aggregate_child (aggregate_root integer, aggregate_root_key integer, name varchar(255))");
+
+		jdbc.update("INSERT INTO aggregate_root VALUES (1, 'Walter'), (2, 'Skyler'), (3, 'Walter')");
+		jdbc.update("INSERT INTO aggregate_child VALUES (1, 0, 'Jesse'), (1, 1, 'Mike'), (2, 0, 'Flynn')");
+
+		R2dbcMappingContext context = new R2dbcMappingContext();
+		context.setSingleQueryLoadingEnabled(true);
+
+		template = new R2dbcEntityTemplate(DatabaseClient.create(connectionFactory), PostgresDialect.INSTANCE,
+				new MappingR2dbcConverter(context, R2dbcCustomConversions.of(PostgresDialect.INSTANCE)));
+	}
+
+	@Test
+	void findByIdShouldLoadCollection() {
+
+		AggregateRootRepository repository = new R2dbcRepositoryFactory(template)
+				.getRepository(AggregateRootRepository.class);
+
+		repository.findById(1L).as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.children()).extracting(AggregateChild::name)
+						.containsExactly("Jesse", "Mike")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void selectOneAndFindAllShouldLoadSameAggregate() {
+
+		template.selectOne(Query.query(where("id").is(2L)), AggregateRoot.class).as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.children()).extracting(AggregateChild::name).containsExactly("Flynn")) //
+				.verifyComplete();
+
+		template.select(Query.query(where("id").is(2L)), AggregateRoot.class).as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.children()).extracting(AggregateChild::name).containsExactly("Flynn")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void selectOneShouldRejectMultipleAggregates() {
+
+		template.selectOne(Query.query(where("name").is("Walter")), AggregateRoot.class).as(StepVerifier::create) //
+				.verifyError(IncorrectResultSizeDataAccessException.class);
+	}
+
+	interface AggregateRootRepository extends ReactiveCrudRepository<AggregateRoot, Long> {}
+
+	record AggregateRoot(@Id Long id, String name, List<AggregateChild> children) {
+	}
+
+	record AggregateChild(String name) {
+	}
+}
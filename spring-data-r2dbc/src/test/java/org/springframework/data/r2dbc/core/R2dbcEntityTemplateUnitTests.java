@@ -123,7 +123,7 @@ public class R2dbcEntityTemplateUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("THE_NAME", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -145,7 +145,7 @@ public class R2dbcEntityTemplateUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("THE_NAME", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -243,8 +243,8 @@ public class R2dbcEntityTemplateUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build())
 				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
-		MockResult result = MockResult.builder().row(MockRow.builder().identified("id", Object.class, "Walter")
-				.identified("THE_NAME", Object.class, "some-name").metadata(metadata).build()).build();
+		MockResult result = MockResult.builder().row(MockRow.builder().identified(0, Object.class, "Walter")
+				.identified(1, Object.class, "some-name").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -296,6 +296,59 @@ public class R2dbcEntityTemplateUnitTests {
 		assertThat(statement.getBindings()).hasSize(1).containsEntry(0, Parameter.from("Walter"));
 	}
 
+	@Test
+	void shouldLoadAggregateWithCollectionUsingSingleQuery() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+		createSingleQueryLoadingTemplate().select(Query.empty(), WithChildren.class) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+		assertThat(statement.getSql()).contains("\"with_children_child\"").doesNotContain("LIMIT");
+	}
+
+	@Test
+	void shouldApplyLimitInDatabaseForLimitedAggregateQuery() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+		createSingleQueryLoadingTemplate()
+				.selectOne(Query.query(Criteria.where("name").is("Walter")).limit(1), WithChildren.class) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+		assertThat(statement.getSql()).isEqualTo(
+				"SELECT \"with_children\".* FROM \"with_children\" WHERE \"with_children\".\"name\" = $1 LIMIT 1");
+	}
+
+	@Test
+	void shouldLoadSingleAggregateWithCollectionUsingSingleQuery() {
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), Collections.emptyList());
+
+		createSingleQueryLoadingTemplate().selectOne(Query.query(Criteria.where("id").is(42L)), WithChildren.class) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+		assertThat(statement.getSql()).contains("\"with_children_child\"").doesNotContain("LIMIT");
+	}
+
+	private R2dbcEntityTemplate createSingleQueryLoadingTemplate() {
+
+		R2dbcMappingContext context = new R2dbcMappingContext();
+		context.setSingleQueryLoadingEnabled(true);
+
+		return new R2dbcEntityTemplate(client, PostgresDialect.INSTANCE,
+				new MappingR2dbcConverter(context, R2dbcCustomConversions.of(PostgresDialect.INSTANCE)));
+	}
+
 	@Test // GH-220
 	void shouldUpdateByQuery() {
 
@@ -643,7 +696,7 @@ public class R2dbcEntityTemplateUnitTests {
 		byteBuffer.flip();
 
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("number", Object.class, byteBuffer).metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, byteBuffer).metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -703,8 +756,8 @@ public class R2dbcEntityTemplateUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("foo").type(R2dbcType.INTEGER).build())
 				.columnMetadata(MockColumnMetadata.builder().name("bar").type(R2dbcType.VARCHAR).build()).build();
-		MockResult result = MockResult.builder().row(MockRow.builder().identified("foo", Object.class, 42)
-				.identified("bar", Object.class, "the-bar").metadata(metadata).build()).build();
+		MockResult result = MockResult.builder().row(MockRow.builder().identified(0, Object.class, 42)
+				.identified(1, Object.class, "the-bar").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -718,6 +771,12 @@ public class R2dbcEntityTemplateUnitTests {
 	record WithoutId(String name) {
 	}
 
+	record WithChildren(@Id Long id, String name, List<WithChildrenChild> children) {
+	}
+
+	record WithChildrenChild(String name) {
+	}
+
 	interface Named {
 		String getName();
 	}
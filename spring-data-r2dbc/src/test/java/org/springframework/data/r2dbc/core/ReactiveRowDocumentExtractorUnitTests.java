@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.r2dbc.spi.R2dbcType;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.core.ReactiveRowDocumentExtractor.TabularRow;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sqlgeneration.PathToColumnMapping;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Unit tests for {@link ReactiveRowDocumentExtractor}.
+ */
+class ReactiveRowDocumentExtractorUnitTests {
+
+	RelationalMappingContext context = R2dbcMappingContext.forPlainIdentifiers();
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(WithList.class);
+
+	PathToColumnMapping columns = new PathToColumnMapping() {
+
+		@Override
+		public String column(AggregatePath path) {
+			return path.toDotPath();
+		}
+
+		@Override
+		public String keyColumn(AggregatePath path) {
+			return column(path) + "_key";
+		}
+	};
+
+	ReactiveRowDocumentExtractor extractor = new ReactiveRowDocumentExtractor(context, columns);
+
+	@Test
+	void assemblesAggregatesFromConsecutiveRows() {
+
+		Flux<TabularRow> rows = rows("id", "name", "children_key", "children.name") //
+				.row(1L, "Alfred", 0, "Anna") //
+				.row(1L, "Alfred", 1, "Bob") //
+				.row(2L, "Bertram", null, null) //
+				.row(3L, "Carl", 0, "Cleo").toFlux();
+
+		extractor.extract(entity, rows).as(StepVerifier::create) //
+				.assertNext(document -> {
+
+					assertThat(document).containsEntry("id", 1L).containsEntry("name", "Alfred");
+					assertThat(document.getList("children")).containsExactly(RowDocument.of("name", "Anna"),
+							RowDocument.of("name", "Bob"));
+				}) //
+				.assertNext(document -> {
+
+					assertThat(document).containsEntry("id", 2L).containsEntry("name", "Bertram");
+					assertThat(document.containsKey("children")).isFalse();
+				}) //
+				.assertNext(document -> {
+					assertThat(document.getList("children")).containsExactly(RowDocument.of("name", "Cleo"));
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void rowsWithoutRootIdentifierContinueCurrentAggregate() {
+
+		Flux<TabularRow> rows = rows("id", "name", "children_key", "children.name") //
+				.row(1L, "Alfred", 0, "Anna") //
+				.row(null, null, 1, "Bob") //
+				.row(2L, "Bertram", 0, "Bea").toFlux();
+
+		extractor.extract(entity, rows).as(StepVerifier::create) //
+				.assertNext(document -> assertThat(document.getList("children")).hasSize(2)) //
+				.assertNext(document -> assertThat(document).containsEntry("id", 2L)) //
+				.verifyComplete();
+	}
+
+	@Test
+	void emitsAggregateBeforeConsumingRemainingRows() {
+
+		Flux<TabularRow> rows = rows("id", "name", "children_key", "children.name") //
+				.row(1L, "Alfred", 0, "Anna") //
+				.row(2L, "Bertram", 0, "Bea") //
+				.row(3L, "Carl", 0, "Cleo").toFlux();
+
+		extractor.extract(entity, rows).as(it -> StepVerifier.create(it, 1)) //
+				.assertNext(document -> assertThat(document).containsEntry("id", 1L)) //
+				.thenCancel() //
+				.verify();
+	}
+
+	@Test
+	void rowMapperCapturesValuesByIndex() {
+
+		RowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("ID").type(R2dbcType.INTEGER).build())
+				.columnMetadata(MockColumnMetadata.builder().name("NAME").type(R2dbcType.VARCHAR).build()).build();
+		Row row = MockRow.builder().identified(0, Object.class, 1L).identified(1, Object.class, "Alfred").build();
+
+		BiFunction<Row, RowMetadata, TabularRow> rowMapper = extractor.rowMapper();
+		TabularRow tabularRow = rowMapper.apply(row, metadata);
+
+		assertThat(tabularRow.getValue("id")).isEqualTo(1L);
+		assertThat(tabularRow.getValue("name")).isEqualTo("Alfred");
+		assertThat(rowMapper.apply(row, metadata).columns()).isSameAs(tabularRow.columns());
+	}
+
+	private static RowsBuilder rows(String... columns) {
+		return new RowsBuilder(columns);
+	}
+
+	static class RowsBuilder {
+
+		private final Map<String, Integer> columns = new LinkedCaseInsensitiveMap<>();
+		private final List<TabularRow> rows = new ArrayList<>();
+
+		RowsBuilder(String... columns) {
+
+			for (String column : columns) {
+				this.columns.put(column, this.columns.size());
+			}
+		}
+
+		RowsBuilder row(@Nullable Object... values) {
+
+			rows.add(new TabularRow(columns, Arrays.copyOf(values, values.length)));
+			return this;
+		}
+
+		Flux<TabularRow> toFlux() {
+			return Flux.fromIterable(rows);
+		}
+	}
+
+	static class WithList {
+
+		@Id long id;
+		String name;
+		List<Child> children;
+	}
+
+	static class Child {
+		String name;
+	}
+}
@@ -64,7 +64,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -87,7 +87,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -110,8 +110,8 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build())
 				.columnMetadata(MockColumnMetadata.builder().name("a_different_name").type(R2dbcType.VARCHAR).build()).build();
-		MockResult result = MockResult.builder().row(MockRow.builder().identified("id", Object.class, "Walter")
-				.identified("a_different_name", Object.class, "Werner").metadata(metadata).build()).build();
+		MockResult result = MockResult.builder().row(MockRow.builder().identified(0, Object.class, "Walter")
+				.identified(1, Object.class, "Werner").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -135,7 +135,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder().rowMetadata(metadata)
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -158,7 +158,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder().rowMetadata(metadata)
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -180,7 +180,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -202,7 +202,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -246,7 +246,7 @@ public class ReactiveSelectOperationUnitTests {
 		MockRowMetadata metadata = MockRowMetadata.builder()
 				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
 		MockResult result = MockResult.builder()
-				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build();
+				.row(MockRow.builder().identified(0, Object.class, "Walter").metadata(metadata).build()).build();
 
 		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
 
@@ -19,8 +19,11 @@ import static org.assertj.core.api.Assertions.*;
 
 import io.r2dbc.spi.test.MockResult;
 import io.r2dbc.spi.test.MockRowMetadata;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
@@ -158,6 +161,91 @@ public class ReactiveUpsertOperationUnitTests {
 		assertThat(statement.getSql()).contains("insert_only");
 	}
 
+	@Test
+	void shouldUpsertAllInBatches() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(2).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.upsert(Person.class) //
+				.batchSize(2) //
+				.all(Flux.just(new Person(1L, "Walter", null), new Person(2L, "Jesse", null), new Person(3L, "Skyler", null))) //
+				.map(Person::getName) //
+				.as(StepVerifier::create) //
+				.expectNext("Walter", "Jesse", "Skyler") //
+				.verifyComplete();
+
+		List<StatementRecorder.RecordedStatement> statements = recorder.getCreatedStatements();
+
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(0).getSql()).startsWith("INSERT INTO person")
+				.contains("VALUES ($1, $2, $3), ($4, $5, $6) ON CONFLICT");
+		assertThat(statements.get(0).getBindings()).hasSize(6) //
+				.containsEntry(0, Parameter.from(1L)) //
+				.containsEntry(4, Parameter.from("Jesse"));
+		assertThat(statements.get(1).getSql()).contains("VALUES ($1, $2, $3) ON CONFLICT");
+		assertThat(statements.get(1).getBindings()).containsEntry(1, Parameter.from("Skyler"));
+	}
+
+	@Test
+	void shouldUpsertDuplicateIdsWithinBatchInSubsequentStatements() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.upsert(Person.class) //
+				.all(Flux.just(new Person(1L, "Walter", null), new Person(2L, "Jesse", null),
+						new Person(1L, "Heisenberg", null))) //
+				.map(Person::getName) //
+				.as(StepVerifier::create) //
+				.expectNext("Walter", "Jesse", "Heisenberg") //
+				.verifyComplete();
+
+		List<StatementRecorder.RecordedStatement> statements = recorder.getCreatedStatements();
+
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(0).getBindings()).hasSize(6) //
+				.containsEntry(1, Parameter.from("Walter")) //
+				.containsEntry(4, Parameter.from("Jesse"));
+		assertThat(statements.get(1).getBindings()).hasSize(3).containsEntry(1, Parameter.from("Heisenberg"));
+	}
+
+	@Test
+	void shouldLimitRowsPerStatementToMaxBindParameters() {
+
+		PostgresDialect dialect = new PostgresDialect() {
+
+			@Override
+			public int getMaxBindParameters() {
+				return 7;
+			}
+		};
+
+		R2dbcEntityTemplate template = new R2dbcEntityTemplate(client, new DefaultReactiveDataAccessStrategy(dialect));
+		((R2dbcMappingContext) template.getDataAccessStrategy().getConverter().getMappingContext()).setForceQuote(false);
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(2).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		template.upsert(Person.class) //
+				.all(Flux.just(new Person(1L, "Walter", null), new Person(2L, "Jesse", null), new Person(3L, "Skyler", null))) //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		List<StatementRecorder.RecordedStatement> statements = recorder.getCreatedStatements();
+
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(0).getSql()).contains("VALUES ($1, $2, $3), ($4, $5, $6) ON CONFLICT");
+		assertThat(statements.get(1).getSql()).contains("VALUES ($1, $2, $3) ON CONFLICT");
+	}
+
 	static class Person {
 
 		@Id Long id;
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryMethod;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+
+/**
+ * Unit tests for {@link DerivedAotQuery}.
+ */
+class DerivedAotQueryUnitTests {
+
+	@Test
+	void createsQueryForSupportedKeywords() {
+
+		DerivedAotQuery query = DerivedAotQuery.create(createQueryMethod("findByFirstStartingWithAndAgeBetween"));
+
+		assertThat(query).isNotNull();
+		assertThat(query.getTree().getParts()).extracting(Part::getType).containsExactly(Part.Type.STARTING_WITH,
+				Part.Type.BETWEEN);
+	}
+
+	@Test
+	void rejectsDistinctQueries() {
+		assertThat(DerivedAotQuery.create(createQueryMethod("findDistinctByFirst"))).isNull();
+	}
+
+	@Test
+	void rejectsUnsupportedKeywords() {
+		assertThat(DerivedAotQuery.create(createQueryMethod("findByFirstRegex"))).isNull();
+	}
+
+	@Test
+	void rejectsIgnoreCaseOnNonStringProperty() {
+		assertThat(DerivedAotQuery.create(createQueryMethod("findByAgeIgnoreCase"))).isNull();
+	}
+
+	@Test
+	void appliesIgnoreCaseOnlyToStrings() {
+
+		R2dbcQueryMethod queryMethod = createQueryMethod("findAllIgnoreCaseByFirstAndAge");
+		DerivedAotQuery query = DerivedAotQuery.create(queryMethod);
+
+		assertThat(query).isNotNull();
+
+		Part first = query.getTree().getParts().toList().get(0);
+		Part age = query.getTree().getParts().toList().get(1);
+
+		assertThat(DerivedAotQuery.ignoreCase(first, queryMethod.getParameters(), 0)).isTrue();
+		assertThat(DerivedAotQuery.ignoreCase(age, queryMethod.getParameters(), 1)).isFalse();
+	}
+
+	private static R2dbcQueryMethod createQueryMethod(String methodName) {
+
+		return new R2dbcQueryMethod(
+				Arrays.stream(PersonRepository.class.getMethods()).filter(it -> it.getName().equals(methodName)).findFirst()
+						.orElseThrow(),
+				new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+				R2dbcMappingContext.forPlainIdentifiers());
+	}
+
+	interface PersonRepository extends Repository<Person, Long> {
+
+		Flux<Person> findByFirstStartingWithAndAgeBetween(String first, Integer from, Integer to);
+
+		Flux<Person> findDistinctByFirst(String first);
+
+		Flux<Person> findByFirstRegex(String first);
+
+		Flux<Person> findByAgeIgnoreCase(Integer age);
+
+		Flux<Person> findAllIgnoreCaseByFirstAndAge(String first, Integer age);
+	}
+
+	record Person(Long id, String first, Integer age) {
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.data.r2dbc.testing.H2TestSupport;
+import org.springframework.data.relational.RelationalManagedTypes;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for AOT processing via {@link R2dbcRepositoryContributor} running generated fragments against H2.
+ */
+@SpringJUnitConfig(classes = R2dbcRepositoryContributorIntegrationTests.R2dbcRepositoryContributorConfiguration.class)
+class R2dbcRepositoryContributorIntegrationTests {
+
+	@Autowired UserRepository fragment;
+
+	JdbcTemplate jdbc;
+
+	@Configuration
+	@EnableR2dbcRepositories(considerNestedRepositories = true,
+			includeFilters = { @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = String.class) })
+	@Import(InfrastructureConfiguration.class)
+	static class R2dbcRepositoryContributorConfiguration extends AotFragmentTestConfigurationSupport {
+
+		public R2dbcRepositoryContributorConfiguration() {
+			super(UserRepository.class, R2dbcRepositoryContributorConfiguration.class);
+		}
+	}
+
+	@Configuration
+	static class InfrastructureConfiguration extends AbstractR2dbcConfiguration {
+
+		@Override
+		public ConnectionFactory connectionFactory() {
+			return H2TestSupport.createConnectionFactory();
+		}
+
+		@Override
+		public R2dbcMappingContext r2dbcMappingContext(Optional<NamingStrategy> namingStrategy,
+				R2dbcCustomConversions r2dbcCustomConversions, RelationalManagedTypes r2dbcManagedTypes) {
+
+			R2dbcMappingContext context = super.r2dbcMappingContext(namingStrategy, r2dbcCustomConversions,
+					r2dbcManagedTypes);
+			context.setForceQuote(false);
+
+			return context;
+		}
+	}
+
+	@BeforeEach
+	void beforeEach() {
+
+		this.jdbc = new JdbcTemplate(H2TestSupport.createDataSource());
+
+		this.jdbc.execute("DROP TABLE IF EXISTS aot_user");
+		this.jdbc.execute("""
+				CREATE TABLE aot_user (
+				    id integer AUTO_INCREMENT PRIMARY KEY,
+				    firstname varchar(255),
+				    age integer)""");
+
+		this.jdbc.update("INSERT INTO aot_user (firstname, age) VALUES (?, ?)", "Walter", 52);
+		this.jdbc.update("INSERT INTO aot_user (firstname, age) VALUES (?, ?)", "Skyler", 40);
+		this.jdbc.update("INSERT INTO aot_user (firstname, age) VALUES (?, ?)", "Flynn", 16);
+		this.jdbc.update("INSERT INTO aot_user (firstname, age) VALUES (?, ?)", "Mike", 62);
+		this.jdbc.update("INSERT INTO aot_user (firstname, age) VALUES (?, ?)", "Hector", 83);
+	}
+
+	@Test
+	void shouldFindByFirstname() {
+
+		fragment.findByFirstname("Walter").as(StepVerifier::create) //
+				.assertNext(actual -> {
+					assertThat(actual.id()).isNotNull();
+					assertThat(actual.firstname()).isEqualTo("Walter");
+					assertThat(actual.age()).isEqualTo(52);
+				}) //
+				.verifyComplete();
+
+		fragment.findByFirstname("Hank").as(StepVerifier::create).verifyComplete();
+	}
+
+	@Test
+	void shouldFindByFirstnameIgnoreCase() {
+
+		fragment.findByFirstnameIgnoreCase("wALTER").map(User::firstname).as(StepVerifier::create) //
+				.expectNext("Walter") //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindByFirstnameStartingWith() {
+
+		fragment.findByFirstnameStartingWith("S").map(User::firstname).as(StepVerifier::create) //
+				.expectNext("Skyler") //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindByFirstnameIn() {
+
+		fragment.findByFirstnameIn(List.of("Walter", "Mike")).map(User::firstname).collectList()
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).containsExactlyInAnyOrder("Walter", "Mike")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindByAgeBetweenOrdered() {
+
+		fragment.findByAgeBetweenOrderByAgeAsc(40, 62).map(User::firstname).as(StepVerifier::create) //
+				.expectNext("Skyler", "Walter", "Mike") //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindWithLockWaitPolicy() {
+
+		fragment.findLockedByAgeGreaterThan(60).map(User::firstname).collectList().as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).containsExactlyInAnyOrder("Mike", "Hector")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldApplyTopN() {
+
+		fragment.findTop2ByOrderByAgeDesc().map(User::firstname).as(StepVerifier::create) //
+				.expectNext("Hector", "Mike") //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldProjectToInterface() {
+
+		fragment.findProjectionByAgeGreaterThan(60).map(UserProjection::getFirstname).collectList()
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual).containsExactlyInAnyOrder("Mike", "Hector")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldCountAndCheckExistence() {
+
+		fragment.countByAgeGreaterThan(50).as(StepVerifier::create) //
+				.expectNext(3L) //
+				.verifyComplete();
+
+		fragment.existsByFirstname("Walter").as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		fragment.existsByFirstname("Hank").as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldDeleteByFirstname() {
+
+		fragment.deleteByFirstname("Walter").as(StepVerifier::create) //
+				.expectNext(1L) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM aot_user", Integer.class)).isEqualTo(4);
+	}
+
+	@Test
+	void shouldFindByNamedParameterQuery() {
+
+		fragment.findUserByName("Skyler").map(User::age).as(StepVerifier::create) //
+				.expectNext(40) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindByIndexedParameterQuery() {
+
+		fragment.findOlderThan(60).map(User::firstname).as(StepVerifier::create) //
+				.expectNext("Mike", "Hector") //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldExecuteModifyingQuery() {
+
+		fragment.updateAge("Flynn", 17).as(StepVerifier::create) //
+				.expectNext(1) //
+				.verifyComplete();
+
+		assertThat(jdbc.queryForObject("SELECT age FROM aot_user WHERE firstname = 'Flynn'", Integer.class))
+				.isEqualTo(17);
+	}
+
+}
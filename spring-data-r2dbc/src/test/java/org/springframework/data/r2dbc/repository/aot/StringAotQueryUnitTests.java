@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.query.R2dbcQueryMethod;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.Param;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link StringAotQuery}.
+ */
+class StringAotQueryUnitTests {
+
+	@Test
+	void bindsReferencedParametersByName() {
+
+		StringAotQuery query = createQuery("findByNames", String.class, String.class);
+
+		assertThat(query.bindings()).extracting(StringAotQuery.Binding::name).containsExactly("first", "last");
+		assertThat(query.bindings()).extracting(StringAotQuery.Binding::position).containsExactly(0, 1);
+		assertThat(query.hasExpressions()).isFalse();
+		assertThat(query.serialize()).containsEntry("query", "SELECT * FROM person WHERE first = :first AND last = :last");
+	}
+
+	@Test
+	void bindsUnreferencedParametersByIndex() {
+
+		StringAotQuery query = createQuery("findByNative", String.class, Sort.class, Integer.class);
+
+		assertThat(query.bindings()).hasSize(2);
+		assertThat(query.bindings()).allMatch(it -> !it.isNamed());
+		assertThat(query.bindings()).extracting(StringAotQuery.Binding::index).containsExactly(0, 1);
+		assertThat(query.bindings()).extracting(StringAotQuery.Binding::type).containsExactly(String.class,
+				Integer.class);
+	}
+
+	@Test
+	void detectsValueExpressions() {
+
+		StringAotQuery query = createQuery("findByExpression", String.class);
+
+		assertThat(query.hasExpressions()).isTrue();
+	}
+
+	private static StringAotQuery createQuery(String methodName, Class<?>... parameterTypes) {
+
+		R2dbcQueryMethod queryMethod = new R2dbcQueryMethod(
+				ReflectionUtils.findMethod(PersonRepository.class, methodName, parameterTypes),
+				new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+				R2dbcMappingContext.forPlainIdentifiers());
+
+		return StringAotQuery.of(queryMethod.getRequiredAnnotatedQuery(), queryMethod.getParameters());
+	}
+
+	interface PersonRepository extends Repository<Person, Long> {
+
+		@Query("SELECT * FROM person WHERE first = :first AND last = :last")
+		Flux<Person> findByNames(@Param("first") String first, @Param("last") String last);
+
+		@Query("SELECT * FROM person WHERE first = $1 AND age > $2")
+		Flux<Person> findByNative(@Param("unused") String first, Sort sort, Integer age);
+
+		@Query("SELECT * FROM person WHERE first = :#{#first}")
+		Flux<Person> findByExpression(@Param("first") String first);
+	}
+
+	record Person(Long id, String first, String last, Integer age) {
+	}
+
+}
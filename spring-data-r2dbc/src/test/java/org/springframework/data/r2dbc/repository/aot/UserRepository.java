@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.aot;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
+import org.springframework.data.relational.repository.Lock;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Repository for R2DBC AOT repository tests.
+ */
+public interface UserRepository extends ReactiveCrudRepository<User, Long> {
+
+	// -------------------------------------------------------------------------
+	// Derived Queries
+	// -------------------------------------------------------------------------
+
+	Mono<User> findByFirstname(String firstname);
+
+	Mono<User> findByFirstnameIgnoreCase(String firstname);
+
+	Flux<User> findByFirstnameStartingWith(String prefix);
+
+	Flux<User> findByFirstnameIn(Collection<String> firstnames);
+
+	Flux<User> findByAgeBetweenOrderByAgeAsc(int from, int to);
+
+	Flux<User> findTop2ByOrderByAgeDesc();
+
+	@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWait.Policy.SKIP_LOCKED)
+	Flux<User> findLockedByAgeGreaterThan(int age);
+
+	Flux<UserProjection> findProjectionByAgeGreaterThan(int age);
+
+	Mono<Long> countByAgeGreaterThan(int age);
+
+	Mono<Boolean> existsByFirstname(String firstname);
+
+	Mono<Long> deleteByFirstname(String firstname);
+
+	// -------------------------------------------------------------------------
+	// Declared Queries
+	// -------------------------------------------------------------------------
+
+	@Query("SELECT * FROM aot_user WHERE firstname = :firstname")
+	Mono<User> findUserByName(@Param("firstname") String firstname);
+
+	@Query("SELECT * FROM aot_user WHERE age > $1 ORDER BY age")
+	Flux<User> findOlderThan(int age);
+
+	@Modifying
+	@Query("UPDATE aot_user SET age = :age WHERE firstname = :firstname")
+	Mono<Integer> updateAge(@Param("firstname") String firstname, @Param("age") int age);
+}
@@ -54,6 +54,7 @@ import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.domain.SqlSort;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
@@ -504,6 +505,73 @@ class PartTreeR2dbcQueryUnitTests {
 				.where(TABLE + ".age IN ($1)");
 	}
 
+	@Test
+	void reusesRenderedQueryForSameShape() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> first = createQuery(queryMethod, r2dbcQuery, "John");
+		PreparedOperation<?> second = createQuery(queryMethod, r2dbcQuery, "Jane");
+
+		Assertions.assertThat(second.toQuery()).isEqualTo(first.toQuery());
+
+		BindTarget bindTarget = mock(BindTarget.class);
+		second.bindTo(bindTarget);
+
+		verify(bindTarget).bind(0, "Jane");
+		verifyNoMoreInteractions(bindTarget);
+	}
+
+	@Test
+	void rendersQueryPerShape() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		createQuery(queryMethod, r2dbcQuery, "John");
+		PreparedOperation<?> preparedOperation = createQuery(queryMethod, r2dbcQuery, new Object[] { null });
+
+		PreparedOperationAssert.assertThat(preparedOperation) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where(TABLE + ".first_name IS NULL");
+	}
+
+	@Test
+	void rendersQueryPerCollectionSize() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		createQuery(queryMethod, r2dbcQuery, Collections.singleton(25));
+		PreparedOperation<?> preparedOperation = createQuery(queryMethod, r2dbcQuery, Arrays.asList(25, 30));
+
+		PreparedOperationAssert.assertThat(preparedOperation) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where(TABLE + ".age IN ($1, $2)");
+
+		BindTarget bindTarget = mock(BindTarget.class);
+		preparedOperation.bindTo(bindTarget);
+
+		verify(bindTarget).bind(0, 25);
+		verify(bindTarget).bind(1, 30);
+	}
+
+	@Test
+	void rendersQueryPerDynamicSort() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Sort.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> byLastName = createQuery(queryMethod, r2dbcQuery, "John", Sort.by("lastName"));
+		PreparedOperation<?> byAge = createQuery(queryMethod, r2dbcQuery, "John", Sort.by("age"));
+
+		PreparedOperationAssert.assertThat(byLastName).orderBy("users.last_name ASC");
+		PreparedOperationAssert.assertThat(byAge).orderBy("users.age ASC");
+	}
+
 	@Test // GH-282
 	void createsQueryToFindAllEntitiesByIntegerAttributeNotIn() throws Exception {
 
@@ -750,6 +818,30 @@ class PartTreeR2dbcQueryUnitTests {
 				.where("users.first_name = $1 AND (users.age = $2) FOR SHARE OF users");
 	}
 
+	@Test
+	void createQueryWithSkipLockedWaitPolicy() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByLastName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> query = createQuery(queryMethod, r2dbcQuery, "Krupitza");
+
+		PreparedOperationAssert.assertThat(query) //
+				.selects("users.id", "users.first_name", "users.last_name", "users.date_of_birth", "users.age", "users.active") //
+				.from(TABLE) //
+				.where("users.last_name = $1 FOR UPDATE OF users SKIP LOCKED");
+	}
+
+	@Test
+	void rejectsLockTimeoutNotSupportedByDialectOnQueryCreation() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByAge", Integer.class);
+
+		Assertions.assertThatIllegalArgumentException()
+				.isThrownBy(() -> new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy))
+				.withRootCauseInstanceOf(UnsupportedOperationException.class);
+	}
+
 	@Test // GH-1285
 	void bindsParametersFromPublisher() throws Exception {
 
@@ -953,6 +1045,12 @@ class PartTreeR2dbcQueryUnitTests {
 		@Lock(LockMode.PESSIMISTIC_READ)
 		Flux<User> findAllByFirstNameAndAge(String firstName, Integer age);
 
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, waitPolicy = LockWait.Policy.SKIP_LOCKED)
+		Flux<User> findAllByLastName(String lastName);
+
+		@Lock(value = LockMode.PESSIMISTIC_WRITE, timeout = 5)
+		Flux<User> findAllByAge(Integer age);
+
 		Flux<User> findAllByFirstName(String firstName);
 
 		Flux<User> findAllByLastNameAndFirstName(String lastName, String firstName);
@@ -375,6 +375,19 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch upsert statement for multiple entities that are aggregate roots.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.2
+	 */
+	final class BatchUpsertRoot<T> extends BatchWithValue<T, UpsertRoot<T>, Class<T>> {
+
+		public BatchUpsertRoot(List<UpsertRoot<T>> actions) {
+			super(actions, UpsertRoot::getEntityType);
+		}
+	}
+
 	/**
 	 * Represents a batch delete statement for multiple entities that are reachable via a given path from the aggregate
 	 * root.
@@ -402,6 +415,33 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch delete statement for multiple aggregate roots enforcing optimistic locking through their
+	 * previous versions.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.2
+	 */
+	final class BatchDeleteRootWithVersion<T> extends BatchWithValue<T, DeleteRoot<T>, Class<T>> {
+
+		BatchDeleteRootWithVersion(List<DeleteRoot<T>> actions) {
+			super(actions, DeleteRoot::getEntityType);
+		}
+	}
+
+	/**
+	 * Represents a batch acquire lock statement for multiple aggregate roots when only their ids are known.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.2
+	 */
+	final class BatchAcquireLockRoot<T> extends BatchWithValue<T, AcquireLockRoot<T>, Class<T>> {
+
+		BatchAcquireLockRoot(List<AcquireLockRoot<T>> actions) {
+			super(actions, AcquireLockRoot::getEntityType);
+		}
+	}
+
 	/**
 	 * An action depending on another action for providing additional information like the id of a parent entity.
 	 *
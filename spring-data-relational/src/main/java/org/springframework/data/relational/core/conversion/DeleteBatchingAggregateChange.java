@@ -18,7 +18,7 @@ public class DeleteBatchingAggregateChange<T> implements BatchingAggregateChange
 	private final Class<T> entityType;
 	private final List<DbAction.DeleteRoot<T>> rootActionsWithoutVersion = new ArrayList<>();
 	private final List<DbAction.DeleteRoot<T>> rootActionsWithVersion = new ArrayList<>();
-	private final List<DbAction.AcquireLockRoot<?>> lockActions = new ArrayList<>();
+	private final List<DbAction.AcquireLockRoot<T>> lockActions = new ArrayList<>();
 	private final BatchedActions deleteActions = BatchedActions.batchedDeletes();
 
 	DeleteBatchingAggregateChange(Class<T> entityType) {
@@ -38,14 +38,22 @@ public class DeleteBatchingAggregateChange<T> implements BatchingAggregateChange
 	@Override
 	public void forEachAction(Consumer<? super DbAction<?>> consumer) {
 
-		lockActions.forEach(consumer);
+		if (lockActions.size() > 1) {
+			consumer.accept(new DbAction.BatchAcquireLockRoot<>(lockActions));
+		} else {
+			lockActions.forEach(consumer);
+		}
 		deleteActions.forEach(consumer);
 		if (rootActionsWithoutVersion.size() > 1) {
 			consumer.accept(new DbAction.BatchDeleteRoot<>(rootActionsWithoutVersion));
 		} else {
 			rootActionsWithoutVersion.forEach(consumer);
 		}
-		rootActionsWithVersion.forEach(consumer);
+		if (rootActionsWithVersion.size() > 1) {
+			consumer.accept(new DbAction.BatchDeleteRootWithVersion<>(rootActionsWithVersion));
+		} else {
+			rootActionsWithVersion.forEach(consumer);
+		}
 	}
 
 	@Override
@@ -58,7 +66,8 @@ public class DeleteBatchingAggregateChange<T> implements BatchingAggregateChange
 			} else if (action instanceof DbAction.Delete<?> deleteAction) {
 				deleteActions.add(deleteAction);
 			} else if (action instanceof DbAction.AcquireLockRoot<?> lockRootAction) {
-				lockActions.add(lockRootAction);
+				// noinspection unchecked
+				lockActions.add((DbAction.AcquireLockRoot<T>) lockRootAction);
 			}
 		});
 	}
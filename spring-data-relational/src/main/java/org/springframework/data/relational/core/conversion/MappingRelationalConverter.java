@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -72,6 +73,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Predicates;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -112,6 +114,8 @@ public class MappingRelationalConverter extends AbstractRelationalConverter
 	private final CachingValueExpressionEvaluatorFactory valueExpressionEvaluatorFactory = new CachingValueExpressionEvaluatorFactory(
 			expressionParser, this, o -> spELContext.getEvaluationContext(o));
 
+	private final Map<TypeInformation<?>, SimpleReadConversion> simpleReadConversions = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link MappingRelationalConverter} given the new {@link RelationalMappingContext}.
 	 *
@@ -675,24 +679,15 @@ public class MappingRelationalConverter extends AbstractRelationalConverter
 	 * @return the converted value if a conversion applies or the original value. Can be {@literal null} if the conversion
 	 *         returns a {@literal null} value.
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected @Nullable Object getPotentiallyConvertedSimpleRead(Object value, TypeInformation<?> type) {
 
-		Class<?> target = type.getType();
+		SimpleReadConversion conversion = simpleReadConversions.get(type);
 
-		if (getConversions().hasCustomReadTarget(value.getClass(), target)) {
-			return getConversionService().convert(value, TypeDescriptor.forObject(value), createTypeDescriptor(type));
+		if (conversion == null) {
+			conversion = simpleReadConversions.computeIfAbsent(type, SimpleReadConversion::new);
 		}
 
-		if (ClassUtils.isAssignableValue(target, value)) {
-			return value;
-		}
-
-		if (Enum.class.isAssignableFrom(target) && value instanceof CharSequence) {
-			return Enum.valueOf((Class<Enum>) target, value.toString());
-		}
-
-		return getConversionService().convert(value, TypeDescriptor.forObject(value), createTypeDescriptor(type));
+		return conversion.read(value);
 	}
 
 	private static TypeDescriptor createTypeDescriptor(TypeInformation<?> type) {
@@ -706,6 +701,61 @@ public class MappingRelationalConverter extends AbstractRelationalConverter
 		return new TypeDescriptor(ResolvableType.forClassWithGenerics(type.getType(), generics), type.getType(), null);
 	}
 
+	/**
+	 * Conversion of simple values into a single target type. Resolves how to read a value once per source type (custom
+	 * conversion, assignable value, {@link Enum} lookup or conversion through the {@link ConversionService}) so that
+	 * subsequent reads skip the {@link CustomConversions} lookups and {@link TypeDescriptor} creation.
+	 */
+	private final class SimpleReadConversion {
+
+		private final Class<?> target;
+		private final Lazy<TypeDescriptor> targetDescriptor;
+		private final Map<Class<?>, Function<Object, @Nullable Object>> readers = new ConcurrentHashMap<>(4);
+
+		SimpleReadConversion(TypeInformation<?> type) {
+			this.target = type.getType();
+			this.targetDescriptor = Lazy.of(() -> createTypeDescriptor(type));
+		}
+
+		@Nullable
+		Object read(Object value) {
+
+			Function<Object, @Nullable Object> reader = readers.get(value.getClass());
+
+			if (reader == null) {
+				reader = readers.computeIfAbsent(value.getClass(), this::createReader);
+			}
+
+			return reader.apply(value);
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		private Function<Object, @Nullable Object> createReader(Class<?> sourceType) {
+
+			if (getConversions().hasCustomReadTarget(sourceType, target)) {
+				return convertingReader(sourceType);
+			}
+
+			if (ClassUtils.isAssignable(target, sourceType)) {
+				return Function.identity();
+			}
+
+			if (Enum.class.isAssignableFrom(target) && CharSequence.class.isAssignableFrom(sourceType)) {
+				return value -> Enum.valueOf((Class<Enum>) target, value.toString());
+			}
+
+			return convertingReader(sourceType);
+		}
+
+		private Function<Object, @Nullable Object> convertingReader(Class<?> sourceType) {
+
+			TypeDescriptor sourceDescriptor = TypeDescriptor.valueOf(sourceType);
+			ConversionService conversionService = getConversionService();
+
+			return value -> conversionService.convert(value, sourceDescriptor, targetDescriptor.get());
+		}
+	}
+
 	@Override
 	@Nullable
 	public Object writeValue(@Nullable Object value, TypeInformation<?> type) {
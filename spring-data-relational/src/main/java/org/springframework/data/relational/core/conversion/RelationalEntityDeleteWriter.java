@@ -32,7 +32,9 @@ import org.springframework.util.Assert;
  * Converts an entity that is about to be deleted into {@link DbAction}s inside a {@link MutableAggregateChange} that
  * need to be executed against the database to recreate the appropriate state in the database. If the
  * {@link MutableAggregateChange} has a reference to the entity and the entity has a version attribute, the delete will
- * include an optimistic record locking check.
+ * include an optimistic record locking check. If {@link RelationalMappingContext#isOnDeleteCascadeEnabled()} is set,
+ * only the aggregate root gets deleted and referenced entities are left to the {@code ON DELETE CASCADE} foreign keys
+ * of the database.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -125,6 +127,10 @@ public class RelationalEntityDeleteWriter implements EntityWriter<Object, Mutabl
 	private void forAllTableRepresentingPaths(Class<?> entityType,
 			Consumer<PersistentPropertyPath<RelationalPersistentProperty>> pathConsumer) {
 
+		if (context.isOnDeleteCascadeEnabled()) {
+			return;
+		}
+
 		context.findPersistentPropertyPaths(entityType, RelationalPredicates.isRelation()) //
 				.filter(path -> context.getAggregatePath(path).isWritable()) //
 				.forEach(pathConsumer);
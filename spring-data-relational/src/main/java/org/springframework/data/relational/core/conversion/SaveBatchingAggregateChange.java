@@ -41,6 +41,11 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 	 * into a single batch.
 	 */
 	private final List<DbAction.InsertRoot<T>> insertRootBatchCandidates = new ArrayList<>();
+
+	/**
+	 * Holds a list of UpsertRoot actions of the same entity type that might be combined into a single batch.
+	 */
+	private final List<DbAction.UpsertRoot<T>> upsertRootBatchCandidates = new ArrayList<>();
 	private final BatchedActions insertActions = BatchedActions.batchedInserts();
 	private final BatchedActions deleteActions = BatchedActions.batchedDeletes();
 
@@ -69,6 +74,11 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		} else {
 			insertRootBatchCandidates.forEach(consumer);
 		}
+		if (upsertRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpsertRoot<>(upsertRootBatchCandidates));
+		} else {
+			upsertRootBatchCandidates.forEach(consumer);
+		}
 		deleteActions.forEach(consumer);
 		insertActions.forEach(consumer);
 	}
@@ -84,12 +94,16 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 				rootActions.add(rootAction);
 			} else if (action instanceof DbAction.UpsertRoot<?> rootAction) {
 
-				combineBatchCandidatesIntoSingleBatchRootAction();
-				rootActions.add(rootAction);
+				if (!insertRootBatchCandidates.isEmpty() || (!upsertRootBatchCandidates.isEmpty()
+						&& !upsertRootBatchCandidates.get(0).getEntityType().equals(rootAction.getEntityType()))) {
+					combineBatchCandidatesIntoSingleBatchRootAction();
+				}
+				// noinspection unchecked
+				upsertRootBatchCandidates.add((DbAction.UpsertRoot<T>) rootAction);
 			} else if (action instanceof DbAction.InsertRoot<?> rootAction) {
 
-				if (!insertRootBatchCandidates.isEmpty()
-						&& !insertRootBatchCandidates.get(0).idValueSource().equals(rootAction.idValueSource())) {
+				if (!upsertRootBatchCandidates.isEmpty() || (!insertRootBatchCandidates.isEmpty()
+						&& !insertRootBatchCandidates.get(0).idValueSource().equals(rootAction.idValueSource()))) {
 					combineBatchCandidatesIntoSingleBatchRootAction();
 				}
 				// noinspection unchecked
@@ -103,8 +117,8 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 	}
 
 	/**
-	 * All actions gathered in {@link #insertRootBatchCandidates} are combined into a single root action and the list of
-	 * batch candidates is emptied.
+	 * All actions gathered in {@link #insertRootBatchCandidates} and {@link #upsertRootBatchCandidates} are combined into
+	 * a single root action and the lists of batch candidates are emptied.
 	 */
 	private void combineBatchCandidatesIntoSingleBatchRootAction() {
 
@@ -114,6 +128,13 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 			rootActions.addAll(insertRootBatchCandidates);
 		}
 		insertRootBatchCandidates.clear();
+
+		if (upsertRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpsertRoot<>(List.copyOf(upsertRootBatchCandidates)));
+		} else {
+			rootActions.addAll(upsertRootBatchCandidates);
+		}
+		upsertRootBatchCandidates.clear();
 	}
 
 }
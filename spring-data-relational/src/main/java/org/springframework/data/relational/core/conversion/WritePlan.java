@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.RelationalPredicates;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Structural part of writing an aggregate that does not depend on the aggregate instance: the writable relation paths
+ * in insert order, how their values are traversed and which path provides the parent nodes of a path. A
+ * {@link WritePlan} is computed once per aggregate root and reused by all {@link WritingContext}s for that type.
+ *
+ * @since 4.2
+ */
+final class WritePlan {
+
+	private static final Map<RelationalPersistentEntity<?>, WritePlan> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private final List<PathPlan> insertOrder;
+	private final List<PathPlan> deleteOrder;
+
+	private WritePlan(List<PathPlan> insertOrder) {
+
+		List<PathPlan> deleteOrder = new ArrayList<>(insertOrder);
+		Collections.reverse(deleteOrder);
+
+		this.insertOrder = List.copyOf(insertOrder);
+		this.deleteOrder = List.copyOf(deleteOrder);
+	}
+
+	/**
+	 * Returns the {@link WritePlan} for the given aggregate root, creating it on first access.
+	 *
+	 * @param context the mapping context owning {@code root}.
+	 * @param root the aggregate root entity.
+	 * @return the {@link WritePlan} for {@code root}.
+	 */
+	static WritePlan of(RelationalMappingContext context, RelationalPersistentEntity<?> root) {
+		return CACHE.computeIfAbsent(root, it -> create(context, it));
+	}
+
+	private static WritePlan create(RelationalMappingContext context, RelationalPersistentEntity<?> root) {
+
+		List<PersistentPropertyPath<RelationalPersistentProperty>> paths = context
+				.findPersistentPropertyPaths(root.getType(), RelationalPredicates::isRelation) //
+				.filter(ppp -> context.getAggregatePath(ppp).isWritable()).toList();
+
+		List<PathPlan> plans = new ArrayList<>(paths.size());
+		for (int i = 0; i < paths.size(); i++) {
+
+			PersistentPropertyPath<RelationalPersistentProperty> path = paths.get(i);
+			RelationalPersistentProperty leafProperty = path.getLeafProperty();
+
+			plans.add(new PathPlan(i, path, context.getRequiredPersistentEntity(leafProperty), //
+					isDirectlyReferencedByRootIgnoringEmbeddables(path), //
+					paths.indexOf(path.getParentPath()), //
+					ValueKind.of(leafProperty)));
+		}
+
+		return new WritePlan(plans);
+	}
+
+	private static boolean isDirectlyReferencedByRootIgnoringEmbeddables(
+			PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> currentPath = path.getParentPath();
+
+		while (currentPath != null) {
+
+			if (!currentPath.getLeafProperty().isEmbedded()) {
+				return false;
+			}
+			currentPath = currentPath.getParentPath();
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the writable relation paths, parents before their children.
+	 */
+	List<PathPlan> insertOrder() {
+		return insertOrder;
+	}
+
+	/**
+	 * @return the writable relation paths, children before their parents.
+	 */
+	List<PathPlan> deleteOrder() {
+		return deleteOrder;
+	}
+
+	int size() {
+		return insertOrder.size();
+	}
+
+	/**
+	 * Instance independent information about a single writable relation path.
+	 *
+	 * @param index position of the path in {@link #insertOrder()}.
+	 * @param path the relation path.
+	 * @param leafEntity the entity referenced by the path.
+	 * @param directlyReferencedByRoot whether the path is reachable from the aggregate root through embeddables only.
+	 * @param parentIndex position of the path providing the parent nodes in {@link #insertOrder()}, or {@literal -1} if
+	 *          there is none.
+	 * @param valueKind how values of the path are turned into nodes.
+	 */
+	record PathPlan(int index, PersistentPropertyPath<RelationalPersistentProperty> path,
+			RelationalPersistentEntity<?> leafEntity, boolean directlyReferencedByRoot, int parentIndex,
+			ValueKind valueKind) {
+
+		boolean isQualified() {
+			return valueKind == ValueKind.MAP || valueKind == ValueKind.LIST;
+		}
+	}
+
+	/**
+	 * Shape of a property value.
+	 */
+	enum ValueKind {
+
+		MAP, LIST, COLLECTION, SINGLE;
+
+		static ValueKind of(RelationalPersistentProperty property) {
+
+			if (property.isQualified()) {
+				return property.isMap() ? MAP : LIST;
+			}
+
+			return property.isCollectionLike() ? COLLECTION : SINGLE;
+		}
+	}
+}
@@ -25,10 +25,10 @@ import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.WritePlan.PathPlan;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
-import org.springframework.data.relational.core.mapping.RelationalPredicates;
 import org.springframework.data.util.Pair;
 import org.springframework.util.Assert;
 
@@ -47,13 +47,15 @@ class WritingContext<T> {
 	private final RelationalMappingContext context;
 	private final T root;
 	private final Class<T> entityType;
-	private final List<PersistentPropertyPath<RelationalPersistentProperty>> paths;
+	private final RelationalPersistentEntity<T> persistentEntity;
+	private final WritePlan plan;
 	private final Map<PathNode, DbAction<?>> previousActions = new HashMap<>();
-	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> nodesCache = new HashMap<>();
+	private final List<List<PathNode>> nodesByPath;
 	private final IdValueSource rootIdValueSource;
 	private @Nullable final Number previousVersion;
 	private final RootAggregateChange<T> aggregateChange;
 
+	@SuppressWarnings("unchecked")
 	WritingContext(RelationalMappingContext context, T root, RootAggregateChange<T> aggregateChange) {
 
 		this.context = context;
@@ -61,10 +63,10 @@ class WritingContext<T> {
 		this.entityType = aggregateChange.getEntityType();
 		this.previousVersion = aggregateChange.getPreviousVersion();
 		this.aggregateChange = aggregateChange;
-		this.rootIdValueSource = IdValueSource.forInstance(root,
-				context.getRequiredPersistentEntity(aggregateChange.getEntityType()));
-		this.paths = context.findPersistentPropertyPaths(entityType, RelationalPredicates::isRelation) //
-				.filter(ppp -> context.getAggregatePath(ppp).isWritable()).toList();
+		this.persistentEntity = (RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(entityType);
+		this.rootIdValueSource = IdValueSource.forInstance(root, persistentEntity);
+		this.plan = WritePlan.of(context, persistentEntity);
+		this.nodesByPath = new ArrayList<>(Collections.nCopies(plan.size(), Collections.emptyList()));
 	}
 
 	/**
@@ -127,15 +129,15 @@ class WritingContext<T> {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		paths.forEach(path -> actions.addAll(insertAll(path)));
+		plan.insertOrder().forEach(path -> actions.addAll(insertAll(path)));
 
 		return actions;
 	}
 
 	@SuppressWarnings("unchecked")
-	private List<? extends DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
+	private List<? extends DbAction<?>> insertAll(PathPlan path) {
 
-		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(path.getLeafProperty());
+		RelationalPersistentEntity<?> persistentEntity = path.leafEntity();
 		List<DbAction.Insert<Object>> inserts = new ArrayList<>();
 		from(path).forEach(node -> {
 
@@ -145,7 +147,7 @@ class WritingContext<T> {
 
 			Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
 			Object instance;
-			if (node.path().getLeafProperty().isQualified()) {
+			if (path.isQualified()) {
 
 				Pair<Object, Object> value = (Pair) node.value();
 				qualifiers.put(node.path(), value.getFirst());
@@ -161,7 +163,8 @@ class WritingContext<T> {
 			}
 
 			IdValueSource idValueSource = IdValueSource.forInstance(instance, persistentEntity);
-			DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path, parentAction, qualifiers, idValueSource);
+			DbAction.Insert<Object> insert = new DbAction.Insert<>(instance, path.path(), parentAction, qualifiers,
+					idValueSource);
 			inserts.add(insert);
 			previousActions.put(node, insert);
 		});
@@ -170,21 +173,14 @@ class WritingContext<T> {
 
 	private List<DbAction<?>> deleteReferenced() {
 
-		List<DbAction<?>> deletes = new ArrayList<>();
-		paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
-
-		return deletes;
-	}
-
-	/// Operations on a single path
-
-	private DbAction.Delete<?> deleteReferenced(PersistentPropertyPath<RelationalPersistentProperty> path) {
-
-		Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(root).getIdentifier();
+		Object id = persistentEntity.getIdentifierAccessor(root).getIdentifier();
 
 		Assert.state(id != null, "Id must not be null");
 
-		return new DbAction.Delete<>(id, path);
+		List<DbAction<?>> deletes = new ArrayList<>(plan.size());
+		plan.deleteOrder().forEach(path -> deletes.add(new DbAction.Delete<>(id, path.path())));
+
+		return deletes;
 	}
 
 	// methods not directly related to the creation of DbActions
@@ -212,52 +208,35 @@ class WritingContext<T> {
 		return null;
 	}
 
-	private List<PathNode> from(PersistentPropertyPath<RelationalPersistentProperty> path) {
+	private List<PathNode> from(PathPlan path) {
 
 		List<PathNode> nodes = new ArrayList<>();
 
-		if (isDirectlyReferencedByRootIgnoringEmbeddables(path)) {
+		if (path.directlyReferencedByRoot()) {
 
-			Object value = getFromRootValue(path);
+			Object value = getFromRootValue(path.path());
 			nodes.addAll(createNodes(path, null, value));
 
-		} else {
+		} else if (path.parentIndex() >= 0) {
 
-			List<PathNode> pathNodes = nodesCache.getOrDefault(path.getParentPath(), Collections.emptyList());
+			RelationalPersistentProperty leafProperty = path.path().getLeafProperty();
 
-			pathNodes.forEach(parentNode -> {
+			nodesByPath.get(path.parentIndex()).forEach(parentNode -> {
 
 				// todo: this should go into pathnode
 				Object parentValue = parentNode.getActualValue();
 
-				Object value = path.getLeafProperty().getOwner().getPropertyAccessor(parentValue)
-						.getProperty(path.getLeafProperty());
+				Object value = leafProperty.getOwner().getPropertyAccessor(parentValue).getProperty(leafProperty);
 
 				nodes.addAll(createNodes(path, parentNode, value));
 			});
 		}
 
-		nodesCache.put(path, nodes);
+		nodesByPath.set(path.index(), nodes);
 
 		return nodes;
 	}
 
-	private boolean isDirectlyReferencedByRootIgnoringEmbeddables(
-			PersistentPropertyPath<RelationalPersistentProperty> path) {
-
-		PersistentPropertyPath<RelationalPersistentProperty> currentPath = path.getParentPath();
-
-		while (currentPath != null) {
-
-			if (!currentPath.getLeafProperty().isEmbedded()) {
-				return false;
-			}
-			currentPath = currentPath.getParentPath();
-		}
-
-		return true;
-	}
-
 	@Nullable
 	private Object getFromRootValue(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
 
@@ -274,35 +253,33 @@ class WritingContext<T> {
 				.getProperty(path.getLeafProperty());
 	}
 
-	private List<PathNode> createNodes(PersistentPropertyPath<RelationalPersistentProperty> path,
-			@Nullable PathNode parentNode, @Nullable Object value) {
+	@SuppressWarnings("unchecked")
+	private List<PathNode> createNodes(PathPlan plan, @Nullable PathNode parentNode, @Nullable Object value) {
 
 		if (value == null) {
 			return Collections.emptyList();
 		}
 
+		PersistentPropertyPath<RelationalPersistentProperty> path = plan.path();
 		List<PathNode> nodes = new ArrayList<>();
-		if (path.getLeafProperty().isEmbedded()) {
-			nodes.add(new PathNode(path, parentNode, value));
-		} else if (path.getLeafProperty().isQualified()) {
 
-			if (path.getLeafProperty().isMap()) {
-				((Map<?, ?>) value).forEach((k, v) -> nodes.add(new PathNode(path, parentNode, Pair.of(k, v))));
-			} else {
+		switch (plan.valueKind()) {
+			case MAP -> ((Map<?, ?>) value).forEach((k, v) -> nodes.add(new PathNode(path, parentNode, Pair.of(k, v))));
+			case LIST -> {
 
 				List<Object> listValue = (List<Object>) value;
 				for (int k = 0; k < listValue.size(); k++) {
 					nodes.add(new PathNode(path, parentNode, Pair.of(k, listValue.get(k))));
 				}
 			}
-		} else if (path.getLeafProperty().isCollectionLike()) { // collection value
-			if (value.getClass().isArray()) {
-				asList((Object[]) value).forEach(v -> nodes.add(new PathNode(path, parentNode, v)));
-			} else {
-				((Iterable<?>) value).forEach(v -> nodes.add(new PathNode(path, parentNode, v)));
+			case COLLECTION -> {
+				if (value.getClass().isArray()) {
+					asList((Object[]) value).forEach(v -> nodes.add(new PathNode(path, parentNode, v)));
+				} else {
+					((Iterable<?>) value).forEach(v -> nodes.add(new PathNode(path, parentNode, v)));
+				}
 			}
-		} else { // single entity value
-			nodes.add(new PathNode(path, parentNode, value));
+			case SINGLE -> nodes.add(new PathNode(path, parentNode, value));
 		}
 
 		return nodes;
@@ -182,7 +182,7 @@ public abstract class AbstractDialect implements Dialect {
 				return "";
 			}
 
-			return clause.getLock(new LockOptions(lockMode, select.getFrom()));
+			return clause.getLock(new LockOptions(lockMode, select.getFrom(), select.getLockWait()));
 		}
 	}
 
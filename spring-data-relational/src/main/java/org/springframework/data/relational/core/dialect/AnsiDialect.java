@@ -35,6 +35,8 @@ public class AnsiDialect extends AbstractDialect {
 
 		@Override
 		public String getLock(LockOptions lockOptions) {
+
+			LockWaitClauses.requireDefaultWait(lockOptions, "ANSI SQL");
 			return "FOR UPDATE";
 		}
 
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
@@ -94,6 +95,14 @@ public class Db2Dialect extends AbstractDialect {
 
 			@Override
 			public String getLock(LockOptions lockOptions) {
+
+				LockWait lockWait = lockOptions.getLockWait();
+
+				if (lockWait.getPolicy() == LockWait.Policy.SKIP_LOCKED) {
+					return "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS SKIP LOCKED DATA";
+				}
+
+				LockWaitClauses.requireDefaultWait(lockOptions, "DB2");
 				return "FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS";
 			}
 
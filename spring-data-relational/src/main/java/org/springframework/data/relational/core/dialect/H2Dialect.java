@@ -18,6 +18,8 @@ package org.springframework.data.relational.core.dialect;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -44,7 +46,19 @@ public class H2Dialect extends AbstractDialect {
 
 	private static final IdentifierProcessing IDENTIFIER_PROCESSING = IdentifierProcessing.create(Quoting.ANSI,
 			LetterCasing.UPPER_CASE);
-	private static final IdGeneration ID_GENERATION = IdGeneration.create(IDENTIFIER_PROCESSING);
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return IdGeneration.createSequenceQuery(sequenceName.toSql(IDENTIFIER_PROCESSING));
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName, int count) {
+			return "SELECT NEXT VALUE FOR %s FROM SYSTEM_RANGE(1, %d)".formatted(sequenceName.toSql(IDENTIFIER_PROCESSING),
+					count);
+		}
+	};
 
 	private static final ArrayColumns ARRAY_COLUMNS = new ArrayColumns() {
 
@@ -83,12 +97,24 @@ public class H2Dialect extends AbstractDialect {
 		}
 	};
 
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+			return "FOR UPDATE" + LockWaitClauses.withWaitTimeout(lockOptions);
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
+	};
 
 	protected H2Dialect() {}
 
 	@Override
 	public LockClause lock() {
-		return AnsiDialect.LOCK_CLAUSE;
+		return LOCK_CLAUSE;
 	}
 
 	@Override
@@ -88,6 +88,12 @@ public class HsqlDbDialect extends AbstractDialect {
 				return "SELECT NEXT VALUE FOR %s AS msq FROM INFORMATION_SCHEMA.SEQUENCES LIMIT 1"
 						.formatted(sequenceName.toSql(getIdentifierProcessing()));
 			}
+
+			@Override
+			public String createSequenceQuery(SqlIdentifier sequenceName, int count) {
+				return "SELECT NEXT VALUE FOR %s AS msq FROM UNNEST(SEQUENCE_ARRAY(1, %d, 1))"
+						.formatted(sequenceName.toSql(getIdentifierProcessing()), count);
+			}
 		};
 	}
 
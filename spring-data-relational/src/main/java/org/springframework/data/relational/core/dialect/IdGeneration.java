@@ -18,6 +18,8 @@ package org.springframework.data.relational.core.dialect;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
@@ -113,6 +115,20 @@ public interface IdGeneration {
 		return createSequenceQuery(nameString);
 	}
 
+	/**
+	 * The SQL statement that retrieves the next {@code count} values from the passed sequence with a single query
+	 * returning one row per value. Dialects that cannot fetch multiple sequence values at once return {@literal null}
+	 * and callers fall back to {@link #createSequenceQuery(SqlIdentifier)} once per value.
+	 *
+	 * @param sequenceName the sequence name to get the next values for.
+	 * @param count the number of values to retrieve.
+	 * @return SQL string or {@literal null} if the dialect cannot retrieve multiple sequence values with a single query.
+	 * @since 4.2
+	 */
+	default @Nullable String createSequenceQuery(SqlIdentifier sequenceName, int count) {
+		return null;
+	}
+
 	static String createSequenceQuery(String nameString) {
 		return "SELECT NEXT VALUE FOR " + nameString;
 	}
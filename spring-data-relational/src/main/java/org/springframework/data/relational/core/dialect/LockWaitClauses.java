@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.time.Duration;
+
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWait;
+
+/**
+ * Utility to render the {@link LockWait} part of a {@link LockClause}.
+ *
+ * @since 4.2
+ */
+abstract class LockWaitClauses {
+
+	private LockWaitClauses() {}
+
+	/**
+	 * Render {@code NOWAIT} respective {@code SKIP LOCKED} including a leading whitespace. Rejects lock timeouts.
+	 *
+	 * @param lockOptions the lock options.
+	 * @param dialect name of the dialect used in exception messages.
+	 * @return the rendered wait clause or an empty string for the default wait behavior.
+	 * @throws UnsupportedOperationException if {@code lockOptions} define a timeout.
+	 */
+	static String noWaitOrSkipLocked(LockOptions lockOptions, String dialect) {
+
+		LockWait lockWait = lockOptions.getLockWait();
+
+		if (lockWait.hasTimeout()) {
+			throw new UnsupportedOperationException(
+					"%s does not support lock timeouts as part of the lock clause; Configure the lock timeout on the connection or session instead"
+							.formatted(dialect));
+		}
+
+		return switch (lockWait.getPolicy()) {
+			case WAIT -> "";
+			case NOWAIT -> " NOWAIT";
+			case SKIP_LOCKED -> " SKIP LOCKED";
+		};
+	}
+
+	/**
+	 * Render {@code NOWAIT}, {@code SKIP LOCKED} respective {@code WAIT n} including a leading whitespace.
+	 *
+	 * @param lockOptions the lock options.
+	 * @return the rendered wait clause or an empty string for the default wait behavior.
+	 */
+	static String withWaitTimeout(LockOptions lockOptions) {
+
+		LockWait lockWait = lockOptions.getLockWait();
+
+		if (lockWait.hasTimeout()) {
+			return " WAIT " + toSeconds(lockWait.getRequiredTimeout());
+		}
+
+		return noWaitOrSkipLocked(lockOptions, "");
+	}
+
+	/**
+	 * Reject any non-default {@link LockWait}.
+	 *
+	 * @param lockOptions the lock options.
+	 * @param dialect name of the dialect used in exception messages.
+	 * @throws UnsupportedOperationException if {@code lockOptions} define a non-default {@link LockWait}.
+	 */
+	static void requireDefaultWait(LockOptions lockOptions, String dialect) {
+
+		if (!lockOptions.getLockWait().isDefault()) {
+			throw new UnsupportedOperationException(
+					"%s does not support lock wait policy %s".formatted(dialect, lockOptions.getLockWait()));
+		}
+	}
+
+	/**
+	 * Lock timeouts are expressed in whole seconds. Fractions are rounded up to not turn a short timeout into
+	 * {@code NOWAIT}.
+	 */
+	private static long toSeconds(Duration timeout) {
+		return timeout.getNano() > 0 ? timeout.getSeconds() + 1 : timeout.getSeconds();
+	}
+}
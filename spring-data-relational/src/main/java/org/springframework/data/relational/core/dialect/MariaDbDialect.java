@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.LockOptions;
 
 /**
  * A SQL dialect for MariaDb.
@@ -33,10 +34,34 @@ public class MariaDbDialect extends MySqlDialect {
 	private static final List<Object> CONVERTERS = Arrays.asList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE,
 			NumberToBooleanConverter.INSTANCE);
 
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+
+			String lockWait = LockWaitClauses.withWaitTimeout(lockOptions);
+
+			return switch (lockOptions.getLockMode()) {
+				case PESSIMISTIC_WRITE -> "FOR UPDATE" + lockWait;
+				case PESSIMISTIC_READ -> "LOCK IN SHARE MODE" + lockWait;
+			};
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
+	};
+
 	public MariaDbDialect(IdentifierProcessing identifierProcessing) {
 		super(identifierProcessing);
 	}
 
+	@Override
+	public LockClause lock() {
+		return LOCK_CLAUSE;
+	}
+
 	@Override
 	public IdGeneration getIdGeneration() {
 		return IdGeneration.create(getIdentifierProcessing());
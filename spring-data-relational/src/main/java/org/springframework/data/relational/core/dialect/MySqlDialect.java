@@ -55,9 +55,13 @@ public class MySqlDialect extends AbstractDialect {
 
 		@Override
 		public String getLock(LockOptions lockOptions) {
+
+			String lockWait = LockWaitClauses.noWaitOrSkipLocked(lockOptions, "MySQL");
+
 			return switch (lockOptions.getLockMode()) {
-				case PESSIMISTIC_WRITE -> "FOR UPDATE";
-				case PESSIMISTIC_READ -> "LOCK IN SHARE MODE";
+				case PESSIMISTIC_WRITE -> "FOR UPDATE" + lockWait;
+				// LOCK IN SHARE MODE does not accept NOWAIT/SKIP LOCKED, FOR SHARE requires MySQL 8.0
+				case PESSIMISTIC_READ -> lockWait.isEmpty() ? "LOCK IN SHARE MODE" : "FOR SHARE" + lockWait;
 			};
 		}
 
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.relational.core.sql.LockOptions;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
 
@@ -57,6 +58,25 @@ public class OracleDialect extends AnsiDialect {
 		public String createSequenceQuery(SqlIdentifier sequenceName) {
 			return "SELECT %s.nextval FROM DUAL".formatted(sequenceName.toSql(INSTANCE.getIdentifierProcessing()));
 		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName, int count) {
+			return "SELECT %s.nextval FROM DUAL CONNECT BY LEVEL <= %d"
+					.formatted(sequenceName.toSql(INSTANCE.getIdentifierProcessing()), count);
+		}
+	};
+
+	private static final LockClause LOCK_CLAUSE = new LockClause() {
+
+		@Override
+		public String getLock(LockOptions lockOptions) {
+			return "FOR UPDATE" + LockWaitClauses.withWaitTimeout(lockOptions);
+		}
+
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_ORDER_BY;
+		}
 	};
 
 	private static final Collection<Object> CONVERTERS = List.of(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE,
@@ -69,6 +89,11 @@ public class OracleDialect extends AnsiDialect {
 		return ID_GENERATION;
 	}
 
+	@Override
+	public LockClause lock() {
+		return LOCK_CLAUSE;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return CONVERTERS;
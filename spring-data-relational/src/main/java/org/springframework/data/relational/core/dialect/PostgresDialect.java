@@ -108,9 +108,11 @@ public class PostgresDialect extends AbstractDialect {
 			// without schema
 			String tableName = last.toSql(PostgresDialect.IDENTIFIER_PROCESSING);
 
+			String lockWait = LockWaitClauses.noWaitOrSkipLocked(lockOptions, "PostgreSQL");
+
 			return switch (lockOptions.getLockMode()) {
-				case PESSIMISTIC_WRITE -> "FOR UPDATE OF " + tableName;
-				case PESSIMISTIC_READ -> "FOR SHARE OF " + tableName;
+				case PESSIMISTIC_WRITE -> "FOR UPDATE OF " + tableName + lockWait;
+				case PESSIMISTIC_READ -> "FOR SHARE OF " + tableName + lockWait;
 			};
 		}
 
@@ -133,6 +135,12 @@ public class PostgresDialect extends AbstractDialect {
 		public String createSequenceQuery(SqlIdentifier sequenceName) {
 			return "SELECT nextval('%s')".formatted(sequenceName.toSql(getIdentifierProcessing()));
 		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName, int count) {
+			return "SELECT nextval('%s') FROM generate_series(1, %d)".formatted(sequenceName.toSql(getIdentifierProcessing()),
+					count);
+		}
 	};
 
 	@Override
@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.dialect;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 import org.springframework.data.relational.core.sql.render.UpsertRenderContext;
@@ -54,9 +55,25 @@ public class SqlServerDialect extends AbstractDialect {
 		@Override
 		public String getLock(LockOptions lockOptions) {
 
+			LockWait lockWait = lockOptions.getLockWait();
+
+			if (lockWait.hasTimeout()) {
+				throw new UnsupportedOperationException(
+						"SQL Server does not support lock timeouts as table hint; Use SET LOCK_TIMEOUT instead");
+			}
+
 			return switch (lockOptions.getLockMode()) {
-				case PESSIMISTIC_WRITE -> "WITH (UPDLOCK, ROWLOCK)";
-				case PESSIMISTIC_READ -> "WITH (HOLDLOCK, ROWLOCK)";
+				case PESSIMISTIC_WRITE -> switch (lockWait.getPolicy()) {
+					case WAIT -> "WITH (UPDLOCK, ROWLOCK)";
+					case NOWAIT -> "WITH (UPDLOCK, ROWLOCK, NOWAIT)";
+					case SKIP_LOCKED -> "WITH (UPDLOCK, ROWLOCK, READPAST)";
+				};
+				case PESSIMISTIC_READ -> switch (lockWait.getPolicy()) {
+					case WAIT -> "WITH (HOLDLOCK, ROWLOCK)";
+					case NOWAIT -> "WITH (HOLDLOCK, ROWLOCK, NOWAIT)";
+					// READPAST cannot be combined with HOLDLOCK (SERIALIZABLE)
+					case SKIP_LOCKED -> "WITH (REPEATABLEREAD, ROWLOCK, READPAST)";
+				};
 			};
 		}
 
@@ -283,6 +283,13 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return findAnnotation(InsertOnlyProperty.class) != null;
 	}
 
+	@Override
+	public boolean isLazy() {
+
+		MappedCollection mappedCollection = findAnnotation(MappedCollection.class);
+		return mappedCollection != null && mappedCollection.fetch() == MappedCollection.Fetch.LAZY;
+	}
+
 	@Override
 	public @Nullable SqlIdentifier getSequence() {
 		return this.sequence;
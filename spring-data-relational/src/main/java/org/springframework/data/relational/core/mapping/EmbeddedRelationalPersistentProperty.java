@@ -105,6 +105,11 @@ class EmbeddedRelationalPersistentProperty implements RelationalPersistentProper
 		return delegate.isInsertOnly();
 	}
 
+	@Override
+	public boolean isLazy() {
+		return delegate.isLazy();
+	}
+
 	@Nullable
 	@Override
 	public SqlIdentifier getSequence() {
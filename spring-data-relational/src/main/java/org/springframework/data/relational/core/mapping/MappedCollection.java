@@ -59,4 +59,31 @@ public @interface MappedCollection {
 	 */
 	String keyColumn() default "";
 
+	/**
+	 * The {@link Fetch fetch strategy} for the referenced entities. {@link Fetch#LAZY Lazy} fetching applies to
+	 * {@link java.util.Collection}, {@link List}, {@link Set} and {@link Map} properties only and resolves the
+	 * referenced entities on first access of the collection.
+	 *
+	 * @since 4.2
+	 */
+	Fetch fetch() default Fetch.EAGER;
+
+	/**
+	 * Fetch strategy for mapped collections.
+	 *
+	 * @since 4.2
+	 */
+	enum Fetch {
+
+		/**
+		 * Load the referenced entities together with the aggregate.
+		 */
+		EAGER,
+
+		/**
+		 * Load the referenced entities on first access of the collection.
+		 */
+		LAZY
+	}
+
 }
@@ -53,6 +53,7 @@ public class RelationalMappingContext
 	private final SqlIdentifierExpressionEvaluator sqlIdentifierExpressionEvaluator = new SqlIdentifierExpressionEvaluator(
 			EvaluationContextProvider.DEFAULT);
 	private boolean singleQueryLoadingEnabled = false;
+	private boolean onDeleteCascadeEnabled = false;
 
 	/**
 	 * Creates a new {@link RelationalMappingContext}.
@@ -179,6 +180,28 @@ public class RelationalMappingContext
 		this.singleQueryLoadingEnabled = singleQueryLoadingEnabled;
 	}
 
+	/**
+	 * @return iff deletes rely on {@code ON DELETE CASCADE} foreign keys declared in the database.
+	 * @since 4.2
+	 * @see #setOnDeleteCascadeEnabled(boolean)
+	 */
+	public boolean isOnDeleteCascadeEnabled() {
+		return onDeleteCascadeEnabled;
+	}
+
+	/**
+	 * Set the {@literal onDeleteCascadeEnabled} flag. If it is set to true, deleting an aggregate only deletes the rows of
+	 * the aggregate root table and relies on the foreign keys of all tables referencing it being declared with
+	 * {@code ON DELETE CASCADE}. Spring Data JDBC will then neither issue deletes for referenced entities nor acquire
+	 * locks on the aggregate roots before deleting them.
+	 *
+	 * @param onDeleteCascadeEnabled
+	 * @since 4.2
+	 */
+	public void setOnDeleteCascadeEnabled(boolean onDeleteCascadeEnabled) {
+		this.onDeleteCascadeEnabled = onDeleteCascadeEnabled;
+	}
+
 	protected void applyDefaults(BasicRelationalPersistentProperty persistentProperty) {
 
 		persistentProperty.setForceQuote(isForceQuote());
@@ -95,6 +95,17 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 	 */
 	boolean isInsertOnly();
 
+	/**
+	 * Returns whether the entities referenced by this property are loaded on first access instead of together with the
+	 * owning aggregate.
+	 *
+	 * @since 4.2
+	 * @see MappedCollection#fetch()
+	 */
+	default boolean isLazy() {
+		return false;
+	}
+
 	/**
 	 * @return the target sequence that should be used for value generation.
 	 * @since 3.5
@@ -28,6 +28,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.core.TypedPropertyPath;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.CheckReturnValue;
 import org.springframework.util.Assert;
@@ -54,6 +56,8 @@ public class Query {
 	private final Sort sort;
 	private final int limit;
 	private final long offset;
+	private final @Nullable LockMode lockMode;
+	private final LockWait lockWait;
 
 	/**
 	 * Static factory method to create a {@link Query} using the provided {@link CriteriaDefinition}.
@@ -71,16 +75,19 @@ public class Query {
 	 * @param criteria must not be {@literal null}.
 	 */
 	private Query(@Nullable CriteriaDefinition criteria) {
-		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT);
+		this(criteria, Collections.emptyList(), Sort.unsorted(), NO_LIMIT, NO_LIMIT, null, LockWait.defaultWait());
 	}
 
-	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset) {
+	private Query(@Nullable CriteriaDefinition criteria, List<SqlIdentifier> columns, Sort sort, int limit, long offset,
+			@Nullable LockMode lockMode, LockWait lockWait) {
 
 		this.criteria = criteria;
 		this.columns = columns;
 		this.sort = sort;
 		this.limit = limit;
 		this.offset = offset;
+		this.lockMode = lockMode;
+		this.lockWait = lockWait;
 	}
 
 	/**
@@ -163,7 +170,7 @@ public class Query {
 
 		List<SqlIdentifier> newColumns = new ArrayList<>(this.columns);
 		newColumns.addAll(columns);
-		return new Query(this.criteria, newColumns, this.sort, this.limit, offset);
+		return new Query(this.criteria, newColumns, this.sort, this.limit, offset, this.lockMode, this.lockWait);
 	}
 
 	/**
@@ -174,7 +181,7 @@ public class Query {
 	 */
 	@CheckReturnValue
 	public Query offset(long offset) {
-		return new Query(this.criteria, this.columns, this.sort, this.limit, offset);
+		return new Query(this.criteria, this.columns, this.sort, this.limit, offset, this.lockMode, this.lockWait);
 	}
 
 	/**
@@ -185,7 +192,38 @@ public class Query {
 	 */
 	@CheckReturnValue
 	public Query limit(int limit) {
-		return new Query(this.criteria, this.columns, this.sort, limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort, limit, this.offset, this.lockMode, this.lockWait);
+	}
+
+	/**
+	 * Apply a pessimistic lock to the selected rows using the database default wait behavior.
+	 *
+	 * @param lockMode the lock mode to apply, must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with {@code lockMode} applied.
+	 * @since 4.2
+	 */
+	@CheckReturnValue
+	public Query lock(LockMode lockMode) {
+		return lock(lockMode, LockWait.defaultWait());
+	}
+
+	/**
+	 * Apply a pessimistic lock to the selected rows. {@link LockWait#skipLocked()} allows multiple consumers to claim
+	 * disjoint sets of rows, for example when using a table as work queue.
+	 *
+	 * @param lockMode the lock mode to apply, must not be {@literal null}.
+	 * @param lockWait behavior when encountering locked rows, must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with {@code lockMode} and {@code lockWait}
+	 *         applied.
+	 * @since 4.2
+	 */
+	@CheckReturnValue
+	public Query lock(LockMode lockMode, LockWait lockWait) {
+
+		Assert.notNull(lockMode, "LockMode must not be null");
+		Assert.notNull(lockWait, "LockWait must not be null");
+
+		return new Query(this.criteria, this.columns, this.sort, this.limit, this.offset, lockMode, lockWait);
 	}
 
 	/**
@@ -201,11 +239,12 @@ public class Query {
 		assertNoCaseSort(pageable.getSort());
 
 		if (pageable.isUnpaged()) {
-			return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), this.limit, this.offset);
+			return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), this.limit, this.offset,
+					this.lockMode, this.lockWait);
 		}
 
 		return new Query(this.criteria, this.columns, this.sort.and(pageable.getSort()), pageable.getPageSize(),
-				pageable.getOffset());
+				pageable.getOffset(), this.lockMode, this.lockWait);
 	}
 
 	/**
@@ -225,7 +264,8 @@ public class Query {
 
 		assertNoCaseSort(sort);
 
-		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset);
+		return new Query(this.criteria, this.columns, this.sort.and(sort), this.limit, this.offset, this.lockMode,
+				this.lockWait);
 	}
 
 	/**
@@ -289,6 +329,36 @@ public class Query {
 		return getLimit() != NO_LIMIT;
 	}
 
+	/**
+	 * Return the lock mode to apply.
+	 *
+	 * @return the lock mode or {@literal null} if the query does not lock rows.
+	 * @since 4.2
+	 */
+	public @Nullable LockMode getLockMode() {
+		return this.lockMode;
+	}
+
+	/**
+	 * Return the behavior when encountering locked rows. Only considered if a {@link #getLockMode() lock mode} is set.
+	 *
+	 * @return the {@link LockWait}.
+	 * @since 4.2
+	 */
+	public LockWait getLockWait() {
+		return this.lockWait;
+	}
+
+	/**
+	 * Return whether the query locks selected rows.
+	 *
+	 * @return {@code true} if a lock mode is set.
+	 * @since 4.2
+	 */
+	public boolean isLocked() {
+		return this.lockMode != null;
+	}
+
 	private static void assertNoCaseSort(Sort sort) {
 
 		for (Sort.Order order : sort) {
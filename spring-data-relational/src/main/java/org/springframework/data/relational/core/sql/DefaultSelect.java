@@ -42,9 +42,11 @@ class DefaultSelect implements Select {
 	private final @Nullable Where where;
 	private final List<OrderByField> orderBy;
 	private final @Nullable LockMode lockMode;
+	private final LockWait lockWait;
 
 	DefaultSelect(boolean distinct, List<Expression> selectList, List<TableLike> from, long limit, long offset,
-			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
+			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode,
+			LockWait lockWait) {
 
 		this.distinct = distinct;
 		this.selectList = new SelectList(new ArrayList<>(selectList));
@@ -55,6 +57,7 @@ class DefaultSelect implements Select {
 		this.orderBy = Collections.unmodifiableList(new ArrayList<>(orderBy));
 		this.where = where != null ? new Where(where) : null;
 		this.lockMode = lockMode;
+		this.lockWait = lockWait;
 	}
 
 	@Override
@@ -88,6 +91,11 @@ class DefaultSelect implements Select {
 		return lockMode;
 	}
 
+	@Override
+	public LockWait getLockWait() {
+		return lockWait;
+	}
+
 	@Override
 	public void visit(Visitor visitor) {
 
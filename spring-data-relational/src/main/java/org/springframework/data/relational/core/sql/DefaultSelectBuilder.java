@@ -46,6 +46,7 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	private @Nullable Condition where;
 	private final List<OrderByField> orderBy = new ArrayList<>();
 	private @Nullable LockMode lockMode;
+	private LockWait lockWait = LockWait.defaultWait();
 
 	@Override
 	public SelectBuilder top(int count) {
@@ -199,8 +200,16 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 
 	@Override
 	public SelectLock lock(LockMode lockMode) {
+		return lock(lockMode, LockWait.defaultWait());
+	}
+
+	@Override
+	public SelectLock lock(LockMode lockMode, LockWait lockWait) {
+
+		Assert.notNull(lockWait, "LockWait must not be null");
 
 		this.lockMode = lockMode;
+		this.lockWait = lockWait;
 		return this;
 	}
 
@@ -208,7 +217,7 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	public Select build(boolean validate) {
 
 		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy,
-				lockMode);
+				lockMode, lockWait);
 
 		if (validate) {
 			SelectValidator.validate(select);
@@ -373,6 +382,12 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.lock(lockMode);
 		}
 
+		@Override
+		public SelectLock lock(LockMode lockMode, LockWait lockWait) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.lock(lockMode, lockWait);
+		}
+
 		@Override
 		public Select build(boolean validate) {
 			selectBuilder.join(finishJoin());
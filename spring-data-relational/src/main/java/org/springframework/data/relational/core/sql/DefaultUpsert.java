@@ -27,13 +27,15 @@ import org.springframework.util.Assert;
  * @author Christoph Strobl
  * @since 4.1
  */
-record DefaultUpsert(Table table, List<Assignment> assignments, List<Column> conflictColumns,
-		List<Column> updateColumns) implements Upsert {
+record DefaultUpsert(Table table, List<Assignment> assignments, List<List<Assignment>> additionalRows,
+		List<Column> conflictColumns, List<Column> updateColumns) implements Upsert {
 
-	DefaultUpsert(Table table, List<Assignment> assignments, List<Column> conflictColumns, List<Column> updateColumns) {
+	DefaultUpsert(Table table, List<Assignment> assignments, List<List<Assignment>> additionalRows,
+			List<Column> conflictColumns, List<Column> updateColumns) {
 
 		this.table = table;
 		this.assignments = new ArrayList<>(assignments);
+		this.additionalRows = additionalRows.stream().map(List::copyOf).toList();
 		this.conflictColumns = new ArrayList<>(conflictColumns);
 		this.updateColumns = new ArrayList<>(updateColumns);
 	}
@@ -48,6 +50,19 @@ record DefaultUpsert(Table table, List<Assignment> assignments, List<Column> con
 		return assignments();
 	}
 
+	@Override
+	public List<List<Assignment>> getRows() {
+
+		if (additionalRows.isEmpty()) {
+			return List.of(assignments);
+		}
+
+		List<List<Assignment>> rows = new ArrayList<>(additionalRows.size() + 1);
+		rows.add(assignments);
+		rows.addAll(additionalRows);
+		return rows;
+	}
+
 	@Override
 	public List<Column> getConflictColumns() {
 		return conflictColumns();
@@ -68,6 +83,7 @@ record DefaultUpsert(Table table, List<Assignment> assignments, List<Column> con
 		this.table.visit(visitor);
 		this.conflictColumns.forEach(col -> col.visit(visitor));
 		this.assignments.forEach(it -> it.visit(visitor));
+		this.additionalRows.forEach(row -> row.forEach(it -> it.visit(visitor)));
 		this.updateColumns.forEach(col -> col.visit(visitor));
 
 		visitor.leave(this);
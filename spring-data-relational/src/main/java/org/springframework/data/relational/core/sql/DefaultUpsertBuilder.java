@@ -37,6 +37,7 @@ class DefaultUpsertBuilder
 
 	private final Table table;
 	private final List<Assignment> assignments = new ArrayList<>();
+	private final List<List<Assignment>> additionalRows = new ArrayList<>();
 	private final List<Column> conflictColumns = new ArrayList<>();
 	private final List<Column> updateColumns = new ArrayList<>();
 
@@ -54,6 +55,14 @@ class DefaultUpsertBuilder
 		return this;
 	}
 
+	@Override
+	public UpsertOnMatch andInsert(Collection<? extends Assignment> assignments) {
+
+		Assert.notNull(assignments, "Assignments must not be null");
+		this.additionalRows.add(new ArrayList<>(assignments));
+		return this;
+	}
+
 	@Override
 	public BuildUpsert onConflict(Function<ConflictColumn, ConflictResolution> resolution) {
 
@@ -88,13 +97,26 @@ class DefaultUpsertBuilder
 	@Override
 	public Upsert build() {
 		validate();
-		return new DefaultUpsert(this.table, this.assignments, this.conflictColumns, this.updateColumns);
+		return new DefaultUpsert(this.table, this.assignments, this.additionalRows, this.conflictColumns,
+				this.updateColumns);
 	}
 
 	void validate() {
 
 		Assert.state(!this.conflictColumns.isEmpty(), "Conflict columns must not be empty");
 
+		for (List<Assignment> row : this.additionalRows) {
+
+			Assert.state(row.size() == this.assignments.size(), "Rows must assign the same columns");
+
+			for (int i = 0; i < row.size(); i++) {
+				if (!(row.get(i) instanceof AssignValue value && this.assignments.get(i) instanceof AssignValue first
+						&& value.getColumn().getName().equals(first.getColumn().getName()))) {
+					throw new IllegalStateException("Rows must assign the same columns in the same order");
+				}
+			}
+		}
+
 		for (Column column : this.conflictColumns) {
 
 			for (Assignment assignment : this.assignments) {
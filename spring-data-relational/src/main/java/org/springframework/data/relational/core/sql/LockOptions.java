@@ -27,14 +27,29 @@ public class LockOptions {
 
 	private final LockMode lockMode;
 	private final From from;
+	private final LockWait lockWait;
 
 	public LockOptions(LockMode lockMode, From from) {
+		this(lockMode, from, LockWait.defaultWait());
+	}
+
+	/**
+	 * Create new {@link LockOptions}.
+	 *
+	 * @param lockMode the lock mode to apply.
+	 * @param from the {@code FROM} clause of the statement.
+	 * @param lockWait behavior when encountering locked rows.
+	 * @since 4.2
+	 */
+	public LockOptions(LockMode lockMode, From from, LockWait lockWait) {
 
 		Assert.notNull(lockMode, "LockMode must not be null");
 		Assert.notNull(from, "From must not be null");
+		Assert.notNull(lockWait, "LockWait must not be null");
 
 		this.lockMode = lockMode;
 		this.from = from;
+		this.lockWait = lockWait;
 	}
 
 	public LockMode getLockMode() {
@@ -44,4 +59,12 @@ public class LockOptions {
 	public From getFrom() {
 		return this.from;
 	}
+
+	/**
+	 * @return the behavior when encountering locked rows.
+	 * @since 4.2
+	 */
+	public LockWait getLockWait() {
+		return this.lockWait;
+	}
 }
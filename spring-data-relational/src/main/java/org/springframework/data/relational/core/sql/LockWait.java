@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Value object describing how a {@link LockMode locking} {@link Select} statement behaves when rows are already locked
+ * by another transaction. By default, statements wait until the lock is released. {@link #noWait() NOWAIT} fails
+ * immediately, {@link #skipLocked() SKIP LOCKED} omits locked rows from the result and {@link #timeout(Duration)}
+ * waits for at most the given duration.
+ * <p>
+ * Rendering is dialect-specific. Dialects that cannot express a wait policy reject it when rendering the lock clause.
+ *
+ * @since 4.2
+ * @see LockOptions
+ */
+public final class LockWait {
+
+	private static final LockWait DEFAULT = new LockWait(Policy.WAIT, null);
+	private static final LockWait NO_WAIT = new LockWait(Policy.NOWAIT, null);
+	private static final LockWait SKIP_LOCKED = new LockWait(Policy.SKIP_LOCKED, null);
+
+	private final Policy policy;
+	private final @Nullable Duration timeout;
+
+	private LockWait(Policy policy, @Nullable Duration timeout) {
+
+		this.policy = policy;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Wait until conflicting locks are released. This is the database default.
+	 *
+	 * @return the default {@link LockWait}.
+	 */
+	public static LockWait defaultWait() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Fail immediately if a row is locked by another transaction ({@code NOWAIT}).
+	 *
+	 * @return the {@code NOWAIT} {@link LockWait}.
+	 */
+	public static LockWait noWait() {
+		return NO_WAIT;
+	}
+
+	/**
+	 * Skip rows that are locked by another transaction ({@code SKIP LOCKED}).
+	 *
+	 * @return the {@code SKIP LOCKED} {@link LockWait}.
+	 */
+	public static LockWait skipLocked() {
+		return SKIP_LOCKED;
+	}
+
+	/**
+	 * Wait at most {@code timeout} for conflicting locks to be released.
+	 *
+	 * @param timeout the lock timeout, must not be {@literal null} or negative.
+	 * @return the {@link LockWait} for {@code timeout}.
+	 */
+	public static LockWait timeout(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative");
+
+		return new LockWait(Policy.WAIT, timeout);
+	}
+
+	/**
+	 * Create a {@link LockWait} for the given {@link Policy} and timeout in seconds as used by
+	 * {@code @Lock}.
+	 *
+	 * @param policy the wait policy.
+	 * @param timeoutSeconds the timeout in seconds, negative values indicate no timeout. Only applicable to
+	 *          {@link Policy#WAIT}.
+	 * @return the {@link LockWait}.
+	 */
+	public static LockWait of(Policy policy, long timeoutSeconds) {
+
+		Assert.notNull(policy, "Policy must not be null");
+
+		return switch (policy) {
+			case WAIT -> timeoutSeconds < 0 ? DEFAULT : timeout(Duration.ofSeconds(timeoutSeconds));
+			case NOWAIT -> NO_WAIT;
+			case SKIP_LOCKED -> SKIP_LOCKED;
+		};
+	}
+
+	public Policy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * @return {@code true} if this is the database default, waiting without timeout.
+	 */
+	public boolean isDefault() {
+		return policy == Policy.WAIT && timeout == null;
+	}
+
+	/**
+	 * @return {@code true} if a lock timeout is configured.
+	 */
+	public boolean hasTimeout() {
+		return timeout != null;
+	}
+
+	/**
+	 * @return the lock timeout.
+	 * @throws IllegalStateException if no timeout is configured.
+	 */
+	public Duration getRequiredTimeout() {
+
+		Assert.state(timeout != null, "No lock timeout configured");
+
+		return timeout;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof LockWait that)) {
+			return false;
+		}
+
+		return policy == that.policy && ObjectUtils.nullSafeEquals(timeout, that.timeout);
+	}
+
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHash(policy, timeout);
+	}
+
+	@Override
+	public String toString() {
+		return hasTimeout() ? "WAIT " + timeout : policy.name();
+	}
+
+	/**
+	 * Enumeration of wait policies for locked rows.
+	 */
+	public enum Policy {
+
+		/**
+		 * Wait for conflicting locks to be released, optionally limited by a timeout.
+		 */
+		WAIT,
+
+		/**
+		 * Fail immediately if a row is locked.
+		 */
+		NOWAIT,
+
+		/**
+		 * Skip locked rows.
+		 */
+		SKIP_LOCKED
+	}
+}
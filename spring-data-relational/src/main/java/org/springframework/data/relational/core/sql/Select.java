@@ -79,4 +79,14 @@ public interface Select extends Segment, Visitable {
 
 	@Nullable
 	LockMode getLockMode();
+
+	/**
+	 * Behavior when encountering locked rows. Only considered if {@link #getLockMode()} is set.
+	 *
+	 * @return the {@link LockWait}, never {@literal null}.
+	 * @since 4.2
+	 */
+	default LockWait getLockWait() {
+		return LockWait.defaultWait();
+	}
 }
@@ -17,6 +17,8 @@ package org.springframework.data.relational.core.sql;
 
 import java.util.Collection;
 
+import org.springframework.util.Assert;
+
 /**
  * Entry point to construct a {@link Select} statement.
  *
@@ -572,6 +574,30 @@ public interface SelectBuilder {
 		 * @return {@code this} builder.
 		 */
 		SelectLock lock(LockMode lockMode);
+
+		/**
+		 * Apply lock to read using the given {@link LockWait} behavior for rows that are already locked. The default
+		 * implementation delegates to {@link #lock(LockMode)} for {@link LockWait#defaultWait() the default wait behavior}
+		 * and rejects any other {@link LockWait}.
+		 *
+		 * @param lockMode lockMode to read.
+		 * @param lockWait behavior when encountering locked rows.
+		 * @return {@code this} builder.
+		 * @throws UnsupportedOperationException if {@code lockWait} is not the default wait behavior and this builder
+		 *           does not support lock wait policies.
+		 * @since 4.2
+		 */
+		default SelectLock lock(LockMode lockMode, LockWait lockWait) {
+
+			Assert.notNull(lockWait, "LockWait must not be null");
+
+			if (lockWait.isDefault()) {
+				return lock(lockMode);
+			}
+
+			throw new UnsupportedOperationException("%s does not support lock wait policy %s"
+					.formatted(getClass().getName(), lockWait));
+		}
 	}
 
 	/**
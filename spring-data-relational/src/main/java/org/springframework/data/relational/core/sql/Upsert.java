@@ -61,6 +61,16 @@ public interface Upsert extends Segment, Visitable {
 	 */
 	List<Assignment> getAssignments();
 
+	/**
+	 * Return the column-value assignments for each row to insert. The first row corresponds to
+	 * {@link #getAssignments()}.
+	 *
+	 * @since 4.2
+	 */
+	default List<List<Assignment>> getRows() {
+		return List.of(getAssignments());
+	}
+
 	/**
 	 * Return columns that identify a conflicting row.
 	 */
@@ -64,6 +64,26 @@ public interface UpsertBuilder {
 	 */
 	interface UpsertOnMatch {
 
+		/**
+		 * Add another row to insert. Each row must assign the same columns in the same order as the first row.
+		 *
+		 * @param assignments one or more {@link Assignment column assignments}; must not be {@literal null}.
+		 * @return the next builder step.
+		 * @since 4.2
+		 */
+		default UpsertOnMatch andInsert(Assignment... assignments) {
+			return andInsert(List.of(assignments));
+		}
+
+		/**
+		 * Add another row to insert. Each row must assign the same columns in the same order as the first row.
+		 *
+		 * @param assignments the {@link Assignment column assignments}; must not be {@literal null}.
+		 * @return the next builder step.
+		 * @since 4.2
+		 */
+		UpsertOnMatch andInsert(Collection<? extends Assignment> assignments);
+
 		/**
 		 * Declare how to resolve a conflict if the row already exists.
 		 *
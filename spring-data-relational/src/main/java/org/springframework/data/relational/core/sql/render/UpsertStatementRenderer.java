@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collector;
+import java.util.stream.IntStream;
 
 import org.jspecify.annotations.Nullable;
 
@@ -65,6 +66,24 @@ interface UpsertStatementRenderer {
 		 */
 		static UpsertRenderingContext of(RenderContext renderContext,
 				Function<SqlIdentifier, CharSequence> bindMarkerResolution) {
+			return of(renderContext, List.of(bindMarkerResolution));
+		}
+
+		/**
+		 * Backs multi-row upsert rendering with {@code renderContext} (quoting, bind marker style).
+		 *
+		 * @param renderContext active SQL render context.
+		 * @param rowBindMarkerResolution bind marker resolution for each row.
+		 * @return context passed to {@link UpsertStatementRenderer#render}.
+		 * @since 4.2
+		 */
+		static UpsertRenderingContext of(RenderContext renderContext,
+				List<? extends Function<SqlIdentifier, CharSequence>> rowBindMarkerResolution) {
+			return of(renderContext, rowBindMarkerResolution, 0);
+		}
+
+		private static UpsertRenderingContext of(RenderContext renderContext,
+				List<? extends Function<SqlIdentifier, CharSequence>> rowBindMarkerResolution, int row) {
 
 			return new UpsertRenderingContext() {
 
@@ -73,11 +92,21 @@ interface UpsertStatementRenderer {
 					return renderContext;
 				}
 
+				@Override
+				public int rowCount() {
+					return rowBindMarkerResolution.size();
+				}
+
+				@Override
+				public UpsertRenderingContext row(int index) {
+					return of(renderContext, rowBindMarkerResolution, index);
+				}
+
 				@Override
 				public CharSequence bindMarker(Column column,
 						BiFunction<CharSequence, CharSequence, CharSequence> bindMarkerFn) {
 
-					CharSequence maker = bindMarkerResolution.apply(column.getName());
+					CharSequence maker = rowBindMarkerResolution.get(row).apply(column.getName());
 					return bindMarkerFn.apply(columnName(column), maker);
 				}
 
@@ -89,6 +118,33 @@ interface UpsertStatementRenderer {
 		 */
 		RenderContext renderContext();
 
+		/**
+		 * @return number of rows to upsert.
+		 * @since 4.2
+		 */
+		default int rowCount() {
+			return 1;
+		}
+
+		/**
+		 * @param index zero-based row index.
+		 * @return context resolving bind markers for the row at {@code index}.
+		 * @since 4.2
+		 */
+		default UpsertRenderingContext row(int index) {
+			return this;
+		}
+
+		/**
+		 * @param rowFn renders a single row using the context bound to that row.
+		 * @return each row rendered and collected (e.g. comma-separated value tuples).
+		 * @since 4.2
+		 */
+		default CharSequence rows(Function<UpsertRenderingContext, CharSequence> rowFn,
+				Collector<CharSequence, ?, ? extends CharSequence> collector) {
+			return IntStream.range(0, rowCount()).mapToObj(index -> rowFn.apply(row(index))).collect(collector);
+		}
+
 		/**
 		 * @return rendered table reference.
 		 */
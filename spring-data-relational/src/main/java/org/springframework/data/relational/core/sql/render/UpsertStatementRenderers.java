@@ -23,6 +23,8 @@ import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.UpsertStatementRenderer.Columns;
+import org.springframework.data.relational.core.sql.render.UpsertStatementRenderer.UpsertRenderingContext;
 import org.springframework.util.Assert;
 
 /**
@@ -89,6 +91,14 @@ class UpsertStatementRenderers {
 
 	private UpsertStatementRenderers() {}
 
+	/**
+	 * Render the bind markers of each row as parenthesized, comma-separated value tuples: {@code (?, ?), (?, ?)}.
+	 */
+	static CharSequence valueRows(Columns columns, UpsertRenderingContext ctx) {
+		return ctx.rows(row -> "(%s)".formatted(row.bindMarkers(columns.insertColumns(), Collectors.joining(", "))),
+				Collectors.joining(", "));
+	}
+
 	/**
 	 * Standard SQL {@code MERGE} using a table value constructor {@code (VALUES (?, ?)) AS s (col1, col2)} (H2, HSQLDB,
 	 * DB2, etc.).
@@ -105,7 +115,7 @@ class UpsertStatementRenderers {
 
 			CharSequence tableName = ctx.tableName(table);
 			CharSequence insertColumnNames = ctx.columnNames(columns.insertColumns(), Collectors.joining(", "));
-			CharSequence bindMarkers = ctx.bindMarkers(columns.insertColumns(), Collectors.joining(", "));
+			CharSequence bindMarkers = valueRows(columns, ctx);
 			CharSequence onCondition = ctx.assignments(MERGE_TARGET_TABLE_ALIAS, columns.conflictColumns(),
 					MERGE_SOURCE_TABLE_ALIAS, Collectors.joining(" AND "));
 			CharSequence insertValuesSql = ctx.columnNames(MERGE_SOURCE_TABLE_ALIAS, columns.insertColumns(),
@@ -116,7 +126,7 @@ class UpsertStatementRenderers {
 
 			List<Column> updateColumns = columns.updateColumns();
 			if (updateColumns.isEmpty()) {
-				return "MERGE INTO %s %s USING (VALUES (%s)) AS %s (%s) ON %s %s".formatted( //
+				return "MERGE INTO %s %s USING (VALUES %s) AS %s (%s) ON %s %s".formatted( //
 						tableName, //
 						MERGE_TARGET_TABLE_ALIAS, //
 						bindMarkers, //
@@ -129,7 +139,7 @@ class UpsertStatementRenderers {
 			CharSequence updateSetClause = ctx.assignments(MERGE_TARGET_TABLE_ALIAS, columns.updateColumns(),
 					MERGE_SOURCE_TABLE_ALIAS, Collectors.joining(", "));
 
-			return "MERGE INTO %s %s USING (VALUES (%s)) AS %s (%s) ON %s WHEN MATCHED THEN UPDATE SET %s %s".formatted( //
+			return "MERGE INTO %s %s USING (VALUES %s) AS %s (%s) ON %s WHEN MATCHED THEN UPDATE SET %s %s".formatted( //
 					tableName, //
 					MERGE_TARGET_TABLE_ALIAS, //
 					bindMarkers, //
@@ -158,10 +168,10 @@ class UpsertStatementRenderers {
 			CharSequence tableName = ctx.tableName(table);
 			CharSequence insertColumnNames = ctx.columnNames(columns.insertColumns(), Collectors.joining(", "));
 			CharSequence conflictColumnNames = ctx.columnNames(columns.conflictColumns(), Collectors.joining(", "));
-			CharSequence bindMarkers = ctx.bindMarkers(columns.insertColumns(), Collectors.joining(", "));
+			CharSequence bindMarkers = valueRows(columns, ctx);
 
 			if (columns.updateColumns().isEmpty()) {
-				return "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO NOTHING".formatted(//
+				return "INSERT INTO %s (%s) VALUES %s ON CONFLICT (%s) DO NOTHING".formatted(//
 						tableName, //
 						insertColumnNames, //
 						bindMarkers, //
@@ -171,7 +181,7 @@ class UpsertStatementRenderers {
 			CharSequence setValues = ctx.assignments(SqlIdentifier.EMPTY, columns.updateColumns(), SqlIdentifier.EMPTY,
 					"EXCLUDED.%s"::formatted, Collectors.joining(", "));
 
-			return "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s".formatted(//
+			return "INSERT INTO %s (%s) VALUES %s ON CONFLICT (%s) DO UPDATE SET %s".formatted(//
 					tableName, insertColumnNames, bindMarkers, conflictColumnNames, setValues);
 		}
 
@@ -192,14 +202,14 @@ class UpsertStatementRenderers {
 
 			CharSequence tableName = ctx.tableName(table);
 			CharSequence columnNames = ctx.columnNames(columns.insertColumns(), Collectors.joining(", "));
-			CharSequence bindMarkers = ctx.bindMarkers(columns.insertColumns(), Collectors.joining(", "));
+			CharSequence bindMarkers = valueRows(columns, ctx);
 
 			List<Column> updateColumns = columnsToUpdate(columns);
 
 			CharSequence setValues = ctx.assignments(SqlIdentifier.EMPTY, updateColumns, SqlIdentifier.EMPTY,
 					"VALUES(%s)"::formatted, Collectors.joining(", "));
 
-			return "INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s".formatted( //
+			return "INSERT INTO %s (%s) VALUES %s ON DUPLICATE KEY UPDATE %s".formatted( //
 					tableName, //
 					columnNames, //
 					bindMarkers, //
@@ -237,8 +247,10 @@ class UpsertStatementRenderers {
 
 			CharSequence tableName = ctx.tableName(table);
 			CharSequence insertColumnNames = ctx.columnNames(columns.insertColumns(), Collectors.joining(", "));
-			CharSequence sourceSelectList = ctx.bindMarkers(columns.insertColumns(),
-					(columnName, bindMarker) -> "%s AS %s".formatted(bindMarker, columnName), Collectors.joining(", "));
+			CharSequence sourceSelect = ctx.rows(row -> "SELECT %s FROM DUAL".formatted( //
+					row.bindMarkers(columns.insertColumns(),
+							(columnName, bindMarker) -> "%s AS %s".formatted(bindMarker, columnName), Collectors.joining(", "))),
+					Collectors.joining(" UNION ALL "));
 			CharSequence onCondition = ctx.assignments(MERGE_TARGET_TABLE_ALIAS, columns.conflictColumns(),
 					MERGE_SOURCE_TABLE_ALIAS, Collectors.joining(" AND "));
 			CharSequence insertValuesSql = ctx.columnNames(MERGE_SOURCE_TABLE_ALIAS, columns.insertColumns(),
@@ -249,10 +261,10 @@ class UpsertStatementRenderers {
 
 			List<Column> updateColumns = columns.updateColumns();
 			if (updateColumns.isEmpty()) {
-				return "MERGE INTO %s %s USING (SELECT %s FROM DUAL) %s ON (%s) %s".formatted( //
+				return "MERGE INTO %s %s USING (%s) %s ON (%s) %s".formatted( //
 						tableName, //
 						MERGE_TARGET_TABLE_ALIAS, //
-						sourceSelectList, //
+						sourceSelect, //
 						MERGE_SOURCE_TABLE_ALIAS, //
 						onCondition, //
 						insertClause);
@@ -261,10 +273,10 @@ class UpsertStatementRenderers {
 			CharSequence updateSetClause = ctx.assignments(MERGE_TARGET_TABLE_ALIAS, columns.updateColumns(),
 					MERGE_SOURCE_TABLE_ALIAS, Collectors.joining(", "));
 
-			return "MERGE INTO %s %s USING (SELECT %s FROM DUAL) %s ON (%s) WHEN MATCHED THEN UPDATE SET %s %s".formatted( //
+			return "MERGE INTO %s %s USING (%s) %s ON (%s) WHEN MATCHED THEN UPDATE SET %s %s".formatted( //
 					tableName, //
 					MERGE_TARGET_TABLE_ALIAS, //
-					sourceSelectList, //
+					sourceSelect, //
 					MERGE_SOURCE_TABLE_ALIAS, //
 					onCondition, //
 					updateSetClause, //
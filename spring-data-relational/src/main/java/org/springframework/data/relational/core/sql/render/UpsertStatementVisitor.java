@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.relational.core.DialectCapable;
@@ -74,7 +75,13 @@ class UpsertStatementVisitor extends DelegatingVisitor implements RenderingVisit
 				: AnsiDialect.INSTANCE;
 
 		UpsertStatementRenderer statementRenderer = UpsertStatementRenderers.from(dialect);
-		UpsertRenderingContext renderingContext = UpsertRenderingContext.of(context, columnsAndBindings.bindings()::get);
+		List<Function<SqlIdentifier, CharSequence>> rowBindings = new ArrayList<>(source.getRows().size());
+		rowBindings.add(columnsAndBindings.bindings()::get);
+		for (List<Assignment> row : source.getRows().subList(1, source.getRows().size())) {
+			rowBindings.add(resolveBindings(row)::get);
+		}
+
+		UpsertRenderingContext renderingContext = UpsertRenderingContext.of(context, rowBindings);
 
 		String sql = statementRenderer
 				.render(
@@ -108,6 +115,19 @@ class UpsertStatementVisitor extends DelegatingVisitor implements RenderingVisit
 		return new InsertColumnsAndBindings(insertColumns, bindings);
 	}
 
+	private Map<SqlIdentifier, CharSequence> resolveBindings(List<Assignment> row) {
+
+		Map<SqlIdentifier, CharSequence> bindings = new HashMap<>(row.size());
+
+		for (Assignment assignment : row) {
+			if (assignment instanceof AssignValue av) {
+				bindings.put(av.getColumn().getName(), getBinding(av.getValue(), context));
+			}
+		}
+
+		return bindings;
+	}
+
 	CharSequence getBinding(Expression expression, RenderContext context) {
 
 		ExpressionVisitor expressionVisitor = new ExpressionVisitor(context);
@@ -13,23 +13,35 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.springframework.data.jdbc.core.convert;
+package org.springframework.data.relational.core.sqlgeneration;
 
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 
 /**
  * A mapping between {@link PersistentPropertyPath} and column names of a query. Column names are intentionally
- * represented by {@link String} values, since this is what a {@link java.sql.ResultSet} uses, and since all the query
+ * represented by {@link String} values, since this is what a {@code java.sql.ResultSet} uses, and since all the query
  * columns should be aliases there is no need for quoting or similar as provided by
  * {@link org.springframework.data.relational.core.sql.SqlIdentifier}.
  *
  * @author Jens Schauder
  * @since 3.2
  */
-interface PathToColumnMapping {
+public interface PathToColumnMapping {
 
+	/**
+	 * Return the column name (alias) under which the value for {@link AggregatePath} is selected.
+	 *
+	 * @param path the path to look up.
+	 * @return the column name.
+	 */
 	String column(AggregatePath path);
 
+	/**
+	 * Return the column name (alias) of the key column for a collection or map {@link AggregatePath}.
+	 *
+	 * @param path the path to look up.
+	 * @return the key column name.
+	 */
 	String keyColumn(AggregatePath path);
 }
@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.springframework.data.jdbc.core.convert;
+package org.springframework.data.relational.core.sqlgeneration;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -40,14 +40,14 @@ import org.springframework.util.Assert;
  * @author Mark Paluch
  * @since 3.2
  */
-abstract class RowDocumentExtractorSupport {
+public abstract class RowDocumentExtractorSupport {
 
 	/**
 	 * Result adapter to obtain values and column metadata.
 	 *
 	 * @param <RS>
 	 */
-	interface TabularResultAdapter<RS> {
+	public interface TabularResultAdapter<RS> {
 
 		/**
 		 * Read a value from the row input at {@code index}.
@@ -73,14 +73,14 @@ abstract class RowDocumentExtractorSupport {
 	 *
 	 * @param <RS>
 	 */
-	protected static class AggregateContext<RS> {
+	public static class AggregateContext<RS> {
 
 		private final TabularResultAdapter<RS> adapter;
 		private final RelationalMappingContext context;
 		private final PathToColumnMapping propertyToColumn;
 		private final Map<String, Integer> columnMap;
 
-		protected AggregateContext(TabularResultAdapter<RS> adapter, RelationalMappingContext context,
+		public AggregateContext(TabularResultAdapter<RS> adapter, RelationalMappingContext context,
 				PathToColumnMapping propertyToColumn, Map<String, Integer> columnMap) {
 
 			this.adapter = adapter;
@@ -145,32 +145,31 @@ abstract class RowDocumentExtractorSupport {
 	 * Sinks aim to produce a {@link #getResult() result}. Based on the inputs, results may be {@link #hasResult()
 	 * present} or absent.
 	 */
-	protected abstract static class TabularSink<RS> {
+	public abstract static class TabularSink<RS> {
 
 		/**
 		 * Accept a row of data and process their results to form potentially a {@link #getResult() result}.
 		 *
 		 * @param row the row to read from.
 		 */
-		abstract void accept(RS row);
+		public abstract void accept(RS row);
 
 		/**
 		 * @return {@code true} if the sink has produced a result.
 		 */
-		abstract boolean hasResult();
+		public abstract boolean hasResult();
 
 		/**
 		 * Retrieve the sink result if present.
 		 *
 		 * @return the sink result.
 		 */
-		@Nullable
-		abstract Object getResult();
+		public abstract @Nullable Object getResult();
 
 		/**
 		 * Reset the sink to prepare for the next result.
 		 */
-		abstract void reset();
+		public abstract void reset();
 	}
 
 	/**
@@ -178,7 +177,7 @@ abstract class RowDocumentExtractorSupport {
 	 *
 	 * @param <RS>
 	 */
-	protected static class RowDocumentSink<RS> extends TabularSink<RS> {
+	public static class RowDocumentSink<RS> extends TabularSink<RS> {
 
 		private final AggregateContext<RS> aggregateContext;
 		private final RelationalPersistentEntity<?> entity;
@@ -208,7 +207,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		void accept(RS row) {
+		public void accept(RS row) {
 
 			boolean first = result == null;
 
@@ -286,7 +285,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		boolean hasResult() {
+		public boolean hasResult() {
 
 			if (result == null) {
 				return false;
@@ -302,7 +301,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		RowDocument getResult() {
+		public RowDocument getResult() {
 
 			Assert.state(result != null, "Result must not be null");
 
@@ -317,7 +316,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		void reset() {
+		public void reset() {
 
 			result = null;
 			readerState.clear();
@@ -343,7 +342,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		void accept(RS row) {
+		public void accept(RS row) {
 
 			if (aggregateContext.containsColumn(columnName)) {
 				value = aggregateContext.getObject(row, columnName);
@@ -353,12 +352,12 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		boolean hasResult() {
+		public boolean hasResult() {
 			return value != null;
 		}
 
 		@Override
-		Object getResult() {
+		public Object getResult() {
 
 			Object result = getValue();
 
@@ -373,7 +372,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		void reset() {
+		public void reset() {
 			value = null;
 		}
 	}
@@ -408,7 +407,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		void accept(RS row) {
+		public void accept(RS row) {
 
 			if (!aggregateContext.containsColumn(keyColumn)) {
 				return;
@@ -462,7 +461,7 @@ abstract class RowDocumentExtractorSupport {
 		}
 
 		@Override
-		void reset() {
+		public void reset() {
 			hasResult = false;
 		}
 	}
@@ -52,6 +52,24 @@ public class RowDocument implements Map<String, Object> {
 		this.delegate.putAll(map);
 	}
 
+	/**
+	 * Create a new {@link RowDocument} for a known column layout. Values are stored in the given array, indexed by
+	 * {@link RowDocumentSchema#indexOf(String) column index}, avoiding per-row hashing and case folding of column names.
+	 * The array is used as-is and must not be modified by the caller afterwards.
+	 *
+	 * @param schema the column layout, must not be {@literal null}.
+	 * @param values the column values in schema order, must match the schema size.
+	 * @since 4.2
+	 */
+	public RowDocument(RowDocumentSchema schema, @Nullable Object[] values) {
+
+		Assert.notNull(schema, "RowDocumentSchema must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(schema.size() == values.length, "Number of values must match the number of columns");
+
+		this.delegate = new SchemaBackedMap(schema, values);
+	}
+
 	/**
 	 * Factory method to create a RowDocument from a field and value.
 	 *
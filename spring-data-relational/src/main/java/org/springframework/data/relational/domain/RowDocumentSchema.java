@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Column layout shared by {@link RowDocument row documents} that are read from the same result. The schema resolves
+ * column names to value indexes once so that documents created for a schema can store their values in a flat array.
+ * Column names are matched case-insensitively.
+ *
+ * @since 4.2
+ */
+public final class RowDocumentSchema {
+
+	private final String[] columnNames;
+	private final Map<String, Integer> indexes;
+	private final Map<String, Integer> caseInsensitiveIndexes;
+
+	private RowDocumentSchema(String[] columnNames) {
+
+		this.columnNames = columnNames;
+		this.indexes = new HashMap<>(columnNames.length * 2);
+		this.caseInsensitiveIndexes = new LinkedCaseInsensitiveMap<>(columnNames.length);
+
+		for (int i = 0; i < columnNames.length; i++) {
+
+			String columnName = columnNames[i];
+
+			Assert.notNull(columnName, "Column names must not contain null");
+			Assert.isTrue(caseInsensitiveIndexes.putIfAbsent(columnName, i) == null,
+					() -> "Duplicate column name '%s'".formatted(columnName));
+
+			indexes.put(columnName, i);
+		}
+	}
+
+	/**
+	 * Create a new {@link RowDocumentSchema} for the given column names.
+	 *
+	 * @param columnNames the column names, must not contain duplicates (ignoring case).
+	 * @return a new {@link RowDocumentSchema}.
+	 */
+	public static RowDocumentSchema of(String... columnNames) {
+
+		Assert.notNull(columnNames, "Column names must not be null");
+
+		return new RowDocumentSchema(columnNames.clone());
+	}
+
+	/**
+	 * Create a new {@link RowDocumentSchema} for the given column names.
+	 *
+	 * @param columnNames the column names, must not contain duplicates (ignoring case).
+	 * @return a new {@link RowDocumentSchema}.
+	 */
+	public static RowDocumentSchema of(List<String> columnNames) {
+
+		Assert.notNull(columnNames, "Column names must not be null");
+
+		return new RowDocumentSchema(columnNames.toArray(new String[0]));
+	}
+
+	/**
+	 * @return the number of columns.
+	 */
+	public int size() {
+		return columnNames.length;
+	}
+
+	/**
+	 * @return the column names in index order.
+	 */
+	public List<String> getColumnNames() {
+		return Collections.unmodifiableList(Arrays.asList(columnNames));
+	}
+
+	/**
+	 * @param index the column index.
+	 * @return the column name at {@code index}.
+	 */
+	public String getColumnName(int index) {
+		return columnNames[index];
+	}
+
+	/**
+	 * Return the index of the column {@code name}. Exact matches are resolved without case folding.
+	 *
+	 * @param name the column name.
+	 * @return the column index or {@literal -1} if the schema does not contain the column.
+	 */
+	public int indexOf(String name) {
+
+		Integer index = indexes.get(name);
+
+		if (index == null) {
+			index = caseInsensitiveIndexes.get(name);
+		}
+
+		return index != null ? index : -1;
+	}
+
+	@Override
+	public String toString() {
+		return "RowDocumentSchema" + Arrays.toString(columnNames);
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * {@link Map} storing values of {@link RowDocumentSchema} columns in a flat array. Keys that are not part of the schema
+ * are stored in a case-insensitive overflow map.
+ *
+ * @since 4.2
+ */
+class SchemaBackedMap extends AbstractMap<String, Object> {
+
+	private static final Object ABSENT = new Object();
+
+	private final RowDocumentSchema schema;
+	private final @Nullable Object[] values;
+	private int present;
+	private @Nullable Map<String, Object> additional;
+
+	SchemaBackedMap(RowDocumentSchema schema, @Nullable Object[] values) {
+
+		this.schema = schema;
+		this.values = values;
+		this.present = values.length;
+	}
+
+	@Override
+	public int size() {
+		return present + (additional != null ? additional.size() : 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+			return values[index] != ABSENT;
+		}
+
+		return additional != null && additional.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+			Object value = values[index];
+			return value != ABSENT ? value : null;
+		}
+
+		return additional != null ? additional.get(key) : null;
+	}
+
+	@Override
+	public @Nullable Object put(String key, @Nullable Object value) {
+
+		int index = schema.indexOf(key);
+
+		if (index != -1) {
+
+			Object old = values[index];
+			values[index] = value;
+
+			if (old == ABSENT) {
+				present++;
+				return null;
+			}
+
+			return old;
+		}
+
+		if (additional == null) {
+			additional = new LinkedCaseInsensitiveMap<>();
+		}
+
+		return additional.put(key, value);
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+
+			Object old = values[index];
+
+			if (old == ABSENT) {
+				return null;
+			}
+
+			values[index] = ABSENT;
+			present--;
+			return old;
+		}
+
+		return additional != null ? additional.remove(key) : null;
+	}
+
+	@Override
+	public void clear() {
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = ABSENT;
+		}
+
+		present = 0;
+		additional = null;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return SchemaBackedMap.this.size();
+			}
+		};
+	}
+
+	private int indexOf(Object key) {
+		return key instanceof String name ? schema.indexOf(name) : -1;
+	}
+
+	/**
+	 * Iterator over schema entries followed by additional entries.
+	 */
+	private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+		private int next = advance(0);
+		private int current = -1;
+		private @Nullable Iterator<Entry<String, Object>> additionalIterator;
+
+		private int advance(int from) {
+
+			int index = from;
+			while (index < values.length && values[index] == ABSENT) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (next < values.length) {
+				return true;
+			}
+
+			return additionalIterator().hasNext();
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+
+			if (next < values.length) {
+
+				current = next;
+				next = advance(next + 1);
+				return new SlotEntry(current);
+			}
+
+			current = -1;
+			return additionalIterator().next();
+		}
+
+		@Override
+		public void remove() {
+
+			if (current == -1) {
+
+				if (additionalIterator == null) {
+					throw new IllegalStateException();
+				}
+
+				additionalIterator.remove();
+				return;
+			}
+
+			if (values[current] == ABSENT) {
+				throw new IllegalStateException();
+			}
+
+			values[current] = ABSENT;
+			present--;
+		}
+
+		private Iterator<Entry<String, Object>> additionalIterator() {
+
+			if (additionalIterator == null) {
+
+				if (additional == null) {
+					return Collections.emptyIterator();
+				}
+
+				additionalIterator = additional.entrySet().iterator();
+			}
+
+			return additionalIterator;
+		}
+	}
+
+	/**
+	 * {@link Entry} writing through to the value array.
+	 */
+	private class SlotEntry implements Entry<String, Object> {
+
+		private final int index;
+
+		SlotEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return schema.getColumnName(index);
+		}
+
+		@Override
+		public @Nullable Object getValue() {
+
+			Object value = values[index];
+			return value != ABSENT ? value : null;
+		}
+
+		@Override
+		public @Nullable Object setValue(@Nullable Object value) {
+
+			Object old = values[index];
+			values[index] = value;
+
+			if (old == ABSENT) {
+				present++;
+				return null;
+			}
+
+			return old;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			return o instanceof Entry<?, ?> entry && Objects.equals(getKey(), entry.getKey())
+					&& Objects.equals(getValue(), entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.relational.repository;
 
 import org.springframework.data.annotation.QueryAnnotation;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 
 import java.lang.annotation.*;
 
@@ -36,4 +37,20 @@ public @interface Lock {
 	 */
 	LockMode value();
 
+	/**
+	 * Defines the behavior when encountering rows locked by another transaction. Use {@link LockWait.Policy#SKIP_LOCKED}
+	 * to consume a table as work queue with multiple concurrent consumers.
+	 *
+	 * @since 4.2
+	 */
+	LockWait.Policy waitPolicy() default LockWait.Policy.WAIT;
+
+	/**
+	 * Lock timeout in seconds when using {@link LockWait.Policy#WAIT}. Negative values use the database default. Not all
+	 * databases support lock timeouts as part of the query. Derived query methods declaring a wait policy or timeout
+	 * that the dialect cannot render are rejected when creating the query method.
+	 *
+	 * @since 4.2
+	 */
+	long timeout() default -1;
 }
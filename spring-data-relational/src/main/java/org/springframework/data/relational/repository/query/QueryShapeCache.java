@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * Cache for SQL rendered by derived queries keyed by {@link QueryShape}, that is the combination of invocation
+ * properties that influence the SQL text. Store modules use this cache to skip statement building and rendering for
+ * invocations of a previously seen shape and only map the criteria values of the current invocation.
+ * <p>
+ * The cache holds up to {@code maxShapes} entries and evicts the least recently used shape once full so that shapes
+ * varying with each invocation, such as pagination offsets, do not occupy the cache permanently. A store module that
+ * detects that rendered SQL cannot be reused can {@link #disable() disable} the cache.
+ *
+ * @since 4.2
+ */
+public class QueryShapeCache {
+
+	/**
+	 * Default number of cached shapes.
+	 */
+	public static final int DEFAULT_MAX_SHAPES = 256;
+
+	private final Map<QueryShape, String> queries;
+	private volatile boolean enabled = true;
+
+	/**
+	 * Creates a new {@link QueryShapeCache} holding up to {@link #DEFAULT_MAX_SHAPES} shapes.
+	 */
+	public QueryShapeCache() {
+		this(DEFAULT_MAX_SHAPES);
+	}
+
+	/**
+	 * Creates a new {@link QueryShapeCache} holding up to {@code maxShapes} shapes.
+	 *
+	 * @param maxShapes maximum number of cached shapes, must be greater than zero.
+	 */
+	public QueryShapeCache(int maxShapes) {
+
+		Assert.isTrue(maxShapes > 0, "Maximum number of shapes must be greater than zero");
+
+		this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<QueryShape, String> eldest) {
+				return size() > maxShapes;
+			}
+		};
+	}
+
+	/**
+	 * Return the SQL cached for {@code shape}.
+	 *
+	 * @param shape the shape of the current invocation.
+	 * @return the cached SQL or {@literal null} if no SQL was cached for {@code shape} or the cache is disabled.
+	 */
+	public @Nullable String get(QueryShape shape) {
+
+		if (!enabled) {
+			return null;
+		}
+
+		synchronized (queries) {
+			return queries.get(shape);
+		}
+	}
+
+	/**
+	 * Cache {@code sql} for {@code shape}, evicting the least recently used shape if the cache is full.
+	 *
+	 * @param shape the shape of the current invocation.
+	 * @param sql the rendered SQL.
+	 */
+	public void put(QueryShape shape, String sql) {
+
+		if (!enabled) {
+			return;
+		}
+
+		synchronized (queries) {
+			queries.put(shape, sql);
+		}
+	}
+
+	/**
+	 * @return {@literal true} if the cache is enabled.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Disable the cache and release cached SQL.
+	 */
+	public void disable() {
+
+		enabled = false;
+
+		synchronized (queries) {
+			queries.clear();
+		}
+	}
+
+	/**
+	 * Invocation properties that influence the rendered SQL: the returned type, the sort including the sort of a paged
+	 * {@link Pageable}, pagination and, per bindable argument, whether it is {@literal null} or the size of a collection
+	 * or array.
+	 *
+	 * @param returnedType the returned type considering dynamic projections.
+	 * @param sort the sort.
+	 * @param offset the offset of a paged {@link Pageable} or {@code -1}.
+	 * @param pageSize the page size of a paged {@link Pageable} or {@code -1}.
+	 * @param arguments the shape of each bindable argument.
+	 */
+	public record QueryShape(Class<?> returnedType, Sort sort, long offset, int pageSize, List<Integer> arguments) {
+
+		private static final int NULL = -1;
+		private static final int SCALAR = -2;
+
+		/**
+		 * Create the {@link QueryShape} of the current invocation.
+		 *
+		 * @param returnedType the returned type considering dynamic projections.
+		 * @param sort the dynamic sort.
+		 * @param accessor the parameter accessor.
+		 * @return the shape of the current invocation.
+		 */
+		public static QueryShape of(Class<?> returnedType, Sort sort, RelationalParameterAccessor accessor) {
+
+			Pageable pageable = accessor.getPageable();
+			int count = accessor.getBindableParameters().getNumberOfParameters();
+			List<Integer> arguments = new ArrayList<>(count);
+
+			for (int i = 0; i < count; i++) {
+				arguments.add(getShape(accessor.getBindableValue(i)));
+			}
+
+			if (pageable.isUnpaged()) {
+				return new QueryShape(returnedType, sort, -1, -1, arguments);
+			}
+
+			return new QueryShape(returnedType, sort.and(pageable.getSort()), pageable.getOffset(), pageable.getPageSize(),
+					arguments);
+		}
+
+		private static int getShape(@Nullable Object value) {
+
+			if (value == null) {
+				return NULL;
+			}
+
+			if (value instanceof Collection<?> collection) {
+				return collection.size();
+			}
+
+			if (value.getClass().isArray()) {
+				return Array.getLength(value);
+			}
+
+			return SCALAR;
+		}
+	}
+
+}
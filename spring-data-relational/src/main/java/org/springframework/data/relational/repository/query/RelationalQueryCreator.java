@@ -18,7 +18,14 @@ package org.springframework.data.relational.repository.query;
 import java.util.Collection;
 import java.util.Iterator;
 
+import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.LockWait;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
@@ -117,6 +124,28 @@ public abstract class RelationalQueryCreator<T> extends AbstractQueryCreator<T,
 		}
 	}
 
+	/**
+	 * Validate that the {@link Dialect} is able to render the given {@link Lock} including its wait policy and timeout.
+	 * Rendering the lock clause upfront rejects unsupported lock declarations when creating the query method instead of
+	 * when running the query.
+	 *
+	 * @param lock the lock declaration of the query method.
+	 * @param dialect the dialect to render the lock clause.
+	 * @throws UnsupportedOperationException if the dialect cannot render the lock clause.
+	 * @since 4.2
+	 */
+	public static void validate(Lock lock, Dialect dialect) {
+
+		Assert.notNull(lock, "Lock must not be null");
+		Assert.notNull(dialect, "Dialect must not be null");
+
+		Table table = Table.create("validation");
+		Select select = Select.builder().select(Expressions.asterisk()).from(table)
+				.lock(lock.value(), LockWait.of(lock.waitPolicy(), lock.timeout())).build();
+
+		dialect.lock().getLock(new LockOptions(lock.value(), select.getFrom(), select.getLockWait()));
+	}
+
 	private static void throwExceptionOnArgumentMismatch(Part part, Parameters<?, ?> parameters, int index) {
 
 		Part.Type type = part.getType();
@@ -124,6 +124,27 @@ class DeleteBatchingAggregateChangeTest {
 		assertThat(extractActions(change)).containsExactly(lockRootAction);
 	}
 
+	@Test
+	void yieldsLockRootActionsAsBatchAcquireLockRoot_whenGroupContainsMultipleLockRoots() {
+
+		DeleteAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forDelete(Root.class);
+		DbAction.AcquireLockRoot<Root> lockRootAction1 = new DbAction.AcquireLockRoot<>(1L, Root.class);
+		aggregateChange1.addAction(lockRootAction1);
+		DeleteAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forDelete(Root.class);
+		DbAction.AcquireLockRoot<Root> lockRootAction2 = new DbAction.AcquireLockRoot<>(2L, Root.class);
+		aggregateChange2.addAction(lockRootAction2);
+
+		BatchingAggregateChange<Root, DeleteAggregateChange<Root>> change = BatchingAggregateChange.forDelete(Root.class);
+		change.add(aggregateChange1);
+		change.add(aggregateChange2);
+
+		List<DbAction<?>> actions = extractActions(change);
+		assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType) //
+				.containsExactly(Tuple.tuple(DbAction.BatchAcquireLockRoot.class, Root.class));
+		assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchAcquireLockRoot.class).getActions())
+				.containsExactly(lockRootAction1, lockRootAction2);
+	}
+
 	@Test // GH-537
 	void yieldsLockRootActionsBeforeDeleteActions() {
 
@@ -143,7 +164,7 @@ class DeleteBatchingAggregateChangeTest {
 	}
 
 	@Test // GH-537
-	void yieldsDeleteRootActionsWithoutVersionAsBatchDeleteRoots_whenGroupContainsMultipleDeleteRoots() {
+	void yieldsDeleteRootActionsAsBatchDeleteRoots_whenGroupContainsMultipleDeleteRoots() {
 
 		DeleteAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forDelete(new Root(null, null));
 		DbAction.DeleteRoot<Root> deleteRoot1 = new DbAction.DeleteRoot<>(1L, Root.class, null);
@@ -167,11 +188,24 @@ class DeleteBatchingAggregateChangeTest {
 		List<DbAction<?>> actions = extractActions(change);
 		assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly( //
 				Tuple.tuple(DbAction.BatchDeleteRoot.class, Root.class), //
-				Tuple.tuple(DbAction.DeleteRoot.class, Root.class), //
-				Tuple.tuple(DbAction.DeleteRoot.class, Root.class));
+				Tuple.tuple(DbAction.BatchDeleteRootWithVersion.class, Root.class));
 		assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchDeleteRoot.class).getActions())
 				.containsExactly(deleteRoot1, deleteRoot3);
-		assertThat(actions).containsSubsequence(deleteRoot2, deleteRoot4);
+		assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchDeleteRootWithVersion.class).getActions())
+				.containsExactly(deleteRoot2, deleteRoot4);
+	}
+
+	@Test
+	void yieldsSingleDeleteRootActionWithVersion() {
+
+		DeleteAggregateChange<Root> aggregateChange = MutableAggregateChange.forDelete(Root.class);
+		DbAction.DeleteRoot<Root> deleteRoot = new DbAction.DeleteRoot<>(1L, Root.class, 10);
+		aggregateChange.addAction(deleteRoot);
+
+		BatchingAggregateChange<Root, DeleteAggregateChange<Root>> change = BatchingAggregateChange.forDelete(Root.class);
+		change.add(aggregateChange);
+
+		assertThat(extractActions(change)).containsExactly(deleteRoot);
 	}
 
 	private <T> List<DbAction<?>> extractActions(BatchingAggregateChange<T, ? extends MutableAggregateChange<T>> change) {
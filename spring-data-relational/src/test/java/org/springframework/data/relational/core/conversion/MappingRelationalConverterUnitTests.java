@@ -108,6 +108,27 @@ class MappingRelationalConverterUnitTests {
 		assertThat(result.myEnum).isEqualTo(MyEnum.ONE);
 	}
 
+	@Test
+	void shouldReadValuesOfDifferentSourceTypesIntoSameTargetType() {
+
+		TypeInformation<Integer> type = TypeInformation.of(Integer.class);
+
+		assertThat(converter.readValue("1", type)).isEqualTo(1);
+		assertThat(converter.readValue(2, type)).isEqualTo(2);
+		assertThat(converter.readValue(3L, type)).isEqualTo(3);
+		assertThat(converter.readValue("4", type)).isEqualTo(4);
+	}
+
+	@Test
+	void shouldReadEnumsRepeatedly() {
+
+		RowDocument document = new RowDocument().append("my_enum", "ONE");
+
+		assertThat(converter.read(WithMyEnum.class, document).myEnum).isEqualTo(MyEnum.ONE);
+		assertThat(converter.read(WithMyEnum.class, new RowDocument().append("my_enum", "TWO")).myEnum)
+				.isEqualTo(MyEnum.TWO);
+	}
+
 	@Test // GH-1586
 	void shouldReadNonstaticInner() {
 
@@ -96,6 +96,38 @@ public class RelationalEntityDeleteWriterUnitTests {
 				);
 	}
 
+	@Test
+	public void deleteOnlyDeletesTheRootWhenOnDeleteCascadeIsEnabled() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.setOnDeleteCascadeEnabled(true);
+		RelationalEntityDeleteWriter converter = new RelationalEntityDeleteWriter(context);
+
+		MutableAggregateChange<SomeEntity> aggregateChange = MutableAggregateChange.forDelete(SomeEntity.class);
+
+		converter.write(23L, aggregateChange);
+
+		assertThat(extractActions(aggregateChange))
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly(Tuple.tuple(DeleteRoot.class, SomeEntity.class, ""));
+	}
+
+	@Test
+	public void deleteAllOnlyDeletesTheRootsWhenOnDeleteCascadeIsEnabled() {
+
+		RelationalMappingContext context = new RelationalMappingContext();
+		context.setOnDeleteCascadeEnabled(true);
+		RelationalEntityDeleteWriter converter = new RelationalEntityDeleteWriter(context);
+
+		MutableAggregateChange<SomeEntity> aggregateChange = MutableAggregateChange.forDelete(SomeEntity.class);
+
+		converter.write(null, aggregateChange);
+
+		assertThat(extractActions(aggregateChange))
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly(Tuple.tuple(DeleteAllRoot.class, SomeEntity.class, ""));
+	}
+
 	@Test // DATAJDBC-493
 	public void deleteAllDeletesAllEntitiesAndNoReferencedEntities() {
 
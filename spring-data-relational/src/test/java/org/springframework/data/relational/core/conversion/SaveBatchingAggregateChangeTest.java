@@ -148,6 +148,39 @@ class SaveBatchingAggregateChangeTest {
 			assertThat(extractActions(change)).containsExactly(rootUpsert);
 		}
 
+		@Test
+		void yieldsMultipleUpsertRoot_asBatchUpsertRootAction() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpsertRoot<Root> root1Upsert = new DbAction.UpsertRoot<>(root1);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Upsert);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpsertRoot<Root> root2Upsert = new DbAction.UpsertRoot<>(root2);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Upsert);
+
+			Root root3 = new Root(3L, null);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(root3, null);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions) //
+					.extracting(DbAction::getClass, DbAction::getEntityType) //
+					.containsExactly( //
+							Tuple.tuple(DbAction.BatchUpsertRoot.class, Root.class), //
+							Tuple.tuple(DbAction.UpdateRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpsertRoot.class).getActions())
+					.containsExactly(root1Upsert, root2Upsert);
+		}
+
 		@Test // GH-537
 		void yieldsSingleInsertRoot_followedByNonMatchingInsertRoot_asIndividualActions() {
 
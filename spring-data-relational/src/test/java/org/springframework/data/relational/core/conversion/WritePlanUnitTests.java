@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.conversion.WritePlan.PathPlan;
+import org.springframework.data.relational.core.conversion.WritePlan.ValueKind;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link WritePlan}.
+ */
+class WritePlanUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+
+	@Test
+	void isCachedPerAggregateRoot() {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Root.class);
+
+		assertThat(WritePlan.of(context, entity)).isSameAs(WritePlan.of(context, entity));
+		assertThat(WritePlan.of(new RelationalMappingContext(),
+				new RelationalMappingContext().getRequiredPersistentEntity(Root.class)))
+				.isNotSameAs(WritePlan.of(context, entity));
+	}
+
+	@Test
+	void capturesWritableRelationPathsWithParents() {
+
+		WritePlan plan = WritePlan.of(context, context.getRequiredPersistentEntity(Root.class));
+
+		assertThat(plan.insertOrder()) //
+				.extracting(it -> it.path().toDotPath(), PathPlan::valueKind, PathPlan::directlyReferencedByRoot) //
+				.containsExactlyInAnyOrder( //
+						tuple("single", ValueKind.SINGLE, true), //
+						tuple("list", ValueKind.LIST, true), //
+						tuple("map", ValueKind.MAP, true), //
+						tuple("set", ValueKind.COLLECTION, true), //
+						tuple("single.children", ValueKind.COLLECTION, false) //
+				);
+
+		PathPlan nested = plan.insertOrder().stream().filter(it -> it.path().toDotPath().equals("single.children"))
+				.findFirst().orElseThrow();
+
+		assertThat(plan.insertOrder().get(nested.parentIndex()).path().toDotPath()).isEqualTo("single");
+		assertThat(nested.parentIndex()).isLessThan(nested.index());
+
+		List<PathPlan> reversed = new ArrayList<>(plan.insertOrder());
+		Collections.reverse(reversed);
+		assertThat(plan.deleteOrder()).containsExactlyElementsOf(reversed);
+	}
+
+	record Root(@Id Long id, Child single, List<Element> list, Map<String, Element> map, Set<Element> set,
+			@ReadOnlyProperty Set<Element> readOnly) {
+	}
+
+	record Child(String name, Set<Element> children) {
+	}
+
+	record Element(String name) {
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+
+/**
+ * Tests for {@link Db2Dialect}-specific rendering.
+ */
+class Db2DialectRenderingUnitTests {
+
+	private final RenderContextFactory factory = new RenderContextFactory(Db2Dialect.INSTANCE);
+
+	@Test
+	void shouldRenderSelectWithLock() {
+
+		String sql = render(LockMode.PESSIMISTIC_WRITE, LockWait.defaultWait());
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS");
+	}
+
+	@Test
+	void shouldRenderSelectWithLockSkipLocked() {
+
+		String sql = render(LockMode.PESSIMISTIC_READ, LockWait.skipLocked());
+
+		assertThat(sql)
+				.isEqualTo("SELECT foo.* FROM foo FOR UPDATE WITH RS USE AND KEEP EXCLUSIVE LOCKS SKIP LOCKED DATA");
+	}
+
+	@Test
+	void shouldRejectLockNoWait() {
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> render(LockMode.PESSIMISTIC_WRITE, LockWait.noWait()));
+	}
+
+	@Test
+	void shouldRejectLockTimeout() {
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> render(LockMode.PESSIMISTIC_WRITE, LockWait.timeout(Duration.ofSeconds(5))));
+	}
+
+	private String render(LockMode lockMode, LockWait lockWait) {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table).lock(lockMode, lockWait).build();
+
+		return SqlRenderer.create(factory.createRenderContext()).render(select);
+	}
+}
@@ -17,10 +17,15 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.Upsert;
@@ -68,6 +73,23 @@ class OracleDialectRenderingUnitTests {
 				"MERGE INTO my_table \"_t\" USING (SELECT 42 AS id, 'batman' AS name FROM DUAL) \"_s\" ON (\"_t\".id = \"_s\".id) WHEN MATCHED THEN UPDATE SET \"_t\".name = \"_s\".name WHEN NOT MATCHED THEN INSERT (id, name) VALUES (\"_s\".id, \"_s\".name)");
 	}
 
+	@Test
+	void rendersMultiRowUpsert() {
+
+		Table table = Table.create("my_table");
+		Column idColumn = table.column("id");
+		Column nameColumn = table.column("name");
+		Upsert upsert = StatementBuilder.upsert(table)
+				.insert(idColumn.set(SQL.bindMarker(":id1")), nameColumn.set(SQL.bindMarker(":name1")))
+				.andInsert(idColumn.set(SQL.bindMarker(":id2")), nameColumn.set(SQL.bindMarker(":name2")))
+				.onConflict(it -> it.with(idColumn).updateRemainingColumns()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(upsert);
+
+		assertThat(sql).isEqualToIgnoringWhitespace(
+				"MERGE INTO my_table \"_t\" USING (SELECT :id1 AS id, :name1 AS name FROM DUAL UNION ALL SELECT :id2 AS id, :name2 AS name FROM DUAL) \"_s\" ON (\"_t\".id = \"_s\".id) WHEN MATCHED THEN UPDATE SET \"_t\".name = \"_s\".name WHEN NOT MATCHED THEN INSERT (id, name) VALUES (\"_s\".id, \"_s\".name)");
+	}
+
 	@Test // GH-493
 	void rendersUpsertWhereConflictColumnsMatchInsertColumns() { // omits `WHEN MATCHED`
 
@@ -84,4 +106,39 @@ class OracleDialectRenderingUnitTests {
 				"MERGE INTO my_table \"_t\" USING (SELECT :id AS id, :tenant_id AS tenant_id FROM DUAL) \"_s\" ON (\"_t\".id = \"_s\".id AND \"_t\".tenant_id = \"_s\".tenant_id) WHEN NOT MATCHED THEN INSERT (id, tenant_id) VALUES (\"_s\".id, \"_s\".tenant_id)");
 	}
 
+	@Test
+	void shouldRenderSelectWithLockWriteSkipLocked() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWait.skipLocked()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR UPDATE SKIP LOCKED");
+	}
+
+	@Test
+	void shouldRenderSelectWithLockWriteNoWait() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWait.noWait()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR UPDATE NOWAIT");
+	}
+
+	@Test
+	void shouldRenderSelectWithLockTimeout() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWait.timeout(Duration.ofMillis(1500))).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR UPDATE WAIT 2");
+	}
 }
@@ -17,12 +17,15 @@ package org.springframework.data.relational.core.dialect;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 import org.springframework.data.relational.core.sql.OrderByField;
 import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
@@ -239,6 +242,23 @@ public class PostgresDialectRenderingUnitTests {
 				"INSERT INTO my_table (id, name) VALUES (42, 'batman') ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
 	}
 
+	@Test
+	void rendersMultiRowUpsert() {
+
+		Table table = Table.create("my_table");
+		Column idColumn = table.column("id");
+		Column nameColumn = table.column("name");
+		Upsert upsert = StatementBuilder.upsert(table)
+				.insert(idColumn.set(SQL.bindMarker(":id1")), nameColumn.set(SQL.bindMarker(":name1")))
+				.andInsert(idColumn.set(SQL.bindMarker(":id2")), nameColumn.set(SQL.bindMarker(":name2")))
+				.onConflict(it -> it.with(idColumn).updateRemainingColumns()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(upsert);
+
+		assertThat(sql).isEqualTo(
+				"INSERT INTO my_table (id, name) VALUES (:id1, :name1), (:id2, :name2) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+	}
+
 	@Test // GH-493
 	void rendersUpsertWhereConflictColumnsMatchInsertColumns() { // renders DO NOTHING
 
@@ -254,4 +274,39 @@ public class PostgresDialectRenderingUnitTests {
 		assertThat(sql).isEqualTo(
 				"INSERT INTO my_table (id, tenant_id) VALUES (:id, :tenant_id) ON CONFLICT (id, tenant_id) DO NOTHING");
 	}
+
+	@Test
+	void shouldRenderSelectWithLockWriteSkipLocked() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWait.skipLocked()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR UPDATE OF foo SKIP LOCKED");
+	}
+
+	@Test
+	void shouldRenderSelectWithLockReadNoWait() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_READ, LockWait.noWait()).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo FOR SHARE OF foo NOWAIT");
+	}
+
+	@Test
+	void shouldRejectLockTimeout() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWait.timeout(Duration.ofSeconds(5))).build();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> SqlRenderer.create(factory.createRenderContext()).render(select));
+	}
 }
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.LockWait;
 
 /**
  * Tests the {@link Query} class.
@@ -77,4 +79,18 @@ class QueryUnitTests {
 		assertThat(query.getLimit()).isEqualTo(-1);
 		assertThat(query.getOffset()).isEqualTo(-1);
 	}
+
+	@Test
+	void lockIsRetainedAcrossModifications() {
+
+		Query query = Query.empty() //
+				.lock(LockMode.PESSIMISTIC_WRITE, LockWait.skipLocked()) //
+				.sort(Sort.by("alpha")) //
+				.limit(10);
+
+		assertThat(query.isLocked()).isTrue();
+		assertThat(query.getLockMode()).isEqualTo(LockMode.PESSIMISTIC_WRITE);
+		assertThat(query.getLockWait()).isEqualTo(LockWait.skipLocked());
+		assertThat(Query.empty().isLocked()).isFalse();
+	}
 }
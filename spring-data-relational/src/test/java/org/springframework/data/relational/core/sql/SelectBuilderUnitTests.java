@@ -207,4 +207,42 @@ public class SelectBuilderUnitTests {
 		assertThat(visitor.enter).containsSequence(foo, table, new From(table), table, orderByField, foo);
 		assertThat(select.getLockMode()).isEqualTo(lockMode);
 	}
+
+	@Test
+	void lockWithDefaultWaitFallsBackToLockModeOnlyForExternalImplementations() {
+
+		LegacySelectLock builder = new LegacySelectLock();
+
+		assertThat(builder.lock(LockMode.PESSIMISTIC_READ, LockWait.defaultWait())).isSameAs(builder);
+		assertThat(builder.lockMode).isEqualTo(LockMode.PESSIMISTIC_READ);
+	}
+
+	@Test
+	void lockWithWaitPolicyIsRejectedByExternalImplementations() {
+
+		LegacySelectLock builder = new LegacySelectLock();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> builder.lock(LockMode.PESSIMISTIC_WRITE, LockWait.noWait()));
+		assertThat(builder.lockMode).isNull();
+	}
+
+	/**
+	 * {@link SelectBuilder.SelectLock} implementation that predates {@link LockWait}.
+	 */
+	static class LegacySelectLock implements SelectBuilder.SelectLock {
+
+		LockMode lockMode;
+
+		@Override
+		public SelectBuilder.SelectLock lock(LockMode lockMode) {
+			this.lockMode = lockMode;
+			return this;
+		}
+
+		@Override
+		public Select build(boolean validate) {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
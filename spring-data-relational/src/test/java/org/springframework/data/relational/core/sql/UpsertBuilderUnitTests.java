@@ -42,6 +42,37 @@ class UpsertBuilderUnitTests {
 		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(builder::build);
 	}
 
+	@Test
+	void buildErrorsWhenRowsAssignDifferentColumns() {
+
+		Table table = SQL.table("users");
+		Column idColumn = table.column("id");
+		Column usernameColumn = table.column("name");
+
+		BuildUpsert builder = StatementBuilder.upsert(table)
+				.insert(idColumn.set(SQL.bindMarker()), usernameColumn.set(SQL.bindMarker()))
+				.andInsert(usernameColumn.set(SQL.bindMarker()), idColumn.set(SQL.bindMarker()))
+				.onConflict(it -> it.with(idColumn).updateRemainingColumns());
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(builder::build);
+	}
+
+	@Test
+	void toStringShouldRenderMultiRowMergeStatement() {
+
+		Table table = SQL.table("users");
+		Column idColumn = table.column("id");
+		Column usernameColumn = table.column("name");
+
+		Upsert upsert = StatementBuilder.upsert(table)
+				.insert(idColumn.set(SQL.bindMarker()), usernameColumn.set(SQL.bindMarker()))
+				.andInsert(idColumn.set(SQL.bindMarker()), usernameColumn.set(SQL.bindMarker()))
+				.onConflict(it -> it.with(idColumn).updateRemainingColumns()).build();
+
+		assertThat(upsert.getRows()).hasSize(2);
+		assertThat(upsert.toString()).contains("USING (VALUES (?, ?), (?, ?)) AS \"_s\" (id, name)");
+	}
+
 	@Test // GH-493
 	void toStringShouldRenderAnsiMergeStatement() {
 
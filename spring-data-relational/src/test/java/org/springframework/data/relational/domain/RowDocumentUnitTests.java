@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RowDocument}.
+ */
+class RowDocumentUnitTests {
+
+	RowDocumentSchema schema = RowDocumentSchema.of("ID", "NAME", "AGE");
+
+	@Test
+	void schemaBackedDocumentResolvesColumnsCaseInsensitive() {
+
+		RowDocument document = new RowDocument(schema, new Object[] { 1L, "Walter", null });
+
+		assertThat(document.get("ID")).isEqualTo(1L);
+		assertThat(document.get("name")).isEqualTo("Walter");
+		assertThat(document.containsKey("age")).isTrue();
+		assertThat(document.get("age")).isNull();
+		assertThat(document.containsKey("unknown")).isFalse();
+		assertThat(document.size()).isEqualTo(3);
+	}
+
+	@Test
+	void schemaBackedDocumentRetainsColumnOrder() {
+
+		RowDocument document = new RowDocument(schema, new Object[] { 1L, "Walter", 42 });
+		document.put("extra", "value");
+
+		assertThat(document.keySet()).containsExactly("ID", "NAME", "AGE", "extra");
+		assertThat(document.values()).containsExactly(1L, "Walter", 42, "value");
+	}
+
+	@Test
+	void schemaBackedDocumentSupportsModification() {
+
+		RowDocument document = new RowDocument(schema, new Object[] { 1L, "Walter", 42 });
+
+		assertThat(document.put("Name", "Jesse")).isEqualTo("Walter");
+		assertThat(document.remove("age")).isEqualTo(42);
+		document.put("Extra", "value");
+
+		assertThat(document.get("NAME")).isEqualTo("Jesse");
+		assertThat(document.containsKey("AGE")).isFalse();
+		assertThat(document.get("extra")).isEqualTo("value");
+		assertThat(document.size()).isEqualTo(3);
+		assertThat(document.keySet()).containsExactly("ID", "NAME", "Extra");
+
+		document.put("AGE", 43);
+
+		assertThat(document.get("age")).isEqualTo(43);
+		assertThat(document.size()).isEqualTo(4);
+	}
+
+	@Test
+	void schemaBackedDocumentEqualsMapBackedDocument() {
+
+		RowDocument schemaBacked = new RowDocument(schema, new Object[] { 1L, "Walter", null });
+		RowDocument mapBacked = new RowDocument();
+		mapBacked.put("ID", 1L);
+		mapBacked.put("NAME", "Walter");
+		mapBacked.put("AGE", null);
+
+		assertThat(schemaBacked).isEqualTo(mapBacked).hasSameHashCodeAs(mapBacked);
+		assertThat(mapBacked).isEqualTo(schemaBacked);
+	}
+
+	@Test
+	void schemaRejectsValueCountMismatch() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RowDocument(schema, new Object[] { 1L }));
+	}
+
+	@Test
+	void schemaRejectsDuplicateColumns() {
+		assertThatIllegalArgumentException().isThrownBy(() -> RowDocumentSchema.of("id", "ID"));
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.relational.repository.query.QueryShapeCache.QueryShape;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethod;
+
+/**
+ * Unit tests for {@link QueryShapeCache}.
+ */
+class QueryShapeCacheUnitTests {
+
+	@Test
+	void shouldDistinguishArgumentShapes() throws Exception {
+
+		Method method = UserRepository.class.getMethod("findByNameAndAgeIn", String.class, Collection.class);
+
+		QueryShape scalar = shapeOf(method, "Walter", List.of(1, 2));
+		QueryShape sameShape = shapeOf(method, "Skyler", List.of(3, 4));
+		QueryShape nullValue = shapeOf(method, null, List.of(1, 2));
+		QueryShape otherSize = shapeOf(method, "Walter", List.of(1, 2, 3));
+
+		assertThat(scalar).isEqualTo(sameShape);
+		assertThat(scalar).isNotEqualTo(nullValue).isNotEqualTo(otherSize);
+	}
+
+	@Test
+	void shouldConsiderPagination() throws Exception {
+
+		Method method = UserRepository.class.getMethod("findByName", String.class, Pageable.class);
+
+		QueryShape firstPage = shapeOf(method, "Walter", PageRequest.of(0, 10));
+		QueryShape secondPage = shapeOf(method, "Walter", PageRequest.of(1, 10));
+		QueryShape sorted = shapeOf(method, "Walter", PageRequest.of(0, 10, Sort.by("name")));
+		QueryShape unpaged = shapeOf(method, "Walter", Pageable.unpaged());
+
+		assertThat(firstPage).isEqualTo(shapeOf(method, "Skyler", PageRequest.of(0, 10)));
+		assertThat(firstPage).isNotEqualTo(secondPage).isNotEqualTo(sorted).isNotEqualTo(unpaged);
+		assertThat(sorted.sort()).isEqualTo(Sort.by("name"));
+		assertThat(unpaged.offset()).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedShape() {
+
+		QueryShapeCache cache = new QueryShapeCache(2);
+		QueryShape first = shape(0);
+		QueryShape second = shape(1);
+		QueryShape third = shape(2);
+
+		cache.put(first, "first");
+		cache.put(second, "second");
+		assertThat(cache.get(first)).isEqualTo("first");
+
+		cache.put(third, "third");
+
+		assertThat(cache.get(first)).isEqualTo("first");
+		assertThat(cache.get(second)).isNull();
+		assertThat(cache.get(third)).isEqualTo("third");
+	}
+
+	@Test
+	void shouldNotReturnOrCacheSqlWhenDisabled() {
+
+		QueryShapeCache cache = new QueryShapeCache();
+		cache.put(shape(0), "first");
+
+		cache.disable();
+		cache.put(shape(1), "second");
+
+		assertThat(cache.isEnabled()).isFalse();
+		assertThat(cache.get(shape(0))).isNull();
+		assertThat(cache.get(shape(1))).isNull();
+	}
+
+	private static QueryShape shape(long offset) {
+		return new QueryShape(User.class, Sort.unsorted(), offset, 10, List.of());
+	}
+
+	private static QueryShape shapeOf(Method method, Object... args) {
+
+		QueryMethod queryMethod = new ParameterMetadataProviderUnitTests.RelationalQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+
+		return QueryShape.of(User.class, Sort.unsorted(),
+				new RelationalParametersParameterAccessor(queryMethod, args));
+	}
+
+	interface UserRepository extends Repository<User, String> {
+
+		List<User> findByNameAndAgeIn(String name, Collection<Integer> ages);
+
+		List<User> findByName(String name, Pageable pageable);
+	}
+
+	static class User {
+		String name;
+		int age;
+	}
+}